@@ -17,12 +17,28 @@ import software.amazon.awssdk.services.s3.model.*;
 
 import java.net.URI;
 import java.net.URISyntaxException;
-import java.util.ArrayList;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
 import java.util.List;
-
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static dev.langchain4j.internal.Utils.getOrDefault;
 import static dev.langchain4j.internal.Utils.isNullOrBlank;
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
 import static dev.langchain4j.internal.ValidationUtils.ensureNotBlank;
 import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+import static java.util.Collections.emptyMap;
+import static java.util.Spliterator.NONNULL;
+import static java.util.Spliterator.ORDERED;
 import static java.util.stream.Collectors.toList;
 import static software.amazon.awssdk.regions.Region.US_EAST_1;
 
@@ -30,10 +46,23 @@ public class AmazonS3DocumentLoader {
 
     private static final Logger log = LoggerFactory.getLogger(AmazonS3DocumentLoader.class);
 
+    private static final int DEFAULT_MAX_CONCURRENCY = 8;
+
     private final S3Client s3Client;
+    private final int maxConcurrency;
 
     public AmazonS3DocumentLoader(S3Client s3Client) {
+        this(s3Client, null);
+    }
+
+    /**
+     * @param s3Client       The S3 client.
+     * @param maxConcurrency The maximum number of objects downloaded and parsed concurrently
+     *                       when loading multiple documents. Default: 8.
+     */
+    public AmazonS3DocumentLoader(S3Client s3Client, Integer maxConcurrency) {
         this.s3Client = ensureNotNull(s3Client, "s3Client");
+        this.maxConcurrency = ensureGreaterThanZero(getOrDefault(maxConcurrency, DEFAULT_MAX_CONCURRENCY), "maxConcurrency");
     }
 
     /**
@@ -83,30 +112,130 @@ public class AmazonS3DocumentLoader {
      * @throws RuntimeException If {@link S3Exception} occurs.
      */
     public List<Document> loadDocuments(String bucket, String prefix, DocumentParser parser) {
-        List<Document> documents = new ArrayList<>();
+        try (Stream<Document> documents = streamDocuments(bucket, prefix, parser, emptyMap(), false)) {
+            return documents.collect(toList());
+        }
+    }
 
+    /**
+     * Lazily loads all documents from an S3 bucket.
+     * <p>
+     * Object keys are listed page by page (following continuation tokens), and up to {@code maxConcurrency}
+     * objects are downloaded and parsed concurrently, ahead of the consumer.
+     * Documents are returned in key order. Skips any documents that fail to load.
+     * Each document has an {@value AmazonS3Source#ETAG} metadata entry with the ETag of its object.
+     * <p>
+     * The download threads are only started once the stream is consumed, and are stopped once it is used up.
+     * If the stream may not be fully consumed, it must be closed (e.g. with try-with-resources) to stop them.
+     *
+     * @param bucket     S3 bucket to load from.
+     * @param prefix     Only keys with the specified prefix will be loaded. Optional.
+     * @param parser     The parser to be used for parsing text from the objects.
+     * @param knownETags The ETags of previously loaded objects, by key. Objects whose ETag has not changed are skipped.
+     *                   Optional.
+     * @return A lazy stream of documents.
+     * @throws RuntimeException If {@link S3Exception} occurs while listing objects.
+     */
+    public Stream<Document> streamDocuments(String bucket, String prefix, DocumentParser parser, Map<String, String> knownETags) {
+        return streamDocuments(bucket, prefix, parser, getOrDefault(knownETags, emptyMap()), true);
+    }
+
+    private Stream<Document> streamDocuments(String bucket,
+                                             String prefix,
+                                             DocumentParser parser,
+                                             Map<String, String> knownETags,
+                                             boolean includeETag) {
         ListObjectsV2Request listObjectsV2Request = ListObjectsV2Request.builder()
                 .bucket(ensureNotBlank(bucket, "bucket"))
                 .prefix(prefix)
                 .build();
 
-        ListObjectsV2Response listObjectsV2Response = s3Client.listObjectsV2(listObjectsV2Request);
-
-        List<S3Object> filteredS3Objects = listObjectsV2Response.contents().stream()
+        Iterator<S3Object> s3Objects = s3Client.listObjectsV2Paginator(listObjectsV2Request).contents().stream()
                 .filter(s3Object -> !s3Object.key().endsWith("/") && s3Object.size() > 0)
-                .collect(toList());
-
-        for (S3Object s3Object : filteredS3Objects) {
-            String key = s3Object.key();
-            try {
-                Document document = loadDocument(bucket, key, parser);
-                documents.add(document);
-            } catch (Exception e) {
-                log.warn("Failed to load an object with key '{}' from bucket '{}', skipping it.", key, bucket, e);
+                .filter(s3Object -> {
+                    boolean unchanged = s3Object.eTag() != null && s3Object.eTag().equals(knownETags.get(s3Object.key()));
+                    if (unchanged) {
+                        log.debug("Skipping unchanged object with key '{}' from bucket '{}'", s3Object.key(), bucket);
+                    }
+                    return !unchanged;
+                })
+                .iterator();
+
+        AtomicReference<ExecutorService> executor = new AtomicReference<>();
+        Iterator<Document> documents = new Iterator<>() {
+
+            private final Deque<CompletableFuture<Document>> inFlight = new ArrayDeque<>();
+            private Document next;
+
+            @Override
+            public boolean hasNext() {
+                while (next == null) {
+                    while (inFlight.size() < maxConcurrency && s3Objects.hasNext()) {
+                        S3Object s3Object = s3Objects.next();
+                        inFlight.add(CompletableFuture.supplyAsync(() -> load(bucket, s3Object, parser, includeETag), executor()));
+                    }
+                    if (inFlight.isEmpty()) {
+                        shutdown(executor);
+                        return false;
+                    }
+                    next = inFlight.poll().join();
+                }
+                return true;
             }
+
+            private ExecutorService executor() {
+                if (executor.get() == null) {
+                    executor.set(Executors.newFixedThreadPool(maxConcurrency, runnable -> {
+                        Thread thread = new Thread(runnable, "langchain4j-s3-loader");
+                        thread.setDaemon(true);
+                        return thread;
+                    }));
+                }
+                return executor.get();
+            }
+
+            @Override
+            public Document next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                Document document = next;
+                next = null;
+                return document;
+            }
+        };
+
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(documents, ORDERED | NONNULL), false)
+                .onClose(() -> {
+                    ExecutorService started = executor.getAndSet(null);
+                    if (started != null) {
+                        started.shutdownNow();
+                    }
+                });
+    }
+
+    private static void shutdown(AtomicReference<ExecutorService> executor) {
+        ExecutorService started = executor.getAndSet(null);
+        if (started != null) {
+            started.shutdown();
         }
+    }
 
-        return documents;
+    private Document load(String bucket, S3Object s3Object, DocumentParser parser, boolean includeETag) {
+        String key = s3Object.key();
+        try {
+            GetObjectRequest getObjectRequest = GetObjectRequest.builder()
+                    .bucket(bucket)
+                    .key(key)
+                    .build();
+            ResponseInputStream<GetObjectResponse> inputStream = s3Client.getObject(getObjectRequest);
+            String eTag = includeETag ? getOrDefault(inputStream.response().eTag(), s3Object.eTag()) : null;
+            AmazonS3Source source = new AmazonS3Source(inputStream, bucket, key, eTag);
+            return DocumentLoader.load(source, parser);
+        } catch (Exception e) {
+            log.warn("Failed to load an object with key '{}' from bucket '{}', skipping it.", key, bucket, e);
+            return null;
+        }
     }
 
     public static Builder builder() {
@@ -120,6 +249,7 @@ public class AmazonS3DocumentLoader {
         private String profile;
         private boolean forcePathStyle;
         private AwsCredentials awsCredentials;
+        private Integer maxConcurrency;
 
         /**
          * Set the AWS region. Defaults to US_EAST_1
@@ -187,10 +317,22 @@ public class AmazonS3DocumentLoader {
             return this;
         }
 
+        /**
+         * Set the maximum number of objects downloaded and parsed concurrently
+         * when loading multiple documents. Defaults to 8.
+         *
+         * @param maxConcurrency The maximum concurrency.
+         * @return The builder instance.
+         */
+        public Builder maxConcurrency(Integer maxConcurrency) {
+            this.maxConcurrency = maxConcurrency;
+            return this;
+        }
+
         public AmazonS3DocumentLoader build() {
             AwsCredentialsProvider credentialsProvider = createCredentialsProvider();
             S3Client s3Client = createS3Client(credentialsProvider);
-            return new AmazonS3DocumentLoader(s3Client);
+            return new AmazonS3DocumentLoader(s3Client, maxConcurrency);
         }
 
         private AwsCredentialsProvider createCredentialsProvider() {
@@ -12,15 +12,25 @@ import static java.lang.String.format;
 public class AmazonS3Source implements DocumentSource {
 
     public static final String SOURCE = "source";
+    public static final String ETAG = "etag";
 
     private final InputStream inputStream;
     private final String bucket;
     private final String key;
+    private final String eTag;
 
     public AmazonS3Source(InputStream inputStream, String bucket, String key) {
+        this(inputStream, bucket, key, null);
+    }
+
+    /**
+     * @param eTag The ETag of the S3 object. Optional. If provided, it is added to the metadata.
+     */
+    public AmazonS3Source(InputStream inputStream, String bucket, String key, String eTag) {
         this.inputStream = ensureNotNull(inputStream, "inputStream");
         this.bucket = ensureNotBlank(bucket, "bucket");
         this.key = ensureNotBlank(key, "key");
+        this.eTag = eTag;
     }
 
     @Override
@@ -30,6 +40,10 @@ public class AmazonS3Source implements DocumentSource {
 
     @Override
     public Metadata metadata() {
-        return Metadata.from(SOURCE, format("s3://%s/%s", bucket, key));
+        Metadata metadata = Metadata.from(SOURCE, format("s3://%s/%s", bucket, key));
+        if (eTag != null) {
+            metadata.put(ETAG, eTag);
+        }
+        return metadata;
     }
 }
@@ -11,8 +11,12 @@ import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.CreateBucketRequest;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
 
+import static java.util.stream.Collectors.toList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.testcontainers.containers.localstack.LocalStackContainer.Service.S3;
 
@@ -162,6 +166,54 @@ class AmazonS3DocumentLoaderIT {
         assertThat(documents.get(1).text()).isEqualTo(TEST_CONTENT);
     }
 
+    @Test
+    public void should_stream_documents_and_skip_unchanged_ones() {
+
+        // given
+        s3Client.putObject(
+                PutObjectRequest.builder()
+                        .bucket(TEST_BUCKET)
+                        .key(TEST_KEY)
+                        .build(),
+                RequestBody.fromString(TEST_CONTENT)
+        );
+
+        s3Client.putObject(
+                PutObjectRequest.builder()
+                        .bucket(TEST_BUCKET)
+                        .key(TEST_KEY_2)
+                        .build(),
+                RequestBody.fromString(TEST_CONTENT_2)
+        );
+
+        Map<String, String> knownETags = new HashMap<>();
+        try (Stream<Document> documents = loader.streamDocuments(TEST_BUCKET, null, parser, null)) {
+            documents.forEach(document -> knownETags.put(
+                    document.metadata().getString("source").substring("s3://test-bucket/".length()),
+                    document.metadata().getString("etag")));
+        }
+        assertThat(knownETags).hasSize(2);
+
+        s3Client.putObject(
+                PutObjectRequest.builder()
+                        .bucket(TEST_BUCKET)
+                        .key(TEST_KEY)
+                        .build(),
+                RequestBody.fromString("Changed content")
+        );
+
+        // when
+        List<Document> documents;
+        try (Stream<Document> stream = loader.streamDocuments(TEST_BUCKET, null, parser, knownETags)) {
+            documents = stream.collect(toList());
+        }
+
+        // then
+        assertThat(documents).hasSize(1);
+        assertThat(documents.get(0).text()).isEqualTo("Changed content");
+        assertThat(documents.get(0).metadata().getString("etag")).isNotEqualTo(knownETags.get(TEST_KEY));
+    }
+
     @AfterEach
     public void afterEach() {
         s3Container.stop();
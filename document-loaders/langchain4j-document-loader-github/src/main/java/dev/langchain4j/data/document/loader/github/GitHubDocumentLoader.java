@@ -3,8 +3,13 @@ package dev.langchain4j.data.document.loader.github;
 import dev.langchain4j.data.document.Document;
 import dev.langchain4j.data.document.DocumentLoader;
 import dev.langchain4j.data.document.DocumentParser;
+import dev.langchain4j.data.document.source.github.GitHubBlobSource;
 import dev.langchain4j.data.document.source.github.GitHubSource;
 import org.kohsuke.github.GHContent;
+import org.kohsuke.github.GHRateLimit;
+import org.kohsuke.github.GHRepository;
+import org.kohsuke.github.GHTree;
+import org.kohsuke.github.GHTreeEntry;
 import org.kohsuke.github.GitHub;
 import org.kohsuke.github.GitHubBuilder;
 import org.slf4j.Logger;
@@ -13,20 +18,44 @@ import org.slf4j.LoggerFactory;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
 
 import static dev.langchain4j.internal.RetryUtils.withRetry;
+import static dev.langchain4j.internal.Utils.getOrDefault;
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
 
 public class GitHubDocumentLoader {
 
     private static final Logger logger = LoggerFactory.getLogger(GitHubDocumentLoader.class);
 
+    private static final int DEFAULT_MAX_CONCURRENT_DOWNLOADS = 8;
+
+    /**
+     * The number of core API requests kept in reserve: when fewer remain, downloads wait for the rate limit reset.
+     */
+    private static final int RATE_LIMIT_RESERVE = 10;
+
     private final GitHub gitHub;
 
+    private final int maxConcurrentDownloads;
+
     public GitHubDocumentLoader(String gitHubToken, String gitHubTokenOrganization) {
         this(null, gitHubToken, gitHubTokenOrganization);
     }
 
     public GitHubDocumentLoader(String apiUrl, String gitHubToken, String gitHubTokenOrganization) {
+        this(apiUrl, gitHubToken, gitHubTokenOrganization, null);
+    }
+
+    public GitHubDocumentLoader(String apiUrl, String gitHubToken, String gitHubTokenOrganization,
+                                Integer maxConcurrentDownloads) {
+        this.maxConcurrentDownloads = ensureGreaterThanZero(
+                getOrDefault(maxConcurrentDownloads, DEFAULT_MAX_CONCURRENT_DOWNLOADS), "maxConcurrentDownloads");
         GitHubBuilder gitHubBuilder = new GitHubBuilder();
         if (apiUrl != null) {
             gitHubBuilder.withEndpoint(apiUrl);
@@ -46,6 +75,7 @@ public class GitHubDocumentLoader {
     }
 
     public GitHubDocumentLoader() {
+        this.maxConcurrentDownloads = DEFAULT_MAX_CONCURRENT_DOWNLOADS;
         try {
             gitHub = new GitHubBuilder().build();
         } catch (IOException ioException) {
@@ -54,7 +84,13 @@ public class GitHubDocumentLoader {
     }
 
     public GitHubDocumentLoader(GitHub gitHub) {
+        this(gitHub, null);
+    }
+
+    public GitHubDocumentLoader(GitHub gitHub, Integer maxConcurrentDownloads) {
         this.gitHub = gitHub;
+        this.maxConcurrentDownloads = ensureGreaterThanZero(
+                getOrDefault(maxConcurrentDownloads, DEFAULT_MAX_CONCURRENT_DOWNLOADS), "maxConcurrentDownloads");
     }
 
     public Document loadDocument(String owner, String repo, String branch, String path, DocumentParser parser) {
@@ -86,6 +122,126 @@ public class GitHubDocumentLoader {
         return loadDocuments(owner, repo, branch, "", parser);
     }
 
+    /**
+     * Loads all files under the provided path concurrently, passing each {@link Document} to the provided consumer
+     * as soon as it is downloaded and parsed.
+     * <p>
+     * Instead of listing each directory separately, the whole tree of the branch is fetched with a single
+     * recursive git trees call, and then up to {@code maxConcurrentDownloads} blobs are downloaded in parallel.
+     * At most {@code maxConcurrentDownloads} loaded documents wait for the consumer: when it falls behind,
+     * downloads pause until it catches up.
+     * When the remaining GitHub API rate limit runs low, downloads wait for the rate limit reset.
+     * If GitHub truncates the recursive tree (very large repositories), the directories are listed one by one instead.
+     * <p>
+     * Files that fail to load are logged and skipped, like in {@link #loadDocuments(String, String, String, String, DocumentParser)}.
+     *
+     * @param owner    The repository owner.
+     * @param repo     The repository name.
+     * @param branch   The branch, or {@code null} for the default branch.
+     * @param path     The path of the directory to load, or an empty string for the whole repository.
+     * @param parser   The parser to use.
+     * @param consumer The consumer of the loaded documents. It is always called from the calling thread,
+     *                 in the order in which documents arrive.
+     */
+    public void loadDocuments(String owner, String repo, String branch, String path, DocumentParser parser,
+                              Consumer<Document> consumer) {
+        GHRepository repository;
+        GHTree tree;
+        String ref;
+        try {
+            repository = gitHub.getRepository(owner + "/" + repo);
+            ref = branch == null ? repository.getDefaultBranch() : branch;
+            tree = repository.getTreeRecursive(ref, 1);
+        } catch (IOException ioException) {
+            throw new RuntimeException(ioException);
+        }
+
+        if (tree.isTruncated()) {
+            logger.warn("The git tree of {}/{} is truncated, falling back to listing directories one by one", owner, repo);
+            loadDocuments(owner, repo, ref, path, parser).forEach(consumer);
+            return;
+        }
+
+        String prefix = path == null || path.isEmpty() || path.endsWith("/") ? path : path + "/";
+        List<GHTreeEntry> blobs = new ArrayList<>();
+        for (GHTreeEntry entry : tree.getTree()) {
+            if ("blob".equals(entry.getType()) && (prefix == null || entry.getPath().startsWith(prefix))) {
+                blobs.add(entry);
+            }
+        }
+        if (blobs.isEmpty()) {
+            return;
+        }
+
+        int threads = Math.min(maxConcurrentDownloads, blobs.size());
+        // bounded, so that downloads pause when the consumer falls behind; empty for files that failed to load
+        BlockingQueue<Optional<Document>> loaded = new ArrayBlockingQueue<>(threads);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            for (GHTreeEntry blob : blobs) {
+                executor.execute(() -> {
+                    Document document = null;
+                    try {
+                        awaitRateLimit();
+                        document = withRetry(() -> fromGitHub(parser, repository, ref, blob), 3);
+                    } catch (RuntimeException runtimeException) {
+                        logger.error("Failed to read document from GitHub: {}", blob.getPath(), runtimeException);
+                    }
+                    try {
+                        loaded.put(Optional.ofNullable(document));
+                    } catch (InterruptedException interruptedException) {
+                        Thread.currentThread().interrupt();
+                    }
+                });
+            }
+
+            for (int i = 0; i < blobs.size(); i++) {
+                loaded.take().ifPresent(consumer);
+            }
+        } catch (InterruptedException interruptedException) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(interruptedException);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Loads all files under the provided path concurrently.
+     * See {@link #loadDocuments(String, String, String, String, DocumentParser, Consumer)} for details.
+     *
+     * @return The loaded documents, in the order in which they were downloaded.
+     */
+    public List<Document> loadDocumentsConcurrently(String owner, String repo, String branch, String path,
+                                                    DocumentParser parser) {
+        List<Document> documents = new ArrayList<>();
+        loadDocuments(owner, repo, branch, path, parser, documents::add);
+        return documents;
+    }
+
+    private void awaitRateLimit() {
+        GHRateLimit.Record core = gitHub.lastRateLimit().getCore();
+        if (core.getRemaining() > RATE_LIMIT_RESERVE || core.isExpired()) {
+            return;
+        }
+        long waitMillis = core.getResetDate().getTime() - System.currentTimeMillis();
+        if (waitMillis > 0) {
+            logger.warn("GitHub API rate limit almost exhausted ({} remaining), waiting {} ms for reset",
+                    core.getRemaining(), waitMillis);
+            try {
+                Thread.sleep(waitMillis);
+            } catch (InterruptedException interruptedException) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException(interruptedException);
+            }
+        }
+    }
+
+    private static Document fromGitHub(DocumentParser parser, GHRepository repository, String branch, GHTreeEntry entry) {
+        logger.info("Loading document from GitHub: {}", entry.getPath());
+        return DocumentLoader.load(new GitHubBlobSource(repository, branch, entry), parser);
+    }
+
     private static void scanDirectory(GHContent ghContent, List<Document> documents, DocumentParser parser) {
         if (ghContent.isDirectory()) {
             try {
@@ -132,6 +288,8 @@ public class GitHubDocumentLoader {
 
         private String gitHubTokenOrganization;
 
+        private Integer maxConcurrentDownloads;
+
         public Builder apiUrl(String apiUrl) {
             this.apiUrl = apiUrl;
             return this;
@@ -147,8 +305,18 @@ public class GitHubDocumentLoader {
             return this;
         }
 
+        /**
+         * @param maxConcurrentDownloads The maximum number of files downloaded in parallel
+         *                               by the concurrent loading methods. Default: 8.
+         * @return builder
+         */
+        public Builder maxConcurrentDownloads(Integer maxConcurrentDownloads) {
+            this.maxConcurrentDownloads = maxConcurrentDownloads;
+            return this;
+        }
+
         public GitHubDocumentLoader build() {
-            return new GitHubDocumentLoader(apiUrl, gitHubToken, gitHubTokenOrganization);
+            return new GitHubDocumentLoader(apiUrl, gitHubToken, gitHubTokenOrganization, maxConcurrentDownloads);
         }
     }
 }
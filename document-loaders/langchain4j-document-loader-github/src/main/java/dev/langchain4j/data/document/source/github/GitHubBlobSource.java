@@ -0,0 +1,50 @@
+package dev.langchain4j.data.document.source.github;
+
+import dev.langchain4j.data.document.DocumentSource;
+import dev.langchain4j.data.document.Metadata;
+import org.kohsuke.github.GHRepository;
+import org.kohsuke.github.GHTreeEntry;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+
+/**
+ * A {@link DocumentSource} for a file (blob) listed by a recursive git tree call.
+ * Provides the same metadata keys as {@link GitHubSource}, where available.
+ * <br>
+ * The content of the blob is only fetched when {@link #inputStream()} is called.
+ */
+public class GitHubBlobSource implements DocumentSource {
+
+    private final GHTreeEntry entry;
+
+    private final GHRepository repository;
+
+    private final String branch;
+
+    public GitHubBlobSource(GHRepository repository, String branch, GHTreeEntry entry) {
+        this.repository = ensureNotNull(repository, "repository");
+        this.branch = ensureNotNull(branch, "branch");
+        this.entry = ensureNotNull(entry, "entry");
+    }
+
+    @Override
+    public InputStream inputStream() throws IOException {
+        return ensureNotNull(entry.readAsBlob(), "inputStream");
+    }
+
+    @Override
+    public Metadata metadata() {
+        Metadata metadata = new Metadata();
+        metadata.put("github_git_url", entry.getUrl().toString());
+        metadata.put("github_html_url", repository.getHtmlUrl() + "/blob/" + branch + "/" + entry.getPath());
+        String path = entry.getPath();
+        metadata.put("github_file_name", path.substring(path.lastIndexOf('/') + 1));
+        metadata.put("github_file_path", path);
+        metadata.put("github_file_sha", entry.getSha());
+        metadata.put("github_file_size", Long.toString(entry.getSize()));
+        return metadata;
+    }
+}
@@ -68,4 +68,17 @@ class GitHubDocumentLoaderIT {
 
         assertThat(documents.size()).isGreaterThan(1);
     }
+
+    @Test
+    public void should_load_repository_directory_concurrently() {
+        List<Document> documents = loader.loadDocumentsConcurrently(TEST_OWNER, TEST_REPO, "main",
+                "langchain4j-core/src/main/java/dev/langchain4j/data/document", parser);
+
+        assertThat(documents).isNotEmpty();
+        assertThat(documents).allSatisfy(document -> {
+            assertThat(document.metadata().getString("github_file_path"))
+                    .startsWith("langchain4j-core/src/main/java/dev/langchain4j/data/document/");
+            assertThat(document.metadata().getString("github_file_sha")).isNotBlank();
+        });
+    }
 }
@@ -0,0 +1,145 @@
+package dev.langchain4j.data.document.loader.github;
+
+import dev.langchain4j.data.document.Document;
+import dev.langchain4j.data.document.DocumentParser;
+import dev.langchain4j.data.document.parser.TextDocumentParser;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.kohsuke.github.GHRateLimit;
+import org.kohsuke.github.GHRepository;
+import org.kohsuke.github.GHTree;
+import org.kohsuke.github.GHTreeEntry;
+import org.kohsuke.github.GitHub;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class GitHubDocumentLoaderTest {
+
+    GitHub gitHub = mock(GitHub.class);
+    GHRepository repository = mock(GHRepository.class);
+    GHTree tree = mock(GHTree.class);
+
+    DocumentParser parser = new TextDocumentParser();
+
+    @BeforeEach
+    void beforeEach() throws IOException {
+        GHRateLimit.Record core = mock(GHRateLimit.Record.class);
+        when(core.getRemaining()).thenReturn(5000);
+        GHRateLimit rateLimit = mock(GHRateLimit.class);
+        when(rateLimit.getCore()).thenReturn(core);
+        when(gitHub.lastRateLimit()).thenReturn(rateLimit);
+
+        when(gitHub.getRepository("owner/repo")).thenReturn(repository);
+        when(repository.getDefaultBranch()).thenReturn("main");
+        when(repository.getHtmlUrl()).thenReturn(new URL("https://github.com/owner/repo"));
+        when(repository.getTreeRecursive("main", 1)).thenReturn(tree);
+    }
+
+    @Test
+    void should_load_blobs_under_path_and_skip_failing_ones() throws IOException {
+
+        // given
+        GHTreeEntry failing = blob("docs/failing.txt", null);
+        when(failing.readAsBlob()).thenThrow(new IOException("boom"));
+        List<GHTreeEntry> entries = List.of(
+                blob("docs/a.txt", "A"),
+                entry("docs/nested", "tree"),
+                blob("docs/nested/b.txt", "B"),
+                failing,
+                blob("other/c.txt", "C")
+        );
+        when(tree.getTree()).thenReturn(entries);
+
+        GitHubDocumentLoader loader = new GitHubDocumentLoader(gitHub, 2);
+
+        // when
+        List<Document> documents = loader.loadDocumentsConcurrently("owner", "repo", null, "docs", parser);
+
+        // then
+        assertThat(documents).extracting(Document::text).containsExactlyInAnyOrder("A", "B");
+        Document document = documents.stream().filter(d -> d.text().equals("B")).findFirst().get();
+        assertThat(document.metadata().getString("github_file_path")).isEqualTo("docs/nested/b.txt");
+        assertThat(document.metadata().getString("github_file_name")).isEqualTo("b.txt");
+        assertThat(document.metadata().getString("github_html_url"))
+                .isEqualTo("https://github.com/owner/repo/blob/main/docs/nested/b.txt");
+    }
+
+    @Test
+    void should_pause_downloads_while_consumer_is_busy() throws Exception {
+
+        // given
+        AtomicInteger downloads = new AtomicInteger();
+        List<GHTreeEntry> entries = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            GHTreeEntry blob = blob("file" + i + ".txt", null);
+            String text = "text " + i;
+            when(blob.readAsBlob()).thenAnswer(invocation -> {
+                downloads.incrementAndGet();
+                return new ByteArrayInputStream(text.getBytes(UTF_8));
+            });
+            entries.add(blob);
+        }
+        when(tree.getTree()).thenReturn(entries);
+
+        int maxConcurrentDownloads = 2;
+        GitHubDocumentLoader loader = new GitHubDocumentLoader(gitHub, maxConcurrentDownloads);
+
+        CountDownLatch consumerBlocked = new CountDownLatch(1);
+        CountDownLatch releaseConsumer = new CountDownLatch(1);
+        List<Document> consumed = new ArrayList<>();
+        Thread loading = new Thread(() -> loader.loadDocuments("owner", "repo", null, "", parser, document -> {
+            consumed.add(document);
+            if (consumed.size() == 1) {
+                consumerBlocked.countDown();
+                try {
+                    releaseConsumer.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }));
+
+        // when
+        loading.start();
+        assertThat(consumerBlocked.await(10, SECONDS)).isTrue();
+        Thread.sleep(500);
+
+        // then
+        // one document being consumed, a full queue and one finished download waiting for space per thread
+        assertThat(downloads.get()).isLessThanOrEqualTo(1 + 2 * maxConcurrentDownloads);
+
+        releaseConsumer.countDown();
+        loading.join(10_000);
+        assertThat(consumed).hasSize(50);
+        assertThat(downloads.get()).isEqualTo(50);
+    }
+
+    private static GHTreeEntry blob(String path, String text) throws IOException {
+        GHTreeEntry entry = entry(path, "blob");
+        when(entry.getUrl()).thenReturn(new URL("https://api.github.com/repos/owner/repo/git/blobs/" + path.hashCode()));
+        when(entry.getSha()).thenReturn(Integer.toHexString(path.hashCode()));
+        if (text != null) {
+            when(entry.readAsBlob()).thenReturn(new ByteArrayInputStream(text.getBytes(UTF_8)));
+        }
+        return entry;
+    }
+
+    private static GHTreeEntry entry(String path, String type) {
+        GHTreeEntry entry = mock(GHTreeEntry.class);
+        when(entry.getPath()).thenReturn(path);
+        when(entry.getType()).thenReturn(type);
+        return entry;
+    }
+}
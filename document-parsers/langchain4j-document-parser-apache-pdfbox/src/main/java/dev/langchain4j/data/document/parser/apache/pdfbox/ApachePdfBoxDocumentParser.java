@@ -4,33 +4,94 @@ import dev.langchain4j.data.document.BlankDocumentException;
 import dev.langchain4j.data.document.Document;
 import dev.langchain4j.data.document.DocumentParser;
 import dev.langchain4j.data.document.Metadata;
+import org.apache.pdfbox.io.MemoryUsageSetting;
 import org.apache.pdfbox.pdmodel.PDDocument;
 import org.apache.pdfbox.pdmodel.PDDocumentInformation;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageTree;
 import org.apache.pdfbox.text.PDFTextStripper;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 
+import static dev.langchain4j.internal.Utils.getOrDefault;
 import static dev.langchain4j.internal.Utils.isNullOrBlank;
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
 
 /**
  * Parses PDF file into a {@link Document} using Apache PDFBox library
+ * <br>
+ * <br>
+ * Besides {@link #parse(InputStream)}, which extracts the text of the whole file into a single {@link Document},
+ * {@link #parse(InputStream, Consumer)} can be used to stream large files: it emits one {@link Document}
+ * per {@code pagesPerDocument} pages, in page order, each carrying {@value #START_PAGE_NUMBER}
+ * and {@value #END_PAGE_NUMBER} metadata entries (1-based, inclusive). Blank pages are skipped.
+ * <br>
+ * <br>
+ * Configurable parameters (optional):
+ * <br>
+ * - {@code includeMetadata}: Whether to copy the PDF document information into {@link Document} metadata.
+ * Default: {@code false}.
+ * <br>
+ * - {@code pagesPerDocument}: The number of pages per {@link Document} when streaming. Default: 1.
+ * <br>
+ * - {@code memoryUsageSetting}: How PDFBox buffers the parsed file.
+ * Use {@link MemoryUsageSetting#setupMixed(long)} or {@link MemoryUsageSetting#setupTempFileOnly()}
+ * to keep heap usage bounded for large files. Default: {@link MemoryUsageSetting#setupMainMemoryOnly()}.
+ * <br>
+ * - {@code parallelism}: The number of worker threads that extract text when streaming. Default: 1.
+ * When greater than 1, the file is first copied to a temporary file, which each worker opens once,
+ * since {@link PDDocument} is not thread-safe. At most {@code 2 * parallelism} extracted {@link Document}s
+ * are held in memory waiting to be emitted.
  */
 public class ApachePdfBoxDocumentParser implements DocumentParser {
 
+    public static final String START_PAGE_NUMBER = "start_page_number";
+    public static final String END_PAGE_NUMBER = "end_page_number";
+
     private final boolean includeMetadata;
+    private final int pagesPerDocument;
+    private final MemoryUsageSetting memoryUsageSetting;
+    private final int parallelism;
 
     public ApachePdfBoxDocumentParser() {
         this(false);
     }
 
     public ApachePdfBoxDocumentParser(boolean includeMetadata) {
-        this.includeMetadata = includeMetadata;
+        this(includeMetadata, null, null, null);
+    }
+
+    public ApachePdfBoxDocumentParser(Boolean includeMetadata,
+                                      Integer pagesPerDocument,
+                                      MemoryUsageSetting memoryUsageSetting,
+                                      Integer parallelism) {
+        this.includeMetadata = getOrDefault(includeMetadata, false);
+        this.pagesPerDocument = ensureGreaterThanZero(getOrDefault(pagesPerDocument, 1), "pagesPerDocument");
+        this.memoryUsageSetting = getOrDefault(memoryUsageSetting, MemoryUsageSetting::setupMainMemoryOnly);
+        this.parallelism = ensureGreaterThanZero(getOrDefault(parallelism, 1), "parallelism");
+    }
+
+    public static ApachePdfBoxDocumentParserBuilder builder() {
+        return new ApachePdfBoxDocumentParserBuilder();
     }
 
     @Override
     public Document parse(InputStream inputStream) {
-        try (PDDocument pdfDocument = PDDocument.load(inputStream)) {
+        try (PDDocument pdfDocument = PDDocument.load(inputStream, memoryUsageSetting)) {
             PDFTextStripper stripper = new PDFTextStripper();
             String text = stripper.getText(pdfDocument);
             if (isNullOrBlank(text)) {
@@ -44,6 +105,157 @@ public class ApachePdfBoxDocumentParser implements DocumentParser {
         }
     }
 
+    /**
+     * Parses the provided PDF file page by page, passing one {@link Document} per {@code pagesPerDocument} pages
+     * to the provided consumer, in page order.
+     * The text of the whole file is never held in memory at once.
+     *
+     * @param inputStream The PDF file.
+     * @param consumer    The consumer of the extracted {@link Document}s. It is always called from the calling thread.
+     * @throws BlankDocumentException if no page contains text.
+     */
+    public void parse(InputStream inputStream, Consumer<Document> consumer) {
+        ensureNotNull(consumer, "consumer");
+        int emitted = parallelism == 1
+                ? parseSequentially(inputStream, consumer)
+                : parseInParallel(inputStream, consumer);
+        if (emitted == 0) {
+            throw new BlankDocumentException();
+        }
+    }
+
+    private int parseSequentially(InputStream inputStream, Consumer<Document> consumer) {
+        try (PDDocument pdfDocument = PDDocument.load(inputStream, memoryUsageSetting)) {
+            Metadata documentMetadata = includeMetadata ? toMetadata(pdfDocument) : new Metadata();
+            PageRangeTextStripper stripper = new PageRangeTextStripper();
+            int chunks = chunkCount(pdfDocument.getNumberOfPages());
+            int emitted = 0;
+            for (int chunk = 0; chunk < chunks; chunk++) {
+                Document document = extract(stripper, pdfDocument, chunk, documentMetadata);
+                if (document != null) {
+                    consumer.accept(document);
+                    emitted++;
+                }
+            }
+            return emitted;
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private int parseInParallel(InputStream inputStream, Consumer<Document> consumer) {
+        Path file = null;
+        ExecutorService executor = null;
+        try {
+            file = Files.createTempFile("langchain4j-pdfbox-", ".pdf");
+            Files.copy(inputStream, file, REPLACE_EXISTING);
+
+            int chunks;
+            Metadata documentMetadata;
+            try (PDDocument pdfDocument = PDDocument.load(file.toFile(), memoryUsageSetting)) {
+                chunks = chunkCount(pdfDocument.getNumberOfPages());
+                documentMetadata = includeMetadata ? toMetadata(pdfDocument) : new Metadata();
+            }
+
+            List<CompletableFuture<Document>> results = new ArrayList<>(chunks);
+            for (int chunk = 0; chunk < chunks; chunk++) {
+                results.add(new CompletableFuture<>());
+            }
+
+            // A worker takes a permit before claiming the next chunk, and the consumer returns it once
+            // that chunk is emitted. Chunks are claimed in order, so the chunk awaited by the consumer
+            // has always been claimed already, and the number of buffered documents stays bounded.
+            Semaphore permits = new Semaphore(2 * parallelism);
+            AtomicInteger nextChunk = new AtomicInteger();
+            Path pdfFile = file;
+            executor = Executors.newFixedThreadPool(parallelism, runnable -> {
+                Thread thread = new Thread(runnable, "langchain4j-pdfbox-worker");
+                thread.setDaemon(true);
+                return thread;
+            });
+            for (int i = 0; i < parallelism; i++) {
+                executor.execute(() -> extractChunks(pdfFile, documentMetadata, chunks, nextChunk, permits, results));
+            }
+
+            int emitted = 0;
+            for (CompletableFuture<Document> result : results) {
+                Document document = result.get();
+                permits.release();
+                if (document != null) {
+                    consumer.accept(document);
+                    emitted++;
+                }
+            }
+            return emitted;
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            throw cause instanceof RuntimeException ? (RuntimeException) cause : new RuntimeException(cause);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        } finally {
+            if (executor != null) {
+                executor.shutdownNow();
+            }
+            if (file != null) {
+                try {
+                    Files.deleteIfExists(file);
+                } catch (IOException ignored) {
+                    // best effort
+                }
+            }
+        }
+    }
+
+    private void extractChunks(Path file,
+                               Metadata documentMetadata,
+                               int chunks,
+                               AtomicInteger nextChunk,
+                               Semaphore permits,
+                               List<CompletableFuture<Document>> results) {
+        try (PDDocument pdfDocument = PDDocument.load(file.toFile(), memoryUsageSetting)) {
+            PageRangeTextStripper stripper = new PageRangeTextStripper();
+            while (true) {
+                permits.acquire();
+                int chunk = nextChunk.getAndIncrement();
+                if (chunk >= chunks) {
+                    return;
+                }
+                try {
+                    results.get(chunk).complete(extract(stripper, pdfDocument, chunk, documentMetadata));
+                } catch (Exception e) {
+                    results.get(chunk).completeExceptionally(e);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            results.forEach(result -> result.completeExceptionally(e));
+        }
+    }
+
+    private Document extract(PageRangeTextStripper stripper,
+                             PDDocument pdfDocument,
+                             int chunk,
+                             Metadata documentMetadata) throws IOException {
+        int startPage = chunk * pagesPerDocument + 1;
+        int endPage = Math.min(startPage + pagesPerDocument - 1, pdfDocument.getNumberOfPages());
+        String text = stripper.getText(pdfDocument, startPage, endPage);
+        if (isNullOrBlank(text)) {
+            return null;
+        }
+        Metadata metadata = documentMetadata.copy()
+                .put(START_PAGE_NUMBER, startPage)
+                .put(END_PAGE_NUMBER, endPage);
+        return Document.from(text, metadata);
+    }
+
+    private int chunkCount(int pages) {
+        return (pages + pagesPerDocument - 1) / pagesPerDocument;
+    }
+
     private Metadata toMetadata(PDDocument pdDocument) {
         PDDocumentInformation documentInformation = pdDocument.getDocumentInformation();
         Metadata metadata = new Metadata();
@@ -53,4 +265,69 @@ public class ApachePdfBoxDocumentParser implements DocumentParser {
         }
         return metadata;
     }
+
+    /**
+     * A {@link PDFTextStripper} that only visits the pages of the requested range.
+     * {@link PDFTextStripper#setStartPage(int)} and {@link PDFTextStripper#setEndPage(int)} still walk
+     * the page tree from the first page, which makes extracting a large file chunk by chunk quadratic.
+     */
+    private static class PageRangeTextStripper extends PDFTextStripper {
+
+        private int startPage;
+        private int endPage;
+
+        PageRangeTextStripper() throws IOException {
+        }
+
+        String getText(PDDocument document, int startPage, int endPage) throws IOException {
+            this.startPage = startPage;
+            this.endPage = endPage;
+            return getText(document);
+        }
+
+        @Override
+        protected void processPages(PDPageTree pages) throws IOException {
+            for (int index = startPage - 1; index < endPage; index++) {
+                PDPage page = pages.get(index);
+                if (page.hasContents()) {
+                    processPage(page);
+                }
+            }
+        }
+    }
+
+    public static class ApachePdfBoxDocumentParserBuilder {
+
+        private Boolean includeMetadata;
+        private Integer pagesPerDocument;
+        private MemoryUsageSetting memoryUsageSetting;
+        private Integer parallelism;
+
+        ApachePdfBoxDocumentParserBuilder() {
+        }
+
+        public ApachePdfBoxDocumentParserBuilder includeMetadata(Boolean includeMetadata) {
+            this.includeMetadata = includeMetadata;
+            return this;
+        }
+
+        public ApachePdfBoxDocumentParserBuilder pagesPerDocument(Integer pagesPerDocument) {
+            this.pagesPerDocument = pagesPerDocument;
+            return this;
+        }
+
+        public ApachePdfBoxDocumentParserBuilder memoryUsageSetting(MemoryUsageSetting memoryUsageSetting) {
+            this.memoryUsageSetting = memoryUsageSetting;
+            return this;
+        }
+
+        public ApachePdfBoxDocumentParserBuilder parallelism(Integer parallelism) {
+            this.parallelism = parallelism;
+            return this;
+        }
+
+        public ApachePdfBoxDocumentParser build() {
+            return new ApachePdfBoxDocumentParser(includeMetadata, pagesPerDocument, memoryUsageSetting, parallelism);
+        }
+    }
 }
@@ -3,10 +3,22 @@ package dev.langchain4j.data.document.parser.apache.pdfbox;
 import dev.langchain4j.data.document.BlankDocumentException;
 import dev.langchain4j.data.document.Document;
 import dev.langchain4j.data.document.DocumentParser;
+import org.apache.pdfbox.io.MemoryUsageSetting;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.font.PDType1Font;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import static dev.langchain4j.data.document.parser.apache.pdfbox.ApachePdfBoxDocumentParser.END_PAGE_NUMBER;
+import static dev.langchain4j.data.document.parser.apache.pdfbox.ApachePdfBoxDocumentParser.START_PAGE_NUMBER;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -53,4 +65,68 @@ class ApachePdfBoxDocumentParserTest {
             throw new RuntimeException(e);
         }
     }
-}
\ No newline at end of file
+
+    @Test
+    void should_stream_pdf_file_page_by_page() throws IOException {
+        should_stream_pdf_file_page_by_page(1);
+    }
+
+    @Test
+    void should_stream_pdf_file_page_by_page_in_parallel() throws IOException {
+        should_stream_pdf_file_page_by_page(3);
+    }
+
+    private static void should_stream_pdf_file_page_by_page(int parallelism) throws IOException {
+
+        // given
+        byte[] pdf = createPdf(7);
+        ApachePdfBoxDocumentParser parser = ApachePdfBoxDocumentParser.builder()
+                .pagesPerDocument(2)
+                .memoryUsageSetting(MemoryUsageSetting.setupTempFileOnly())
+                .parallelism(parallelism)
+                .build();
+
+        // when
+        List<Document> documents = new ArrayList<>();
+        parser.parse(new ByteArrayInputStream(pdf), documents::add);
+
+        // then
+        assertThat(documents).hasSize(4);
+        assertThat(documents.get(0).text()).isEqualToIgnoringWhitespace("page 1page 2");
+        assertThat(documents.get(0).metadata().getInteger(START_PAGE_NUMBER)).isEqualTo(1);
+        assertThat(documents.get(0).metadata().getInteger(END_PAGE_NUMBER)).isEqualTo(2);
+        assertThat(documents.get(1).text()).isEqualToIgnoringWhitespace("page 3page 4");
+        assertThat(documents.get(2).text()).isEqualToIgnoringWhitespace("page 5page 6");
+        assertThat(documents.get(3).text()).isEqualToIgnoringWhitespace("page 7");
+        assertThat(documents.get(3).metadata().getInteger(START_PAGE_NUMBER)).isEqualTo(7);
+        assertThat(documents.get(3).metadata().getInteger(END_PAGE_NUMBER)).isEqualTo(7);
+    }
+
+    @Test
+    void should_throw_BlankDocumentException_when_streaming() throws IOException {
+        try (InputStream inputStream = getClass().getClassLoader().getResourceAsStream("blank-file.pdf")) {
+            ApachePdfBoxDocumentParser parser = new ApachePdfBoxDocumentParser();
+            assertThatThrownBy(() -> parser.parse(inputStream, document -> {
+            })).isExactlyInstanceOf(BlankDocumentException.class);
+        }
+    }
+
+    private static byte[] createPdf(int pages) throws IOException {
+        try (PDDocument document = new PDDocument()) {
+            for (int i = 1; i <= pages; i++) {
+                PDPage page = new PDPage();
+                document.addPage(page);
+                try (PDPageContentStream contentStream = new PDPageContentStream(document, page)) {
+                    contentStream.beginText();
+                    contentStream.setFont(PDType1Font.HELVETICA, 12);
+                    contentStream.newLineAtOffset(100, 700);
+                    contentStream.showText("page " + i);
+                    contentStream.endText();
+                }
+            }
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+            document.save(outputStream);
+            return outputStream.toByteArray();
+        }
+    }
+}
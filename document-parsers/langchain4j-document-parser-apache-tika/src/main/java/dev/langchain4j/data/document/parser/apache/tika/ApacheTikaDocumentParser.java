@@ -3,6 +3,8 @@ package dev.langchain4j.data.document.parser.apache.tika;
 import dev.langchain4j.data.document.BlankDocumentException;
 import dev.langchain4j.data.document.Document;
 import dev.langchain4j.data.document.DocumentParser;
+import dev.langchain4j.data.document.DocumentSplitter;
+import dev.langchain4j.data.segment.TextSegment;
 import org.apache.tika.exception.ZeroByteFileException;
 import org.apache.tika.metadata.Metadata;
 import org.apache.tika.parser.AutoDetectParser;
@@ -12,21 +14,51 @@ import org.apache.tika.sax.BodyContentHandler;
 import org.xml.sax.ContentHandler;
 
 import java.io.InputStream;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
 
 import static dev.langchain4j.internal.Utils.getOrDefault;
 import static dev.langchain4j.internal.Utils.isNullOrBlank;
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
 
 /**
  * Parses files into {@link Document}s using Apache Tika library, automatically detecting the file format.
  * This parser supports various file formats, including PDF, DOC, PPT, XLS.
  * For detailed information on supported formats,
  * please refer to the <a href="https://tika.apache.org/2.9.1/formats.html">Apache Tika documentation</a>.
+ * <br>
+ * <br>
+ * Besides {@link #parse(InputStream)}, which extracts the whole text into a single {@link Document},
+ * large files can be parsed in a streaming fashion with {@link #parse(InputStream, Consumer)}
+ * or {@link #parse(InputStream, DocumentSplitter, Consumer)}: the extracted text is pushed through a
+ * Tika {@link ContentHandler} in chunks of roughly {@code chunkSize} characters, which are passed downstream
+ * (e.g. to a {@link DocumentSplitter}) as soon as they are complete.
+ * <br>
+ * <br>
+ * Configurable parameters (optional):
+ * <br>
+ * - {@code parserSupplier}, {@code contentHandlerSupplier}, {@code metadataSupplier}, {@code parseContextSupplier}:
+ * see {@link #ApacheTikaDocumentParser(Supplier, Supplier, Supplier, Supplier)}.
+ * By default, a single {@link AutoDetectParser} (which is thread-safe) is shared by all parsers and calls.
+ * <br>
+ * - {@code chunkSize}: The approximate number of characters per chunk when streaming. Default: 65536.
+ * <br>
+ * - {@code maxCharacters}: The maximum number of characters that can be extracted from a single file.
+ * If exceeded, parsing fails. Applies to {@link #parse(InputStream)} only when the default content handler is used.
+ * Default: no limit.
+ * <br>
+ * - {@code timeout}: The maximum duration of a streaming parse. It is checked each time the Tika parser emits text
+ * or the start or end of an element, so that markup-heavy files without text are also stopped.
+ * Default: no timeout.
  */
 public class ApacheTikaDocumentParser implements DocumentParser {
 
     private static final int NO_WRITE_LIMIT = -1;
-    public static final Supplier<Parser> DEFAULT_PARSER_SUPPLIER = AutoDetectParser::new;
+    private static final int DEFAULT_CHUNK_SIZE = 64 * 1024;
+    public static final Supplier<Parser> DEFAULT_PARSER_SUPPLIER = () -> SharedParserHolder.PARSER;
     public static final Supplier<Metadata> DEFAULT_METADATA_SUPPLIER = Metadata::new;
     public static final Supplier<ParseContext> DEFAULT_PARSE_CONTEXT_SUPPLIER = ParseContext::new;
     public static final Supplier<ContentHandler> DEFAULT_CONTENT_HANDLER_SUPPLIER = () -> new BodyContentHandler(NO_WRITE_LIMIT);
@@ -35,10 +67,13 @@ public class ApacheTikaDocumentParser implements DocumentParser {
     private final Supplier<ContentHandler> contentHandlerSupplier;
     private final Supplier<Metadata> metadataSupplier;
     private final Supplier<ParseContext> parseContextSupplier;
+    private final int chunkSize;
+    private final Integer maxCharacters;
+    private final Duration timeout;
 
     /**
      * Creates an instance of an {@code ApacheTikaDocumentParser} with the default Tika components.
-     * It uses {@link AutoDetectParser}, {@link BodyContentHandler} without write limit,
+     * It uses a shared {@link AutoDetectParser}, {@link BodyContentHandler} without write limit,
      * empty {@link Metadata} and empty {@link ParseContext}.
      */
     public ApacheTikaDocumentParser() {
@@ -72,7 +107,7 @@ public class ApacheTikaDocumentParser implements DocumentParser {
      * Creates an instance of an {@code ApacheTikaDocumentParser} with the provided suppliers for Tika components.
      * If some of the suppliers are not provided ({@code null}), the defaults will be used.
      *
-     * @param parserSupplier         Supplier for Tika parser to use. Default: {@link AutoDetectParser}
+     * @param parserSupplier         Supplier for Tika parser to use. Default: shared {@link AutoDetectParser}
      * @param contentHandlerSupplier Supplier for Tika content handler. Default: {@link BodyContentHandler} without write limit
      * @param metadataSupplier       Supplier for Tika metadata. Default: empty {@link Metadata}
      * @param parseContextSupplier   Supplier for Tika parse context. Default: empty {@link ParseContext}
@@ -81,10 +116,42 @@ public class ApacheTikaDocumentParser implements DocumentParser {
                                     Supplier<ContentHandler> contentHandlerSupplier,
                                     Supplier<Metadata> metadataSupplier,
                                     Supplier<ParseContext> parseContextSupplier) {
+        this(parserSupplier, contentHandlerSupplier, metadataSupplier, parseContextSupplier, null, null, null);
+    }
+
+    /**
+     * Creates an instance of an {@code ApacheTikaDocumentParser} with the provided suppliers for Tika components
+     * and streaming settings.
+     * If some of the parameters are not provided ({@code null}), the defaults will be used.
+     *
+     * @param parserSupplier         Supplier for Tika parser to use. Default: shared {@link AutoDetectParser}
+     * @param contentHandlerSupplier Supplier for Tika content handler. Default: {@link BodyContentHandler} without write limit
+     * @param metadataSupplier       Supplier for Tika metadata. Default: empty {@link Metadata}
+     * @param parseContextSupplier   Supplier for Tika parse context. Default: empty {@link ParseContext}
+     * @param chunkSize              The approximate number of characters per chunk when streaming. Default: 65536
+     * @param maxCharacters          The maximum number of characters extracted from a single file. Default: no limit
+     * @param timeout                The maximum duration of a streaming parse. Default: no timeout
+     */
+    public ApacheTikaDocumentParser(Supplier<Parser> parserSupplier,
+                                    Supplier<ContentHandler> contentHandlerSupplier,
+                                    Supplier<Metadata> metadataSupplier,
+                                    Supplier<ParseContext> parseContextSupplier,
+                                    Integer chunkSize,
+                                    Integer maxCharacters,
+                                    Duration timeout) {
         this.parserSupplier = getOrDefault(parserSupplier, () -> DEFAULT_PARSER_SUPPLIER);
-        this.contentHandlerSupplier = getOrDefault(contentHandlerSupplier, () -> DEFAULT_CONTENT_HANDLER_SUPPLIER);
+        this.maxCharacters = maxCharacters == null ? null : ensureGreaterThanZero(maxCharacters, "maxCharacters");
+        this.contentHandlerSupplier = getOrDefault(contentHandlerSupplier, () -> this.maxCharacters == null
+                ? DEFAULT_CONTENT_HANDLER_SUPPLIER
+                : () -> new BodyContentHandler(this.maxCharacters));
         this.metadataSupplier = getOrDefault(metadataSupplier, () -> DEFAULT_METADATA_SUPPLIER);
         this.parseContextSupplier = getOrDefault(parseContextSupplier, () -> DEFAULT_PARSE_CONTEXT_SUPPLIER);
+        this.chunkSize = ensureGreaterThanZero(getOrDefault(chunkSize, DEFAULT_CHUNK_SIZE), "chunkSize");
+        this.timeout = timeout;
+    }
+
+    public static ApacheTikaDocumentParserBuilder builder() {
+        return new ApacheTikaDocumentParserBuilder();
     }
 
     // TODO allow automatically extract metadata (e.g. creator, last-author, created/modified timestamp, etc)
@@ -113,4 +180,143 @@ public class ApacheTikaDocumentParser implements DocumentParser {
             throw new RuntimeException(e);
         }
     }
+
+    /**
+     * Parses the provided file in a streaming fashion, passing the extracted text downstream
+     * in chunks of roughly {@code chunkSize} characters, as soon as each chunk is complete.
+     * Chunks are cut at paragraph breaks or whitespace where possible.
+     *
+     * @param inputStream   The file to parse.
+     * @param chunkConsumer The consumer of the chunks, called from the calling thread, in document order.
+     * @throws BlankDocumentException if the file contains no text.
+     */
+    public void parse(InputStream inputStream, Consumer<Document> chunkConsumer) {
+        ensureNotNull(chunkConsumer, "chunkConsumer");
+
+        AtomicInteger chunks = new AtomicInteger();
+        long deadline = System.nanoTime() + (timeout == null ? Long.MAX_VALUE / 2 : timeout.toNanos());
+        ChunkingContentHandler chunkingContentHandler = new ChunkingContentHandler(
+                chunkSize,
+                maxCharacters == null ? Long.MAX_VALUE : maxCharacters,
+                deadline,
+                text -> {
+                    if (!isNullOrBlank(text)) {
+                        chunks.incrementAndGet();
+                        chunkConsumer.accept(Document.from(text));
+                    }
+                }
+        );
+
+        try {
+            Parser parser = parserSupplier.get();
+            parser.parse(inputStream, new BodyContentHandler(chunkingContentHandler), metadataSupplier.get(), parseContextSupplier.get());
+            chunkingContentHandler.flush();
+        } catch (ZeroByteFileException e) {
+            throw new BlankDocumentException();
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            ChunkingContentHandler.LimitExceededException limitExceeded = findLimitExceeded(e);
+            throw limitExceeded != null
+                    ? new RuntimeException(limitExceeded.getMessage(), limitExceeded)
+                    : new RuntimeException(e);
+        }
+
+        if (chunks.get() == 0) {
+            throw new BlankDocumentException();
+        }
+    }
+
+    /**
+     * Parses the provided file in a streaming fashion (see {@link #parse(InputStream, Consumer)}),
+     * splitting each chunk of extracted text with the provided {@link DocumentSplitter}.
+     * The "index" metadata of the resulting {@link TextSegment}s is continuous across chunks.
+     *
+     * @param inputStream     The file to parse.
+     * @param splitter        The splitter to split each chunk with.
+     * @param segmentConsumer The consumer of the segments, called from the calling thread, in document order.
+     * @throws BlankDocumentException if the file contains no text.
+     */
+    public void parse(InputStream inputStream, DocumentSplitter splitter, Consumer<TextSegment> segmentConsumer) {
+        ensureNotNull(splitter, "splitter");
+        ensureNotNull(segmentConsumer, "segmentConsumer");
+
+        AtomicInteger index = new AtomicInteger();
+        parse(inputStream, chunk -> {
+            for (TextSegment segment : splitter.split(chunk)) {
+                segment.metadata().put("index", String.valueOf(index.getAndIncrement()));
+                segmentConsumer.accept(segment);
+            }
+        });
+    }
+
+    private static ChunkingContentHandler.LimitExceededException findLimitExceeded(Throwable throwable) {
+        Throwable current = throwable;
+        while (current != null) {
+            if (current instanceof ChunkingContentHandler.LimitExceededException) {
+                return (ChunkingContentHandler.LimitExceededException) current;
+            }
+            current = current.getCause();
+        }
+        return null;
+    }
+
+    private static class SharedParserHolder {
+
+        private static final Parser PARSER = new AutoDetectParser();
+    }
+
+    public static class ApacheTikaDocumentParserBuilder {
+
+        private Supplier<Parser> parserSupplier;
+        private Supplier<ContentHandler> contentHandlerSupplier;
+        private Supplier<Metadata> metadataSupplier;
+        private Supplier<ParseContext> parseContextSupplier;
+        private Integer chunkSize;
+        private Integer maxCharacters;
+        private Duration timeout;
+
+        ApacheTikaDocumentParserBuilder() {
+        }
+
+        public ApacheTikaDocumentParserBuilder parserSupplier(Supplier<Parser> parserSupplier) {
+            this.parserSupplier = parserSupplier;
+            return this;
+        }
+
+        public ApacheTikaDocumentParserBuilder contentHandlerSupplier(Supplier<ContentHandler> contentHandlerSupplier) {
+            this.contentHandlerSupplier = contentHandlerSupplier;
+            return this;
+        }
+
+        public ApacheTikaDocumentParserBuilder metadataSupplier(Supplier<Metadata> metadataSupplier) {
+            this.metadataSupplier = metadataSupplier;
+            return this;
+        }
+
+        public ApacheTikaDocumentParserBuilder parseContextSupplier(Supplier<ParseContext> parseContextSupplier) {
+            this.parseContextSupplier = parseContextSupplier;
+            return this;
+        }
+
+        public ApacheTikaDocumentParserBuilder chunkSize(Integer chunkSize) {
+            this.chunkSize = chunkSize;
+            return this;
+        }
+
+        public ApacheTikaDocumentParserBuilder maxCharacters(Integer maxCharacters) {
+            this.maxCharacters = maxCharacters;
+            return this;
+        }
+
+        public ApacheTikaDocumentParserBuilder timeout(Duration timeout) {
+            this.timeout = timeout;
+            return this;
+        }
+
+        public ApacheTikaDocumentParser build() {
+            return new ApacheTikaDocumentParser(parserSupplier, contentHandlerSupplier, metadataSupplier,
+                    parseContextSupplier, chunkSize, maxCharacters, timeout);
+        }
+    }
 }
@@ -0,0 +1,107 @@
+package dev.langchain4j.data.document.parser.apache.tika;
+
+import org.xml.sax.Attributes;
+import org.xml.sax.SAXException;
+import org.xml.sax.helpers.DefaultHandler;
+
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+
+/**
+ * A SAX {@link org.xml.sax.ContentHandler} that collects the extracted text into chunks of roughly
+ * {@code chunkSize} characters and passes each chunk downstream as soon as it is complete,
+ * so that the text of the whole file is never held in memory at once.
+ * <p>
+ * A chunk is cut at the last paragraph break (or, if there is none, at the last whitespace) before the
+ * {@code chunkSize} limit, so that words and, where possible, paragraphs are not split between chunks.
+ * <p>
+ * It also enforces a limit on the total number of characters and a deadline, by failing the parsing
+ * with a {@link LimitExceededException}.
+ */
+class ChunkingContentHandler extends DefaultHandler {
+
+    private final int chunkSize;
+    private final long maxCharacters;
+    private final long deadlineNanos;
+    private final Consumer<String> chunkConsumer;
+    private final StringBuilder buffer = new StringBuilder();
+    private long characters;
+
+    ChunkingContentHandler(int chunkSize, long maxCharacters, long deadlineNanos, Consumer<String> chunkConsumer) {
+        this.chunkSize = chunkSize;
+        this.maxCharacters = maxCharacters;
+        this.deadlineNanos = deadlineNanos;
+        this.chunkConsumer = chunkConsumer;
+    }
+
+    @Override
+    public void startElement(String uri, String localName, String qName, Attributes attributes) throws SAXException {
+        checkDeadline();
+    }
+
+    @Override
+    public void endElement(String uri, String localName, String qName) throws SAXException {
+        checkDeadline();
+    }
+
+    @Override
+    public void characters(char[] ch, int start, int length) throws SAXException {
+        checkDeadline();
+        characters += length;
+        if (characters > maxCharacters) {
+            throw new LimitExceededException("The document exceeds the limit of " + maxCharacters + " characters", null);
+        }
+        buffer.append(ch, start, length);
+        while (buffer.length() >= chunkSize) {
+            int end = cutIndex();
+            chunkConsumer.accept(buffer.substring(0, end));
+            buffer.delete(0, end);
+        }
+    }
+
+    @Override
+    public void ignorableWhitespace(char[] ch, int start, int length) throws SAXException {
+        characters(ch, start, length);
+    }
+
+    @Override
+    public void endDocument() {
+        flush();
+    }
+
+    /**
+     * Passes the remaining text downstream.
+     */
+    void flush() {
+        if (buffer.length() > 0) {
+            chunkConsumer.accept(buffer.toString());
+            buffer.setLength(0);
+        }
+    }
+
+    private void checkDeadline() throws LimitExceededException {
+        if (System.nanoTime() - deadlineNanos > 0) {
+            throw new LimitExceededException("Parsing did not complete in time", new TimeoutException());
+        }
+    }
+
+    private int cutIndex() {
+        int paragraphBreak = buffer.lastIndexOf("\n\n", chunkSize - 2);
+        if (paragraphBreak > 0) {
+            return paragraphBreak + 2;
+        }
+        for (int i = chunkSize - 1; i > 0; i--) {
+            if (Character.isWhitespace(buffer.charAt(i))) {
+                return i + 1;
+            }
+        }
+        return chunkSize;
+    }
+
+    static class LimitExceededException extends SAXException {
+
+        LimitExceededException(String message, Exception cause) {
+            super(message, cause);
+        }
+    }
+}
@@ -3,12 +3,34 @@ package dev.langchain4j.data.document.parser.apache.tika;
 import dev.langchain4j.data.document.BlankDocumentException;
 import dev.langchain4j.data.document.Document;
 import dev.langchain4j.data.document.DocumentParser;
+import dev.langchain4j.data.document.DocumentSplitter;
+import dev.langchain4j.data.segment.TextSegment;
+import org.apache.tika.metadata.Metadata;
+import org.apache.tika.mime.MediaType;
+import org.apache.tika.parser.AbstractParser;
 import org.apache.tika.parser.AutoDetectParser;
+import org.apache.tika.parser.ParseContext;
+import org.apache.tika.parser.Parser;
+import org.apache.tika.sax.XHTMLContentHandler;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
+import org.xml.sax.ContentHandler;
+import org.xml.sax.SAXException;
 
+import java.io.ByteArrayInputStream;
 import java.io.InputStream;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.locks.LockSupport;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Collections.singleton;
+import static java.util.stream.Collectors.joining;
+import static java.util.stream.Collectors.toList;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -85,4 +107,117 @@ class ApacheTikaDocumentParserTest {
         assertThatThrownBy(() -> parser.parse(inputStream))
                 .isExactlyInstanceOf(BlankDocumentException.class);
     }
-}
\ No newline at end of file
+
+    @Test
+    void should_stream_text_in_chunks() {
+
+        // given
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < 100; i++) {
+            text.append("Paragraph number ").append(i).append(".\n\n");
+        }
+        ApacheTikaDocumentParser parser = ApacheTikaDocumentParser.builder()
+                .chunkSize(200)
+                .build();
+
+        // when
+        List<Document> chunks = new ArrayList<>();
+        parser.parse(new ByteArrayInputStream(text.toString().getBytes(UTF_8)), chunks::add);
+
+        // then
+        assertThat(chunks).hasSizeGreaterThan(10);
+        chunks.forEach(chunk -> assertThat(chunk.text()).hasSizeLessThanOrEqualTo(200));
+        assertThat(chunks.get(0).text()).startsWith("Paragraph number 0.");
+        assertThat(chunks.stream().map(Document::text).collect(joining()))
+                .isEqualToIgnoringWhitespace(text.toString());
+    }
+
+    @Test
+    void should_stream_segments_with_continuous_index() {
+
+        // given
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < 100; i++) {
+            text.append("Paragraph number ").append(i).append(".\n\n");
+        }
+        ApacheTikaDocumentParser parser = ApacheTikaDocumentParser.builder()
+                .chunkSize(200)
+                .build();
+        DocumentSplitter splitter = document -> Arrays.stream(document.text().split("\n\n"))
+                .filter(paragraph -> !paragraph.isBlank())
+                .map(paragraph -> TextSegment.from(paragraph.trim(), new dev.langchain4j.data.document.Metadata().put("index", "0")))
+                .collect(toList());
+
+        // when
+        List<TextSegment> segments = new ArrayList<>();
+        parser.parse(new ByteArrayInputStream(text.toString().getBytes(UTF_8)), splitter, segments::add);
+
+        // then
+        assertThat(segments).hasSize(100);
+        for (int i = 0; i < 100; i++) {
+            assertThat(segments.get(i).text()).isEqualTo("Paragraph number " + i + ".");
+            assertThat(segments.get(i).metadata().getString("index")).isEqualTo(String.valueOf(i));
+        }
+    }
+
+    @Test
+    void should_fail_when_max_characters_is_exceeded() {
+
+        // given
+        ApacheTikaDocumentParser parser = ApacheTikaDocumentParser.builder()
+                .maxCharacters(10)
+                .build();
+
+        // when-then
+        assertThatThrownBy(() -> parser.parse(new ByteArrayInputStream("more than ten characters".getBytes(UTF_8)), chunk -> {
+        }))
+                .isExactlyInstanceOf(RuntimeException.class)
+                .hasMessageContaining("exceeds the limit of 10 characters");
+    }
+
+    @Test
+    void should_fail_when_timeout_is_exceeded_without_text() {
+
+        // given
+        Parser markupOnlyParser = new AbstractParser() {
+
+            @Override
+            public Set<MediaType> getSupportedTypes(ParseContext context) {
+                return singleton(MediaType.TEXT_PLAIN);
+            }
+
+            @Override
+            public void parse(InputStream stream, ContentHandler handler, Metadata metadata, ParseContext context)
+                    throws SAXException {
+                XHTMLContentHandler xhtml = new XHTMLContentHandler(handler, metadata);
+                xhtml.startDocument();
+                for (int i = 0; i < 10_000; i++) {
+                    xhtml.startElement("span");
+                    xhtml.endElement("span");
+                    LockSupport.parkNanos(1_000_000);
+                }
+                xhtml.endDocument();
+            }
+        };
+        ApacheTikaDocumentParser parser = ApacheTikaDocumentParser.builder()
+                .parserSupplier(() -> markupOnlyParser)
+                .timeout(Duration.ofMillis(100))
+                .build();
+
+        // when-then
+        assertThatThrownBy(() -> parser.parse(new ByteArrayInputStream(new byte[1]), chunk -> {
+        }))
+                .isExactlyInstanceOf(RuntimeException.class)
+                .hasMessageContaining("did not complete in time");
+    }
+
+    @Test
+    void should_throw_BlankDocumentException_when_streaming() {
+
+        ApacheTikaDocumentParser parser = new ApacheTikaDocumentParser();
+        InputStream inputStream = getClass().getClassLoader().getResourceAsStream("blank-file.txt");
+
+        assertThatThrownBy(() -> parser.parse(inputStream, chunk -> {
+        })).isExactlyInstanceOf(BlankDocumentException.class);
+    }
+}
@@ -1,21 +1,33 @@
 package dev.langchain4j.data.document.transformer.jsoup;
 
 import dev.langchain4j.data.document.Document;
+import dev.langchain4j.data.document.DocumentSource;
 import dev.langchain4j.data.document.DocumentTransformer;
 import dev.langchain4j.data.document.Metadata;
 import org.jsoup.Jsoup;
 import org.jsoup.nodes.Element;
 import org.jsoup.nodes.Node;
 import org.jsoup.nodes.TextNode;
+import org.jsoup.select.Elements;
+import org.jsoup.select.Evaluator;
 import org.jsoup.select.NodeVisitor;
+import org.jsoup.select.QueryParser;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 
 import static dev.langchain4j.data.document.Document.URL;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
 import static java.lang.String.format;
 import static java.util.stream.Collectors.joining;
+import static java.util.stream.Collectors.toList;
 import static org.jsoup.internal.StringUtil.in;
 import static org.jsoup.select.NodeTraversor.traverse;
 
@@ -23,6 +35,15 @@ import static org.jsoup.select.NodeTraversor.traverse;
  * Extracts plain text from a given HTML document.
  * A CSS selector can be specified to extract text only from desired HTML element(s).
  * Also, multiple CSS selectors can be specified to extract metadata from desired HTML elements.
+ * <p>
+ * The text and the elements matching all metadata CSS selectors are extracted in a single traversal of the HTML.
+ * <p>
+ * Besides {@link #transform(Document)}, which parses the HTML from {@link Document#text()},
+ * {@link #transform(DocumentSource)} parses the HTML directly from the bytes of a {@link DocumentSource},
+ * detecting the charset, without first decoding the whole page into a {@link String}.
+ * <p>
+ * If {@code parallel} is enabled, {@link #transformAll(List)} transforms documents in parallel
+ * on the {@link java.util.concurrent.ForkJoinPool#commonPool()}, preserving their order.
  */
 public class HtmlToTextDocumentTransformer implements DocumentTransformer {
 
@@ -31,6 +52,7 @@ public class HtmlToTextDocumentTransformer implements DocumentTransformer {
     private final String cssSelector;
     private final Map<String, String> metadataCssSelectors;
     private final boolean includeLinks;
+    private final boolean parallel;
 
     /**
      * Constructs an instance of HtmlToTextTransformer that extracts all text from a given Document containing HTML.
@@ -60,43 +82,153 @@ public class HtmlToTextDocumentTransformer implements DocumentTransformer {
      * @param includeLinks         Specifies whether links should be included in the extracted text.
      */
     public HtmlToTextDocumentTransformer(String cssSelector, Map<String, String> metadataCssSelectors, boolean includeLinks) {
+        this(cssSelector, metadataCssSelectors, includeLinks, false);
+    }
+
+    /**
+     * Constructs an instance of HtmlToTextTransformer that extracts text from HTML elements matching the specified CSS selector.
+     *
+     * @param cssSelector          A CSS selector.
+     *                             For example, "#page-content" will extract text from the HTML element with the id "page-content".
+     * @param metadataCssSelectors A mapping from metadata keys to CSS selectors.
+     *                             For example, Mep.of("title", "#page-title") will extract all text from the HTML element
+     *                             with id "title" and store it in {@link Metadata} under the key "title".
+     * @param includeLinks         Specifies whether links should be included in the extracted text.
+     * @param parallel             Specifies whether {@link #transformAll(List)} should transform documents in parallel.
+     */
+    public HtmlToTextDocumentTransformer(String cssSelector,
+                                         Map<String, String> metadataCssSelectors,
+                                         boolean includeLinks,
+                                         boolean parallel) {
         this.cssSelector = cssSelector;
         this.metadataCssSelectors = metadataCssSelectors;
         this.includeLinks = includeLinks;
+        this.parallel = parallel;
     }
 
     @Override
     public Document transform(Document document) {
         String html = document.text();
         String baseUrl = document.metadata(URL) != null ? document.metadata(URL) : "";
-        org.jsoup.nodes.Document jsoupDocument = Jsoup.parse(html, baseUrl);
+        return transform(Jsoup.parse(html, baseUrl), document.metadata());
+    }
 
-        String text;
-        if (cssSelector != null) {
-            text = extractText(jsoupDocument, cssSelector, includeLinks);
-        } else {
-            text = extractText(jsoupDocument, includeLinks);
+    /**
+     * Extracts plain text from the HTML provided by the {@link DocumentSource}.
+     * The HTML is parsed directly from the input stream, and the charset is detected from the content.
+     *
+     * @param source The source of the HTML. Its metadata is copied into the returned {@link Document}.
+     * @return The document with the extracted text.
+     */
+    public Document transform(DocumentSource source) {
+        ensureNotNull(source, "source");
+        Metadata sourceMetadata = source.metadata();
+        String baseUrl = sourceMetadata.getString(URL) != null ? sourceMetadata.getString(URL) : "";
+        try (InputStream inputStream = source.inputStream()) {
+            return transform(Jsoup.parse(inputStream, null, baseUrl), sourceMetadata);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
         }
+    }
 
-        Metadata metadata = document.metadata().copy();
-        if (metadataCssSelectors != null) {
-            metadataCssSelectors.forEach((metadataKey, cssSelector) ->
-                    metadata.put(metadataKey, jsoupDocument.select(cssSelector).text()));
+    @Override
+    public List<Document> transformAll(List<Document> documents) {
+        if (!parallel) {
+            return DocumentTransformer.super.transformAll(documents);
         }
-
-        return Document.from(text, metadata);
+        return documents.parallelStream()
+                .map(this::transform)
+                .filter(Objects::nonNull)
+                .collect(toList());
     }
 
-    private static String extractText(org.jsoup.nodes.Document jsoupDocument, String cssSelector, boolean includeLinks) {
-        return jsoupDocument.select(cssSelector).stream()
-                .map(element -> extractText(element, includeLinks))
-                .collect(joining("\n\n"));
+    private Document transform(org.jsoup.nodes.Document jsoupDocument, Metadata originalMetadata) {
+        SinglePassExtractor extractor = new SinglePassExtractor(jsoupDocument, cssSelector, metadataCssSelectors, includeLinks);
+        traverse(extractor, jsoupDocument);
+
+        Metadata metadata = originalMetadata.copy();
+        extractor.metadataElements.forEach((metadataKey, elements) -> metadata.put(metadataKey, elements.text()));
+
+        return Document.from(extractor.text(), metadata);
     }
 
-    private static String extractText(Element element, boolean includeLinks) {
-        NodeVisitor visitor = new TextExtractingVisitor(includeLinks);
-        traverse(visitor, element);
-        return visitor.toString().trim();
+    /**
+     * Extracts, in a single traversal, the text of the document (or of each element matching the CSS selector)
+     * and the elements matching each metadata CSS selector.
+     * Produces the same result as running {@code select} and a separate traversal for each of them.
+     */
+    private static class SinglePassExtractor implements NodeVisitor {
+
+        private final Element root;
+        private final Evaluator evaluator;
+        private final Map<String, Evaluator> metadataEvaluators = new LinkedHashMap<>();
+        private final boolean includeLinks;
+
+        private final Map<String, Elements> metadataElements = new LinkedHashMap<>();
+        private final List<TextExtractingVisitor> completed = new ArrayList<>();
+        private final List<TextExtractingVisitor> active = new ArrayList<>();
+        private final List<Element> activeElements = new ArrayList<>();
+
+        private SinglePassExtractor(Element root,
+                                    String cssSelector,
+                                    Map<String, String> metadataCssSelectors,
+                                    boolean includeLinks) {
+            this.root = root;
+            this.includeLinks = includeLinks;
+            this.evaluator = cssSelector == null ? null : QueryParser.parse(cssSelector);
+            if (metadataCssSelectors != null) {
+                metadataCssSelectors.forEach((metadataKey, metadataCssSelector) -> {
+                    metadataEvaluators.put(metadataKey, QueryParser.parse(metadataCssSelector));
+                    metadataElements.put(metadataKey, new Elements());
+                });
+            }
+            if (evaluator == null) {
+                startExtracting(root);
+            }
+        }
+
+        @Override
+        public void head(Node node, int depth) {
+            if (node instanceof Element) {
+                Element element = (Element) node;
+                if (evaluator != null && evaluator.matches(root, element)) {
+                    startExtracting(element);
+                }
+                metadataEvaluators.forEach((metadataKey, metadataEvaluator) -> {
+                    if (metadataEvaluator.matches(root, element)) {
+                        metadataElements.get(metadataKey).add(element);
+                    }
+                });
+            }
+            for (TextExtractingVisitor visitor : active) {
+                visitor.head(node, depth);
+            }
+        }
+
+        @Override
+        public void tail(Node node, int depth) {
+            for (TextExtractingVisitor visitor : active) {
+                visitor.tail(node, depth);
+            }
+            int last = activeElements.size() - 1;
+            if (last >= 0 && activeElements.get(last) == node) {
+                activeElements.remove(last);
+                active.remove(last);
+            }
+        }
+
+        private void startExtracting(Element element) {
+            TextExtractingVisitor visitor = new TextExtractingVisitor(includeLinks);
+            completed.add(visitor);
+            active.add(visitor);
+            activeElements.add(element);
+        }
+
+        private String text() {
+            return completed.stream()
+                    .map(visitor -> visitor.toString().trim())
+                    .collect(joining("\n\n"));
+        }
     }
 
     // taken from https://github.com/jhy/jsoup/blob/master/src/main/java/org/jsoup/examples/HtmlToPlainText.java
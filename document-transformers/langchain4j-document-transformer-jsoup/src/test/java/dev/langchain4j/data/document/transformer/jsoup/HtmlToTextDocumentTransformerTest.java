@@ -1,11 +1,19 @@
 package dev.langchain4j.data.document.transformer.jsoup;
 
 import dev.langchain4j.data.document.Document;
+import dev.langchain4j.data.document.DocumentSource;
+import dev.langchain4j.data.document.Metadata;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 class HtmlToTextDocumentTransformerTest {
@@ -143,4 +151,63 @@ class HtmlToTextDocumentTransformerTest {
                 .containsEntry(Document.URL, "https://other.example.org/page.html")
                 .hasSize(1);
     }
-}
\ No newline at end of file
+
+    @Test
+    void should_extract_text_from_nested_elements_matching_css_selector() {
+
+        HtmlToTextDocumentTransformer transformer = new HtmlToTextDocumentTransformer("div", null, false);
+        Document htmlDocument = Document.from("<div>Outer <div>Inner</div></div><div>Last</div>");
+
+        Document transformedDocument = transformer.transform(htmlDocument);
+
+        assertThat(transformedDocument.text()).isEqualTo("Outer Inner\n\nInner\n\nLast");
+    }
+
+    @Test
+    void should_extract_text_and_metadata_from_document_source() {
+
+        Map<String, String> metadataCssSelectors = new HashMap<>();
+        metadataCssSelectors.put("title", "#title");
+        metadataCssSelectors.put("paragraphs", "p");
+
+        HtmlToTextDocumentTransformer transformer = new HtmlToTextDocumentTransformer("#p3", metadataCssSelectors, true);
+        DocumentSource source = new DocumentSource() {
+
+            @Override
+            public InputStream inputStream() {
+                return new ByteArrayInputStream(SAMPLE_HTML.getBytes(UTF_8));
+            }
+
+            @Override
+            public Metadata metadata() {
+                return Metadata.from(Document.URL, "https://example.org/page.html");
+            }
+        };
+
+        Document transformedDocument = transformer.transform(source);
+
+        assertThat(transformedDocument.text()).isEqualTo("More details here <http://example.org>.");
+        assertThat(transformedDocument.metadata().toMap())
+                .containsEntry(Document.URL, "https://example.org/page.html")
+                .containsEntry("title", "Title")
+                .containsEntry("paragraphs", "Paragraph 1 Something Paragraph 2 More details here.")
+                .hasSize(3);
+    }
+
+    @Test
+    void should_transform_all_documents_in_parallel_preserving_order() {
+
+        HtmlToTextDocumentTransformer transformer = new HtmlToTextDocumentTransformer(null, null, false, true);
+        List<Document> htmlDocuments = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            htmlDocuments.add(Document.from("<p>Document " + i + "</p>"));
+        }
+
+        List<Document> transformedDocuments = transformer.transformAll(htmlDocuments);
+
+        assertThat(transformedDocuments).hasSize(100);
+        for (int i = 0; i < 100; i++) {
+            assertThat(transformedDocuments.get(i).text()).isEqualTo("Document " + i);
+        }
+    }
+}
@@ -264,6 +264,11 @@ public abstract class AbstractAzureAiSearchEmbeddingStore implements EmbeddingSt
         return ids;
     }
 
+    @Override
+    public void addAll(List<String> ids, List<Embedding> embeddings, List<TextSegment> embedded) {
+        addAllInternal(ids, embeddings, embedded);
+    }
+
     @Override
     public void remove(String id) {
         ensureNotBlank(id, "id");
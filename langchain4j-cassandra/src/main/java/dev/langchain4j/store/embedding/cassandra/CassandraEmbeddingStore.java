@@ -2,6 +2,10 @@ package dev.langchain4j.store.embedding.cassandra;
 
 import com.datastax.oss.driver.api.core.CqlSession;
 import com.datastax.oss.driver.api.core.CqlSessionBuilder;
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
+import com.datastax.oss.driver.api.core.cql.Row;
+import com.datastax.oss.driver.api.core.cql.SimpleStatement;
+import com.datastax.oss.driver.api.core.data.CqlVector;
 import com.dtsx.astra.sdk.cassio.AnnQuery;
 import com.dtsx.astra.sdk.cassio.AnnResult;
 import com.dtsx.astra.sdk.cassio.CassIO;
@@ -12,8 +16,11 @@ import com.dtsx.astra.sdk.utils.AstraEnvironment;
 import dev.langchain4j.data.document.Metadata;
 import dev.langchain4j.data.embedding.Embedding;
 import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.store.embedding.AsyncEmbeddingStore;
 import dev.langchain4j.store.embedding.CosineSimilarity;
 import dev.langchain4j.store.embedding.EmbeddingMatch;
+import dev.langchain4j.store.embedding.EmbeddingSearchRequest;
+import dev.langchain4j.store.embedding.EmbeddingSearchResult;
 import dev.langchain4j.store.embedding.EmbeddingStore;
 import dev.langchain4j.store.embedding.RelevanceScore;
 import lombok.Getter;
@@ -23,6 +30,8 @@ import java.net.InetSocketAddress;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 
 import static dev.langchain4j.internal.ValidationUtils.ensureBetween;
 import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
@@ -30,11 +39,14 @@ import static java.util.stream.Collectors.toList;
 
 /**
  * Implementation of {@link EmbeddingStore} using Cassandra.
+ * <p>
+ * Also implements {@link AsyncEmbeddingStore}: rows are inserted with {@link MetadataVectorTable#putAsync},
+ * and searches are executed with {@link CqlSession#executeAsync}, so no thread is blocked while a request is in flight.
  *
  * @see EmbeddingStore
  * @see MetadataVectorTable
  */
-public class CassandraEmbeddingStore implements EmbeddingStore<TextSegment> {
+public class CassandraEmbeddingStore implements EmbeddingStore<TextSegment>, AsyncEmbeddingStore<TextSegment> {
 
     /**
      * Represents an embedding table in Cassandra, it is a table with a vector column.
@@ -47,6 +59,11 @@ public class CassandraEmbeddingStore implements EmbeddingStore<TextSegment> {
     @Getter
     protected CqlSession cassandraSession;
 
+    /**
+     * ANN query used by {@link #searchAsync(EmbeddingSearchRequest)}, same as the one of {@link MetadataVectorTable#similaritySearch}.
+     */
+    private final String similaritySearchQuery;
+
     /**
      * Embedding Store.
      *
@@ -75,8 +92,13 @@ public class CassandraEmbeddingStore implements EmbeddingStore<TextSegment> {
      */
     public CassandraEmbeddingStore(CqlSession session, String tableName, int dimension, CassandraSimilarityMetric metric) {
         this.cassandraSession = session;
-        this.embeddingTable = new MetadataVectorTable(session, session.getKeyspace().get().asInternal(), tableName, dimension, metric);
+        String keyspace = session.getKeyspace().get().asInternal();
+        this.embeddingTable = new MetadataVectorTable(session, keyspace, tableName, dimension, metric);
         embeddingTable.create();
+        this.similaritySearchQuery = "SELECT row_id,vector,body_blob,attributes_blob,metadata_s,"
+                + CassandraSimilarityMetric.COSINE.getFunction() + "(vector, :vector) as similarity"
+                + " FROM " + keyspace + "." + tableName
+                + " ORDER BY vector ANN OF :vector LIMIT :maxRecord";
     }
 
     /**
@@ -309,6 +331,76 @@ public class CassandraEmbeddingStore implements EmbeddingStore<TextSegment> {
         return ids;
     }
 
+    /**
+     * Add multiple embeddings and text segments without blocking: each row is inserted asynchronously,
+     * and the returned future completes when all rows are inserted.
+     *
+     * @param embeddingList   embeddings
+     * @param textSegmentList text segments, or {@code null}
+     * @return future of the list of new row ids (same order as the input)
+     */
+    @Override
+    public CompletableFuture<List<String>> addAllAsync(List<Embedding> embeddingList, List<TextSegment> textSegmentList) {
+        if (embeddingList == null || (textSegmentList != null && embeddingList.size() != textSegmentList.size())) {
+            return CompletableFuture.failedFuture(new IllegalArgumentException(
+                    "embeddingList must not be null and have the same size as textSegmentList"));
+        }
+        List<String> ids = new ArrayList<>(embeddingList.size());
+        CompletableFuture<?>[] puts = new CompletableFuture<?>[embeddingList.size()];
+        for (int i = 0; i < embeddingList.size(); i++) {
+            MetadataVectorRecord record = new MetadataVectorRecord(embeddingList.get(i).vectorAsList());
+            if (textSegmentList != null) {
+                record.setBody(textSegmentList.get(i).text());
+                record.setMetadata(textSegmentList.get(i).metadata().asMap());
+            }
+            ids.add(record.getRowId());
+            puts[i] = embeddingTable.putAsync(record);
+        }
+        return CompletableFuture.allOf(puts).thenApply(ignored -> ids);
+    }
+
+    /**
+     * Similarity search without blocking, using {@link CqlSession#executeAsync}.
+     * Metadata filters are not supported, as in {@link #search(EmbeddingSearchRequest)}.
+     *
+     * @param request search request
+     * @return future of the matching elements
+     */
+    @Override
+    public CompletableFuture<EmbeddingSearchResult<TextSegment>> searchAsync(EmbeddingSearchRequest request) {
+        if (request.filter() != null) {
+            return CompletableFuture.failedFuture(
+                    new UnsupportedOperationException("EmbeddingSearchRequest.Filter is not supported yet."));
+        }
+        double threshold = CosineSimilarity.fromRelevanceScore(request.minScore());
+        SimpleStatement statement = SimpleStatement.builder(similaritySearchQuery)
+                .addNamedValue("vector", CqlVector.newInstance(request.queryEmbedding().vectorAsList()))
+                .addNamedValue("maxRecord", request.maxResults())
+                .build();
+        List<EmbeddingMatch<TextSegment>> matches = new ArrayList<>();
+        return cassandraSession.executeAsync(statement)
+                .thenCompose(resultSet -> collectMatches(resultSet, threshold, matches))
+                .thenApply(ignored -> new EmbeddingSearchResult<>(matches))
+                .toCompletableFuture();
+    }
+
+    private CompletionStage<Void> collectMatches(AsyncResultSet resultSet,
+                                                 double threshold,
+                                                 List<EmbeddingMatch<TextSegment>> matches) {
+        for (Row row : resultSet.currentPage()) {
+            AnnResult<MetadataVectorRecord> result = new AnnResult<>();
+            result.setEmbedded(embeddingTable.mapRow(row));
+            result.setSimilarity(row.getFloat("similarity"));
+            if (result.getSimilarity() >= threshold) {
+                matches.add(mapSearchResult(result));
+            }
+        }
+        if (resultSet.hasMorePages()) {
+            return resultSet.fetchNextPage().thenCompose(next -> collectMatches(next, threshold, matches));
+        }
+        return CompletableFuture.completedFuture(null);
+    }
+
     /**
      * Search for relevant.
      *
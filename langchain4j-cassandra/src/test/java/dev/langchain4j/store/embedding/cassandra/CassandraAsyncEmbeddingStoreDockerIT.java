@@ -0,0 +1,78 @@
+package dev.langchain4j.store.embedding.cassandra;
+
+import com.datastax.oss.driver.api.core.CqlSession;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.embedding.EmbeddingModel;
+import dev.langchain4j.model.embedding.onnx.allminilml6v2q.AllMiniLmL6V2QuantizedEmbeddingModel;
+import dev.langchain4j.store.embedding.AsyncEmbeddingStore;
+import dev.langchain4j.store.embedding.AsyncEmbeddingStoreIT;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.testcontainers.containers.CassandraContainer;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.net.InetSocketAddress;
+import java.util.Collections;
+
+import static com.dtsx.astra.sdk.cassio.CassandraSimilarityMetric.COSINE;
+
+@Testcontainers
+class CassandraAsyncEmbeddingStoreDockerIT extends AsyncEmbeddingStoreIT {
+
+    static final String KEYSPACE = "langchain4j";
+    static final String TABLE = "test_async_embedding_store";
+    static final String DATACENTER = "datacenter1";
+
+    static CassandraContainer<?> cassandraContainer;
+    static CassandraEmbeddingStore embeddingStore;
+
+    EmbeddingModel embeddingModel = new AllMiniLmL6V2QuantizedEmbeddingModel();
+
+    @BeforeAll
+    static void startCassandra() {
+        cassandraContainer = new CassandraContainer<>(DockerImageName.parse("cassandra:5.0"))
+                .withEnv("CLUSTER_NAME", "langchain4j")
+                .withEnv("DC", DATACENTER);
+        cassandraContainer.start();
+
+        InetSocketAddress contactPoint = cassandraContainer.getContactPoint();
+        try (CqlSession session = CqlSession.builder()
+                .addContactPoint(contactPoint)
+                .withLocalDatacenter(DATACENTER)
+                .build()) {
+            session.execute("CREATE KEYSPACE IF NOT EXISTS " + KEYSPACE +
+                    " WITH replication = {'class':'SimpleStrategy', 'replication_factor':'1'};");
+        }
+
+        embeddingStore = CassandraEmbeddingStore.builder()
+                .contactPoints(Collections.singletonList(contactPoint.getHostName()))
+                .port(contactPoint.getPort())
+                .localDataCenter(DATACENTER)
+                .keyspace(KEYSPACE)
+                .table(TABLE)
+                .dimension(384)
+                .metric(COSINE)
+                .build();
+    }
+
+    @AfterAll
+    static void stopCassandra() {
+        cassandraContainer.stop();
+    }
+
+    @Override
+    protected AsyncEmbeddingStore<TextSegment> asyncEmbeddingStore() {
+        return embeddingStore;
+    }
+
+    @Override
+    protected EmbeddingModel embeddingModel() {
+        return embeddingModel;
+    }
+
+    @Override
+    protected boolean supportsRemoval() {
+        return false;
+    }
+}
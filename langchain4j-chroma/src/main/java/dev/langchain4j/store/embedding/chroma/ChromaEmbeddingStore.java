@@ -163,6 +163,11 @@ public class ChromaEmbeddingStore implements EmbeddingStore<TextSegment> {
         return ids;
     }
 
+    @Override
+    public void addAll(List<String> ids, List<Embedding> embeddings, List<TextSegment> textSegments) {
+        addAllInternal(ids, embeddings, textSegments);
+    }
+
     private void addInternal(String id, Embedding embedding, TextSegment textSegment) {
         addAllInternal(
             singletonList(id),
@@ -1,6 +1,8 @@
 package dev.langchain4j.data.document;
 
+import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
 
 /**
  * Utility class for loading documents.
@@ -15,14 +17,18 @@ public class DocumentLoader {
      *
      * <p>Forwards the source Metadata to the parsed Document.
      *
+     * <p>If the source can provide its content as a {@link java.nio.ByteBuffer} (e.g. a memory-mapped file),
+     * it is passed to {@link DocumentParser#parse(java.nio.ByteBuffer)}, otherwise the content is read
+     * from {@link DocumentSource#inputStream()}.
+     *
      * @param source The source from which the document will be loaded.
      * @param parser The parser that will be used to parse the document.
      * @return The loaded document.
      * @throws BlankDocumentException when the parsed {@link Document} is blank/empty.
      */
     public static Document load(DocumentSource source, DocumentParser parser) {
-        try (InputStream inputStream = source.inputStream()) {
-            Document document = parser.parse(inputStream);
+        try {
+            Document document = parse(source, parser);
             source.metadata().asMap().forEach((key, value) -> document.metadata().add(key, value));
             return document;
         } catch (BlankDocumentException e) {
@@ -31,4 +37,14 @@ public class DocumentLoader {
             throw new RuntimeException("Failed to load document", e);
         }
     }
+
+    private static Document parse(DocumentSource source, DocumentParser parser) throws IOException {
+        ByteBuffer byteBuffer = source.byteBuffer();
+        if (byteBuffer != null) {
+            return parser.parse(byteBuffer);
+        }
+        try (InputStream inputStream = source.inputStream()) {
+            return parser.parse(inputStream);
+        }
+    }
 }
@@ -1,6 +1,7 @@
 package dev.langchain4j.data.document;
 
 import java.io.InputStream;
+import java.nio.ByteBuffer;
 
 /**
  * Defines the interface for parsing an {@link InputStream} into a {@link Document}.
@@ -20,4 +21,19 @@ public interface DocumentParser {
      * @throws BlankDocumentException when the parsed {@link Document} is blank/empty.
      */
     Document parse(InputStream inputStream);
+
+    /**
+     * Parses the content of a given {@link ByteBuffer} (e.g. a memory-mapped file) into a {@link Document}.
+     * By default, the buffer is read through an {@link InputStream} and {@link #parse(InputStream)} is used.
+     * Parsers that can work on the buffer directly should override this method.
+     * <p>
+     * Note: The position of the provided {@link ByteBuffer} is not modified.
+     *
+     * @param byteBuffer The {@link ByteBuffer} that contains the content of the {@link Document}.
+     * @return The parsed {@link Document}.
+     * @throws BlankDocumentException when the parsed {@link Document} is blank/empty.
+     */
+    default Document parse(ByteBuffer byteBuffer) {
+        return parse(new ByteBufferInputStream(byteBuffer.duplicate()));
+    }
 }
@@ -2,6 +2,9 @@ package dev.langchain4j.data.document;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
 
 /**
  * Defines the interface for a Document source.
@@ -18,6 +21,32 @@ public interface DocumentSource {
      */
     InputStream inputStream() throws IOException;
 
+    /**
+     * Provides a {@link ReadableByteChannel} to read the content of the document.
+     * By default, it wraps {@link #inputStream()}.
+     * Sources that have a native channel (e.g. files) can override it to avoid the stream indirection.
+     *
+     * @return A ReadableByteChannel from which the document content can be read.
+     * @throws IOException If an I/O error occurs while creating the channel.
+     */
+    default ReadableByteChannel channel() throws IOException {
+        return Channels.newChannel(inputStream());
+    }
+
+    /**
+     * Provides the whole content of the document as a read-only {@link ByteBuffer},
+     * if the source can do so without copying it to the heap (e.g. by memory-mapping a file).
+     * The returned buffer is not closed, and is valid as long as it is referenced.
+     * By default, returns {@code null}.
+     *
+     * @return A ByteBuffer with the document content, or {@code null} if this source cannot provide one cheaply,
+     * in which case {@link #inputStream()} should be used.
+     * @throws IOException If an I/O error occurs while creating the buffer.
+     */
+    default ByteBuffer byteBuffer() throws IOException {
+        return null;
+    }
+
     /**
      * Returns the metadata associated with the source of the document.
      * This could include details such as the source location, date of creation, owner, etc.
@@ -0,0 +1,57 @@
+package dev.langchain4j.data.message;
+
+import java.util.List;
+
+/**
+ * A codec for serializing and deserializing {@link ChatMessage} objects to and from a compact binary format.
+ * <p>
+ * Unlike {@link ChatMessageJsonCodec}, the encoded messages are framed one by one,
+ * so that messages can be appended to an encoded list without re-encoding the earlier ones.
+ */
+public interface ChatMessageBinaryCodec {
+
+    /**
+     * Deserializes bytes produced by {@link #messageToBytes(ChatMessage)} to a {@link ChatMessage} object.
+     * @param bytes the encoded message.
+     * @return the deserialized {@link ChatMessage} object.
+     */
+    ChatMessage messageFromBytes(byte[] bytes);
+
+    /**
+     * Deserializes bytes produced by {@link #messagesToBytes(List)} or {@link #appendMessages(byte[], List)}
+     * to a list of {@link ChatMessage} objects.
+     * @param bytes the encoded messages.
+     * @return the deserialized list of {@link ChatMessage} objects.
+     */
+    List<ChatMessage> messagesFromBytes(byte[] bytes);
+
+    /**
+     * Serializes a {@link ChatMessage} object to bytes.
+     * @param message the {@link ChatMessage} object.
+     * @return the encoded message.
+     */
+    byte[] messageToBytes(ChatMessage message);
+
+    /**
+     * Serializes a list of {@link ChatMessage} objects to bytes.
+     * @param messages the list of {@link ChatMessage} objects.
+     * @return the encoded messages.
+     */
+    byte[] messagesToBytes(List<ChatMessage> messages);
+
+    /**
+     * Appends {@link ChatMessage} objects to already encoded messages, without re-encoding them.
+     * @param bytes    the encoded messages, or {@code null} if there are none yet.
+     * @param messages the {@link ChatMessage} objects to append.
+     * @return the encoded messages, followed by the appended ones.
+     */
+    byte[] appendMessages(byte[] bytes, List<ChatMessage> messages);
+
+    /**
+     * Checks whether bytes look like messages encoded by this codec,
+     * e.g. to tell them apart from messages previously stored as JSON.
+     * @param bytes the bytes to check.
+     * @return {@code true} if the bytes can be decoded by this codec.
+     */
+    boolean canDecode(byte[] bytes);
+}
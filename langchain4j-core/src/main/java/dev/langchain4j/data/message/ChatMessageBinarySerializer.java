@@ -0,0 +1,87 @@
+package dev.langchain4j.data.message;
+
+import dev.langchain4j.spi.data.message.ChatMessageBinaryCodecFactory;
+
+import java.util.List;
+
+import static dev.langchain4j.spi.ServiceHelper.loadFactories;
+
+/**
+ * Serializes and deserializes {@link ChatMessage}s using the {@link ChatMessageBinaryCodec}
+ * provided by a {@link ChatMessageBinaryCodecFactory} found via SPI,
+ * or the {@link DefaultChatMessageBinaryCodec} if there is none.
+ */
+public class ChatMessageBinarySerializer {
+
+    static final ChatMessageBinaryCodec CODEC = loadCodec();
+
+    private ChatMessageBinarySerializer() {}
+
+    private static ChatMessageBinaryCodec loadCodec() {
+        for (ChatMessageBinaryCodecFactory factory : loadFactories(ChatMessageBinaryCodecFactory.class)) {
+            return factory.create();
+        }
+        return new DefaultChatMessageBinaryCodec();
+    }
+
+    /**
+     * Serializes a chat message into bytes.
+     *
+     * @param message Chat message to be serialized.
+     * @return The encoded message.
+     */
+    public static byte[] messageToBytes(ChatMessage message) {
+        return CODEC.messageToBytes(message);
+    }
+
+    /**
+     * Serializes a list of chat messages into bytes.
+     *
+     * @param messages The list of chat messages to be serialized.
+     * @return The encoded messages.
+     */
+    public static byte[] messagesToBytes(List<ChatMessage> messages) {
+        return CODEC.messagesToBytes(messages);
+    }
+
+    /**
+     * Appends chat messages to already encoded messages, without re-encoding them.
+     *
+     * @param bytes    The encoded messages, or {@code null} if there are none yet.
+     * @param messages The chat messages to append.
+     * @return The encoded messages, followed by the appended ones.
+     */
+    public static byte[] appendMessages(byte[] bytes, List<ChatMessage> messages) {
+        return CODEC.appendMessages(bytes, messages);
+    }
+
+    /**
+     * Deserializes bytes into a chat message.
+     *
+     * @param bytes The encoded message.
+     * @return A {@link ChatMessage} deserialized from the provided bytes.
+     */
+    public static ChatMessage messageFromBytes(byte[] bytes) {
+        return CODEC.messageFromBytes(bytes);
+    }
+
+    /**
+     * Deserializes bytes into a list of chat messages.
+     *
+     * @param bytes The encoded messages.
+     * @return A list of {@link ChatMessage} deserialized from the provided bytes.
+     */
+    public static List<ChatMessage> messagesFromBytes(byte[] bytes) {
+        return CODEC.messagesFromBytes(bytes);
+    }
+
+    /**
+     * Checks whether bytes were encoded by the binary codec, e.g. to tell them apart from JSON.
+     *
+     * @param bytes The bytes to check.
+     * @return {@code true} if the bytes can be deserialized by this class.
+     */
+    public static boolean canDecode(byte[] bytes) {
+        return CODEC.canDecode(bytes);
+    }
+}
@@ -0,0 +1,468 @@
+package dev.langchain4j.data.message;
+
+import dev.langchain4j.agent.tool.ToolExecutionRequest;
+import dev.langchain4j.data.audio.Audio;
+import dev.langchain4j.data.image.Image;
+import dev.langchain4j.data.pdf.PdfFile;
+import dev.langchain4j.data.text.TextFile;
+import dev.langchain4j.data.video.Video;
+
+import java.io.ByteArrayOutputStream;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * The default {@link ChatMessageBinaryCodec}.
+ * <p>
+ * The encoded messages start with a 4 bytes header ({@code L4J} and the format version),
+ * followed by one frame per message. A frame is its length (as a varint), a flags byte, and the message body.
+ * If the frame is compressed, the flags byte is followed by the uncompressed length of the body
+ * and the body is compressed with {@link Deflater}.
+ * Strings are stored as their UTF-8 length + 1 (0 meaning {@code null}) followed by their UTF-8 bytes.
+ * <p>
+ * Compression is disabled by default. When enabled, only messages with a body of at least
+ * {@code compressionThreshold} bytes are compressed, and only if that makes them smaller.
+ * Compressed and uncompressed frames can be decoded by any instance.
+ */
+public class DefaultChatMessageBinaryCodec implements ChatMessageBinaryCodec {
+
+    static final byte VERSION = 1;
+    private static final byte[] HEADER = {'L', '4', 'J', VERSION};
+
+    private static final int FLAG_DEFLATE = 1;
+
+    private static final byte SYSTEM = 1;
+    private static final byte USER = 2;
+    private static final byte AI = 3;
+    private static final byte TOOL_EXECUTION_RESULT = 4;
+
+    private static final byte TEXT = 1;
+    private static final byte IMAGE = 2;
+    private static final byte AUDIO = 3;
+    private static final byte VIDEO = 4;
+    private static final byte PDF = 5;
+    private static final byte TEXT_FILE = 6;
+
+    private final int compressionThreshold;
+
+    /**
+     * Constructs a new {@link DefaultChatMessageBinaryCodec} that doesn't compress messages.
+     */
+    public DefaultChatMessageBinaryCodec() {
+        this(0);
+    }
+
+    /**
+     * Constructs a new {@link DefaultChatMessageBinaryCodec}.
+     *
+     * @param compressionThreshold the minimum size in bytes of a message to be compressed, 0 disables compression.
+     */
+    public DefaultChatMessageBinaryCodec(int compressionThreshold) {
+        if (compressionThreshold < 0) {
+            throw new IllegalArgumentException("compressionThreshold must be non-negative, but is: " + compressionThreshold);
+        }
+        this.compressionThreshold = compressionThreshold;
+    }
+
+    @Override
+    public ChatMessage messageFromBytes(byte[] bytes) {
+        List<ChatMessage> messages = messagesFromBytes(bytes);
+        if (messages.size() != 1) {
+            throw new IllegalArgumentException("Expected a single message, but found " + messages.size());
+        }
+        return messages.get(0);
+    }
+
+    @Override
+    public List<ChatMessage> messagesFromBytes(byte[] bytes) {
+        ensureNotNull(bytes, "bytes");
+        if (!canDecode(bytes)) {
+            if (bytes.length >= HEADER.length && startsWith(bytes, HEADER, HEADER.length - 1)) {
+                throw new IllegalArgumentException("Unsupported format version: " + bytes[HEADER.length - 1]);
+            }
+            throw new IllegalArgumentException("Not encoded chat messages");
+        }
+
+        Reader reader = new Reader(ByteBuffer.wrap(bytes, HEADER.length, bytes.length - HEADER.length));
+        List<ChatMessage> messages = new ArrayList<>();
+        while (reader.hasRemaining()) {
+            messages.add(readFrame(reader));
+        }
+        return messages;
+    }
+
+    @Override
+    public byte[] messageToBytes(ChatMessage message) {
+        Writer writer = new Writer();
+        writer.write(HEADER, 0, HEADER.length);
+        writeFrame(writer, message);
+        return writer.toByteArray();
+    }
+
+    @Override
+    public byte[] messagesToBytes(List<ChatMessage> messages) {
+        return appendMessages(null, messages);
+    }
+
+    @Override
+    public byte[] appendMessages(byte[] bytes, List<ChatMessage> messages) {
+        ensureNotNull(messages, "messages");
+        Writer writer = new Writer();
+        if (bytes == null || bytes.length == 0) {
+            writer.write(HEADER, 0, HEADER.length);
+        } else if (canDecode(bytes)) {
+            writer.write(bytes, 0, bytes.length);
+        } else {
+            throw new IllegalArgumentException("Not encoded chat messages");
+        }
+        for (ChatMessage message : messages) {
+            writeFrame(writer, message);
+        }
+        return writer.toByteArray();
+    }
+
+    @Override
+    public boolean canDecode(byte[] bytes) {
+        return bytes != null && bytes.length >= HEADER.length && startsWith(bytes, HEADER, HEADER.length);
+    }
+
+    private static boolean startsWith(byte[] bytes, byte[] prefix, int length) {
+        return Arrays.equals(bytes, 0, length, prefix, 0, length);
+    }
+
+    private void writeFrame(Writer writer, ChatMessage message) {
+        Writer body = new Writer();
+        writeMessage(body, message);
+        byte[] bodyBytes = body.toByteArray();
+
+        byte[] compressed = compressionThreshold > 0 && bodyBytes.length >= compressionThreshold ? deflate(bodyBytes) : null;
+        if (compressed != null && compressed.length + Writer.varIntSize(bodyBytes.length) < bodyBytes.length) {
+            writer.writeVarInt(1 + Writer.varIntSize(bodyBytes.length) + compressed.length);
+            writer.write(FLAG_DEFLATE);
+            writer.writeVarInt(bodyBytes.length);
+            writer.write(compressed, 0, compressed.length);
+        } else {
+            writer.writeVarInt(1 + bodyBytes.length);
+            writer.write(0);
+            writer.write(bodyBytes, 0, bodyBytes.length);
+        }
+    }
+
+    private static ChatMessage readFrame(Reader reader) {
+        int frameLength = reader.readVarInt();
+        Reader frame = reader.slice(frameLength);
+        int flags = frame.readByte();
+        if ((flags & ~FLAG_DEFLATE) != 0) {
+            throw new IllegalArgumentException("Unsupported frame flags: " + flags);
+        }
+        if ((flags & FLAG_DEFLATE) != 0) {
+            int bodyLength = frame.readVarInt();
+            frame = new Reader(ByteBuffer.wrap(inflate(frame.remainingBytes(), bodyLength)));
+        }
+        return readMessage(frame);
+    }
+
+    private static void writeMessage(Writer writer, ChatMessage message) {
+        if (message instanceof SystemMessage systemMessage) {
+            writer.write(SYSTEM);
+            writer.writeString(systemMessage.text());
+        } else if (message instanceof UserMessage userMessage) {
+            writer.write(USER);
+            writer.writeString(userMessage.name());
+            writer.writeVarInt(userMessage.contents().size());
+            for (Content content : userMessage.contents()) {
+                writeContent(writer, content);
+            }
+        } else if (message instanceof AiMessage aiMessage) {
+            writer.write(AI);
+            writer.writeString(aiMessage.text());
+            List<ToolExecutionRequest> toolExecutionRequests =
+                    aiMessage.hasToolExecutionRequests() ? aiMessage.toolExecutionRequests() : List.of();
+            writer.writeVarInt(toolExecutionRequests.size());
+            for (ToolExecutionRequest toolExecutionRequest : toolExecutionRequests) {
+                writer.writeString(toolExecutionRequest.id());
+                writer.writeString(toolExecutionRequest.name());
+                writer.writeString(toolExecutionRequest.arguments());
+            }
+        } else if (message instanceof ToolExecutionResultMessage toolExecutionResultMessage) {
+            writer.write(TOOL_EXECUTION_RESULT);
+            writer.writeString(toolExecutionResultMessage.id());
+            writer.writeString(toolExecutionResultMessage.toolName());
+            writer.writeString(toolExecutionResultMessage.text());
+        } else {
+            throw new IllegalArgumentException("Unsupported message type: " + message.getClass().getName());
+        }
+    }
+
+    private static ChatMessage readMessage(Reader reader) {
+        byte type = reader.readByte();
+        switch (type) {
+            case SYSTEM:
+                return SystemMessage.from(reader.readString());
+            case USER: {
+                String name = reader.readString();
+                int size = reader.readVarInt();
+                List<Content> contents = new ArrayList<>(size);
+                for (int i = 0; i < size; i++) {
+                    contents.add(readContent(reader));
+                }
+                return name == null ? UserMessage.from(contents) : UserMessage.from(name, contents);
+            }
+            case AI: {
+                String text = reader.readString();
+                int size = reader.readVarInt();
+                if (size == 0) {
+                    return AiMessage.from(text);
+                }
+                List<ToolExecutionRequest> toolExecutionRequests = new ArrayList<>(size);
+                for (int i = 0; i < size; i++) {
+                    toolExecutionRequests.add(ToolExecutionRequest.builder()
+                            .id(reader.readString())
+                            .name(reader.readString())
+                            .arguments(reader.readString())
+                            .build());
+                }
+                return text == null ? AiMessage.from(toolExecutionRequests) : AiMessage.from(text, toolExecutionRequests);
+            }
+            case TOOL_EXECUTION_RESULT:
+                return ToolExecutionResultMessage.from(reader.readString(), reader.readString(), reader.readString());
+            default:
+                throw new IllegalArgumentException("Unsupported message type: " + type);
+        }
+    }
+
+    private static void writeContent(Writer writer, Content content) {
+        if (content instanceof TextContent textContent) {
+            writer.write(TEXT);
+            writer.writeString(textContent.text());
+        } else if (content instanceof ImageContent imageContent) {
+            Image image = imageContent.image();
+            writer.write(IMAGE);
+            writer.writeUri(image.url());
+            writer.writeString(image.base64Data());
+            writer.writeString(image.mimeType());
+            writer.writeString(image.revisedPrompt());
+            writer.writeString(imageContent.detailLevel() == null ? null : imageContent.detailLevel().name());
+        } else if (content instanceof AudioContent audioContent) {
+            Audio audio = audioContent.audio();
+            writer.write(AUDIO);
+            writer.writeUri(audio.url());
+            writer.writeString(audio.base64Data());
+            writer.writeString(audio.mimeType());
+        } else if (content instanceof VideoContent videoContent) {
+            Video video = videoContent.video();
+            writer.write(VIDEO);
+            writer.writeUri(video.url());
+            writer.writeString(video.base64Data());
+            writer.writeString(video.mimeType());
+        } else if (content instanceof PdfFileContent pdfFileContent) {
+            PdfFile pdfFile = pdfFileContent.pdfFile();
+            writer.write(PDF);
+            writer.writeUri(pdfFile.url());
+            writer.writeString(pdfFile.base64Data());
+        } else if (content instanceof TextFileContent textFileContent) {
+            TextFile textFile = textFileContent.textFile();
+            writer.write(TEXT_FILE);
+            writer.writeUri(textFile.url());
+            writer.writeString(textFile.base64Data());
+            writer.writeString(textFile.mimeType());
+        } else {
+            throw new IllegalArgumentException("Unsupported content type: " + content.getClass().getName());
+        }
+    }
+
+    private static Content readContent(Reader reader) {
+        byte type = reader.readByte();
+        switch (type) {
+            case TEXT:
+                return TextContent.from(reader.readString());
+            case IMAGE: {
+                Image image = Image.builder()
+                        .url(reader.readUri())
+                        .base64Data(reader.readString())
+                        .mimeType(reader.readString())
+                        .revisedPrompt(reader.readString())
+                        .build();
+                String detailLevel = reader.readString();
+                return detailLevel == null
+                        ? ImageContent.from(image)
+                        : ImageContent.from(image, ImageContent.DetailLevel.valueOf(detailLevel));
+            }
+            case AUDIO:
+                return AudioContent.from(Audio.builder()
+                        .url(reader.readUri())
+                        .base64Data(reader.readString())
+                        .mimeType(reader.readString())
+                        .build());
+            case VIDEO:
+                return VideoContent.from(Video.builder()
+                        .url(reader.readUri())
+                        .base64Data(reader.readString())
+                        .mimeType(reader.readString())
+                        .build());
+            case PDF:
+                return PdfFileContent.from(PdfFile.builder()
+                        .url(reader.readUri())
+                        .base64Data(reader.readString())
+                        .build());
+            case TEXT_FILE:
+                return TextFileContent.from(TextFile.builder()
+                        .url(reader.readUri())
+                        .base64Data(reader.readString())
+                        .mimeType(reader.readString())
+                        .build());
+            default:
+                throw new IllegalArgumentException("Unsupported content type: " + type);
+        }
+    }
+
+    private static byte[] deflate(byte[] bytes) {
+        Deflater deflater = new Deflater();
+        try {
+            deflater.setInput(bytes);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length);
+            byte[] buffer = new byte[Math.max(64, bytes.length)];
+            while (!deflater.finished()) {
+                int length = deflater.deflate(buffer);
+                out.write(buffer, 0, length);
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static byte[] inflate(byte[] bytes, int length) {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(bytes);
+            byte[] result = new byte[length];
+            int offset = 0;
+            while (offset < length && !inflater.finished()) {
+                int inflated = inflater.inflate(result, offset, length - offset);
+                if (inflated == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    break;
+                }
+                offset += inflated;
+            }
+            if (offset != length) {
+                throw new IllegalArgumentException("Corrupted compressed message");
+            }
+            return result;
+        } catch (DataFormatException e) {
+            throw new IllegalArgumentException("Corrupted compressed message", e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    private static class Writer extends ByteArrayOutputStream {
+
+        void writeVarInt(int value) {
+            while ((value & ~0x7F) != 0) {
+                write((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            write(value);
+        }
+
+        void writeString(String value) {
+            if (value == null) {
+                writeVarInt(0);
+                return;
+            }
+            byte[] bytes = value.getBytes(UTF_8);
+            writeVarInt(bytes.length + 1);
+            write(bytes, 0, bytes.length);
+        }
+
+        void writeUri(URI uri) {
+            writeString(uri == null ? null : uri.toString());
+        }
+
+        static int varIntSize(int value) {
+            int size = 1;
+            while ((value & ~0x7F) != 0) {
+                value >>>= 7;
+                size++;
+            }
+            return size;
+        }
+    }
+
+    private static class Reader {
+
+        private final ByteBuffer buffer;
+
+        Reader(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        boolean hasRemaining() {
+            return buffer.hasRemaining();
+        }
+
+        byte readByte() {
+            ensureRemaining(1);
+            return buffer.get();
+        }
+
+        int readVarInt() {
+            int value = 0;
+            for (int shift = 0; shift < 32; shift += 7) {
+                byte b = readByte();
+                value |= (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new IllegalArgumentException("Malformed varint");
+        }
+
+        String readString() {
+            int length = readVarInt() - 1;
+            if (length < 0) {
+                return null;
+            }
+            ensureRemaining(length);
+            String value = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length, UTF_8);
+            buffer.position(buffer.position() + length);
+            return value;
+        }
+
+        URI readUri() {
+            String uri = readString();
+            return uri == null ? null : URI.create(uri);
+        }
+
+        Reader slice(int length) {
+            ensureRemaining(length);
+            ByteBuffer slice = buffer.slice();
+            slice.limit(length);
+            buffer.position(buffer.position() + length);
+            return new Reader(slice);
+        }
+
+        byte[] remainingBytes() {
+            byte[] bytes = new byte[buffer.remaining()];
+            buffer.get(bytes);
+            return bytes;
+        }
+
+        private void ensureRemaining(int length) {
+            if (length < 0 || buffer.remaining() < length) {
+                throw new IllegalArgumentException("Truncated chat messages");
+            }
+        }
+    }
+}
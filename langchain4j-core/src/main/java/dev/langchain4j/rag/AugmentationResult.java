@@ -2,11 +2,13 @@ package dev.langchain4j.rag;
 
 import dev.langchain4j.data.message.ChatMessage;
 import dev.langchain4j.rag.content.Content;
+import dev.langchain4j.rag.content.retriever.ContentRetriever;
 
 import java.util.List;
 
 import static dev.langchain4j.internal.Utils.copyIfNotNull;
 import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+import static java.util.Collections.emptyList;
 
 /**
  * Represents the result of a {@link ChatMessage} augmentation.
@@ -23,9 +25,19 @@ public class AugmentationResult {
      */
     private final List<Content> contents;
 
+    /**
+     * {@link ContentRetriever}s that did not return in time and whose contents are therefore missing.
+     */
+    private final List<ContentRetriever> timedOutRetrievers;
+
     public AugmentationResult(ChatMessage chatMessage, List<Content> contents) {
+        this(chatMessage, contents, null);
+    }
+
+    public AugmentationResult(ChatMessage chatMessage, List<Content> contents, List<ContentRetriever> timedOutRetrievers) {
         this.chatMessage = ensureNotNull(chatMessage, "chatMessage");
         this.contents = copyIfNotNull(contents);
+        this.timedOutRetrievers = timedOutRetrievers == null ? emptyList() : copyIfNotNull(timedOutRetrievers);
     }
 
     public static AugmentationResultBuilder builder() {
@@ -40,9 +52,14 @@ public class AugmentationResult {
         return contents;
     }
 
+    public List<ContentRetriever> timedOutRetrievers() {
+        return timedOutRetrievers;
+    }
+
     public static class AugmentationResultBuilder {
         private ChatMessage chatMessage;
         private List<Content> contents;
+        private List<ContentRetriever> timedOutRetrievers;
 
         AugmentationResultBuilder() {
         }
@@ -57,12 +74,17 @@ public class AugmentationResult {
             return this;
         }
 
+        public AugmentationResultBuilder timedOutRetrievers(List<ContentRetriever> timedOutRetrievers) {
+            this.timedOutRetrievers = timedOutRetrievers;
+            return this;
+        }
+
         public AugmentationResult build() {
-            return new AugmentationResult(this.chatMessage, this.contents);
+            return new AugmentationResult(this.chatMessage, this.contents, this.timedOutRetrievers);
         }
 
         public String toString() {
-            return "AugmentationResult.AugmentationResultBuilder(chatMessage=" + this.chatMessage + ", contents=" + this.contents + ")";
+            return "AugmentationResult.AugmentationResultBuilder(chatMessage=" + this.chatMessage + ", contents=" + this.contents + ", timedOutRetrievers=" + this.timedOutRetrievers + ")";
         }
     }
 }
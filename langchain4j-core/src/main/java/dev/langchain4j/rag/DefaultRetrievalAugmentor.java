@@ -8,6 +8,7 @@ import dev.langchain4j.rag.content.aggregator.DefaultContentAggregator;
 import dev.langchain4j.rag.content.injector.ContentInjector;
 import dev.langchain4j.rag.content.injector.DefaultContentInjector;
 import dev.langchain4j.rag.content.retriever.ContentRetriever;
+import dev.langchain4j.rag.content.retriever.EmbeddingStoreContentRetriever;
 import dev.langchain4j.rag.query.Metadata;
 import dev.langchain4j.rag.query.Query;
 import dev.langchain4j.rag.query.router.DefaultQueryRouter;
@@ -17,16 +18,26 @@ import dev.langchain4j.rag.query.transformer.QueryTransformer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.SynchronousQueue;
 import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
 
 import static dev.langchain4j.internal.Utils.getOrDefault;
 import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
@@ -35,6 +46,7 @@ import static java.util.Collections.singletonList;
 import static java.util.Collections.singletonMap;
 import static java.util.concurrent.CompletableFuture.allOf;
 import static java.util.concurrent.CompletableFuture.supplyAsync;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
 import static java.util.concurrent.TimeUnit.SECONDS;
 import static java.util.stream.Collectors.joining;
 import static java.util.stream.Collectors.toMap;
@@ -99,8 +111,37 @@ import static java.util.stream.Collectors.toMap;
  * When there is only a single {@link Query} and a single {@link ContentRetriever},
  * query routing and content retrieval are performed in the same thread.
  * Otherwise, an {@link Executor} is used to parallelize the processing.
+ * When several {@link Query}s are routed to the same {@link ContentRetriever} that
+ * {@linkplain ContentRetriever#supportsBatchRetrieval() supports batch retrieval}, they are passed to it in a single
+ * {@link ContentRetriever#retrieveAll(List)} call, so that it can serve them in one round trip
+ * (see {@link EmbeddingStoreContentRetriever}). Such a retriever waits until all {@link Query}s are routed,
+ * while the other ones are called for each {@link Query} in parallel as soon as it is routed.
  * By default, a modified (keepAliveTime is 1 second instead of 60 seconds) {@link Executors#newCachedThreadPool()}
  * is used, but you can provide a custom {@link Executor} instance.
+ * <br>
+ * <br>
+ * Optionally, the fan-out can be bounded in time, so that a single slow {@link ContentRetriever}
+ * (e.g. a web search engine or a remote vector database) does not stall the whole request:
+ * <br>
+ * - {@code retrieverTimeout}: The maximum time a single {@link ContentRetriever} call may take.
+ * <br>
+ * - {@code timeout}: The maximum time for routing and retrieval of all {@link Query}s together.
+ * <br>
+ * - {@code hedgingDelay}: If a {@link ContentRetriever} has not returned after this delay, the same call is issued
+ * once more and whichever returns first is used, the other one being cancelled. This reduces tail latency of retrievers with sporadic slow calls,
+ * at the cost of additional load. Only use it with idempotent retrievers.
+ * <br>
+ * - {@code bestEffort}: If {@code true}, {@link Content}s of the {@link ContentRetriever}s that returned in time
+ * are passed to the {@link ContentAggregator} and the ones that did not are reported in
+ * {@link AugmentationResult#timedOutRetrievers()}. If {@code false} (default), a {@link RetrievalTimeoutException}
+ * is thrown instead.
+ * <br>
+ * When any of these is configured, retrieval is always performed using the {@link Executor}.
+ * {@link Query}s are then not batched: each one is retrieved with {@link ContentRetriever#retrieve(Query)}
+ * as soon as it is routed, so that a slow routing does not delay the retrieval of the other {@link Query}s,
+ * and each retrieval can be timed out, hedged and cancelled on its own.
+ * Routings and retrievals that do not complete in time are cancelled: the ones still queued in the {@link Executor}
+ * are skipped, the ones already running are not interrupted and their results are ignored.
  *
  * @see DefaultQueryTransformer
  * @see DefaultQueryRouter
@@ -111,22 +152,54 @@ public class DefaultRetrievalAugmentor implements RetrievalAugmentor {
 
     private static final Logger log = LoggerFactory.getLogger(DefaultRetrievalAugmentor.class);
 
+    private static final ClassValue<Boolean> OVERRIDES_RETRIEVE_ALL = new ClassValue<>() {
+
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            try {
+                return type.getMethod("retrieveAll", List.class).getDeclaringClass() != ContentRetriever.class;
+            } catch (NoSuchMethodException e) {
+                return false;
+            }
+        }
+    };
+
     private final QueryTransformer queryTransformer;
     private final QueryRouter queryRouter;
     private final ContentAggregator contentAggregator;
     private final ContentInjector contentInjector;
     private final Executor executor;
+    private final Duration retrieverTimeout;
+    private final Duration timeout;
+    private final Duration hedgingDelay;
+    private final boolean bestEffort;
 
     public DefaultRetrievalAugmentor(QueryTransformer queryTransformer,
                                      QueryRouter queryRouter,
                                      ContentAggregator contentAggregator,
                                      ContentInjector contentInjector,
                                      Executor executor) {
+        this(queryTransformer, queryRouter, contentAggregator, contentInjector, executor, null, null, null, null);
+    }
+
+    public DefaultRetrievalAugmentor(QueryTransformer queryTransformer,
+                                     QueryRouter queryRouter,
+                                     ContentAggregator contentAggregator,
+                                     ContentInjector contentInjector,
+                                     Executor executor,
+                                     Duration retrieverTimeout,
+                                     Duration timeout,
+                                     Duration hedgingDelay,
+                                     Boolean bestEffort) {
         this.queryTransformer = getOrDefault(queryTransformer, DefaultQueryTransformer::new);
         this.queryRouter = ensureNotNull(queryRouter, "queryRouter");
         this.contentAggregator = getOrDefault(contentAggregator, DefaultContentAggregator::new);
         this.contentInjector = getOrDefault(contentInjector, DefaultContentInjector::new);
         this.executor = getOrDefault(executor, DefaultRetrievalAugmentor::createDefaultExecutor);
+        this.retrieverTimeout = retrieverTimeout;
+        this.timeout = timeout;
+        this.hedgingDelay = hedgingDelay;
+        this.bestEffort = getOrDefault(bestEffort, false);
     }
 
     private static ExecutorService createDefaultExecutor() {
@@ -158,7 +231,13 @@ public class DefaultRetrievalAugmentor implements RetrievalAugmentor {
         Collection<Query> queries = queryTransformer.transform(originalQuery);
         logQueries(originalQuery, queries);
 
-        Map<Query, Collection<List<Content>>> queryToContents = process(queries);
+        Map<Query, Collection<List<Content>>> queryToContents;
+        List<ContentRetriever> timedOutRetrievers = new ArrayList<>();
+        if (retrieverTimeout == null && timeout == null && hedgingDelay == null) {
+            queryToContents = process(queries);
+        } else {
+            queryToContents = processWithDeadlines(queries, timedOutRetrievers);
+        }
 
         List<Content> contents = contentAggregator.aggregate(queryToContents);
         log(queryToContents, contents);
@@ -169,6 +248,7 @@ public class DefaultRetrievalAugmentor implements RetrievalAugmentor {
         return AugmentationResult.builder()
             .chatMessage(augmentedChatMessage)
             .contents(contents)
+            .timedOutRetrievers(timedOutRetrievers)
             .build();
     }
 
@@ -187,30 +267,234 @@ public class DefaultRetrievalAugmentor implements RetrievalAugmentor {
                 return emptyMap();
             }
         } else if (queries.size() > 1) {
+            Map<Query, CompletableFuture<Collection<ContentRetriever>>> queryToFutureRetrievers = new LinkedHashMap<>();
+            queries.forEach(query -> queryToFutureRetrievers.put(query, supplyAsync(() -> {
+                    Collection<ContentRetriever> retrievers = queryRouter.route(query);
+                    log(query, retrievers);
+                    return retrievers;
+                },
+                executor
+            )));
+
+            // only the retrievers that serve several queries in one call wait for all queries to be routed
+            CompletableFuture<Map<ContentRetriever, Map<Query, List<Content>>>> futureBatchedContents =
+                allOf(queryToFutureRetrievers.values().toArray(new CompletableFuture[0]))
+                    .thenCompose(ignored -> retrieveBatched(queryToFutureRetrievers));
+
             Map<Query, CompletableFuture<Collection<List<Content>>>> queryToFutureContents = new ConcurrentHashMap<>();
-            queries.forEach(query -> {
-                CompletableFuture<Collection<List<Content>>> futureContents =
-                    supplyAsync(() -> {
-                            Collection<ContentRetriever> retrievers = queryRouter.route(query);
-                            log(query, retrievers);
-                            return retrievers;
-                        },
-                        executor
-                    ).thenCompose(retrievers -> retrieveFromAll(retrievers, query));
-                queryToFutureContents.put(query, futureContents);
-            });
+            queryToFutureRetrievers.forEach((query, futureRetrievers) -> queryToFutureContents.put(query,
+                futureRetrievers.thenCompose(retrievers -> retrieveFromAll(retrievers, query, futureBatchedContents))));
             return join(queryToFutureContents);
         } else {
             return emptyMap();
         }
     }
 
+    /**
+     * Unlike {@link #process(Collection)}, retrieves each routed query on its own:
+     * batching would require waiting for all routings, which the deadline is meant to bound.
+     */
+    private Map<Query, Collection<List<Content>>> processWithDeadlines(Collection<Query> queries,
+                                                                      List<ContentRetriever> timedOutRetrievers) {
+        long deadline = timeout == null ? Long.MAX_VALUE : System.nanoTime() + timeout.toNanos();
+
+        // each query is first routed, then retrieved from its retrievers: the retrievals of a query are known
+        // once its routed future is done, which happens only after they are all started
+        List<CompletableFuture<Collection<ContentRetriever>>> routings = new ArrayList<>();
+        List<CompletableFuture<List<Retrieval>>> routedQueries = new ArrayList<>();
+        List<CompletableFuture<Void>> queryFutures = new ArrayList<>();
+        for (Query query : queries) {
+            CompletableFuture<Collection<ContentRetriever>> routing = supplyAsync(() -> {
+                    Collection<ContentRetriever> retrievers = queryRouter.route(query);
+                    log(query, retrievers);
+                    return retrievers;
+                }, executor
+            );
+            CompletableFuture<List<Retrieval>> routedQuery = routing.thenApply(retrievers -> {
+                List<Retrieval> queryRetrievals = new ArrayList<>();
+                for (ContentRetriever retriever : retrievers) {
+                    CompletableFuture<List<Content>> futureContent = retrieveWithHedging(retriever, query);
+                    if (retrieverTimeout != null) {
+                        futureContent = futureContent.orTimeout(retrieverTimeout.toNanos(), NANOSECONDS);
+                    }
+                    queryRetrievals.add(new Retrieval(query, retriever, futureContent));
+                }
+                return queryRetrievals;
+            });
+            routings.add(routing);
+            routedQueries.add(routedQuery);
+            queryFutures.add(routedQuery.thenCompose(queryRetrievals -> allOf(queryRetrievals.stream()
+                .map(retrieval -> retrieval.futureContents)
+                .toArray(CompletableFuture[]::new))));
+        }
+
+        try {
+            CompletableFuture<Void> all = allOf(queryFutures.toArray(new CompletableFuture[0]));
+            if (deadline == Long.MAX_VALUE) {
+                all.get();
+            } else {
+                all.get(Math.max(0, deadline - System.nanoTime()), NANOSECONDS);
+            }
+        } catch (TimeoutException | ExecutionException e) {
+            // inspected per routing and retrieval below
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        }
+
+        boolean routingTimedOut = false;
+        List<Retrieval> retrievals = new ArrayList<>();
+        for (int i = 0; i < routings.size(); i++) {
+            CompletableFuture<Collection<ContentRetriever>> routing = routings.get(i);
+            CompletableFuture<List<Retrieval>> routedQuery = routedQueries.get(i);
+            if (!routedQuery.isDone()) {
+                routingTimedOut = true;
+                routing.cancel(true);
+            } else if (routedQuery.isCompletedExceptionally()) {
+                throw asRuntimeException(causeOf(routedQuery));
+            } else {
+                retrievals.addAll(routedQuery.join());
+            }
+        }
+
+        Map<Query, Collection<List<Content>>> queryToContents = new LinkedHashMap<>();
+        for (Retrieval retrieval : retrievals) {
+            CompletableFuture<List<Content>> futureContents = retrieval.futureContents;
+            if (futureContents.isDone() && !futureContents.isCompletedExceptionally()) {
+                List<Content> contents = futureContents.join();
+                log(retrieval.query, retrieval.retriever, contents);
+                queryToContents.computeIfAbsent(retrieval.query, ignored -> new ArrayList<>()).add(contents);
+            } else if (!futureContents.isDone() || isTimeout(causeOf(futureContents))) {
+                log.warn("Retriever '{}' did not return in time for query '{}'", retrieval.retriever, retrieval.query.text());
+                futureContents.cancel(true);
+                if (!timedOutRetrievers.contains(retrieval.retriever)) {
+                    timedOutRetrievers.add(retrieval.retriever);
+                }
+            } else {
+                throw asRuntimeException(causeOf(futureContents));
+            }
+        }
+
+        if (routingTimedOut) {
+            log.warn("Routing of some queries did not complete in time");
+        }
+        if ((routingTimedOut || !timedOutRetrievers.isEmpty()) && !bestEffort) {
+            throw new RetrievalTimeoutException(
+                "The following retrievers did not return in time: " + timedOutRetrievers, timedOutRetrievers);
+        }
+        return queryToContents;
+    }
+
+    private CompletableFuture<List<Content>> retrieveWithHedging(ContentRetriever retriever, Query query) {
+        CompletableFuture<List<Content>> primary = supplyAsync(() -> retriever.retrieve(query), executor);
+        if (hedgingDelay == null) {
+            return primary;
+        }
+
+        CompletableFuture<List<Content>> result = new CompletableFuture<>();
+        AtomicInteger pendingAttempts = new AtomicInteger(1);
+        List<CompletableFuture<List<Content>>> attempts = new CopyOnWriteArrayList<>();
+        attempts.add(primary);
+        BiConsumer<List<Content>, Throwable> onAttemptCompleted = (contents, error) -> {
+            if (error == null) {
+                result.complete(contents);
+            } else if (pendingAttempts.decrementAndGet() == 0) {
+                result.completeExceptionally(error);
+            }
+        };
+
+        Executor delayedExecutor = CompletableFuture.delayedExecutor(hedgingDelay.toNanos(), NANOSECONDS, executor);
+        CompletableFuture<Void> hedging = CompletableFuture.runAsync(() -> {
+            if (!result.isDone() && pendingAttempts.getAndIncrement() > 0) {
+                log.debug("Retriever '{}' did not return within {}, hedging query '{}'", retriever, hedgingDelay, query.text());
+                CompletableFuture<List<Content>> hedge = supplyAsync(() -> retriever.retrieve(query), executor);
+                attempts.add(hedge);
+                hedge.whenComplete(onAttemptCompleted);
+                if (result.isDone()) {
+                    hedge.cancel(true);
+                }
+            }
+        }, delayedExecutor);
+
+        // once an attempt wins (or the result is cancelled), the other attempts are cancelled:
+        // the ones still queued in the executor are skipped, the ones already running are ignored
+        result.whenComplete((contents, error) -> {
+            hedging.cancel(true);
+            attempts.forEach(attempt -> attempt.cancel(true));
+        });
+        primary.whenComplete(onAttemptCompleted);
+
+        return result;
+    }
+
+    private static Throwable causeOf(CompletableFuture<?> future) {
+        try {
+            future.getNow(null);
+            return null;
+        } catch (CompletionException | CancellationException e) {
+            return e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+        }
+    }
+
+    private static boolean isTimeout(Throwable throwable) {
+        Throwable current = throwable;
+        while (current != null) {
+            if (current instanceof TimeoutException) {
+                return true;
+            }
+            current = current.getCause();
+        }
+        return false;
+    }
+
+    private static RuntimeException asRuntimeException(Throwable throwable) {
+        if (throwable instanceof RuntimeException) {
+            return (RuntimeException) throwable;
+        }
+        return new RuntimeException(throwable);
+    }
+
+    private static class Retrieval {
+
+        private final Query query;
+        private final ContentRetriever retriever;
+        private final CompletableFuture<List<Content>> futureContents;
+
+        private Retrieval(Query query, ContentRetriever retriever, CompletableFuture<List<Content>> futureContents) {
+            this.query = query;
+            this.retriever = retriever;
+            this.futureContents = futureContents;
+        }
+    }
+
     private CompletableFuture<Collection<List<Content>>> retrieveFromAll(Collection<ContentRetriever> retrievers,
                                                                          Query query) {
         List<CompletableFuture<List<Content>>> futureContents = retrievers.stream()
             .map(retriever -> supplyAsync(() -> retrieve(retriever, query), executor))
             .toList();
 
+        return joinContents(futureContents);
+    }
+
+    /**
+     * Like {@link #retrieveFromAll(Collection, Query)}, but takes the {@link Content}s of the retrievers
+     * that retrieve in batches from the result of {@link #retrieveBatched(Map)}.
+     */
+    private CompletableFuture<Collection<List<Content>>> retrieveFromAll(
+        Collection<ContentRetriever> retrievers,
+        Query query,
+        CompletableFuture<Map<ContentRetriever, Map<Query, List<Content>>>> futureBatchedContents) {
+        List<CompletableFuture<List<Content>>> futureContents = retrievers.stream()
+            .map(retriever -> retrievesInBatches(retriever)
+                ? futureBatchedContents.thenApply(batchedContents -> batchedContents.get(retriever).get(query))
+                : supplyAsync(() -> retrieve(retriever, query), executor))
+            .toList();
+
+        return joinContents(futureContents);
+    }
+
+    private static CompletableFuture<Collection<List<Content>>> joinContents(
+        List<CompletableFuture<List<Content>>> futureContents) {
         return allOf(futureContents.toArray(new CompletableFuture[0]))
             .thenApply(ignored ->
                 futureContents.stream()
@@ -218,6 +502,53 @@ public class DefaultRetrievalAugmentor implements RetrievalAugmentor {
                     .toList());
     }
 
+    /**
+     * Whether the {@link ContentRetriever} serves several {@link Query}s in one
+     * {@link ContentRetriever#retrieveAll(List)} call faster than they are retrieved in parallel.
+     * The default {@link ContentRetriever#retrieveAll(List)} retrieves them one after another, so it never is.
+     */
+    private static boolean retrievesInBatches(ContentRetriever retriever) {
+        return OVERRIDES_RETRIEVE_ALL.get(retriever.getClass()) && retriever.supportsBatchRetrieval();
+    }
+
+    /**
+     * Retrieves for all routed queries from the retrievers that retrieve in batches,
+     * issuing a single {@link ContentRetriever#retrieveAll(List)} call per {@link ContentRetriever},
+     * so that they can serve all their queries in one round trip. Different retrievers are called in parallel.
+     */
+    private CompletableFuture<Map<ContentRetriever, Map<Query, List<Content>>>> retrieveBatched(
+        Map<Query, CompletableFuture<Collection<ContentRetriever>>> queryToFutureRetrievers) {
+        Map<ContentRetriever, List<Query>> retrieverToQueries = new LinkedHashMap<>();
+        queryToFutureRetrievers.forEach((query, futureRetrievers) -> futureRetrievers.join().stream()
+            .filter(DefaultRetrievalAugmentor::retrievesInBatches)
+            .forEach(retriever -> retrieverToQueries.computeIfAbsent(retriever, ignored -> new ArrayList<>()).add(query)));
+
+        Map<ContentRetriever, CompletableFuture<Map<Query, List<Content>>>> retrieverToFutureContents = new LinkedHashMap<>();
+        retrieverToQueries.forEach((retriever, retrieverQueries) -> retrieverToFutureContents.put(retriever,
+            supplyAsync(() -> retrieveAll(retriever, retrieverQueries), executor)));
+
+        return allOf(retrieverToFutureContents.values().toArray(new CompletableFuture[0]))
+            .thenApply(ignored -> {
+                Map<ContentRetriever, Map<Query, List<Content>>> retrieverToContents = new LinkedHashMap<>();
+                retrieverToFutureContents.forEach((retriever, futureContents) ->
+                    retrieverToContents.put(retriever, futureContents.join()));
+                return retrieverToContents;
+            });
+    }
+
+    private static Map<Query, List<Content>> retrieveAll(ContentRetriever retriever, List<Query> queries) {
+        if (queries.size() == 1) {
+            return singletonMap(queries.get(0), retrieve(retriever, queries.get(0)));
+        }
+        List<List<Content>> contents = retriever.retrieveAll(queries);
+        Map<Query, List<Content>> queryToContents = new LinkedHashMap<>();
+        for (int i = 0; i < queries.size(); i++) {
+            log(queries.get(i), retriever, contents.get(i));
+            queryToContents.put(queries.get(i), contents.get(i));
+        }
+        return queryToContents;
+    }
+
     private static List<Content> retrieve(ContentRetriever retriever, Query query) {
         List<Content> contents = retriever.retrieve(query);
         log(query, retriever, contents);
@@ -338,6 +669,10 @@ public class DefaultRetrievalAugmentor implements RetrievalAugmentor {
         private ContentAggregator contentAggregator;
         private ContentInjector contentInjector;
         private Executor executor;
+        private Duration retrieverTimeout;
+        private Duration timeout;
+        private Duration hedgingDelay;
+        private Boolean bestEffort;
 
         DefaultRetrievalAugmentorBuilder() {
         }
@@ -372,12 +707,33 @@ public class DefaultRetrievalAugmentor implements RetrievalAugmentor {
             return this;
         }
 
+        public DefaultRetrievalAugmentorBuilder retrieverTimeout(Duration retrieverTimeout) {
+            this.retrieverTimeout = retrieverTimeout;
+            return this;
+        }
+
+        public DefaultRetrievalAugmentorBuilder timeout(Duration timeout) {
+            this.timeout = timeout;
+            return this;
+        }
+
+        public DefaultRetrievalAugmentorBuilder hedgingDelay(Duration hedgingDelay) {
+            this.hedgingDelay = hedgingDelay;
+            return this;
+        }
+
+        public DefaultRetrievalAugmentorBuilder bestEffort(Boolean bestEffort) {
+            this.bestEffort = bestEffort;
+            return this;
+        }
+
         public DefaultRetrievalAugmentor build() {
-            return new DefaultRetrievalAugmentor(this.queryTransformer, this.queryRouter, this.contentAggregator, this.contentInjector, this.executor);
+            return new DefaultRetrievalAugmentor(this.queryTransformer, this.queryRouter, this.contentAggregator, this.contentInjector, this.executor,
+                this.retrieverTimeout, this.timeout, this.hedgingDelay, this.bestEffort);
         }
 
         public String toString() {
-            return "DefaultRetrievalAugmentor.DefaultRetrievalAugmentorBuilder(queryTransformer=" + this.queryTransformer + ", queryRouter=" + this.queryRouter + ", contentAggregator=" + this.contentAggregator + ", contentInjector=" + this.contentInjector + ", executor=" + this.executor + ")";
+            return "DefaultRetrievalAugmentor.DefaultRetrievalAugmentorBuilder(queryTransformer=" + this.queryTransformer + ", queryRouter=" + this.queryRouter + ", contentAggregator=" + this.contentAggregator + ", contentInjector=" + this.contentInjector + ", executor=" + this.executor + ", retrieverTimeout=" + this.retrieverTimeout + ", timeout=" + this.timeout + ", hedgingDelay=" + this.hedgingDelay + ", bestEffort=" + this.bestEffort + ")";
         }
     }
 }
@@ -0,0 +1,28 @@
+package dev.langchain4j.rag;
+
+import dev.langchain4j.rag.content.retriever.ContentRetriever;
+
+import java.util.List;
+
+import static dev.langchain4j.internal.Utils.copyIfNotNull;
+
+/**
+ * Thrown by {@link DefaultRetrievalAugmentor} when one or more {@link ContentRetriever}s did not return
+ * in time and best-effort mode is disabled.
+ */
+public class RetrievalTimeoutException extends RuntimeException {
+
+    private final List<ContentRetriever> timedOutRetrievers;
+
+    public RetrievalTimeoutException(String message, List<ContentRetriever> timedOutRetrievers) {
+        super(message);
+        this.timedOutRetrievers = copyIfNotNull(timedOutRetrievers);
+    }
+
+    /**
+     * @return the retrievers that did not return in time.
+     */
+    public List<ContentRetriever> timedOutRetrievers() {
+        return timedOutRetrievers;
+    }
+}
@@ -0,0 +1,147 @@
+package dev.langchain4j.rag.content.retriever;
+
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.store.embedding.EmbeddingRecord;
+import dev.langchain4j.store.embedding.EmbeddingScanRequest;
+import dev.langchain4j.store.embedding.EmbeddingScanResult;
+import dev.langchain4j.store.embedding.EmbeddingSearchRequest;
+import dev.langchain4j.store.embedding.EmbeddingSearchResult;
+import dev.langchain4j.store.embedding.EmbeddingStore;
+import dev.langchain4j.store.embedding.filter.Filter;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Delegates to another {@link EmbeddingStore} and invalidates the results cached in a {@link RetrievalCache}
+ * after each modification.
+ *
+ * @see RetrievalCache#invalidatingOnChange(EmbeddingStore)
+ */
+class CacheInvalidatingEmbeddingStore implements EmbeddingStore<TextSegment> {
+
+    private final EmbeddingStore<TextSegment> delegate;
+    private final RetrievalCache cache;
+
+    CacheInvalidatingEmbeddingStore(EmbeddingStore<TextSegment> delegate, RetrievalCache cache) {
+        this.delegate = delegate;
+        this.cache = cache;
+    }
+
+    @Override
+    public String add(Embedding embedding) {
+        try {
+            return delegate.add(embedding);
+        } finally {
+            cache.invalidateResults();
+        }
+    }
+
+    @Override
+    public void add(String id, Embedding embedding) {
+        try {
+            delegate.add(id, embedding);
+        } finally {
+            cache.invalidateResults();
+        }
+    }
+
+    @Override
+    public String add(Embedding embedding, TextSegment textSegment) {
+        try {
+            return delegate.add(embedding, textSegment);
+        } finally {
+            cache.invalidateResults();
+        }
+    }
+
+    @Override
+    public List<String> addAll(List<Embedding> embeddings) {
+        try {
+            return delegate.addAll(embeddings);
+        } finally {
+            cache.invalidateResults();
+        }
+    }
+
+    @Override
+    public List<String> addAll(List<Embedding> embeddings, List<TextSegment> textSegments) {
+        try {
+            return delegate.addAll(embeddings, textSegments);
+        } finally {
+            cache.invalidateResults();
+        }
+    }
+
+    @Override
+    public void addAll(List<String> ids, List<Embedding> embeddings, List<TextSegment> textSegments) {
+        try {
+            delegate.addAll(ids, embeddings, textSegments);
+        } finally {
+            cache.invalidateResults();
+        }
+    }
+
+    @Override
+    public void remove(String id) {
+        try {
+            delegate.remove(id);
+        } finally {
+            cache.invalidateResults();
+        }
+    }
+
+    @Override
+    public void removeAll(Collection<String> ids) {
+        try {
+            delegate.removeAll(ids);
+        } finally {
+            cache.invalidateResults();
+        }
+    }
+
+    @Override
+    public void removeAll(Filter filter) {
+        try {
+            delegate.removeAll(filter);
+        } finally {
+            cache.invalidateResults();
+        }
+    }
+
+    @Override
+    public void removeAll() {
+        try {
+            delegate.removeAll();
+        } finally {
+            cache.invalidateResults();
+        }
+    }
+
+    @Override
+    public EmbeddingSearchResult<TextSegment> search(EmbeddingSearchRequest request) {
+        return delegate.search(request);
+    }
+
+    @Override
+    public List<EmbeddingSearchResult<TextSegment>> searchBatch(List<EmbeddingSearchRequest> requests) {
+        return delegate.searchBatch(requests);
+    }
+
+    @Override
+    public boolean supportsBatchSearch() {
+        return delegate.supportsBatchSearch();
+    }
+
+    @Override
+    public EmbeddingScanResult<TextSegment> scan(EmbeddingScanRequest request) {
+        return delegate.scan(request);
+    }
+
+    @Override
+    public Stream<EmbeddingRecord<TextSegment>> export(EmbeddingScanRequest request) {
+        return delegate.export(request);
+    }
+}
@@ -3,6 +3,7 @@ package dev.langchain4j.rag.content.retriever;
 import dev.langchain4j.rag.content.Content;
 import dev.langchain4j.rag.query.Query;
 
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -35,4 +36,36 @@ public interface ContentRetriever {
      * @return A list of retrieved {@link Content}s.
      */
     List<Content> retrieve(Query query);
+
+    /**
+     * Retrieves relevant {@link Content}s for each of the given {@link Query}s.
+     * <br>
+     * By default, {@link #retrieve(Query)} is called for each {@link Query}.
+     * Implementations backed by a data source that can serve several queries at once
+     * (see {@link EmbeddingStoreContentRetriever}) override it to save round trips.
+     *
+     * @param queries The {@link Query}s to use for retrieval.
+     * @return A list of retrieved {@link Content}s for each {@link Query}, in the same order as the queries.
+     */
+    default List<List<Content>> retrieveAll(List<Query> queries) {
+        List<List<Content>> contents = new ArrayList<>(queries.size());
+        for (Query query : queries) {
+            contents.add(retrieve(query));
+        }
+        return contents;
+    }
+
+    /**
+     * Whether {@link #retrieveAll(List)} serves several {@link Query}s faster than calling {@link #retrieve(Query)}
+     * for each of them in parallel, e.g. because they are sent to the data source in a single round trip.
+     * <br>
+     * {@link dev.langchain4j.rag.DefaultRetrievalAugmentor} only batches the {@link Query}s of retrievers that
+     * override {@link #retrieveAll(List)} and return {@code true} here. Others are called for each {@link Query}
+     * in parallel.
+     *
+     * @return {@code true} if {@link Query}s should be retrieved in batches. Default: {@code false}.
+     */
+    default boolean supportsBatchRetrieval() {
+        return false;
+    }
 }
@@ -6,14 +6,19 @@ import dev.langchain4j.model.embedding.EmbeddingModel;
 import dev.langchain4j.rag.content.Content;
 import dev.langchain4j.rag.query.Query;
 import dev.langchain4j.spi.model.embedding.EmbeddingModelFactory;
+import dev.langchain4j.store.embedding.AsyncEmbeddingStore;
 import dev.langchain4j.store.embedding.EmbeddingMatch;
 import dev.langchain4j.store.embedding.EmbeddingSearchRequest;
 import dev.langchain4j.store.embedding.EmbeddingSearchResult;
 import dev.langchain4j.store.embedding.EmbeddingStore;
 import dev.langchain4j.store.embedding.filter.Filter;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
 
 import static dev.langchain4j.internal.Utils.getOrDefault;
@@ -21,6 +26,7 @@ import static dev.langchain4j.internal.ValidationUtils.ensureBetween;
 import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
 import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
 import static dev.langchain4j.spi.ServiceHelper.loadFactories;
+import static java.util.Collections.singletonList;
 import static java.util.stream.Collectors.toList;
 
 /**
@@ -53,6 +59,21 @@ import static java.util.stream.Collectors.toList;
  * - {@code dynamicFilter}: It is a {@link Function} that accepts a {@link Query} and returns a {@code filter} value.
  * It can be used to dynamically define {@code filter} value, depending on factors such as the query,
  * the user (using Metadata#chatMemoryId()} from {@link Query#metadata()}), etc.
+ * <br>
+ * - {@code cache}: The {@link RetrievalCache} used to skip embedding the query and/or searching the {@link EmbeddingStore}
+ * for repeated queries.
+ * <br>
+ * - {@code asyncEmbeddingStore}: The {@link AsyncEmbeddingStore} used by {@link #retrieveAsync(Query)}.
+ * By default, the {@link EmbeddingStore} itself, if it also implements {@link AsyncEmbeddingStore}.
+ * <br>
+ * - {@code executor}: The {@link Executor} on which {@link #retrieveAsync(Query)} runs the searches
+ * of an {@link EmbeddingStore} that does not implement {@link AsyncEmbeddingStore}
+ * (see {@link AsyncEmbeddingStore#from(EmbeddingStore, Executor)}).
+ * <br>
+ * <br>
+ * Besides {@link #retrieve(Query)}, {@link #retrieveAll(List)} embeds and searches several queries in one batch,
+ * and {@link #retrieveAsync(Query)} searches without blocking the calling thread
+ * when an {@link AsyncEmbeddingStore} is available (natively, set explicitly, or adapted with the {@code executor}).
  */
 public class EmbeddingStoreContentRetriever implements ContentRetriever {
 
@@ -63,12 +84,15 @@ public class EmbeddingStoreContentRetriever implements ContentRetriever {
     public static final String DEFAULT_DISPLAY_NAME = "Default";
 
     private final EmbeddingStore<TextSegment> embeddingStore;
+    private final AsyncEmbeddingStore<TextSegment> asyncEmbeddingStore;
     private final EmbeddingModel embeddingModel;
 
     private final Function<Query, Integer> maxResultsProvider;
     private final Function<Query, Double> minScoreProvider;
     private final Function<Query, Filter> filterProvider;
 
+    private final RetrievalCache cache;
+
     private final String displayName;
 
     public EmbeddingStoreContentRetriever(EmbeddingStore<TextSegment> embeddingStore,
@@ -116,8 +140,23 @@ public class EmbeddingStoreContentRetriever implements ContentRetriever {
                                            Function<Query, Integer> dynamicMaxResults,
                                            Function<Query, Double> dynamicMinScore,
                                            Function<Query, Filter> dynamicFilter) {
+        this(displayName, embeddingStore, embeddingModel, dynamicMaxResults, dynamicMinScore, dynamicFilter, null, null, null);
+    }
+
+    private EmbeddingStoreContentRetriever(String displayName,
+                                           EmbeddingStore<TextSegment> embeddingStore,
+                                           EmbeddingModel embeddingModel,
+                                           Function<Query, Integer> dynamicMaxResults,
+                                           Function<Query, Double> dynamicMinScore,
+                                           Function<Query, Filter> dynamicFilter,
+                                           RetrievalCache cache,
+                                           AsyncEmbeddingStore<TextSegment> asyncEmbeddingStore,
+                                           Executor executor) {
         this.displayName = getOrDefault(displayName, DEFAULT_DISPLAY_NAME);
         this.embeddingStore = ensureNotNull(embeddingStore, "embeddingStore");
+        this.asyncEmbeddingStore = asyncEmbeddingStore != null || (executor == null && !(embeddingStore instanceof AsyncEmbeddingStore))
+                ? asyncEmbeddingStore
+                : AsyncEmbeddingStore.from(embeddingStore, executor);
         this.embeddingModel = ensureNotNull(
                 getOrDefault(embeddingModel, EmbeddingStoreContentRetriever::loadEmbeddingModel),
                 "embeddingModel"
@@ -125,6 +164,7 @@ public class EmbeddingStoreContentRetriever implements ContentRetriever {
         this.maxResultsProvider = getOrDefault(dynamicMaxResults, DEFAULT_MAX_RESULTS);
         this.minScoreProvider = getOrDefault(dynamicMinScore, DEFAULT_MIN_SCORE);
         this.filterProvider = getOrDefault(dynamicFilter, DEFAULT_FILTER);
+        this.cache = cache;
     }
 
     private static EmbeddingModel loadEmbeddingModel() {
@@ -153,6 +193,9 @@ public class EmbeddingStoreContentRetriever implements ContentRetriever {
         private Function<Query, Integer> dynamicMaxResults;
         private Function<Query, Double> dynamicMinScore;
         private Function<Query, Filter> dynamicFilter;
+        private RetrievalCache cache;
+        private AsyncEmbeddingStore<TextSegment> asyncEmbeddingStore;
+        private Executor executor;
 
         EmbeddingStoreContentRetrieverBuilder() {
         }
@@ -208,12 +251,27 @@ public class EmbeddingStoreContentRetriever implements ContentRetriever {
             return this;
         }
 
+        public EmbeddingStoreContentRetrieverBuilder cache(RetrievalCache cache) {
+            this.cache = cache;
+            return this;
+        }
+
+        public EmbeddingStoreContentRetrieverBuilder asyncEmbeddingStore(AsyncEmbeddingStore<TextSegment> asyncEmbeddingStore) {
+            this.asyncEmbeddingStore = asyncEmbeddingStore;
+            return this;
+        }
+
+        public EmbeddingStoreContentRetrieverBuilder executor(Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
         public EmbeddingStoreContentRetriever build() {
-            return new EmbeddingStoreContentRetriever(this.displayName, this.embeddingStore, this.embeddingModel, this.dynamicMaxResults, this.dynamicMinScore, this.dynamicFilter);
+            return new EmbeddingStoreContentRetriever(this.displayName, this.embeddingStore, this.embeddingModel, this.dynamicMaxResults, this.dynamicMinScore, this.dynamicFilter, this.cache, this.asyncEmbeddingStore, this.executor);
         }
 
         public String toString() {
-            return "EmbeddingStoreContentRetriever.EmbeddingStoreContentRetrieverBuilder(displayName=" + this.displayName + ", embeddingStore=" + this.embeddingStore + ", embeddingModel=" + this.embeddingModel + ", dynamicMaxResults=" + this.dynamicMaxResults + ", dynamicMinScore=" + this.dynamicMinScore + ", dynamicFilter=" + this.dynamicFilter + ")";
+            return "EmbeddingStoreContentRetriever.EmbeddingStoreContentRetrieverBuilder(displayName=" + this.displayName + ", embeddingStore=" + this.embeddingStore + ", embeddingModel=" + this.embeddingModel + ", dynamicMaxResults=" + this.dynamicMaxResults + ", dynamicMinScore=" + this.dynamicMinScore + ", dynamicFilter=" + this.dynamicFilter + ", cache=" + this.cache + ", asyncEmbeddingStore=" + this.asyncEmbeddingStore + ", executor=" + this.executor + ")";
         }
     }
 
@@ -228,17 +286,209 @@ public class EmbeddingStoreContentRetriever implements ContentRetriever {
     @Override
     public List<Content> retrieve(Query query) {
 
-        Embedding embeddedQuery = embeddingModel.embed(query.text()).content();
+        Embedding embeddedQuery = embed(query);
+        Integer maxResults = maxResultsProvider.apply(query);
+        Double minScore = minScoreProvider.apply(query);
+        Filter filter = filterProvider.apply(query);
+
+        if (cache == null) {
+            return search(embeddedQuery, maxResults, minScore, filter);
+        }
+
+        List<Content> cachedContents = cache.getResults(embeddedQuery, filter, maxResults, minScore);
+        if (cachedContents != null) {
+            return cachedContents;
+        }
+
+        long generation = cache.generation();
+        List<Content> contents = search(embeddedQuery, maxResults, minScore, filter);
+        cache.putResults(embeddedQuery, filter, maxResults, minScore, contents, generation);
+        return contents;
+    }
+
+    /**
+     * Retrieves relevant {@link Content}s for several {@link Query}s at once.
+     * <br>
+     * The queries that are not found in the {@code cache} are embedded with a single
+     * {@link EmbeddingModel#embedAll(List)} call and searched with a single
+     * {@link EmbeddingStore#searchBatch(List)} call, so that stores supporting multi-search
+     * serve all of them in one round trip.
+     *
+     * @param queries The {@link Query}s to use for retrieval.
+     * @return A list of retrieved {@link Content}s for each {@link Query}, in the same order as the queries.
+     */
+    @Override
+    public List<List<Content>> retrieveAll(List<Query> queries) {
+        if (queries.size() == 1) {
+            return singletonList(retrieve(queries.get(0)));
+        }
+
+        List<Embedding> embeddedQueries = embedAll(queries);
+
+        List<List<Content>> contents = new ArrayList<>(queries.size());
+        List<EmbeddingSearchRequest> searchRequests = new ArrayList<>();
+        List<Integer> searchedIndexes = new ArrayList<>();
+        long generation = cache == null ? 0 : cache.generation();
+        for (int i = 0; i < queries.size(); i++) {
+            Query query = queries.get(i);
+            EmbeddingSearchRequest searchRequest = EmbeddingSearchRequest.builder()
+                    .queryEmbedding(embeddedQueries.get(i))
+                    .maxResults(maxResultsProvider.apply(query))
+                    .minScore(minScoreProvider.apply(query))
+                    .filter(filterProvider.apply(query))
+                    .build();
+            List<Content> cachedContents = cache == null ? null : cache.getResults(searchRequest.queryEmbedding(),
+                    searchRequest.filter(), searchRequest.maxResults(), searchRequest.minScore());
+            contents.add(cachedContents);
+            if (cachedContents == null) {
+                searchRequests.add(searchRequest);
+                searchedIndexes.add(i);
+            }
+        }
+
+        if (searchRequests.isEmpty()) {
+            return contents;
+        }
+
+        List<EmbeddingSearchResult<TextSegment>> searchResults = embeddingStore.searchBatch(searchRequests);
+        for (int i = 0; i < searchRequests.size(); i++) {
+            EmbeddingSearchRequest searchRequest = searchRequests.get(i);
+            List<Content> searchedContents = toContents(searchResults.get(i));
+            if (cache != null) {
+                cache.putResults(searchRequest.queryEmbedding(), searchRequest.filter(),
+                        searchRequest.maxResults(), searchRequest.minScore(), searchedContents, generation);
+            }
+            contents.set(searchedIndexes.get(i), searchedContents);
+        }
+        return contents;
+    }
+
+    /**
+     * @return {@code true} if the {@link EmbeddingStore} {@linkplain EmbeddingStore#supportsBatchSearch() supports
+     * batch search}, so that several queries are served by a single {@link #retrieveAll(List)} call.
+     */
+    @Override
+    public boolean supportsBatchRetrieval() {
+        return embeddingStore.supportsBatchSearch();
+    }
+
+    private List<Embedding> embedAll(List<Query> queries) {
+        Embedding[] embeddedQueries = new Embedding[queries.size()];
+        List<TextSegment> segmentsToEmbed = new ArrayList<>();
+        List<Integer> embeddedIndexes = new ArrayList<>();
+        for (int i = 0; i < queries.size(); i++) {
+            String text = queries.get(i).text();
+            embeddedQueries[i] = cache == null ? null : cache.getEmbedding(text);
+            if (embeddedQueries[i] == null) {
+                segmentsToEmbed.add(TextSegment.from(text));
+                embeddedIndexes.add(i);
+            }
+        }
+
+        if (!segmentsToEmbed.isEmpty()) {
+            List<Embedding> embeddings = embeddingModel.embedAll(segmentsToEmbed).content();
+            for (int i = 0; i < embeddings.size(); i++) {
+                embeddedQueries[embeddedIndexes.get(i)] = embeddings.get(i);
+                if (cache != null) {
+                    cache.putEmbedding(segmentsToEmbed.get(i).text(), embeddings.get(i));
+                }
+            }
+        }
+        return Arrays.asList(embeddedQueries);
+    }
+
+    /**
+     * Retrieves relevant {@link Content}s using a given {@link Query}, like {@link #retrieve(Query)}.
+     * <br>
+     * If an {@link AsyncEmbeddingStore} is available (the {@link EmbeddingStore} implements it,
+     * or an {@code asyncEmbeddingStore} or an {@code executor} was set on the builder),
+     * the search does not block the calling thread, and the returned future is completed by that store.
+     * Otherwise, the search runs in the calling thread, and an already completed future is returned.
+     * The query is embedded in the calling thread (unless it is found in the {@code cache}),
+     * since {@link EmbeddingModel} is synchronous.
+     *
+     * @param query The {@link Query} to use for retrieval.
+     * @return A future of the list of retrieved {@link Content}s.
+     */
+    public CompletableFuture<List<Content>> retrieveAsync(Query query) {
+        if (asyncEmbeddingStore == null) {
+            try {
+                return CompletableFuture.completedFuture(retrieve(query));
+            } catch (RuntimeException e) {
+                return CompletableFuture.failedFuture(e);
+            }
+        }
+
+        Embedding embeddedQuery;
+        try {
+            embeddedQuery = embed(query);
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        Integer maxResults = maxResultsProvider.apply(query);
+        Double minScore = minScoreProvider.apply(query);
+        Filter filter = filterProvider.apply(query);
+
+        if (cache == null) {
+            return searchAsync(embeddedQuery, maxResults, minScore, filter);
+        }
+
+        List<Content> cachedContents = cache.getResults(embeddedQuery, filter, maxResults, minScore);
+        if (cachedContents != null) {
+            return CompletableFuture.completedFuture(cachedContents);
+        }
+
+        long generation = cache.generation();
+        return searchAsync(embeddedQuery, maxResults, minScore, filter)
+                .thenApply(contents -> {
+                    cache.putResults(embeddedQuery, filter, maxResults, minScore, contents, generation);
+                    return contents;
+                });
+    }
+
+    private Embedding embed(Query query) {
+        if (cache == null) {
+            return embeddingModel.embed(query.text()).content();
+        }
+        Embedding embeddedQuery = cache.getEmbedding(query.text());
+        if (embeddedQuery == null) {
+            embeddedQuery = embeddingModel.embed(query.text()).content();
+            cache.putEmbedding(query.text(), embeddedQuery);
+        }
+        return embeddedQuery;
+    }
+
+    private List<Content> search(Embedding embeddedQuery, Integer maxResults, Double minScore, Filter filter) {
 
         EmbeddingSearchRequest searchRequest = EmbeddingSearchRequest.builder()
                 .queryEmbedding(embeddedQuery)
-                .maxResults(maxResultsProvider.apply(query))
-                .minScore(minScoreProvider.apply(query))
-                .filter(filterProvider.apply(query))
+                .maxResults(maxResults)
+                .minScore(minScore)
+                .filter(filter)
                 .build();
 
         EmbeddingSearchResult<TextSegment> searchResult = embeddingStore.search(searchRequest);
 
+        return toContents(searchResult);
+    }
+
+    private CompletableFuture<List<Content>> searchAsync(Embedding embeddedQuery,
+                                                        Integer maxResults,
+                                                        Double minScore,
+                                                        Filter filter) {
+
+        EmbeddingSearchRequest searchRequest = EmbeddingSearchRequest.builder()
+                .queryEmbedding(embeddedQuery)
+                .maxResults(maxResults)
+                .minScore(minScore)
+                .filter(filter)
+                .build();
+
+        return asyncEmbeddingStore.searchAsync(searchRequest)
+                .thenApply(EmbeddingStoreContentRetriever::toContents);
+    }
+
+    private static List<Content> toContents(EmbeddingSearchResult<TextSegment> searchResult) {
         return searchResult.matches().stream()
                 .map(EmbeddingMatch::embedded)
                 .map(Content::from)
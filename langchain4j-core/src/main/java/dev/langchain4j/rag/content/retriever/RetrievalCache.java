@@ -0,0 +1,264 @@
+package dev.langchain4j.rag.content.retriever;
+
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.rag.content.Content;
+import dev.langchain4j.store.embedding.EmbeddingStore;
+import dev.langchain4j.store.embedding.filter.Filter;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static dev.langchain4j.internal.Utils.getOrDefault;
+import static dev.langchain4j.internal.ValidationUtils.ensureBetween;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+
+/**
+ * A two-level cache for {@link EmbeddingStoreContentRetriever}:
+ * <br>
+ * - query text → {@link Embedding}, which skips the call to the {@link dev.langchain4j.model.embedding.EmbeddingModel};
+ * <br>
+ * - (query embedding, {@link Filter}, {@code maxResults}, {@code minScore}) → retrieved {@link Content}s,
+ * which skips the search in the {@link EmbeddingStore}.
+ * <br>
+ * Retrieved contents become stale when the {@link EmbeddingStore} is modified. Either call {@link #invalidateResults()}
+ * after modifying the store, or modify it only through the store returned by {@link #invalidatingOnChange(EmbeddingStore)}
+ * (e.g. pass it to the {@link dev.langchain4j.store.embedding.EmbeddingStoreIngestor}),
+ * which invalidates the cached contents automatically. Cached embeddings are never invalidated by store modifications.
+ * <br>
+ * This class is thread-safe. A single instance should only be used with a single embedding model and store.
+ * <br>
+ * <br>
+ * Configurable parameters (optional):
+ * <br>
+ * - {@code maxEmbeddings}: The maximum number of cached embeddings. 0 disables the first level. Default: 1000.
+ * <br>
+ * - {@code maxResults}: The maximum number of cached search results. 0 disables the second level. Default: 1000.
+ * <br>
+ * - {@code ttl}: How long cached search results stay valid. Default: until invalidated.
+ */
+public class RetrievalCache {
+
+    private final LruMap<String, Embedding> embeddings;
+    private final LruMap<ResultKey, CachedResult> results;
+    private final Duration ttl;
+
+    /**
+     * Incremented on every invalidation, so that searches that started before an invalidation
+     * do not put stale results into the cache.
+     */
+    private final AtomicLong generation = new AtomicLong();
+
+    private final AtomicLong embeddingHits = new AtomicLong();
+    private final AtomicLong embeddingMisses = new AtomicLong();
+    private final AtomicLong resultHits = new AtomicLong();
+    private final AtomicLong resultMisses = new AtomicLong();
+
+    public RetrievalCache() {
+        this(null, null, null);
+    }
+
+    public RetrievalCache(Integer maxEmbeddings, Integer maxResults, Duration ttl) {
+        this.embeddings = new LruMap<>(ensureBetween(getOrDefault(maxEmbeddings, 1000), 0, Integer.MAX_VALUE, "maxEmbeddings"));
+        this.results = new LruMap<>(ensureBetween(getOrDefault(maxResults, 1000), 0, Integer.MAX_VALUE, "maxResults"));
+        this.ttl = ttl;
+    }
+
+    /**
+     * Returns an {@link EmbeddingStore} that delegates to the given one and invalidates
+     * the cached search results each time it is modified.
+     *
+     * @param embeddingStore The store to wrap.
+     * @return The wrapping store.
+     */
+    public EmbeddingStore<TextSegment> invalidatingOnChange(EmbeddingStore<TextSegment> embeddingStore) {
+        return new CacheInvalidatingEmbeddingStore(ensureNotNull(embeddingStore, "embeddingStore"), this);
+    }
+
+    /**
+     * Removes all cached search results. Cached embeddings are kept.
+     */
+    public void invalidateResults() {
+        generation.incrementAndGet();
+        results.clear();
+    }
+
+    /**
+     * Removes all cached embeddings and search results.
+     */
+    public void invalidateAll() {
+        invalidateResults();
+        embeddings.clear();
+    }
+
+    public long embeddingHits() {
+        return embeddingHits.get();
+    }
+
+    public long embeddingMisses() {
+        return embeddingMisses.get();
+    }
+
+    public long resultHits() {
+        return resultHits.get();
+    }
+
+    public long resultMisses() {
+        return resultMisses.get();
+    }
+
+    Embedding getEmbedding(String text) {
+        Embedding embedding = embeddings.get(text);
+        (embedding == null ? embeddingMisses : embeddingHits).incrementAndGet();
+        return embedding;
+    }
+
+    void putEmbedding(String text, Embedding embedding) {
+        embeddings.put(text, embedding);
+    }
+
+    long generation() {
+        return generation.get();
+    }
+
+    List<Content> getResults(Embedding embedding, Filter filter, Integer maxResults, Double minScore) {
+        ResultKey key = new ResultKey(embedding.vector(), filter, maxResults, minScore);
+        CachedResult cached = results.get(key);
+        if (cached != null && ttl != null && System.nanoTime() - cached.createdAtNanos >= ttl.toNanos()) {
+            results.remove(key);
+            cached = null;
+        }
+        (cached == null ? resultMisses : resultHits).incrementAndGet();
+        return cached == null ? null : cached.contents;
+    }
+
+    /**
+     * @param generation The {@link #generation()} observed before the search was started.
+     */
+    void putResults(Embedding embedding, Filter filter, Integer maxResults, Double minScore,
+                    List<Content> contents, long generation) {
+        if (this.generation.get() != generation) {
+            return;
+        }
+        ResultKey key = new ResultKey(embedding.vector(), filter, maxResults, minScore);
+        results.put(key, new CachedResult(List.copyOf(contents), System.nanoTime()));
+        if (this.generation.get() != generation) {
+            // the store was modified while we were putting the result
+            results.remove(key);
+        }
+    }
+
+    private static class LruMap<K, V> {
+
+        private final int maxSize;
+        private final LinkedHashMap<K, V> map = new LinkedHashMap<>(16, 0.75f, true);
+
+        private LruMap(int maxSize) {
+            this.maxSize = maxSize;
+        }
+
+        synchronized V get(K key) {
+            return map.get(key);
+        }
+
+        synchronized void put(K key, V value) {
+            if (maxSize == 0) {
+                return;
+            }
+            map.put(key, value);
+            if (map.size() > maxSize) {
+                map.remove(map.keySet().iterator().next());
+            }
+        }
+
+        synchronized void remove(K key) {
+            map.remove(key);
+        }
+
+        synchronized void clear() {
+            map.clear();
+        }
+    }
+
+    private static class ResultKey {
+
+        private final float[] vector;
+        private final Filter filter;
+        private final Integer maxResults;
+        private final Double minScore;
+        private final int hashCode;
+
+        private ResultKey(float[] vector, Filter filter, Integer maxResults, Double minScore) {
+            this.vector = vector;
+            this.filter = filter;
+            this.maxResults = maxResults;
+            this.minScore = minScore;
+            this.hashCode = 31 * Arrays.hashCode(vector) + Objects.hash(filter, maxResults, minScore);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            ResultKey that = (ResultKey) o;
+            return Objects.equals(this.maxResults, that.maxResults)
+                    && Objects.equals(this.minScore, that.minScore)
+                    && Arrays.equals(this.vector, that.vector)
+                    && Objects.equals(this.filter, that.filter);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+
+    private static class CachedResult {
+
+        private final List<Content> contents;
+        private final long createdAtNanos;
+
+        private CachedResult(List<Content> contents, long createdAtNanos) {
+            this.contents = contents;
+            this.createdAtNanos = createdAtNanos;
+        }
+    }
+
+    public static RetrievalCacheBuilder builder() {
+        return new RetrievalCacheBuilder();
+    }
+
+    public static class RetrievalCacheBuilder {
+
+        private Integer maxEmbeddings;
+        private Integer maxResults;
+        private Duration ttl;
+
+        RetrievalCacheBuilder() {
+        }
+
+        public RetrievalCacheBuilder maxEmbeddings(Integer maxEmbeddings) {
+            this.maxEmbeddings = maxEmbeddings;
+            return this;
+        }
+
+        public RetrievalCacheBuilder maxResults(Integer maxResults) {
+            this.maxResults = maxResults;
+            return this;
+        }
+
+        public RetrievalCacheBuilder ttl(Duration ttl) {
+            this.ttl = ttl;
+            return this;
+        }
+
+        public RetrievalCache build() {
+            return new RetrievalCache(maxEmbeddings, maxResults, ttl);
+        }
+    }
+}
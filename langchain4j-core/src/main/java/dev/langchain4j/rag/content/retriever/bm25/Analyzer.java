@@ -0,0 +1,38 @@
+package dev.langchain4j.rag.content.retriever.bm25;
+
+import java.util.List;
+
+/**
+ * Turns a piece of text into a list of terms that can be indexed and searched by a {@link Bm25Index}.
+ * <br>
+ * The same {@code Analyzer} is applied both to the indexed {@link dev.langchain4j.data.segment.TextSegment}s
+ * and to the queries, so that their terms can be compared.
+ * <br>
+ * Implementations must be thread-safe.
+ *
+ * @see StandardAnalyzer
+ */
+public interface Analyzer {
+
+    /**
+     * Analyzes the given text.
+     *
+     * @param text The text to analyze.
+     * @return A list of terms, in the order they appear in the text. Duplicates are preserved.
+     */
+    List<String> analyze(String text);
+
+    /**
+     * Returns the length of the given text, used by {@link Bm25Index} to normalize scores by document length.
+     * <br>
+     * By default, it is the number of terms returned by {@link #analyze(String)}.
+     * Implementations that emit additional terms (e.g. compound identifiers on top of their parts)
+     * should count only the original tokens, so that such documents are not penalized as longer.
+     *
+     * @param text The text to measure.
+     * @return The number of tokens in the text.
+     */
+    default int length(String text) {
+        return analyze(text).size();
+    }
+}
@@ -0,0 +1,172 @@
+package dev.langchain4j.rag.content.retriever.bm25;
+
+import dev.langchain4j.rag.content.Content;
+import dev.langchain4j.rag.content.retriever.ContentRetriever;
+import dev.langchain4j.rag.query.Query;
+import dev.langchain4j.store.embedding.filter.Filter;
+
+import java.util.List;
+import java.util.function.Function;
+
+import static dev.langchain4j.internal.Utils.getOrDefault;
+import static dev.langchain4j.internal.ValidationUtils.ensureBetween;
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+import static java.util.stream.Collectors.toList;
+
+/**
+ * A {@link ContentRetriever} that retrieves from a {@link Bm25Index} using lexical (keyword) matching.
+ * <br>
+ * It is typically used together with an {@link dev.langchain4j.rag.content.retriever.EmbeddingStoreContentRetriever}
+ * (hybrid search), as it reliably finds exact identifiers, product codes, names, etc. that vector search tends to miss.
+ * Results from both retrievers are fused by the {@link dev.langchain4j.rag.content.aggregator.DefaultContentAggregator}.
+ * <br>
+ * The {@link Bm25Index} can be kept in sync with an {@link dev.langchain4j.store.embedding.EmbeddingStore}
+ * by passing it to the {@link dev.langchain4j.store.embedding.EmbeddingStoreIngestor}.
+ * <br>
+ * By default, it retrieves the 3 best matching {@link Content}s, without any {@link Filter}ing.
+ * <br>
+ * <br>
+ * Configurable parameters (optional):
+ * <br>
+ * - {@code displayName}: Display name for logging purposes, e.g. when multiple instances are used.
+ * <br>
+ * - {@code maxResults}: The maximum number of {@link Content}s to retrieve.
+ * <br>
+ * - {@code dynamicMaxResults}: It is a {@link Function} that accepts a {@link Query} and returns a {@code maxResults} value.
+ * <br>
+ * - {@code minScore}: The minimum BM25 score for the returned {@link Content}s.
+ * Note that BM25 scores are not normalized and depend on the corpus.
+ * <br>
+ * - {@code dynamicMinScore}: It is a {@link Function} that accepts a {@link Query} and returns a {@code minScore} value.
+ * <br>
+ * - {@code filter}: The {@link Filter} that will be applied to a {@link dev.langchain4j.data.document.Metadata} in the
+ * {@link Content#textSegment()}.
+ * <br>
+ * - {@code dynamicFilter}: It is a {@link Function} that accepts a {@link Query} and returns a {@code filter} value.
+ */
+public class Bm25ContentRetriever implements ContentRetriever {
+
+    public static final Function<Query, Integer> DEFAULT_MAX_RESULTS = (query) -> 3;
+    public static final Function<Query, Double> DEFAULT_MIN_SCORE = (query) -> 0.0;
+    public static final Function<Query, Filter> DEFAULT_FILTER = (query) -> null;
+
+    public static final String DEFAULT_DISPLAY_NAME = "Default";
+
+    private final Bm25Index index;
+
+    private final Function<Query, Integer> maxResultsProvider;
+    private final Function<Query, Double> minScoreProvider;
+    private final Function<Query, Filter> filterProvider;
+
+    private final String displayName;
+
+    public Bm25ContentRetriever(Bm25Index index) {
+        this(DEFAULT_DISPLAY_NAME, index, DEFAULT_MAX_RESULTS, DEFAULT_MIN_SCORE, DEFAULT_FILTER);
+    }
+
+    public Bm25ContentRetriever(Bm25Index index, int maxResults) {
+        this(DEFAULT_DISPLAY_NAME, index, (query) -> maxResults, DEFAULT_MIN_SCORE, DEFAULT_FILTER);
+    }
+
+    private Bm25ContentRetriever(String displayName,
+                                 Bm25Index index,
+                                 Function<Query, Integer> dynamicMaxResults,
+                                 Function<Query, Double> dynamicMinScore,
+                                 Function<Query, Filter> dynamicFilter) {
+        this.displayName = getOrDefault(displayName, DEFAULT_DISPLAY_NAME);
+        this.index = ensureNotNull(index, "index");
+        this.maxResultsProvider = getOrDefault(dynamicMaxResults, DEFAULT_MAX_RESULTS);
+        this.minScoreProvider = getOrDefault(dynamicMinScore, DEFAULT_MIN_SCORE);
+        this.filterProvider = getOrDefault(dynamicFilter, DEFAULT_FILTER);
+    }
+
+    public static Bm25ContentRetrieverBuilder builder() {
+        return new Bm25ContentRetrieverBuilder();
+    }
+
+    public static class Bm25ContentRetrieverBuilder {
+
+        private String displayName;
+        private Bm25Index index;
+        private Function<Query, Integer> dynamicMaxResults;
+        private Function<Query, Double> dynamicMinScore;
+        private Function<Query, Filter> dynamicFilter;
+
+        Bm25ContentRetrieverBuilder() {
+        }
+
+        public Bm25ContentRetrieverBuilder maxResults(Integer maxResults) {
+            if (maxResults != null) {
+                dynamicMaxResults = (query) -> ensureGreaterThanZero(maxResults, "maxResults");
+            }
+            return this;
+        }
+
+        public Bm25ContentRetrieverBuilder minScore(Double minScore) {
+            if (minScore != null) {
+                dynamicMinScore = (query) -> ensureBetween(minScore, 0, Double.MAX_VALUE, "minScore");
+            }
+            return this;
+        }
+
+        public Bm25ContentRetrieverBuilder filter(Filter filter) {
+            if (filter != null) {
+                dynamicFilter = (query) -> filter;
+            }
+            return this;
+        }
+
+        public Bm25ContentRetrieverBuilder displayName(String displayName) {
+            this.displayName = displayName;
+            return this;
+        }
+
+        public Bm25ContentRetrieverBuilder index(Bm25Index index) {
+            this.index = index;
+            return this;
+        }
+
+        public Bm25ContentRetrieverBuilder dynamicMaxResults(Function<Query, Integer> dynamicMaxResults) {
+            this.dynamicMaxResults = dynamicMaxResults;
+            return this;
+        }
+
+        public Bm25ContentRetrieverBuilder dynamicMinScore(Function<Query, Double> dynamicMinScore) {
+            this.dynamicMinScore = dynamicMinScore;
+            return this;
+        }
+
+        public Bm25ContentRetrieverBuilder dynamicFilter(Function<Query, Filter> dynamicFilter) {
+            this.dynamicFilter = dynamicFilter;
+            return this;
+        }
+
+        public Bm25ContentRetriever build() {
+            return new Bm25ContentRetriever(this.displayName, this.index, this.dynamicMaxResults, this.dynamicMinScore, this.dynamicFilter);
+        }
+    }
+
+    @Override
+    public List<Content> retrieve(Query query) {
+
+        List<Bm25Match> matches = index.search(
+                query.text(),
+                maxResultsProvider.apply(query),
+                minScoreProvider.apply(query),
+                filterProvider.apply(query)
+        );
+
+        return matches.stream()
+                .map(Bm25Match::textSegment)
+                .map(Content::from)
+                .collect(toList());
+    }
+
+    @Override
+    public String toString() {
+        return "Bm25ContentRetriever{" +
+                "displayName='" + displayName + '\'' +
+                '}';
+    }
+}
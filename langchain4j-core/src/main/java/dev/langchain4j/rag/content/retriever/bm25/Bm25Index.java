@@ -0,0 +1,444 @@
+package dev.langchain4j.rag.content.retriever.bm25;
+
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.store.embedding.EmbeddingStore;
+import dev.langchain4j.store.embedding.filter.Filter;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import static dev.langchain4j.internal.Utils.getOrDefault;
+import static dev.langchain4j.internal.Utils.randomUUID;
+import static dev.langchain4j.internal.ValidationUtils.ensureBetween;
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotBlank;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+import static dev.langchain4j.internal.ValidationUtils.ensureTrue;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+
+/**
+ * An in-process inverted index over {@link TextSegment}s that ranks them using the
+ * <a href="https://en.wikipedia.org/wiki/Okapi_BM25">Okapi BM25</a> algorithm.
+ * <br>
+ * It complements vector search: queries containing exact identifiers, product codes, error codes, etc.
+ * are often missed by embedding similarity but are matched reliably by lexical search.
+ * Results of both can be fused using {@link dev.langchain4j.rag.content.aggregator.ReciprocalRankFuser}.
+ * <br>
+ * Posting lists are compressed (see {@link PostingList}). Removed and replaced segments are tombstoned and
+ * the index is compacted automatically once tombstones outnumber live segments.
+ * <br>
+ * This class is thread-safe: searches run concurrently, modifications are exclusive.
+ * <br>
+ * <br>
+ * Configurable parameters (optional):
+ * <br>
+ * - {@code analyzer}: The {@link Analyzer} used for both segments and queries. Default: {@link StandardAnalyzer}.
+ * <br>
+ * - {@code k1}: Term frequency saturation. Default: 1.2.
+ * <br>
+ * - {@code b}: Document length normalization, between 0 and 1. Default: 0.75.
+ *
+ * @see Bm25ContentRetriever
+ */
+public class Bm25Index {
+
+    private static final double DEFAULT_K1 = 1.2;
+    private static final double DEFAULT_B = 0.75;
+
+    private final Analyzer analyzer;
+    private final double k1;
+    private final double b;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private Map<String, PostingList> postings = new HashMap<>();
+    private List<Entry> entries = new ArrayList<>();
+    private Map<String, Integer> docIdsById = new HashMap<>();
+    private long totalLength;
+    private int removedCount;
+
+    public Bm25Index() {
+        this(null, null, null);
+    }
+
+    public Bm25Index(Analyzer analyzer, Double k1, Double b) {
+        this.analyzer = getOrDefault(analyzer, StandardAnalyzer::new);
+        this.k1 = ensureBetween(getOrDefault(k1, DEFAULT_K1), 0, Double.MAX_VALUE, "k1");
+        this.b = ensureBetween(getOrDefault(b, DEFAULT_B), 0, 1, "b");
+    }
+
+    /**
+     * Adds a {@link TextSegment} to the index.
+     *
+     * @param textSegment The segment to add.
+     * @return The auto-generated ID associated with the added segment.
+     */
+    public String add(TextSegment textSegment) {
+        String id = randomUUID();
+        add(id, textSegment);
+        return id;
+    }
+
+    /**
+     * Adds a {@link TextSegment} to the index. If a segment with the same ID is already present, it is replaced.
+     *
+     * @param id          The unique identifier of the segment,
+     *                    typically the ID under which it is stored in an {@link dev.langchain4j.store.embedding.EmbeddingStore}.
+     * @param textSegment The segment to add.
+     */
+    public void add(String id, TextSegment textSegment) {
+        ensureNotBlank(id, "id");
+        ensureNotNull(textSegment, "textSegment");
+        Map<String, Integer> termFrequencies = termFrequencies(textSegment.text());
+        int length = analyzer.length(textSegment.text());
+
+        lock.writeLock().lock();
+        try {
+            doAdd(id, textSegment, length, termFrequencies);
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Adds multiple {@link TextSegment}s to the index.
+     * Segments whose IDs are already present are replaced.
+     *
+     * @param ids          The unique identifiers of the segments.
+     * @param textSegments The segments to add.
+     */
+    public void addAll(List<String> ids, List<TextSegment> textSegments) {
+        ensureNotNull(ids, "ids");
+        ensureNotNull(textSegments, "textSegments");
+        ensureTrue(ids.size() == textSegments.size(), "ids and textSegments must have the same size");
+
+        // analysis is the expensive part and does not need the lock
+        List<Map<String, Integer>> termFrequencies = new ArrayList<>(textSegments.size());
+        int[] lengths = new int[textSegments.size()];
+        for (int i = 0; i < textSegments.size(); i++) {
+            ensureNotBlank(ids.get(i), "id");
+            String text = ensureNotNull(textSegments.get(i), "textSegment").text();
+            termFrequencies.add(termFrequencies(text));
+            lengths[i] = analyzer.length(text);
+        }
+
+        lock.writeLock().lock();
+        try {
+            for (int i = 0; i < textSegments.size(); i++) {
+                doAdd(ids.get(i), textSegments.get(i), lengths[i], termFrequencies.get(i));
+            }
+            // replaced segments leave tombstones too
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes a {@link TextSegment} from the index by ID. Does nothing if no such segment is present.
+     *
+     * @param id The ID of the segment to remove.
+     */
+    public void remove(String id) {
+        removeAll(singletonList(ensureNotBlank(id, "id")));
+    }
+
+    /**
+     * Removes all {@link TextSegment}s with the specified IDs from the index.
+     *
+     * @param ids The IDs of the segments to remove.
+     */
+    public void removeAll(Collection<String> ids) {
+        ensureNotNull(ids, "ids");
+
+        lock.writeLock().lock();
+        try {
+            for (String id : ids) {
+                doRemove(id);
+            }
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes all {@link TextSegment}s whose {@link dev.langchain4j.data.document.Metadata} match the specified {@link Filter}.
+     *
+     * @param filter The filter to apply.
+     */
+    public void removeAll(Filter filter) {
+        ensureNotNull(filter, "filter");
+
+        lock.writeLock().lock();
+        try {
+            for (Entry entry : entries) {
+                if (entry != null && filter.test(entry.textSegment.metadata())) {
+                    doRemove(entry.id);
+                }
+            }
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes all {@link TextSegment}s from the index.
+     */
+    public void removeAll() {
+        lock.writeLock().lock();
+        try {
+            postings = new HashMap<>();
+            entries = new ArrayList<>();
+            docIdsById = new HashMap<>();
+            totalLength = 0;
+            removedCount = 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns an {@link EmbeddingStore} that delegates to the given one and removes from this index
+     * the segments removed from it, so that lexical search does not return segments that no longer exist.
+     * <br>
+     * Additions are not mirrored: segments are added to this index by the
+     * {@link dev.langchain4j.store.embedding.EmbeddingStoreIngestor}.
+     *
+     * @param embeddingStore The store to wrap.
+     * @return The wrapping store.
+     */
+    public EmbeddingStore<TextSegment> syncingRemovals(EmbeddingStore<TextSegment> embeddingStore) {
+        return new Bm25SyncingEmbeddingStore(ensureNotNull(embeddingStore, "embeddingStore"), this);
+    }
+
+    /**
+     * @return the number of {@link TextSegment}s in the index.
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return docIdsById.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return the number of entries held by the index, including the tombstones of removed and replaced segments.
+     */
+    int entryCount() {
+        lock.readLock().lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Searches for the {@link TextSegment}s that best match the query.
+     *
+     * @param query      The query text.
+     * @param maxResults The maximum number of matches to return.
+     * @return Matches, sorted by descending score.
+     */
+    public List<Bm25Match> search(String query, int maxResults) {
+        return search(query, maxResults, 0, null);
+    }
+
+    /**
+     * Searches for the {@link TextSegment}s that best match the query.
+     *
+     * @param query      The query text.
+     * @param maxResults The maximum number of matches to return.
+     * @param minScore   The minimum BM25 score. Matches scoring below it are excluded.
+     * @param filter     The {@link Filter} applied to the {@link dev.langchain4j.data.document.Metadata}
+     *                   of the matched segments. Optional.
+     * @return Matches, sorted by descending score.
+     */
+    public List<Bm25Match> search(String query, int maxResults, double minScore, Filter filter) {
+        ensureGreaterThanZero(maxResults, "maxResults");
+        Set<String> queryTerms = new LinkedHashSet<>(analyzer.analyze(query));
+        if (queryTerms.isEmpty()) {
+            return emptyList();
+        }
+
+        lock.readLock().lock();
+        try {
+            int liveCount = docIdsById.size();
+            if (liveCount == 0) {
+                return emptyList();
+            }
+            double averageLength = (double) totalLength / liveCount;
+
+            double[] scores = new double[entries.size()];
+            boolean matchedAny = false;
+            for (String term : queryTerms) {
+                PostingList postingList = postings.get(term);
+                if (postingList == null || postingList.liveDocCount() == 0) {
+                    continue;
+                }
+                matchedAny = true;
+                int documentFrequency = postingList.liveDocCount();
+                double idf = Math.log(1 + (liveCount - documentFrequency + 0.5) / (documentFrequency + 0.5));
+                postingList.forEach((docId, termFrequency) -> {
+                    Entry entry = entries.get(docId);
+                    if (entry == null) {
+                        return;
+                    }
+                    double lengthNorm = k1 * (1 - b + b * entry.length / averageLength);
+                    scores[docId] += idf * termFrequency * (k1 + 1) / (termFrequency + lengthNorm);
+                });
+            }
+            if (!matchedAny) {
+                return emptyList();
+            }
+
+            Comparator<Integer> worstFirst = Comparator.<Integer>comparingDouble(docId -> scores[docId])
+                    .thenComparing(Comparator.reverseOrder());
+            PriorityQueue<Integer> top = new PriorityQueue<>(worstFirst);
+            for (int docId = 0; docId < scores.length; docId++) {
+                double score = scores[docId];
+                if (score <= 0 || score < minScore) {
+                    continue;
+                }
+                if (filter != null && !filter.test(entries.get(docId).textSegment.metadata())) {
+                    continue;
+                }
+                if (top.size() < maxResults) {
+                    top.add(docId);
+                } else if (worstFirst.compare(docId, top.peek()) > 0) {
+                    top.poll();
+                    top.add(docId);
+                }
+            }
+
+            List<Bm25Match> matches = new ArrayList<>(top.size());
+            while (!top.isEmpty()) {
+                int docId = top.poll();
+                Entry entry = entries.get(docId);
+                matches.add(0, new Bm25Match(scores[docId], entry.id, entry.textSegment));
+            }
+            return matches;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private Map<String, Integer> termFrequencies(String text) {
+        Map<String, Integer> termFrequencies = new HashMap<>();
+        for (String term : analyzer.analyze(text)) {
+            termFrequencies.merge(term, 1, Integer::sum);
+        }
+        return termFrequencies;
+    }
+
+    private void doAdd(String id, TextSegment textSegment, int length, Map<String, Integer> termFrequencies) {
+        doRemove(id);
+
+        int docId = entries.size();
+        for (Map.Entry<String, Integer> termFrequency : termFrequencies.entrySet()) {
+            postings.computeIfAbsent(termFrequency.getKey(), term -> new PostingList())
+                    .add(docId, termFrequency.getValue());
+        }
+        entries.add(new Entry(id, textSegment, length, termFrequencies));
+        docIdsById.put(id, docId);
+        totalLength += length;
+    }
+
+    private void doRemove(String id) {
+        Integer docId = docIdsById.remove(id);
+        if (docId == null) {
+            return;
+        }
+        Entry entry = entries.set(docId, null);
+        for (String term : entry.termFrequencies.keySet()) {
+            postings.get(term).markRemoved();
+        }
+        totalLength -= entry.length;
+        removedCount++;
+    }
+
+    private void compactIfNeeded() {
+        if (removedCount == 0 || removedCount < docIdsById.size()) {
+            return;
+        }
+
+        List<Entry> liveEntries = new ArrayList<>(docIdsById.size());
+        for (Entry entry : entries) {
+            if (entry != null) {
+                liveEntries.add(entry);
+            }
+        }
+
+        postings = new HashMap<>();
+        entries = new ArrayList<>(liveEntries.size());
+        docIdsById = new HashMap<>();
+        totalLength = 0;
+        removedCount = 0;
+        for (Entry entry : liveEntries) {
+            doAdd(entry.id, entry.textSegment, entry.length, entry.termFrequencies);
+        }
+    }
+
+    private static class Entry {
+
+        private final String id;
+        private final TextSegment textSegment;
+        private final int length;
+        private final Map<String, Integer> termFrequencies;
+
+        private Entry(String id, TextSegment textSegment, int length, Map<String, Integer> termFrequencies) {
+            this.id = id;
+            this.textSegment = textSegment;
+            this.length = length;
+            this.termFrequencies = termFrequencies;
+        }
+    }
+
+    public static Bm25IndexBuilder builder() {
+        return new Bm25IndexBuilder();
+    }
+
+    public static class Bm25IndexBuilder {
+
+        private Analyzer analyzer;
+        private Double k1;
+        private Double b;
+
+        Bm25IndexBuilder() {
+        }
+
+        public Bm25IndexBuilder analyzer(Analyzer analyzer) {
+            this.analyzer = analyzer;
+            return this;
+        }
+
+        public Bm25IndexBuilder k1(Double k1) {
+            this.k1 = k1;
+            return this;
+        }
+
+        public Bm25IndexBuilder b(Double b) {
+            this.b = b;
+            return this;
+        }
+
+        public Bm25Index build() {
+            return new Bm25Index(this.analyzer, this.k1, this.b);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package dev.langchain4j.rag.content.retriever.bm25;
+
+import dev.langchain4j.data.segment.TextSegment;
+
+import java.util.Objects;
+
+import static dev.langchain4j.internal.ValidationUtils.ensureNotBlank;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+
+/**
+ * Represents a {@link TextSegment} matched by a {@link Bm25Index} along with its BM25 score and ID.
+ */
+public class Bm25Match {
+
+    private final double score;
+    private final String id;
+    private final TextSegment textSegment;
+
+    public Bm25Match(double score, String id, TextSegment textSegment) {
+        this.score = score;
+        this.id = ensureNotBlank(id, "id");
+        this.textSegment = ensureNotNull(textSegment, "textSegment");
+    }
+
+    /**
+     * Returns the BM25 score of the matched {@link TextSegment}.
+     * Unlike embedding relevance scores, BM25 scores are not normalized: they are greater than 0
+     * and have no fixed upper bound.
+     *
+     * @return the BM25 score.
+     */
+    public double score() {
+        return score;
+    }
+
+    /**
+     * @return the ID of the matched {@link TextSegment}.
+     */
+    public String id() {
+        return id;
+    }
+
+    /**
+     * @return the matched {@link TextSegment}.
+     */
+    public TextSegment textSegment() {
+        return textSegment;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        Bm25Match that = (Bm25Match) o;
+        return Double.compare(this.score, that.score) == 0
+                && Objects.equals(this.id, that.id)
+                && Objects.equals(this.textSegment, that.textSegment);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(score, id, textSegment);
+    }
+
+    @Override
+    public String toString() {
+        return "Bm25Match {" +
+                " score = " + score +
+                ", id = \"" + id + "\"" +
+                ", textSegment = " + textSegment +
+                " }";
+    }
+}
@@ -0,0 +1,111 @@
+package dev.langchain4j.rag.content.retriever.bm25;
+
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.store.embedding.EmbeddingRecord;
+import dev.langchain4j.store.embedding.EmbeddingScanRequest;
+import dev.langchain4j.store.embedding.EmbeddingScanResult;
+import dev.langchain4j.store.embedding.EmbeddingSearchRequest;
+import dev.langchain4j.store.embedding.EmbeddingSearchResult;
+import dev.langchain4j.store.embedding.EmbeddingStore;
+import dev.langchain4j.store.embedding.filter.Filter;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Delegates to another {@link EmbeddingStore} and removes from a {@link Bm25Index}
+ * the segments that were successfully removed from it.
+ *
+ * @see Bm25Index#syncingRemovals(EmbeddingStore)
+ */
+class Bm25SyncingEmbeddingStore implements EmbeddingStore<TextSegment> {
+
+    private final EmbeddingStore<TextSegment> delegate;
+    private final Bm25Index bm25Index;
+
+    Bm25SyncingEmbeddingStore(EmbeddingStore<TextSegment> delegate, Bm25Index bm25Index) {
+        this.delegate = delegate;
+        this.bm25Index = bm25Index;
+    }
+
+    @Override
+    public String add(Embedding embedding) {
+        return delegate.add(embedding);
+    }
+
+    @Override
+    public void add(String id, Embedding embedding) {
+        delegate.add(id, embedding);
+    }
+
+    @Override
+    public String add(Embedding embedding, TextSegment textSegment) {
+        return delegate.add(embedding, textSegment);
+    }
+
+    @Override
+    public List<String> addAll(List<Embedding> embeddings) {
+        return delegate.addAll(embeddings);
+    }
+
+    @Override
+    public List<String> addAll(List<Embedding> embeddings, List<TextSegment> textSegments) {
+        return delegate.addAll(embeddings, textSegments);
+    }
+
+    @Override
+    public void addAll(List<String> ids, List<Embedding> embeddings, List<TextSegment> textSegments) {
+        delegate.addAll(ids, embeddings, textSegments);
+    }
+
+    @Override
+    public void remove(String id) {
+        delegate.remove(id);
+        bm25Index.remove(id);
+    }
+
+    @Override
+    public void removeAll(Collection<String> ids) {
+        delegate.removeAll(ids);
+        bm25Index.removeAll(ids);
+    }
+
+    @Override
+    public void removeAll(Filter filter) {
+        delegate.removeAll(filter);
+        bm25Index.removeAll(filter);
+    }
+
+    @Override
+    public void removeAll() {
+        delegate.removeAll();
+        bm25Index.removeAll();
+    }
+
+    @Override
+    public EmbeddingSearchResult<TextSegment> search(EmbeddingSearchRequest request) {
+        return delegate.search(request);
+    }
+
+    @Override
+    public List<EmbeddingSearchResult<TextSegment>> searchBatch(List<EmbeddingSearchRequest> requests) {
+        return delegate.searchBatch(requests);
+    }
+
+    @Override
+    public boolean supportsBatchSearch() {
+        return delegate.supportsBatchSearch();
+    }
+
+    @Override
+    public EmbeddingScanResult<TextSegment> scan(EmbeddingScanRequest request) {
+        return delegate.scan(request);
+    }
+
+    @Override
+    public Stream<EmbeddingRecord<TextSegment>> export(EmbeddingScanRequest request) {
+        return delegate.export(request);
+    }
+}
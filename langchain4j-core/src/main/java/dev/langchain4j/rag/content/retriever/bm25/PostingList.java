@@ -0,0 +1,93 @@
+package dev.langchain4j.rag.content.retriever.bm25;
+
+import java.util.Arrays;
+
+/**
+ * An append-only list of postings ({@code docId}, {@code termFrequency}) of a single term.
+ * <br>
+ * Postings are kept in ascending {@code docId} order and compressed into a byte array:
+ * each posting is stored as the variable-length encoded gap to the previous {@code docId},
+ * followed by the variable-length encoded term frequency.
+ * Most postings therefore take 2 bytes instead of 8.
+ */
+class PostingList {
+
+    interface PostingConsumer {
+
+        void accept(int docId, int termFrequency);
+    }
+
+    private byte[] bytes = new byte[8];
+    private int length;
+    private int lastDocId = -1;
+    private int liveDocCount;
+
+    /**
+     * Appends a posting. {@code docId} must be greater than any previously added {@code docId}.
+     */
+    void add(int docId, int termFrequency) {
+        if (docId <= lastDocId) {
+            throw new IllegalArgumentException("docId must be greater than " + lastDocId + ", but was " + docId);
+        }
+        writeVarInt(docId - lastDocId);
+        writeVarInt(termFrequency);
+        lastDocId = docId;
+        liveDocCount++;
+    }
+
+    /**
+     * Marks one of the documents in this list as removed.
+     * The posting itself stays in the list until the index is compacted.
+     */
+    void markRemoved() {
+        liveDocCount--;
+    }
+
+    /**
+     * @return the number of live (not removed) documents containing this term.
+     */
+    int liveDocCount() {
+        return liveDocCount;
+    }
+
+    int sizeInBytes() {
+        return length;
+    }
+
+    void forEach(PostingConsumer consumer) {
+        int position = 0;
+        int docId = -1;
+        while (position < length) {
+            int gap = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = bytes[position++];
+                gap |= (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0);
+
+            int termFrequency = 0;
+            shift = 0;
+            do {
+                b = bytes[position++];
+                termFrequency |= (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0);
+
+            docId += gap;
+            consumer.accept(docId, termFrequency);
+        }
+    }
+
+    private void writeVarInt(int value) {
+        if (length + 5 > bytes.length) {
+            bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, length + 5));
+        }
+        while ((value & ~0x7F) != 0) {
+            bytes[length++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        bytes[length++] = (byte) value;
+    }
+}
@@ -0,0 +1,185 @@
+package dev.langchain4j.rag.content.retriever.bm25;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+import static dev.langchain4j.internal.Utils.getOrDefault;
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
+import static java.util.Collections.emptySet;
+
+/**
+ * A general-purpose {@link Analyzer}.
+ * <br>
+ * It splits text into terms on every character that is neither a letter nor a digit,
+ * optionally lower-cases them and drops stop words and terms that are too short.
+ * <br>
+ * When {@code preserveIdentifiers} is enabled (default), tokens joined by {@code -}, {@code _}, {@code .}, {@code /}
+ * or {@code :} (e.g. product codes like {@code SKU-4471-B} or identifiers like {@code user_id}) are additionally
+ * emitted as a single term, so that exact identifiers can be matched as a whole.
+ * <br>
+ * <br>
+ * Configurable parameters (optional):
+ * <br>
+ * - {@code lowerCase}: Whether to lower-case terms. Default: {@code true}.
+ * <br>
+ * - {@code minTermLength}: Terms shorter than this are dropped. Default: 1.
+ * <br>
+ * - {@code stopWords}: Terms that are dropped. Default: none.
+ * <br>
+ * - {@code preserveIdentifiers}: Whether to additionally emit compound identifiers as a single term. Default: {@code true}.
+ */
+public class StandardAnalyzer implements Analyzer {
+
+    private final boolean lowerCase;
+    private final int minTermLength;
+    private final Set<String> stopWords;
+    private final boolean preserveIdentifiers;
+
+    public StandardAnalyzer() {
+        this(null, null, null, null);
+    }
+
+    public StandardAnalyzer(Boolean lowerCase,
+                            Integer minTermLength,
+                            Collection<String> stopWords,
+                            Boolean preserveIdentifiers) {
+        this.lowerCase = getOrDefault(lowerCase, true);
+        this.minTermLength = ensureGreaterThanZero(getOrDefault(minTermLength, 1), "minTermLength");
+        this.stopWords = normalize(getOrDefault(stopWords, emptySet()), this.lowerCase);
+        this.preserveIdentifiers = getOrDefault(preserveIdentifiers, true);
+    }
+
+    private static Set<String> normalize(Collection<String> stopWords, boolean lowerCase) {
+        Set<String> normalized = new HashSet<>();
+        for (String stopWord : stopWords) {
+            normalized.add(lowerCase ? stopWord.toLowerCase(Locale.ROOT) : stopWord);
+        }
+        return normalized;
+    }
+
+    @Override
+    public List<String> analyze(String text) {
+        List<String> terms = new ArrayList<>();
+        analyze(text, terms);
+        return terms;
+    }
+
+    /**
+     * Counts the terms that {@link #analyze(String)} returns, except the compound identifiers
+     * emitted in addition to their parts.
+     */
+    @Override
+    public int length(String text) {
+        List<String> terms = new ArrayList<>();
+        return analyze(text, terms);
+    }
+
+    /**
+     * Adds the terms of the text to the list.
+     *
+     * @return the number of added terms that are not compound identifiers.
+     */
+    private int analyze(String text, List<String> terms) {
+        int tokens = 0;
+        if (text == null) {
+            return tokens;
+        }
+
+        int length = text.length();
+        int i = 0;
+        while (i < length) {
+            while (i < length && !isTermChar(text.charAt(i))) {
+                i++;
+            }
+            int compoundStart = i;
+            int compoundEnd = i;
+            int parts = 0;
+            while (i < length) {
+                int start = i;
+                while (i < length && isTermChar(text.charAt(i))) {
+                    i++;
+                }
+                if (i == start) {
+                    break;
+                }
+                if (addTerm(terms, text.substring(start, i))) {
+                    tokens++;
+                }
+                compoundEnd = i;
+                parts++;
+                if (i + 1 < length && isJoiner(text.charAt(i)) && isTermChar(text.charAt(i + 1))) {
+                    i++;
+                } else {
+                    break;
+                }
+            }
+            if (preserveIdentifiers && parts > 1) {
+                addTerm(terms, text.substring(compoundStart, compoundEnd));
+            }
+        }
+        return tokens;
+    }
+
+    private boolean addTerm(List<String> terms, String term) {
+        if (term.length() < minTermLength) {
+            return false;
+        }
+        String normalized = lowerCase ? term.toLowerCase(Locale.ROOT) : term;
+        if (stopWords.contains(normalized)) {
+            return false;
+        }
+        terms.add(normalized);
+        return true;
+    }
+
+    private static boolean isTermChar(char c) {
+        return Character.isLetterOrDigit(c);
+    }
+
+    private static boolean isJoiner(char c) {
+        return c == '-' || c == '_' || c == '.' || c == '/' || c == ':';
+    }
+
+    public static StandardAnalyzerBuilder builder() {
+        return new StandardAnalyzerBuilder();
+    }
+
+    public static class StandardAnalyzerBuilder {
+
+        private Boolean lowerCase;
+        private Integer minTermLength;
+        private Collection<String> stopWords;
+        private Boolean preserveIdentifiers;
+
+        StandardAnalyzerBuilder() {
+        }
+
+        public StandardAnalyzerBuilder lowerCase(Boolean lowerCase) {
+            this.lowerCase = lowerCase;
+            return this;
+        }
+
+        public StandardAnalyzerBuilder minTermLength(Integer minTermLength) {
+            this.minTermLength = minTermLength;
+            return this;
+        }
+
+        public StandardAnalyzerBuilder stopWords(Collection<String> stopWords) {
+            this.stopWords = stopWords;
+            return this;
+        }
+
+        public StandardAnalyzerBuilder preserveIdentifiers(Boolean preserveIdentifiers) {
+            this.preserveIdentifiers = preserveIdentifiers;
+            return this;
+        }
+
+        public StandardAnalyzer build() {
+            return new StandardAnalyzer(this.lowerCase, this.minTermLength, this.stopWords, this.preserveIdentifiers);
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package dev.langchain4j.spi.data.message;
+
+import dev.langchain4j.data.message.ChatMessageBinaryCodec;
+
+/**
+ * A factory for creating {@link ChatMessageBinaryCodec} objects.
+ * Used for SPI.
+ */
+public interface ChatMessageBinaryCodecFactory {
+    /**
+     * Creates a new {@link ChatMessageBinaryCodec} object.
+     * @return the new {@link ChatMessageBinaryCodec} object.
+     */
+    ChatMessageBinaryCodec create();
+}
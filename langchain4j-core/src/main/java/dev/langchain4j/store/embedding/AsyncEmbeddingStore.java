@@ -0,0 +1,104 @@
+package dev.langchain4j.store.embedding;
+
+import dev.langchain4j.data.document.Metadata;
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.store.embedding.filter.Filter;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+
+/**
+ * Non-blocking counterpart of {@link EmbeddingStore}.
+ * <br>
+ * Stores backed by an asynchronous client implement this interface in addition to {@link EmbeddingStore},
+ * so that callers can add, search and remove embeddings without blocking a thread while the request is in flight.
+ * Any other {@link EmbeddingStore} can be adapted with {@link #from(EmbeddingStore, Executor)}, which runs
+ * the blocking calls on the provided {@link Executor}.
+ * <br>
+ * The returned futures are completed exceptionally if the operation fails.
+ *
+ * @param <Embedded> The class of the object that has been embedded. Typically, this is {@link TextSegment}.
+ */
+public interface AsyncEmbeddingStore<Embedded> {
+
+    /**
+     * Adds multiple embeddings to the store.
+     *
+     * @param embeddings A list of embeddings to be added to the store.
+     * @return A future of the list of auto-generated IDs associated with the added embeddings.
+     */
+    default CompletableFuture<List<String>> addAllAsync(List<Embedding> embeddings) {
+        return addAllAsync(embeddings, null);
+    }
+
+    /**
+     * Adds multiple embeddings and their corresponding contents that have been embedded to the store.
+     *
+     * @param embeddings A list of embeddings to be added to the store.
+     * @param embedded   A list of original contents that were embedded, or {@code null} if there are none.
+     * @return A future of the list of auto-generated IDs associated with the added embeddings.
+     */
+    CompletableFuture<List<String>> addAllAsync(List<Embedding> embeddings, List<Embedded> embedded);
+
+    /**
+     * Searches for the most similar (closest in the embedding space) {@link Embedding}s.
+     *
+     * @param request A request to search in an {@link EmbeddingStore}. Contains all search criteria.
+     * @return A future of the {@link EmbeddingSearchResult} containing all found {@link Embedding}s.
+     * @see EmbeddingStore#search(EmbeddingSearchRequest)
+     */
+    CompletableFuture<EmbeddingSearchResult<Embedded>> searchAsync(EmbeddingSearchRequest request);
+
+    /**
+     * Removes all embeddings that match the specified IDs from the store.
+     *
+     * @param ids A collection of unique IDs of the embeddings to be removed.
+     * @return A future completed when the embeddings are removed.
+     */
+    default CompletableFuture<Void> removeAllAsync(Collection<String> ids) {
+        return CompletableFuture.failedFuture(new UnsupportedOperationException("Not supported yet."));
+    }
+
+    /**
+     * Removes all embeddings that match the specified {@link Filter} from the store.
+     *
+     * @param filter The filter to be applied to the {@link Metadata} of the {@link TextSegment} during removal.
+     * @return A future completed when the embeddings are removed.
+     */
+    default CompletableFuture<Void> removeAllAsync(Filter filter) {
+        return CompletableFuture.failedFuture(new UnsupportedOperationException("Not supported yet."));
+    }
+
+    /**
+     * Removes all embeddings from the store.
+     *
+     * @return A future completed when the embeddings are removed.
+     */
+    default CompletableFuture<Void> removeAllAsync() {
+        return CompletableFuture.failedFuture(new UnsupportedOperationException("Not supported yet."));
+    }
+
+    /**
+     * Returns an {@link AsyncEmbeddingStore} view of the provided {@link EmbeddingStore}.
+     * If the store implements {@link AsyncEmbeddingStore} natively, it is returned as is.
+     * Otherwise, its blocking methods are run on the provided {@link Executor}.
+     *
+     * @param embeddingStore The store.
+     * @param executor       The executor running the blocking calls, if the store is not natively asynchronous.
+     * @param <Embedded>     The class of the object that has been embedded.
+     * @return An asynchronous view of the store.
+     */
+    @SuppressWarnings("unchecked")
+    static <Embedded> AsyncEmbeddingStore<Embedded> from(EmbeddingStore<Embedded> embeddingStore, Executor executor) {
+        ensureNotNull(embeddingStore, "embeddingStore");
+        if (embeddingStore instanceof AsyncEmbeddingStore) {
+            return (AsyncEmbeddingStore<Embedded>) embeddingStore;
+        }
+        return new ExecutorAsyncEmbeddingStore<>(embeddingStore, executor);
+    }
+}
@@ -0,0 +1,79 @@
+package dev.langchain4j.store.embedding;
+
+import dev.langchain4j.data.embedding.Embedding;
+
+import java.util.Objects;
+
+import static dev.langchain4j.internal.ValidationUtils.ensureNotBlank;
+
+/**
+ * Represents an embedding stored in an {@link EmbeddingStore}, along with its ID and original embedded content.
+ *
+ * @param <Embedded> The class of the object that has been embedded. Typically, it is {@link dev.langchain4j.data.segment.TextSegment}.
+ */
+public class EmbeddingRecord<Embedded> {
+
+    private final String id;
+    private final Embedding embedding;
+    private final Embedded embedded;
+
+    /**
+     * Creates a new instance.
+     * @param id The ID of the embedding assigned when adding this embedding to the store.
+     * @param embedding The embedding.
+     * @param embedded The original content that was embedded, if it was stored. Typically, this is a {@link dev.langchain4j.data.segment.TextSegment}.
+     */
+    public EmbeddingRecord(String id, Embedding embedding, Embedded embedded) {
+        this.id = ensureNotBlank(id, "id");
+        this.embedding = embedding;
+        this.embedded = embedded;
+    }
+
+    /**
+     * The ID of the embedding assigned when adding this embedding to the store.
+     * @return The ID of the embedding.
+     */
+    public String id() {
+        return id;
+    }
+
+    /**
+     * Returns the embedding.
+     * @return The embedding.
+     */
+    public Embedding embedding() {
+        return embedding;
+    }
+
+    /**
+     * Returns the original content that was embedded.
+     * @return The original content that was embedded, or {@code null} if it was not stored.
+     */
+    public Embedded embedded() {
+        return embedded;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        EmbeddingRecord<?> that = (EmbeddingRecord<?>) o;
+        return Objects.equals(this.id, that.id)
+                && Objects.equals(this.embedding, that.embedding)
+                && Objects.equals(this.embedded, that.embedded);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, embedding, embedded);
+    }
+
+    @Override
+    public String toString() {
+        return "EmbeddingRecord {" +
+                " id = \"" + id + "\"" +
+                ", embedding = " + embedding +
+                ", embedded = " + embedded +
+                " }";
+    }
+}
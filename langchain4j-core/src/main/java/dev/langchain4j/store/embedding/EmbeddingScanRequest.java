@@ -0,0 +1,114 @@
+package dev.langchain4j.store.embedding;
+
+import dev.langchain4j.data.document.Metadata;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.store.embedding.filter.Filter;
+
+import java.util.Objects;
+
+import static dev.langchain4j.internal.Utils.getOrDefault;
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
+
+/**
+ * Represents a request to read a page of the contents of an {@link EmbeddingStore}.
+ * <br>
+ * The first page is requested without a cursor. Each following page is requested with the
+ * {@link EmbeddingScanResult#nextCursor()} of the previous one, until it is {@code null}.
+ */
+public class EmbeddingScanRequest {
+
+    private final int pageSize;
+    private final Filter filter;
+    private final String cursor;
+
+    /**
+     * Creates an instance of an EmbeddingScanRequest.
+     *
+     * @param pageSize The maximum number of embeddings to return in a page. This is an optional parameter. Default: 100
+     * @param filter   The filter to be applied to the {@link Metadata}.
+     *                 Only {@link TextSegment}s whose {@link Metadata} matches the {@link Filter} will be returned.
+     *                 This is an optional parameter. Default: no filtering
+     * @param cursor   The {@link EmbeddingScanResult#nextCursor()} of the previous page,
+     *                 or {@code null} to read the first page. This is an optional parameter.
+     *                 A cursor is specific to the store that returned it and should be treated as opaque.
+     */
+    public EmbeddingScanRequest(Integer pageSize, Filter filter, String cursor) {
+        this.pageSize = ensureGreaterThanZero(getOrDefault(pageSize, 100), "pageSize");
+        this.filter = filter;
+        this.cursor = cursor;
+    }
+
+    public static EmbeddingScanRequestBuilder builder() {
+        return new EmbeddingScanRequestBuilder();
+    }
+
+    public int pageSize() {
+        return pageSize;
+    }
+
+    public Filter filter() {
+        return filter;
+    }
+
+    public String cursor() {
+        return cursor;
+    }
+
+    /**
+     * Creates the request for the page following the provided result, with the same page size and filter.
+     *
+     * @param result The result of this request.
+     * @return The request for the next page.
+     */
+    public EmbeddingScanRequest next(EmbeddingScanResult<?> result) {
+        return new EmbeddingScanRequest(pageSize, filter, result.nextCursor());
+    }
+
+    public boolean equals(final Object o) {
+        if (o == this) return true;
+        if (!(o instanceof EmbeddingScanRequest other)) return false;
+        return this.pageSize == other.pageSize
+                && Objects.equals(this.filter, other.filter)
+                && Objects.equals(this.cursor, other.cursor);
+    }
+
+    public int hashCode() {
+        return Objects.hash(pageSize, filter, cursor);
+    }
+
+    public String toString() {
+        return "EmbeddingScanRequest(pageSize=" + this.pageSize + ", filter=" + this.filter + ", cursor=" + this.cursor + ")";
+    }
+
+    public static class EmbeddingScanRequestBuilder {
+        private Integer pageSize;
+        private Filter filter;
+        private String cursor;
+
+        EmbeddingScanRequestBuilder() {
+        }
+
+        public EmbeddingScanRequestBuilder pageSize(Integer pageSize) {
+            this.pageSize = pageSize;
+            return this;
+        }
+
+        public EmbeddingScanRequestBuilder filter(Filter filter) {
+            this.filter = filter;
+            return this;
+        }
+
+        public EmbeddingScanRequestBuilder cursor(String cursor) {
+            this.cursor = cursor;
+            return this;
+        }
+
+        public EmbeddingScanRequest build() {
+            return new EmbeddingScanRequest(this.pageSize, this.filter, this.cursor);
+        }
+
+        public String toString() {
+            return "EmbeddingScanRequest.EmbeddingScanRequestBuilder(pageSize=" + this.pageSize + ", filter=" + this.filter + ", cursor=" + this.cursor + ")";
+        }
+    }
+}
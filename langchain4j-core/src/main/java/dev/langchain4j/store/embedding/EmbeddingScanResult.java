@@ -0,0 +1,42 @@
+package dev.langchain4j.store.embedding;
+
+import java.util.List;
+
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+
+/**
+ * Represents a page of the contents of an {@link EmbeddingStore}, read with {@link EmbeddingStore#scan(EmbeddingScanRequest)}.
+ */
+public class EmbeddingScanResult<Embedded> {
+
+    private final List<EmbeddingRecord<Embedded>> records;
+    private final String nextCursor;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param records    The embeddings of this page.
+     * @param nextCursor The cursor to read the next page, or {@code null} if this is the last page.
+     */
+    public EmbeddingScanResult(List<EmbeddingRecord<Embedded>> records, String nextCursor) {
+        this.records = ensureNotNull(records, "records");
+        this.nextCursor = nextCursor;
+    }
+
+    public List<EmbeddingRecord<Embedded>> records() {
+        return records;
+    }
+
+    /**
+     * Returns the cursor to pass to {@link EmbeddingScanRequest} to read the next page.
+     *
+     * @return The cursor, or {@code null} if this is the last page.
+     */
+    public String nextCursor() {
+        return nextCursor;
+    }
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
@@ -6,10 +6,18 @@ import dev.langchain4j.data.embedding.Embedding;
 import dev.langchain4j.data.segment.TextSegment;
 import dev.langchain4j.store.embedding.filter.Filter;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import static dev.langchain4j.internal.ValidationUtils.ensureNotBlank;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
 import static java.util.Collections.singletonList;
 
 /**
@@ -61,6 +69,22 @@ public interface EmbeddingStore<Embedded> {
      */
     List<String> addAll(List<Embedding> embeddings, List<Embedded> embedded);
 
+    /**
+     * Adds multiple embeddings and their corresponding contents that have been embedded to the store,
+     * using the provided IDs.
+     * <br>
+     * This allows to copy embeddings from one store to another while keeping their IDs,
+     * for example with {@link EmbeddingStoreMigrator}.
+     *
+     * @param ids        A list of unique IDs, one for each embedding.
+     * @param embeddings A list of embeddings to be added to the store.
+     * @param embedded   A list of original contents that were embedded, or {@code null}.
+     */
+    @Experimental
+    default void addAll(List<String> ids, List<Embedding> embeddings, List<Embedded> embedded) {
+        throw new UnsupportedOperationException("Not supported yet.");
+    }
+
     /**
      * Removes a single embedding from the store by ID.
      *
@@ -123,6 +147,88 @@ public interface EmbeddingStore<Embedded> {
         return new EmbeddingSearchResult<>(matches);
     }
 
+    /**
+     * Performs multiple searches at once, for example for the queries produced by a
+     * {@link dev.langchain4j.rag.query.transformer.QueryTransformer} that expands one query into several.
+     * <br>
+     * By default, each request is searched one after another using {@link #search(EmbeddingSearchRequest)}.
+     * Implementations should override it if the underlying store can serve several searches
+     * in a single round trip, or can share the work between them.
+     *
+     * @param requests The search requests.
+     * @return The {@link EmbeddingSearchResult}s, in the same order as the requests.
+     */
+    default List<EmbeddingSearchResult<Embedded>> searchBatch(List<EmbeddingSearchRequest> requests) {
+        List<EmbeddingSearchResult<Embedded>> results = new ArrayList<>(requests.size());
+        for (EmbeddingSearchRequest request : requests) {
+            results.add(search(request));
+        }
+        return results;
+    }
+
+    /**
+     * Whether {@link #searchBatch(List)} serves several searches faster than calling
+     * {@link #search(EmbeddingSearchRequest)} for each of them in parallel.
+     * Implementations overriding {@link #searchBatch(List)} with a native multi-search return {@code true}.
+     *
+     * @return {@code true} if searches should be sent in batches. Default: {@code false}.
+     */
+    default boolean supportsBatchSearch() {
+        return false;
+    }
+
+    /**
+     * Reads a page of the contents of the store, in a stable order.
+     * <br>
+     * The first page is read with a request without cursor. The following pages are read with the
+     * {@link EmbeddingScanResult#nextCursor()} of the previous page, until it is {@code null}.
+     * Only the current page is kept in memory, so the whole store can be read regardless of its size.
+     * Embeddings added or removed while scanning may or may not be returned.
+     * <br>
+     * {@link EmbeddingScanRequest#filter()} can be used to filter by various metadata entries.
+     *
+     * @param request A request to read a page of the store.
+     * @return The page, with the cursor to read the next one.
+     */
+    @Experimental
+    default EmbeddingScanResult<Embedded> scan(EmbeddingScanRequest request) {
+        throw new UnsupportedOperationException("Not supported yet.");
+    }
+
+    /**
+     * Reads the contents of the store matching the request, starting at its cursor, as a lazy {@link Stream}.
+     * <br>
+     * Pages are read with {@link #scan(EmbeddingScanRequest)} as the stream is consumed.
+     *
+     * @param request A request defining the page size, filter and optional starting cursor.
+     * @return A sequential stream of the stored embeddings.
+     */
+    @Experimental
+    default Stream<EmbeddingRecord<Embedded>> export(EmbeddingScanRequest request) {
+        ensureNotNull(request, "request");
+        Iterator<EmbeddingScanResult<Embedded>> pages = new Iterator<>() {
+
+            private EmbeddingScanRequest nextRequest = request;
+
+            @Override
+            public boolean hasNext() {
+                return nextRequest != null;
+            }
+
+            @Override
+            public EmbeddingScanResult<Embedded> next() {
+                if (nextRequest == null) {
+                    throw new NoSuchElementException();
+                }
+                EmbeddingScanResult<Embedded> page = scan(nextRequest);
+                nextRequest = page.hasNext() ? nextRequest.next(page) : null;
+                return page;
+            }
+        };
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(pages, Spliterator.ORDERED), false)
+                .flatMap(page -> page.records().stream());
+    }
+
     /**
      * Finds the most relevant (closest in space) embeddings to the provided reference embedding.
      * By default, minScore is set to 0, which means that the results may include embeddings with low relevance.
@@ -8,6 +8,7 @@ import dev.langchain4j.data.segment.TextSegment;
 import dev.langchain4j.data.segment.TextSegmentTransformer;
 import dev.langchain4j.model.embedding.EmbeddingModel;
 import dev.langchain4j.model.output.Response;
+import dev.langchain4j.rag.content.retriever.bm25.Bm25Index;
 import dev.langchain4j.spi.data.document.splitter.DocumentSplitterFactory;
 import dev.langchain4j.spi.model.embedding.EmbeddingModelFactory;
 import org.slf4j.Logger;
@@ -15,6 +16,8 @@ import org.slf4j.LoggerFactory;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 import static dev.langchain4j.internal.Utils.getOrDefault;
 import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
@@ -48,6 +51,17 @@ import static java.util.stream.Collectors.toList;
  * <br>
  * Including a document title or a short summary in each {@code TextSegment} is a common technique
  * to improve the quality of similarity searches.
+ * <br>
+ * <br>
+ * Optionally, the {@code EmbeddingStoreIngestor} can also add the {@code TextSegment}s to a {@link Bm25Index}
+ * (under the same IDs as in the {@code EmbeddingStore}), keeping it in sync for hybrid (lexical + vector) retrieval.
+ * To also remove from the {@code Bm25Index} the segments removed from the {@code EmbeddingStore},
+ * remove them through {@link Bm25Index#syncingRemovals(EmbeddingStore)}.
+ * <br>
+ * <br>
+ * {@link #ingestAsync(List)} stores the embeddings through an {@link AsyncEmbeddingStore}: the {@code EmbeddingStore}
+ * itself if it implements it, or the one set with {@link Builder#asyncEmbeddingStore(AsyncEmbeddingStore)},
+ * or the {@code EmbeddingStore} adapted to run on the {@link Executor} set with {@link Builder#executor(Executor)}.
  */
 public class EmbeddingStoreIngestor {
 
@@ -58,6 +72,8 @@ public class EmbeddingStoreIngestor {
     private final TextSegmentTransformer textSegmentTransformer;
     private final EmbeddingModel embeddingModel;
     private final EmbeddingStore<TextSegment> embeddingStore;
+    private final AsyncEmbeddingStore<TextSegment> asyncEmbeddingStore;
+    private final Bm25Index bm25Index;
 
     /**
      * Creates an instance of an {@code EmbeddingStoreIngestor}.
@@ -75,6 +91,38 @@ public class EmbeddingStoreIngestor {
                                   TextSegmentTransformer textSegmentTransformer,
                                   EmbeddingModel embeddingModel,
                                   EmbeddingStore<TextSegment> embeddingStore) {
+        this(documentTransformer, documentSplitter, textSegmentTransformer, embeddingModel, embeddingStore, null);
+    }
+
+    /**
+     * Creates an instance of an {@code EmbeddingStoreIngestor}.
+     *
+     * @param documentTransformer    The {@link DocumentTransformer} to use. Optional.
+     * @param documentSplitter       The {@link DocumentSplitter} to use. Optional.
+     *                               If none is specified, it tries to load one through SPI (see {@link DocumentSplitterFactory}).
+     * @param textSegmentTransformer The {@link TextSegmentTransformer} to use. Optional.
+     * @param embeddingModel         The {@link EmbeddingModel} to use. Mandatory.
+     *                               If none is specified, it tries to load one through SPI (see {@link EmbeddingModelFactory}).
+     * @param embeddingStore         The {@link EmbeddingStore} to use. Mandatory.
+     * @param bm25Index              The {@link Bm25Index} to keep in sync with the {@code embeddingStore}. Optional.
+     */
+    public EmbeddingStoreIngestor(DocumentTransformer documentTransformer,
+                                  DocumentSplitter documentSplitter,
+                                  TextSegmentTransformer textSegmentTransformer,
+                                  EmbeddingModel embeddingModel,
+                                  EmbeddingStore<TextSegment> embeddingStore,
+                                  Bm25Index bm25Index) {
+        this(documentTransformer, documentSplitter, textSegmentTransformer, embeddingModel, embeddingStore, bm25Index, null, null);
+    }
+
+    private EmbeddingStoreIngestor(DocumentTransformer documentTransformer,
+                                   DocumentSplitter documentSplitter,
+                                   TextSegmentTransformer textSegmentTransformer,
+                                   EmbeddingModel embeddingModel,
+                                   EmbeddingStore<TextSegment> embeddingStore,
+                                   Bm25Index bm25Index,
+                                   AsyncEmbeddingStore<TextSegment> asyncEmbeddingStore,
+                                   Executor executor) {
         this.documentTransformer = documentTransformer;
         this.documentSplitter = getOrDefault(documentSplitter, EmbeddingStoreIngestor::loadDocumentSplitter);
         this.textSegmentTransformer = textSegmentTransformer;
@@ -83,6 +131,10 @@ public class EmbeddingStoreIngestor {
                 "embeddingModel"
         );
         this.embeddingStore = ensureNotNull(embeddingStore, "embeddingStore");
+        this.asyncEmbeddingStore = asyncEmbeddingStore != null || (executor == null && !(embeddingStore instanceof AsyncEmbeddingStore))
+                ? asyncEmbeddingStore
+                : AsyncEmbeddingStore.from(embeddingStore, executor);
+        this.bm25Index = bm25Index;
     }
 
     private static DocumentSplitter loadDocumentSplitter() {
@@ -178,6 +230,60 @@ public class EmbeddingStoreIngestor {
      */
     public IngestionResult ingest(List<Document> documents) {
 
+        List<TextSegment> segments = split(documents);
+        Response<List<Embedding>> embeddingsResponse = embed(segments);
+
+        // TODO handle failures, parallelize
+        log.debug("Starting to store {} text segments into the embedding store", segments.size());
+        List<String> ids = embeddingStore.addAll(embeddingsResponse.content(), segments);
+        log.debug("Finished storing {} text segments into the embedding store", segments.size());
+
+        index(ids, segments);
+
+        return new IngestionResult(embeddingsResponse.tokenUsage());
+    }
+
+    /**
+     * Ingests specified documents like {@link #ingest(List)}, but without blocking the calling thread
+     * while the embeddings are stored, if an {@link AsyncEmbeddingStore} is available
+     * (see {@link Builder#asyncEmbeddingStore(AsyncEmbeddingStore)} and {@link Builder#executor(Executor)}).
+     * Otherwise, the embeddings are stored in the calling thread, and an already completed future is returned.
+     * <br>
+     * Transforming, splitting and embedding are done in the calling thread.
+     *
+     * @param documents the documents to ingest.
+     * @return a future of the result including information related to ingestion process.
+     */
+    public CompletableFuture<IngestionResult> ingestAsync(List<Document> documents) {
+        if (asyncEmbeddingStore == null) {
+            try {
+                return CompletableFuture.completedFuture(ingest(documents));
+            } catch (RuntimeException e) {
+                return CompletableFuture.failedFuture(e);
+            }
+        }
+
+        List<TextSegment> segments;
+        Response<List<Embedding>> embeddingsResponse;
+        try {
+            segments = split(documents);
+            embeddingsResponse = embed(segments);
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+
+        log.debug("Starting to store {} text segments into the embedding store", segments.size());
+        return asyncEmbeddingStore
+                .addAllAsync(embeddingsResponse.content(), segments)
+                .thenApply(ids -> {
+                    log.debug("Finished storing {} text segments into the embedding store", segments.size());
+                    index(ids, segments);
+                    return new IngestionResult(embeddingsResponse.tokenUsage());
+                });
+    }
+
+    private List<TextSegment> split(List<Document> documents) {
+
         log.debug("Starting to ingest {} documents", documents.size());
 
         if (documentTransformer != null) {
@@ -197,18 +303,23 @@ public class EmbeddingStoreIngestor {
             segments = textSegmentTransformer.transformAll(segments);
             log.debug("Text segments were transformed into {} text segments", documents.size());
         }
+        return segments;
+    }
 
+    private Response<List<Embedding>> embed(List<TextSegment> segments) {
         // TODO handle failures, parallelize
         log.debug("Starting to embed {} text segments", segments.size());
         Response<List<Embedding>> embeddingsResponse = embeddingModel.embedAll(segments);
         log.debug("Finished embedding {} text segments", segments.size());
+        return embeddingsResponse;
+    }
 
-        // TODO handle failures, parallelize
-        log.debug("Starting to store {} text segments into the embedding store", segments.size());
-        embeddingStore.addAll(embeddingsResponse.content(), segments);
-        log.debug("Finished storing {} text segments into the embedding store", segments.size());
-
-        return new IngestionResult(embeddingsResponse.tokenUsage());
+    private void index(List<String> ids, List<TextSegment> segments) {
+        if (bm25Index != null) {
+            log.debug("Starting to index {} text segments into the BM25 index", segments.size());
+            bm25Index.addAll(ids, segments);
+            log.debug("Finished indexing {} text segments into the BM25 index", segments.size());
+        }
     }
 
     /**
@@ -230,6 +341,9 @@ public class EmbeddingStoreIngestor {
         private TextSegmentTransformer textSegmentTransformer;
         private EmbeddingModel embeddingModel;
         private EmbeddingStore<TextSegment> embeddingStore;
+        private Bm25Index bm25Index;
+        private AsyncEmbeddingStore<TextSegment> asyncEmbeddingStore;
+        private Executor executor;
 
         /**
          * Creates a new EmbeddingStoreIngestor builder.
@@ -296,6 +410,45 @@ public class EmbeddingStoreIngestor {
             return this;
         }
 
+        /**
+         * Sets the BM25 index. Optional.
+         * If specified, all ingested text segments are also added to it,
+         * under the same IDs as in the embedding store.
+         *
+         * @param bm25Index the BM25 index.
+         * @return {@code this}
+         */
+        public Builder bm25Index(Bm25Index bm25Index) {
+            this.bm25Index = bm25Index;
+            return this;
+        }
+
+        /**
+         * Sets the asynchronous embedding store used by {@link EmbeddingStoreIngestor#ingestAsync(List)}. Optional.
+         * It must store the embeddings in the same place as the embedding store.
+         * Not needed if the embedding store implements {@link AsyncEmbeddingStore} itself.
+         *
+         * @param asyncEmbeddingStore the asynchronous embedding store.
+         * @return {@code this}
+         */
+        public Builder asyncEmbeddingStore(AsyncEmbeddingStore<TextSegment> asyncEmbeddingStore) {
+            this.asyncEmbeddingStore = asyncEmbeddingStore;
+            return this;
+        }
+
+        /**
+         * Sets the executor on which {@link EmbeddingStoreIngestor#ingestAsync(List)} stores the embeddings
+         * when the embedding store does not implement {@link AsyncEmbeddingStore}
+         * and no asynchronous embedding store is set. Optional.
+         *
+         * @param executor the executor.
+         * @return {@code this}
+         */
+        public Builder executor(Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
         /**
          * Builds the EmbeddingStoreIngestor.
          *
@@ -307,7 +460,10 @@ public class EmbeddingStoreIngestor {
                     documentSplitter,
                     textSegmentTransformer,
                     embeddingModel,
-                    embeddingStore
+                    embeddingStore,
+                    bm25Index,
+                    asyncEmbeddingStore,
+                    executor
             );
         }
     }
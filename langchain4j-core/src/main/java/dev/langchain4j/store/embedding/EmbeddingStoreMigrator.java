@@ -0,0 +1,338 @@
+package dev.langchain4j.store.embedding;
+
+import dev.langchain4j.Experimental;
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.embedding.EmbeddingModel;
+import dev.langchain4j.store.embedding.filter.Filter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static dev.langchain4j.internal.Utils.getOrDefault;
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+
+/**
+ * Copies the contents of an {@link EmbeddingStore} into another one, for example to move to another
+ * vector database, or to a new collection with a different index configuration.
+ * <br>
+ * <br>
+ * The source store is read page by page with {@link EmbeddingStore#scan(EmbeddingScanRequest)},
+ * which it must support,
+ * so only a bounded number of pages is held in memory, regardless of the size of the store.
+ * Pages are written to the target store by up to {@code parallelism} threads,
+ * while the next pages are read.
+ * <br>
+ * <br>
+ * By default, the IDs are kept when the target store supports {@link EmbeddingStore#addAll(List, List, List)},
+ * otherwise the target store generates new ones.
+ * Optionally, the {@link TextSegment}s can be embedded again with another {@link EmbeddingModel},
+ * for example when switching to a new model.
+ */
+@Experimental
+public class EmbeddingStoreMigrator {
+
+    private static final Logger log = LoggerFactory.getLogger(EmbeddingStoreMigrator.class);
+
+    private final EmbeddingStore<TextSegment> source;
+    private final EmbeddingStore<TextSegment> target;
+    private final EmbeddingModel embeddingModel;
+    private final Filter filter;
+    private final int pageSize;
+    private final int parallelism;
+    private final Boolean keepIds;
+
+    /**
+     * Creates an instance of an {@code EmbeddingStoreMigrator}.
+     *
+     * @param source         The {@link EmbeddingStore} to read from. Mandatory.
+     * @param target         The {@link EmbeddingStore} to write to. Mandatory.
+     * @param embeddingModel The {@link EmbeddingModel} to embed the {@link TextSegment}s again with. Optional.
+     *                       If none is specified, the embeddings are copied as they are.
+     * @param filter         The {@link Filter} selecting the embeddings to copy. Optional. Default: all embeddings
+     * @param pageSize       The number of embeddings read and written at once. Optional. Default: 100
+     * @param parallelism    The maximum number of pages written concurrently. Optional. Default: 1
+     * @param keepIds        Whether the embeddings keep their IDs in the target store. Optional.
+     *                       Default: kept when the target store supports it, new ones otherwise
+     */
+    public EmbeddingStoreMigrator(EmbeddingStore<TextSegment> source,
+                                  EmbeddingStore<TextSegment> target,
+                                  EmbeddingModel embeddingModel,
+                                  Filter filter,
+                                  Integer pageSize,
+                                  Integer parallelism,
+                                  Boolean keepIds) {
+        this.source = ensureNotNull(source, "source");
+        this.target = ensureNotNull(target, "target");
+        this.embeddingModel = embeddingModel;
+        this.filter = filter;
+        this.pageSize = ensureGreaterThanZero(getOrDefault(pageSize, 100), "pageSize");
+        this.parallelism = ensureGreaterThanZero(getOrDefault(parallelism, 1), "parallelism");
+        this.keepIds = keepIds;
+    }
+
+    /**
+     * Copies all embeddings matching the filter from the source to the target store.
+     * <br>
+     * If a page cannot be written, no more pages are read,
+     * and the exception is thrown once the pages being written are done.
+     *
+     * @return The number of embeddings copied.
+     */
+    public long migrate() {
+        log.debug("Starting to migrate embeddings with a page size of {} and a parallelism of {}", pageSize, parallelism);
+
+        AtomicLong count = new AtomicLong();
+        AtomicReference<RuntimeException> failure = new AtomicReference<>();
+        AtomicBoolean idsKept = new AtomicBoolean(keepIds == null || keepIds);
+        Semaphore permits = new Semaphore(parallelism);
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism);
+        try {
+            EmbeddingScanRequest request = EmbeddingScanRequest.builder()
+                    .pageSize(pageSize)
+                    .filter(filter)
+                    .build();
+            boolean firstPage = true;
+            while (request != null && failure.get() == null) {
+                EmbeddingScanResult<TextSegment> page = firstPage ? scanFirstPage(request) : source.scan(request);
+                firstPage = false;
+                request = page.hasNext() ? request.next(page) : null;
+                if (page.records().isEmpty()) {
+                    continue;
+                }
+
+                permits.acquireUninterruptibly();
+                executor.execute(() -> {
+                    try {
+                        write(page.records(), idsKept);
+                        long total = count.addAndGet(page.records().size());
+                        log.debug("Migrated {} embeddings", total);
+                    } catch (RuntimeException e) {
+                        failure.compareAndSet(null, e);
+                    } finally {
+                        permits.release();
+                    }
+                });
+            }
+            permits.acquireUninterruptibly(parallelism);
+        } finally {
+            executor.shutdown();
+            awaitTermination(executor);
+        }
+
+        if (failure.get() != null) {
+            throw failure.get();
+        }
+        log.debug("Finished migrating {} embeddings", count.get());
+        return count.get();
+    }
+
+    private EmbeddingScanResult<TextSegment> scanFirstPage(EmbeddingScanRequest request) {
+        try {
+            return source.scan(request);
+        } catch (UnsupportedOperationException e) {
+            throw new UnsupportedOperationException("The source store (" + source.getClass().getName()
+                    + ") does not support scan(EmbeddingScanRequest), so it cannot be migrated", e);
+        }
+    }
+
+    private void write(List<EmbeddingRecord<TextSegment>> records, AtomicBoolean idsKept) {
+        List<EmbeddingRecord<TextSegment>> withSegments = new ArrayList<>(records.size());
+        List<EmbeddingRecord<TextSegment>> withoutSegments = new ArrayList<>();
+        for (EmbeddingRecord<TextSegment> record : records) {
+            (record.embedded() == null ? withoutSegments : withSegments).add(record);
+        }
+
+        if (embeddingModel != null && !withoutSegments.isEmpty()) {
+            throw new IllegalArgumentException(
+                    "Cannot embed again the embeddings stored without their TextSegment");
+        }
+
+        // a page may mix embeddings stored with and without a TextSegment, each group is written on its own
+        // so that the segments of the first one are not dropped
+        if (!withSegments.isEmpty()) {
+            write(withSegments, true, idsKept);
+        }
+        if (!withoutSegments.isEmpty()) {
+            write(withoutSegments, false, idsKept);
+        }
+    }
+
+    private void write(List<EmbeddingRecord<TextSegment>> records, boolean withSegments, AtomicBoolean idsKept) {
+        List<String> ids = new ArrayList<>(records.size());
+        List<Embedding> embeddings = new ArrayList<>(records.size());
+        List<TextSegment> segments = withSegments ? new ArrayList<>(records.size()) : null;
+        for (EmbeddingRecord<TextSegment> record : records) {
+            ids.add(record.id());
+            embeddings.add(record.embedding());
+            if (withSegments) {
+                segments.add(record.embedded());
+            }
+        }
+
+        if (embeddingModel != null) {
+            embeddings = embeddingModel.embedAll(segments).content();
+        }
+
+        if (idsKept.get()) {
+            try {
+                target.addAll(ids, embeddings, segments);
+                return;
+            } catch (UnsupportedOperationException e) {
+                if (keepIds != null) {
+                    throw e;
+                }
+                if (idsKept.compareAndSet(true, false)) {
+                    log.warn("The target store cannot keep the IDs, new IDs are generated instead");
+                }
+            }
+        }
+        if (withSegments) {
+            target.addAll(embeddings, segments);
+        } else {
+            target.addAll(embeddings);
+        }
+    }
+
+    private static void awaitTermination(ExecutorService executor) {
+        try {
+            while (!executor.awaitTermination(1, TimeUnit.MINUTES)) {
+                log.debug("Waiting for the migration to complete");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Creates a new EmbeddingStoreMigrator builder.
+     *
+     * @return the builder.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * EmbeddingStoreMigrator builder.
+     */
+    public static class Builder {
+
+        private EmbeddingStore<TextSegment> source;
+        private EmbeddingStore<TextSegment> target;
+        private EmbeddingModel embeddingModel;
+        private Filter filter;
+        private Integer pageSize;
+        private Integer parallelism;
+        private Boolean keepIds;
+
+        /**
+         * Creates a new EmbeddingStoreMigrator builder.
+         */
+        public Builder() {
+        }
+
+        /**
+         * Sets the store to read from. Mandatory.
+         *
+         * @param source the source store.
+         * @return {@code this}
+         */
+        public Builder source(EmbeddingStore<TextSegment> source) {
+            this.source = source;
+            return this;
+        }
+
+        /**
+         * Sets the store to write to. Mandatory.
+         *
+         * @param target the target store.
+         * @return {@code this}
+         */
+        public Builder target(EmbeddingStore<TextSegment> target) {
+            this.target = target;
+            return this;
+        }
+
+        /**
+         * Sets the embedding model to embed the text segments again with. Optional.
+         * If none is specified, the embeddings are copied as they are.
+         *
+         * @param embeddingModel the embedding model.
+         * @return {@code this}
+         */
+        public Builder embeddingModel(EmbeddingModel embeddingModel) {
+            this.embeddingModel = embeddingModel;
+            return this;
+        }
+
+        /**
+         * Sets the filter selecting the embeddings to copy. Optional.
+         *
+         * @param filter the filter.
+         * @return {@code this}
+         */
+        public Builder filter(Filter filter) {
+            this.filter = filter;
+            return this;
+        }
+
+        /**
+         * Sets the number of embeddings read and written at once. Optional. Default: 100
+         *
+         * @param pageSize the page size.
+         * @return {@code this}
+         */
+        public Builder pageSize(Integer pageSize) {
+            this.pageSize = pageSize;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of pages written concurrently. Optional. Default: 1
+         *
+         * @param parallelism the parallelism.
+         * @return {@code this}
+         */
+        public Builder parallelism(Integer parallelism) {
+            this.parallelism = parallelism;
+            return this;
+        }
+
+        /**
+         * Sets whether the embeddings keep their IDs in the target store. Optional.
+         * <br>
+         * If {@code true}, the migration fails when the target store does not support
+         * {@link EmbeddingStore#addAll(List, List, List)}.
+         * If {@code false}, the target store generates new IDs.
+         * By default, the IDs are kept when the target store supports it, and new ones are generated otherwise.
+         *
+         * @param keepIds whether to keep the IDs.
+         * @return {@code this}
+         */
+        public Builder keepIds(Boolean keepIds) {
+            this.keepIds = keepIds;
+            return this;
+        }
+
+        /**
+         * Builds the EmbeddingStoreMigrator.
+         *
+         * @return the EmbeddingStoreMigrator.
+         */
+        public EmbeddingStoreMigrator build() {
+            return new EmbeddingStoreMigrator(source, target, embeddingModel, filter, pageSize, parallelism, keepIds);
+        }
+    }
+}
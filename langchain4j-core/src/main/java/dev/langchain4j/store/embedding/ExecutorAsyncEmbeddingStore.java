@@ -0,0 +1,67 @@
+package dev.langchain4j.store.embedding;
+
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.store.embedding.filter.Filter;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+import static java.util.concurrent.CompletableFuture.runAsync;
+import static java.util.concurrent.CompletableFuture.supplyAsync;
+
+/**
+ * An {@link AsyncEmbeddingStore} that runs the blocking methods of an {@link EmbeddingStore} on an {@link Executor}.
+ * <br>
+ * It is meant for stores whose client has no asynchronous API. Since each call still blocks a thread of the executor,
+ * the executor should be sized for the expected number of concurrent calls, and should not be
+ * the {@link java.util.concurrent.ForkJoinPool#commonPool()}.
+ *
+ * @param <Embedded> The class of the object that has been embedded.
+ * @see AsyncEmbeddingStore#from(EmbeddingStore, Executor)
+ */
+public class ExecutorAsyncEmbeddingStore<Embedded> implements AsyncEmbeddingStore<Embedded> {
+
+    private final EmbeddingStore<Embedded> embeddingStore;
+    private final Executor executor;
+
+    public ExecutorAsyncEmbeddingStore(EmbeddingStore<Embedded> embeddingStore, Executor executor) {
+        this.embeddingStore = ensureNotNull(embeddingStore, "embeddingStore");
+        this.executor = ensureNotNull(executor, "executor");
+    }
+
+    @Override
+    public CompletableFuture<List<String>> addAllAsync(List<Embedding> embeddings) {
+        return supplyAsync(() -> embeddingStore.addAll(embeddings), executor);
+    }
+
+    @Override
+    public CompletableFuture<List<String>> addAllAsync(List<Embedding> embeddings, List<Embedded> embedded) {
+        if (embedded == null) {
+            return addAllAsync(embeddings);
+        }
+        return supplyAsync(() -> embeddingStore.addAll(embeddings, embedded), executor);
+    }
+
+    @Override
+    public CompletableFuture<EmbeddingSearchResult<Embedded>> searchAsync(EmbeddingSearchRequest request) {
+        return supplyAsync(() -> embeddingStore.search(request), executor);
+    }
+
+    @Override
+    public CompletableFuture<Void> removeAllAsync(Collection<String> ids) {
+        return runAsync(() -> embeddingStore.removeAll(ids), executor);
+    }
+
+    @Override
+    public CompletableFuture<Void> removeAllAsync(Filter filter) {
+        return runAsync(() -> embeddingStore.removeAll(filter), executor);
+    }
+
+    @Override
+    public CompletableFuture<Void> removeAllAsync() {
+        return runAsync(embeddingStore::removeAll, executor);
+    }
+}
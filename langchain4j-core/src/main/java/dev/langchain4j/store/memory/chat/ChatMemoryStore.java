@@ -38,6 +38,21 @@ public interface ChatMemoryStore {
      */
     void updateMessages(Object memoryId, List<ChatMessage> messages);
 
+    /**
+     * Updates messages for a specified chat memory, knowing the messages it was derived from.
+     * <br>
+     * Stores that can apply a change incrementally (e.g. append the new messages and drop the evicted ones)
+     * can override this method, so that an update doesn't need to rewrite the whole chat memory.
+     * By default, it calls {@link #updateMessages(Object, List)}.
+     *
+     * @param memoryId         The ID of the chat memory.
+     * @param previousMessages The messages returned by {@link #getMessages(Object)}, that {@code messages} were derived from.
+     * @param messages         List of messages for the specified chat memory, that represent the current state of the {@link ChatMemory}.
+     */
+    default void updateMessages(Object memoryId, List<ChatMessage> previousMessages, List<ChatMessage> messages) {
+        updateMessages(memoryId, messages);
+    }
+
     /**
      * Deletes all messages for a specified chat memory.
      *
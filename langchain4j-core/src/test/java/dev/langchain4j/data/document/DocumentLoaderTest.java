@@ -7,6 +7,7 @@ import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 
 
@@ -101,4 +102,30 @@ class DocumentLoaderTest implements WithAssertions {
             ))
             .withMessageContaining("Failed to load document");
     }
+
+    @Test
+    public void test_load_from_byte_buffer() {
+        ByteBuffer byteBuffer = ByteBuffer.wrap("Hello, buffer!".getBytes(StandardCharsets.UTF_8));
+        DocumentSource source = new DocumentSource() {
+            @Override
+            public InputStream inputStream() {
+                throw new IllegalStateException("should read from the byte buffer");
+            }
+
+            @Override
+            public ByteBuffer byteBuffer() {
+                return byteBuffer;
+            }
+
+            @Override
+            public Metadata metadata() {
+                return new Metadata().put("foo", "bar");
+            }
+        };
+
+        Document document = DocumentLoader.load(source, new TrivialParser());
+
+        assertThat(document).isEqualTo(Document.from("Hello, buffer!", new Metadata().put("foo", "bar")));
+        assertThat(byteBuffer.position()).isZero();
+    }
 }
@@ -0,0 +1,132 @@
+package dev.langchain4j.data.message;
+
+import dev.langchain4j.agent.tool.ToolExecutionRequest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static dev.langchain4j.data.message.ImageContent.DetailLevel.HIGH;
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DefaultChatMessageBinaryCodecTest {
+
+    ChatMessageBinaryCodec codec = new DefaultChatMessageBinaryCodec();
+
+    @ParameterizedTest
+    @MethodSource
+    void should_serialize_and_deserialize_chat_message(ChatMessage message) {
+
+        // when
+        byte[] bytes = codec.messageToBytes(message);
+
+        // then
+        assertThat(codec.canDecode(bytes)).isTrue();
+        assertThat(codec.messageFromBytes(bytes)).isEqualTo(message);
+    }
+
+    static Stream<ChatMessage> should_serialize_and_deserialize_chat_message() {
+        return Stream.of(
+                SystemMessage.from("hello"),
+                UserMessage.from("hello"),
+                UserMessage.from("Klaus", "hello"),
+                UserMessage.from(TextContent.from("hello"), ImageContent.from("http://image.url", HIGH)),
+                UserMessage.from(ImageContent.from("aGVsbG8=", "image/png")),
+                UserMessage.from(AudioContent.from("bXAz", "audio/mp3")),
+                UserMessage.from(VideoContent.from("http://video.url")),
+                UserMessage.from(PdfFileContent.from("cGRm", "application/pdf")),
+                UserMessage.from(TextFileContent.from("dGV4dA==", "text/plain")),
+                AiMessage.from("héllo 👋"),
+                AiMessage.from(ToolExecutionRequest.builder()
+                        .name("weather")
+                        .arguments("{\"city\": \"Munich\"}")
+                        .build()),
+                AiMessage.from("thinking", singletonList(ToolExecutionRequest.builder()
+                        .id("12345")
+                        .name("weather")
+                        .arguments("{}")
+                        .build())),
+                ToolExecutionResultMessage.from("12345", "weather", "sunny")
+        );
+    }
+
+    @Test
+    void should_be_more_compact_than_json() {
+
+        // given
+        List<ChatMessage> messages = asList(
+                SystemMessage.from("You are a helpful assistant"),
+                UserMessage.from("What is the weather in Munich?"),
+                AiMessage.from(ToolExecutionRequest.builder().id("1").name("weather").arguments("{\"city\":\"Munich\"}").build()),
+                ToolExecutionResultMessage.from("1", "weather", "sunny"),
+                AiMessage.from("It is sunny in Munich")
+        );
+
+        // when
+        byte[] bytes = codec.messagesToBytes(messages);
+
+        // then
+        assertThat(codec.messagesFromBytes(bytes)).isEqualTo(messages);
+        assertThat(bytes.length).isLessThan(ChatMessageSerializer.messagesToJson(messages).length() / 2);
+    }
+
+    @Test
+    void should_append_without_re_encoding() {
+
+        // given
+        List<ChatMessage> first = asList(SystemMessage.from("system"), UserMessage.from("hi"));
+        List<ChatMessage> second = asList(AiMessage.from("hello"), UserMessage.from("bye"));
+        byte[] encoded = codec.messagesToBytes(first);
+
+        // when
+        byte[] appended = codec.appendMessages(encoded, second);
+
+        // then
+        assertThat(Arrays.copyOf(appended, encoded.length)).isEqualTo(encoded);
+        assertThat(appended).isEqualTo(codec.messagesToBytes(asList(first.get(0), first.get(1), second.get(0), second.get(1))));
+        assertThat(codec.messagesFromBytes(appended)).containsExactly(first.get(0), first.get(1), second.get(0), second.get(1));
+        assertThat(codec.appendMessages(null, first)).isEqualTo(encoded);
+    }
+
+    @Test
+    void should_compress_large_messages() {
+
+        // given
+        ChatMessageBinaryCodec compressingCodec = new DefaultChatMessageBinaryCodec(256);
+        ChatMessage large = AiMessage.from("lorem ipsum ".repeat(1000));
+        ChatMessage small = UserMessage.from("hi");
+
+        // when
+        byte[] compressed = compressingCodec.messagesToBytes(asList(small, large));
+
+        // then
+        assertThat(compressed.length).isLessThan(codec.messagesToBytes(asList(small, large)).length / 10);
+        assertThat(compressingCodec.messagesFromBytes(compressed)).containsExactly(small, large);
+        assertThat(codec.messagesFromBytes(compressed)).containsExactly(small, large);
+    }
+
+    @Test
+    void should_not_decode_other_formats() {
+
+        // given
+        byte[] json = ChatMessageSerializer.messagesToJson(singletonList(UserMessage.from("hi"))).getBytes();
+        byte[] futureVersion = codec.messageToBytes(UserMessage.from("hi"));
+        futureVersion[3] = DefaultChatMessageBinaryCodec.VERSION + 1;
+        byte[] truncated = Arrays.copyOf(codec.messageToBytes(UserMessage.from("hello")), 8);
+
+        // then
+        assertThat(codec.canDecode(json)).isFalse();
+        assertThatThrownBy(() -> codec.messagesFromBytes(json))
+                .isExactlyInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> codec.messagesFromBytes(futureVersion))
+                .hasMessage("Unsupported format version: 2");
+        assertThatThrownBy(() -> codec.messagesFromBytes(truncated))
+                .hasMessage("Truncated chat messages");
+    }
+}
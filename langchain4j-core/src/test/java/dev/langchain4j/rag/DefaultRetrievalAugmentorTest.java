@@ -21,23 +21,31 @@ import org.mockito.MockedStatic;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.time.Duration;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Stream;
 
 import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
 import static java.util.stream.Collectors.joining;
 import static java.util.stream.Collectors.toList;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -154,6 +162,44 @@ class DefaultRetrievalAugmentorTest {
         verifyNoMoreInteractions(contentInjector);
     }
 
+    @Test
+    void should_batch_queries_only_for_retrievers_supporting_batch_retrieval() {
+
+        // given
+        Query query1 = Query.from("query 1");
+        Query query2 = Query.from("query 2");
+        QueryTransformer queryTransformer = new TestQueryTransformer(query1, query2);
+
+        Content content1 = Content.from("content 1");
+        ContentRetriever batchingRetriever = spy(new BatchingContentRetriever(content1));
+
+        Content content2 = Content.from("content 2");
+        ContentRetriever contentRetriever = spy(new TestContentRetriever(content2));
+
+        RetrievalAugmentor retrievalAugmentor = DefaultRetrievalAugmentor.builder()
+            .queryTransformer(queryTransformer)
+            .queryRouter(new DefaultQueryRouter(batchingRetriever, contentRetriever))
+            .contentAggregator(new TestContentAggregator())
+            .contentInjector(new TestContentInjector())
+            .build();
+
+        UserMessage userMessage = UserMessage.from("query");
+
+        // when
+        UserMessage augmented = retrievalAugmentor.augment(userMessage, Metadata.from(userMessage, null, null));
+
+        // then
+        assertThat(augmented.singleText().split("\n"))
+            .containsExactlyInAnyOrder("query", "content 1", "content 2", "content 1", "content 2");
+
+        verify(batchingRetriever).retrieveAll(asList(query1, query2));
+        verify(batchingRetriever, never()).retrieve(any());
+
+        verify(contentRetriever).retrieve(query1);
+        verify(contentRetriever).retrieve(query2);
+        verifyNoMoreInteractions(contentRetriever);
+    }
+
     @Test
     void should_augment_user_message__single_query_multiple_retrievers() {
 
@@ -329,6 +375,172 @@ class DefaultRetrievalAugmentorTest {
         verifyNoMoreInteractions(queryRouter);
     }
 
+    @Test
+    void should_return_partial_results_when_retriever_times_out_in_best_effort_mode() {
+
+        // given
+        ContentRetriever fastRetriever = new TestContentRetriever(Content.from("fast content"));
+        ContentRetriever slowRetriever = new SlowContentRetriever(Duration.ofSeconds(5), Content.from("slow content"));
+
+        RetrievalAugmentor retrievalAugmentor = DefaultRetrievalAugmentor.builder()
+            .queryRouter(new TestQueryRouter(asList(fastRetriever, slowRetriever)))
+            .contentAggregator(new TestContentAggregator())
+            .contentInjector(new TestContentInjector())
+            .retrieverTimeout(Duration.ofMillis(200))
+            .bestEffort(true)
+            .build();
+
+        UserMessage userMessage = UserMessage.from("query");
+        AugmentationRequest request = new AugmentationRequest(userMessage, Metadata.from(userMessage, null, null));
+
+        // when
+        long start = System.nanoTime();
+        AugmentationResult result = retrievalAugmentor.augment(request);
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        // then
+        assertThat(result.contents()).containsExactly(Content.from("fast content"));
+        assertThat(result.timedOutRetrievers()).containsExactly(slowRetriever);
+        assertThat(elapsedMillis).isLessThan(2_000);
+    }
+
+    @Test
+    void should_fail_when_overall_timeout_is_exceeded_and_best_effort_is_disabled() {
+
+        // given
+        ContentRetriever fastRetriever = new TestContentRetriever(Content.from("fast content"));
+        ContentRetriever slowRetriever = new SlowContentRetriever(Duration.ofSeconds(5), Content.from("slow content"));
+
+        RetrievalAugmentor retrievalAugmentor = DefaultRetrievalAugmentor.builder()
+            .queryRouter(new TestQueryRouter(asList(fastRetriever, slowRetriever)))
+            .timeout(Duration.ofMillis(200))
+            .build();
+
+        UserMessage userMessage = UserMessage.from("query");
+        AugmentationRequest request = new AugmentationRequest(userMessage, Metadata.from(userMessage, null, null));
+
+        // when-then
+        assertThatThrownBy(() -> retrievalAugmentor.augment(request))
+            .isExactlyInstanceOf(RetrievalTimeoutException.class)
+            .satisfies(e -> assertThat(((RetrievalTimeoutException) e).timedOutRetrievers())
+                .containsExactly(slowRetriever));
+    }
+
+    @Test
+    void should_hedge_slow_retriever_call() {
+
+        // given
+        AtomicInteger calls = new AtomicInteger();
+        ContentRetriever retriever = query -> {
+            if (calls.incrementAndGet() == 1) {
+                sleep(Duration.ofSeconds(5));
+                return singletonList(Content.from("slow content"));
+            }
+            return singletonList(Content.from("hedged content"));
+        };
+
+        RetrievalAugmentor retrievalAugmentor = DefaultRetrievalAugmentor.builder()
+            .queryRouter(new TestQueryRouter(singletonList(retriever)))
+            .contentAggregator(new TestContentAggregator())
+            .contentInjector(new TestContentInjector())
+            .hedgingDelay(Duration.ofMillis(100))
+            .timeout(Duration.ofSeconds(2))
+            .build();
+
+        UserMessage userMessage = UserMessage.from("query");
+        AugmentationRequest request = new AugmentationRequest(userMessage, Metadata.from(userMessage, null, null));
+
+        // when
+        AugmentationResult result = retrievalAugmentor.augment(request);
+
+        // then
+        assertThat(result.contents()).containsExactly(Content.from("hedged content"));
+        assertThat(result.timedOutRetrievers()).isEmpty();
+        assertThat(calls).hasValue(2);
+    }
+
+    @Test
+    void should_cancel_hedged_call_once_first_call_returns() throws InterruptedException {
+
+        // given
+        AtomicInteger calls = new AtomicInteger();
+        ContentRetriever retriever = query -> {
+            calls.incrementAndGet();
+            sleep(Duration.ofMillis(300));
+            return singletonList(Content.from("content"));
+        };
+
+        // the 4th task (routing, first call, hedging, hedged call) is only started after the first call returned
+        ExecutorService pool = Executors.newCachedThreadPool();
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        AtomicInteger tasks = new AtomicInteger();
+        Executor executor = task -> {
+            if (tasks.incrementAndGet() == 4) {
+                scheduler.schedule(() -> pool.execute(task), 500, MILLISECONDS);
+            } else {
+                pool.execute(task);
+            }
+        };
+
+        RetrievalAugmentor retrievalAugmentor = DefaultRetrievalAugmentor.builder()
+            .queryRouter(new TestQueryRouter(singletonList(retriever)))
+            .contentAggregator(new TestContentAggregator())
+            .contentInjector(new TestContentInjector())
+            .executor(executor)
+            .hedgingDelay(Duration.ofMillis(100))
+            .build();
+
+        UserMessage userMessage = UserMessage.from("query");
+        AugmentationRequest request = new AugmentationRequest(userMessage, Metadata.from(userMessage, null, null));
+
+        // when
+        AugmentationResult result = retrievalAugmentor.augment(request);
+        scheduler.shutdown();
+        assertThat(scheduler.awaitTermination(5, SECONDS)).isTrue();
+        pool.shutdown();
+        assertThat(pool.awaitTermination(5, SECONDS)).isTrue();
+
+        // then
+        assertThat(result.contents()).containsExactly(Content.from("content"));
+        assertThat(tasks).hasValue(4);
+        assertThat(calls).hasValue(1);
+    }
+
+    @Test
+    void should_skip_queued_retrieval_once_timed_out() throws InterruptedException {
+
+        // given
+        ContentRetriever slowRetriever = new SlowContentRetriever(Duration.ofSeconds(1), Content.from("slow content"));
+        AtomicInteger queuedRetrieverCalls = new AtomicInteger();
+        ContentRetriever queuedRetriever = query -> {
+            queuedRetrieverCalls.incrementAndGet();
+            return singletonList(Content.from("queued content"));
+        };
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        RetrievalAugmentor retrievalAugmentor = DefaultRetrievalAugmentor.builder()
+            .queryRouter(new TestQueryRouter(asList(slowRetriever, queuedRetriever)))
+            .contentAggregator(new TestContentAggregator())
+            .contentInjector(new TestContentInjector())
+            .executor(executor)
+            .timeout(Duration.ofMillis(200))
+            .bestEffort(true)
+            .build();
+
+        UserMessage userMessage = UserMessage.from("query");
+        AugmentationRequest request = new AugmentationRequest(userMessage, Metadata.from(userMessage, null, null));
+
+        // when
+        AugmentationResult result = retrievalAugmentor.augment(request);
+        executor.shutdown();
+        assertThat(executor.awaitTermination(5, SECONDS)).isTrue();
+
+        // then
+        assertThat(result.contents()).isEmpty();
+        assertThat(result.timedOutRetrievers()).containsExactly(slowRetriever, queuedRetriever);
+        assertThat(queuedRetrieverCalls).hasValue(0);
+    }
+
     static Stream<Executor> executors() {
         return Stream.<Executor>builder()
             .add(Executors.newCachedThreadPool())
@@ -383,6 +595,57 @@ class DefaultRetrievalAugmentorTest {
         }
     }
 
+    static class BatchingContentRetriever implements ContentRetriever {
+
+        private final List<Content> contents;
+
+        BatchingContentRetriever(Content... contents) {
+            this.contents = asList(contents);
+        }
+
+        @Override
+        public List<Content> retrieve(Query query) {
+            return contents;
+        }
+
+        @Override
+        public List<List<Content>> retrieveAll(List<Query> queries) {
+            return queries.stream()
+                .map(query -> contents)
+                .collect(toList());
+        }
+
+        @Override
+        public boolean supportsBatchRetrieval() {
+            return true;
+        }
+    }
+
+    static class SlowContentRetriever implements ContentRetriever {
+
+        private final Duration delay;
+        private final List<Content> contents;
+
+        SlowContentRetriever(Duration delay, Content... contents) {
+            this.delay = delay;
+            this.contents = asList(contents);
+        }
+
+        @Override
+        public List<Content> retrieve(Query query) {
+            sleep(delay);
+            return contents;
+        }
+    }
+
+    private static void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
     static class TestContentAggregator implements ContentAggregator {
 
         @Override
@@ -4,7 +4,9 @@ import dev.langchain4j.data.embedding.Embedding;
 import dev.langchain4j.data.segment.TextSegment;
 import dev.langchain4j.model.embedding.EmbeddingModel;
 import dev.langchain4j.model.output.Response;
+import dev.langchain4j.rag.content.Content;
 import dev.langchain4j.rag.query.Query;
+import dev.langchain4j.store.embedding.AsyncEmbeddingStore;
 import dev.langchain4j.store.embedding.EmbeddingMatch;
 import dev.langchain4j.store.embedding.EmbeddingSearchRequest;
 import dev.langchain4j.store.embedding.EmbeddingSearchResult;
@@ -13,15 +15,22 @@ import dev.langchain4j.store.embedding.filter.Filter;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
 import static dev.langchain4j.store.embedding.filter.MetadataFilterBuilder.metadataKey;
 import static java.util.Arrays.asList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
 
 class EmbeddingStoreContentRetrieverTest {
 
@@ -335,4 +344,201 @@ class EmbeddingStoreContentRetrieverTest {
         // then
         assertThat(result).contains(EmbeddingStoreContentRetriever.DEFAULT_DISPLAY_NAME);
     }
+
+    @Test
+    void should_retrieve_from_cache() {
+
+        // given
+        RetrievalCache cache = new RetrievalCache();
+        ContentRetriever contentRetriever = EmbeddingStoreContentRetriever.builder()
+                .embeddingStore(EMBEDDING_STORE)
+                .embeddingModel(EMBEDDING_MODEL)
+                .cache(cache)
+                .build();
+
+        // when
+        List<Content> first = contentRetriever.retrieve(QUERY);
+        List<Content> second = contentRetriever.retrieve(QUERY);
+
+        // then
+        assertThat(second).isEqualTo(first);
+        verify(EMBEDDING_STORE, times(1)).search(any());
+        verify(EMBEDDING_MODEL, times(1)).embed(QUERY.text());
+        assertThat(cache.embeddingHits()).isEqualTo(1);
+        assertThat(cache.resultHits()).isEqualTo(1);
+    }
+
+    @Test
+    void should_invalidate_cached_results_when_store_is_modified() {
+
+        // given
+        RetrievalCache cache = new RetrievalCache();
+        EmbeddingStore<TextSegment> invalidatingStore = cache.invalidatingOnChange(EMBEDDING_STORE);
+        ContentRetriever contentRetriever = EmbeddingStoreContentRetriever.builder()
+                .embeddingStore(invalidatingStore)
+                .embeddingModel(EMBEDDING_MODEL)
+                .cache(cache)
+                .build();
+        contentRetriever.retrieve(QUERY);
+
+        // when
+        invalidatingStore.add(EMBEDDING, TextSegment.from("content 3"));
+        contentRetriever.retrieve(QUERY);
+
+        // then
+        verify(EMBEDDING_STORE, times(2)).search(any());
+        verify(EMBEDDING_MODEL, times(1)).embed(QUERY.text());
+        assertThat(cache.embeddingHits()).isEqualTo(1);
+        assertThat(cache.resultHits()).isZero();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void should_retrieve_async_from_async_store() {
+
+        // given
+        EmbeddingStore<TextSegment> asyncStore = mock(EmbeddingStore.class,
+                withSettings().extraInterfaces(AsyncEmbeddingStore.class));
+        CompletableFuture<EmbeddingSearchResult<TextSegment>> searchResult = new CompletableFuture<>();
+        when(((AsyncEmbeddingStore<TextSegment>) asyncStore).searchAsync(any())).thenReturn(searchResult);
+        RetrievalCache cache = new RetrievalCache();
+        EmbeddingStoreContentRetriever contentRetriever = EmbeddingStoreContentRetriever.builder()
+                .embeddingStore(asyncStore)
+                .embeddingModel(EMBEDDING_MODEL)
+                .cache(cache)
+                .build();
+
+        // when
+        CompletableFuture<List<Content>> contents = contentRetriever.retrieveAsync(QUERY);
+
+        // then
+        assertThat(contents).isNotDone();
+        verify((AsyncEmbeddingStore<TextSegment>) asyncStore).searchAsync(EmbeddingSearchRequest.builder()
+                .queryEmbedding(EMBEDDING)
+                .maxResults(DEFAULT_MAX_RESULTS)
+                .minScore(DEFAULT_MIN_SCORE)
+                .build());
+        verifyNoMoreInteractions(asyncStore);
+
+        // when
+        searchResult.complete(new EmbeddingSearchResult<>(asList(
+                new EmbeddingMatch<>(0.9, "id 1", null, TextSegment.from("content 1")))));
+
+        // then
+        assertThat(contents.join()).containsExactly(Content.from("content 1"));
+        assertThat(contentRetriever.retrieveAsync(QUERY).join()).containsExactly(Content.from("content 1"));
+        assertThat(cache.resultHits()).isEqualTo(1);
+    }
+
+    @Test
+    void should_retrieve_async_from_sync_store() {
+
+        // given
+        EmbeddingStoreContentRetriever contentRetriever = new EmbeddingStoreContentRetriever(EMBEDDING_STORE, EMBEDDING_MODEL);
+
+        // when
+        CompletableFuture<List<Content>> contents = contentRetriever.retrieveAsync(QUERY);
+
+        // then
+        assertThat(contents.join()).containsExactly(Content.from("content 1"), Content.from("content 2"));
+        verify(EMBEDDING_STORE).search(any());
+    }
+
+    @Test
+    void should_retrieve_async_from_sync_store_on_executor() {
+
+        // given
+        List<Runnable> tasks = new ArrayList<>();
+        EmbeddingStoreContentRetriever contentRetriever = EmbeddingStoreContentRetriever.builder()
+                .embeddingStore(EMBEDDING_STORE)
+                .embeddingModel(EMBEDDING_MODEL)
+                .executor(tasks::add)
+                .build();
+
+        // when
+        CompletableFuture<List<Content>> contents = contentRetriever.retrieveAsync(QUERY);
+
+        // then
+        assertThat(contents).isNotDone();
+        verifyNoInteractions(EMBEDDING_STORE);
+
+        // when
+        tasks.forEach(Runnable::run);
+
+        // then
+        assertThat(contents.join()).containsExactly(Content.from("content 1"), Content.from("content 2"));
+        verify(EMBEDDING_STORE).search(any());
+    }
+
+    @Test
+    void should_retrieve_all_in_one_batch() {
+
+        // given
+        Query query1 = Query.from("query 1");
+        Query query2 = Query.from("query 2");
+        Embedding embedding2 = Embedding.from(asList(3f, 2f, 1f));
+        when(EMBEDDING_MODEL.embedAll(any())).thenReturn(Response.from(asList(EMBEDDING, embedding2)));
+        when(EMBEDDING_STORE.searchBatch(any())).thenReturn(asList(
+                new EmbeddingSearchResult<>(asList(new EmbeddingMatch<>(0.9, "id 1", null, TextSegment.from("content 1")))),
+                new EmbeddingSearchResult<>(asList(new EmbeddingMatch<>(0.8, "id 2", null, TextSegment.from("content 2"))))
+        ));
+        ContentRetriever contentRetriever = new EmbeddingStoreContentRetriever(EMBEDDING_STORE, EMBEDDING_MODEL);
+
+        // when
+        List<List<Content>> contents = contentRetriever.retrieveAll(asList(query1, query2));
+
+        // then
+        assertThat(contents).containsExactly(
+                asList(Content.from("content 1")),
+                asList(Content.from("content 2"))
+        );
+        verify(EMBEDDING_MODEL).embedAll(asList(TextSegment.from("query 1"), TextSegment.from("query 2")));
+        verifyNoMoreInteractions(EMBEDDING_MODEL);
+        verify(EMBEDDING_STORE).searchBatch(asList(
+                EmbeddingSearchRequest.builder()
+                        .queryEmbedding(EMBEDDING)
+                        .maxResults(DEFAULT_MAX_RESULTS)
+                        .minScore(DEFAULT_MIN_SCORE)
+                        .build(),
+                EmbeddingSearchRequest.builder()
+                        .queryEmbedding(embedding2)
+                        .maxResults(DEFAULT_MAX_RESULTS)
+                        .minScore(DEFAULT_MIN_SCORE)
+                        .build()
+        ));
+        verifyNoMoreInteractions(EMBEDDING_STORE);
+    }
+
+    @Test
+    void should_retrieve_all_from_cache_and_store() {
+
+        // given
+        Query query1 = Query.from("query 1");
+        Query query2 = Query.from("query 2");
+        Embedding embedding2 = Embedding.from(asList(3f, 2f, 1f));
+        when(EMBEDDING_MODEL.embedAll(any())).thenReturn(Response.from(asList(embedding2)));
+        when(EMBEDDING_STORE.searchBatch(any())).thenReturn(asList(
+                new EmbeddingSearchResult<>(asList(new EmbeddingMatch<>(0.8, "id 2", null, TextSegment.from("content 2"))))
+        ));
+        RetrievalCache cache = new RetrievalCache();
+        EmbeddingStoreContentRetriever contentRetriever = EmbeddingStoreContentRetriever.builder()
+                .embeddingStore(EMBEDDING_STORE)
+                .embeddingModel(EMBEDDING_MODEL)
+                .cache(cache)
+                .build();
+        List<Content> cached = contentRetriever.retrieve(query1);
+
+        // when
+        List<List<Content>> contents = contentRetriever.retrieveAll(asList(query1, query2));
+
+        // then
+        assertThat(contents).containsExactly(cached, asList(Content.from("content 2")));
+        verify(EMBEDDING_MODEL).embedAll(asList(TextSegment.from("query 2")));
+        verify(EMBEDDING_STORE).searchBatch(asList(EmbeddingSearchRequest.builder()
+                .queryEmbedding(embedding2)
+                .maxResults(DEFAULT_MAX_RESULTS)
+                .minScore(DEFAULT_MIN_SCORE)
+                .build()));
+        assertThat(cache.resultHits()).isEqualTo(1);
+    }
 }
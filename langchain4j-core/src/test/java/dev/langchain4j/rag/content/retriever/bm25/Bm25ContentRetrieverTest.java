@@ -0,0 +1,42 @@
+package dev.langchain4j.rag.content.retriever.bm25;
+
+import dev.langchain4j.data.document.Metadata;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.rag.content.Content;
+import dev.langchain4j.rag.content.retriever.ContentRetriever;
+import dev.langchain4j.rag.query.Query;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static dev.langchain4j.store.embedding.filter.MetadataFilterBuilder.metadataKey;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class Bm25ContentRetrieverTest {
+
+    @Test
+    void should_retrieve_from_index() {
+
+        // given
+        Bm25Index index = new Bm25Index();
+        index.add("1", TextSegment.from("Error E-1042 means the disk is full.", Metadata.from("lang", "en")));
+        index.add("2", TextSegment.from("Error E-2001 means the network is down.", Metadata.from("lang", "en")));
+        index.add("3", TextSegment.from("Fehler E-1042 bedeutet, dass die Festplatte voll ist.", Metadata.from("lang", "de")));
+
+        ContentRetriever contentRetriever = Bm25ContentRetriever.builder()
+                .index(index)
+                .maxResults(2)
+                .filter(metadataKey("lang").isEqualTo("en"))
+                .build();
+
+        // when
+        List<Content> contents = contentRetriever.retrieve(Query.from("What does E-1042 mean?"));
+
+        // then
+        assertThat(contents).first().isEqualTo(
+                Content.from(TextSegment.from("Error E-1042 means the disk is full.", Metadata.from("lang", "en")))
+        );
+        assertThat(contents).extracting(content -> content.textSegment().metadata().getString("lang"))
+                .containsOnly("en");
+    }
+}
@@ -0,0 +1,243 @@
+package dev.langchain4j.rag.content.retriever.bm25;
+
+import dev.langchain4j.data.document.Metadata;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.store.embedding.EmbeddingStore;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static dev.langchain4j.store.embedding.filter.MetadataFilterBuilder.metadataKey;
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class Bm25IndexTest {
+
+    @Test
+    void should_rank_by_bm25_score() {
+
+        // given
+        Bm25Index index = new Bm25Index();
+        index.add("1", TextSegment.from("The cat sat on the mat."));
+        index.add("2", TextSegment.from("The dog chased the cat. The cat ran away from the dog."));
+        index.add("3", TextSegment.from("Stock prices rose sharply today."));
+
+        // when
+        List<Bm25Match> matches = index.search("cat", 10);
+
+        // then
+        assertThat(matches).extracting(Bm25Match::id).containsExactly("2", "1");
+        assertThat(matches.get(0).score()).isGreaterThan(matches.get(1).score());
+    }
+
+    @Test
+    void should_match_exact_identifiers() {
+
+        // given
+        Bm25Index index = new Bm25Index();
+        index.add("1", TextSegment.from("Replacement filter for model SKU-4471-B, fits all B series."));
+        index.add("2", TextSegment.from("Replacement filter for model SKU-4471-C."));
+        index.add("3", TextSegment.from("Filters are available for all models."));
+
+        // when
+        List<Bm25Match> matches = index.search("Is SKU-4471-B in stock?", 1);
+
+        // then
+        assertThat(matches).extracting(Bm25Match::id).containsExactly("1");
+    }
+
+    @Test
+    void should_respect_max_results_min_score_and_filter() {
+
+        // given
+        Bm25Index index = new Bm25Index();
+        index.add("1", TextSegment.from("apple banana", Metadata.from("type", "fruit")));
+        index.add("2", TextSegment.from("apple pie", Metadata.from("type", "dessert")));
+        index.add("3", TextSegment.from("apple apple apple", Metadata.from("type", "fruit")));
+
+        // then
+        assertThat(index.search("apple", 1)).hasSize(1);
+        assertThat(index.search("apple", 10, 0, metadataKey("type").isEqualTo("fruit")))
+                .extracting(Bm25Match::id)
+                .containsExactlyInAnyOrder("1", "3");
+        assertThat(index.search("apple", 10, 1000, null)).isEmpty();
+        assertThat(index.search("orange", 10)).isEmpty();
+    }
+
+    @Test
+    void should_replace_and_remove_segments() {
+
+        // given
+        Bm25Index index = new Bm25Index();
+        index.addAll(asList("1", "2", "3"), asList(
+                TextSegment.from("first alpha"),
+                TextSegment.from("second beta"),
+                TextSegment.from("third gamma")
+        ));
+
+        // when
+        index.add("1", TextSegment.from("first delta"));
+        index.remove("2");
+
+        // then
+        assertThat(index.size()).isEqualTo(2);
+        assertThat(index.search("alpha", 10)).isEmpty();
+        assertThat(index.search("beta", 10)).isEmpty();
+        assertThat(index.search("delta", 10)).extracting(Bm25Match::id).containsExactly("1");
+
+        // when
+        index.removeAll(metadataKey("missing").isEqualTo("value"));
+        index.removeAll(singletonList("3"));
+
+        // then
+        assertThat(index.size()).isEqualTo(1);
+        assertThat(index.search("third", 10)).isEmpty();
+        assertThat(index.search("first", 10)).extracting(Bm25Match::id).containsExactly("1");
+
+        // when
+        index.removeAll();
+
+        // then
+        assertThat(index.size()).isZero();
+        assertThat(index.search("first", 10)).isEmpty();
+    }
+
+    @Test
+    void should_compact_after_many_removals() {
+
+        // given
+        Bm25Index index = new Bm25Index();
+        for (int i = 0; i < 1000; i++) {
+            index.add(String.valueOf(i), TextSegment.from("segment number " + i));
+        }
+
+        // when
+        index.removeAll(IntStream.range(0, 990).mapToObj(String::valueOf).collect(toList()));
+
+        // then
+        assertThat(index.size()).isEqualTo(10);
+        assertThat(index.search("segment", 100)).hasSize(10);
+        assertThat(index.search("995", 10)).extracting(Bm25Match::id).containsExactly("995");
+    }
+
+    @Test
+    void should_compact_when_the_same_ids_are_added_again() {
+
+        // given
+        Bm25Index index = new Bm25Index();
+        List<String> ids = IntStream.range(0, 10).mapToObj(String::valueOf).collect(toList());
+
+        // when
+        for (int round = 0; round < 100; round++) {
+            int current = round;
+            index.addAll(ids, ids.stream()
+                    .map(id -> TextSegment.from("segment " + id + " round " + current))
+                    .collect(toList()));
+            index.add("0", TextSegment.from("segment 0 round " + current));
+        }
+
+        // then
+        assertThat(index.size()).isEqualTo(10);
+        assertThat(index.entryCount()).isLessThanOrEqualTo(2 * ids.size() + 1);
+        assertThat(index.search("99", 100)).hasSize(10);
+        assertThat(index.search("98", 100)).isEmpty();
+    }
+
+    @Test
+    void standard_analyzer_should_split_and_preserve_identifiers() {
+
+        Analyzer analyzer = new StandardAnalyzer();
+
+        assertThat(analyzer.analyze("Order SKU-4471-B, please!"))
+                .containsExactly("order", "sku", "4471", "b", "sku-4471-b", "please");
+
+        Analyzer customAnalyzer = StandardAnalyzer.builder()
+                .lowerCase(false)
+                .minTermLength(2)
+                .stopWords(asList("the"))
+                .preserveIdentifiers(false)
+                .build();
+
+        assertThat(customAnalyzer.analyze("the Big user_id a"))
+                .containsExactly("Big", "user", "id");
+    }
+
+    @Test
+    void standard_analyzer_should_not_count_compound_identifiers_in_length() {
+
+        Analyzer analyzer = new StandardAnalyzer();
+
+        assertThat(analyzer.length("Order SKU-4471-B, please!")).isEqualTo(5);
+        assertThat(analyzer.length("order sku 4471 b please")).isEqualTo(5);
+    }
+
+    @Test
+    void should_not_penalize_segments_with_compound_identifiers() {
+
+        // given
+        Bm25Index index = new Bm25Index();
+        index.add("1", TextSegment.from("filter SKU-4471-B"));
+        index.add("2", TextSegment.from("filter SKU 4471 B"));
+
+        // when
+        List<Bm25Match> matches = index.search("filter", 10);
+
+        // then
+        assertThat(matches).hasSize(2);
+        assertThat(matches.get(0).score()).isEqualTo(matches.get(1).score());
+    }
+
+    @Test
+    void should_remove_segments_removed_from_embedding_store() {
+
+        // given
+        Bm25Index index = new Bm25Index();
+        index.addAll(asList("1", "2", "3"), asList(
+                TextSegment.from("first alpha", Metadata.from("type", "a")),
+                TextSegment.from("second alpha", Metadata.from("type", "b")),
+                TextSegment.from("third alpha", Metadata.from("type", "b"))
+        ));
+        @SuppressWarnings("unchecked")
+        EmbeddingStore<TextSegment> embeddingStore = mock(EmbeddingStore.class);
+        EmbeddingStore<TextSegment> syncingStore = index.syncingRemovals(embeddingStore);
+
+        // when
+        syncingStore.remove("1");
+
+        // then
+        verify(embeddingStore).remove("1");
+        assertThat(index.search("alpha", 10)).extracting(Bm25Match::id).containsExactlyInAnyOrder("2", "3");
+
+        // when
+        syncingStore.removeAll(metadataKey("type").isEqualTo("b"));
+
+        // then
+        verify(embeddingStore).removeAll(metadataKey("type").isEqualTo("b"));
+        assertThat(index.size()).isZero();
+    }
+
+    @Test
+    void should_keep_segments_when_embedding_store_fails_to_remove_them() {
+
+        // given
+        Bm25Index index = new Bm25Index();
+        index.add("1", TextSegment.from("first alpha"));
+        @SuppressWarnings("unchecked")
+        EmbeddingStore<TextSegment> embeddingStore = mock(EmbeddingStore.class);
+        doThrow(new RuntimeException("unavailable")).when(embeddingStore).removeAll(singletonList("1"));
+
+        // when
+        assertThatThrownBy(() -> index.syncingRemovals(embeddingStore).removeAll(singletonList("1")))
+                .hasMessage("unavailable");
+
+        // then
+        assertThat(index.size()).isEqualTo(1);
+    }
+}
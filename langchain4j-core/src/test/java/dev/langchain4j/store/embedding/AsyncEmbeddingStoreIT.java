@@ -0,0 +1,98 @@
+package dev.langchain4j.store.embedding;
+
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.embedding.EmbeddingModel;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledIf;
+import org.junit.jupiter.api.condition.EnabledIf;
+
+import java.time.Duration;
+import java.util.List;
+
+import static dev.langchain4j.internal.Utils.randomUUID;
+import static dev.langchain4j.store.embedding.TestUtils.awaitUntilAsserted;
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public abstract class AsyncEmbeddingStoreIT {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+    protected abstract AsyncEmbeddingStore<TextSegment> asyncEmbeddingStore();
+
+    protected abstract EmbeddingModel embeddingModel();
+
+    @Test
+    void should_add_and_search() {
+
+        // given
+        List<TextSegment> segments = asList(
+                TextSegment.from("The weather is sunny today " + randomUUID()),
+                TextSegment.from("The stock market fell sharply " + randomUUID()));
+        List<Embedding> embeddings = embeddingModel().embedAll(segments).content();
+
+        // when
+        List<String> ids = asyncEmbeddingStore().addAllAsync(embeddings, segments).join();
+
+        // then
+        assertThat(ids).hasSize(2);
+        awaitUntilAsserted(() -> {
+            List<EmbeddingMatch<TextSegment>> matches = search(embeddings.get(0));
+            assertThat(matches).extracting(EmbeddingMatch::embeddingId).contains(ids.get(0), ids.get(1));
+            assertThat(matches.get(0).embeddingId()).isEqualTo(ids.get(0));
+            assertThat(matches.get(0).embedded()).isEqualTo(segments.get(0));
+        });
+    }
+
+    @Test
+    @EnabledIf("supportsRemoval")
+    void should_remove_by_ids() {
+
+        // given
+        List<TextSegment> segments = asList(
+                TextSegment.from("Cats like to sleep " + randomUUID()),
+                TextSegment.from("Dogs like to play " + randomUUID()));
+        List<Embedding> embeddings = embeddingModel().embedAll(segments).content();
+        List<String> ids = asyncEmbeddingStore().addAllAsync(embeddings, segments).join();
+        awaitUntilAsserted(() -> assertThat(search(embeddings.get(0)))
+                .extracting(EmbeddingMatch::embeddingId).contains(ids.get(0), ids.get(1)));
+
+        // when
+        asyncEmbeddingStore().removeAllAsync(singletonList(ids.get(0))).join();
+
+        // then
+        awaitUntilAsserted(() -> assertThat(search(embeddings.get(0)))
+                .extracting(EmbeddingMatch::embeddingId).doesNotContain(ids.get(0)).contains(ids.get(1)));
+    }
+
+    @Test
+    @DisabledIf("supportsRemoval")
+    void should_return_failed_future_when_removal_is_not_supported() {
+
+        assertThat(asyncEmbeddingStore().removeAllAsync(singletonList(randomUUID())))
+                .failsWithin(TIMEOUT)
+                .withThrowableOfType(Exception.class)
+                .withCauseInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void should_return_failed_future_instead_of_throwing() {
+
+        assertThat(asyncEmbeddingStore().removeAllAsync(emptyList())).failsWithin(TIMEOUT);
+    }
+
+    protected boolean supportsRemoval() {
+        return true;
+    }
+
+    private List<EmbeddingMatch<TextSegment>> search(Embedding queryEmbedding) {
+        EmbeddingSearchRequest request = EmbeddingSearchRequest.builder()
+                .queryEmbedding(queryEmbedding)
+                .maxResults(10)
+                .build();
+        return asyncEmbeddingStore().searchAsync(request).join().matches();
+    }
+}
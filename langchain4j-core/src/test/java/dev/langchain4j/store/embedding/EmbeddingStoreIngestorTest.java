@@ -10,14 +10,21 @@ import dev.langchain4j.data.segment.TextSegmentTransformer;
 import dev.langchain4j.model.embedding.EmbeddingModel;
 import dev.langchain4j.model.output.Response;
 import dev.langchain4j.model.output.TokenUsage;
+import dev.langchain4j.rag.content.retriever.bm25.Bm25Index;
+import dev.langchain4j.rag.content.retriever.bm25.Bm25Match;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
 import static dev.langchain4j.data.segment.TextSegment.textSegment;
 import static java.util.Arrays.asList;
 import static java.util.Collections.singletonList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
@@ -222,4 +229,75 @@ class EmbeddingStoreIngestorTest {
 
         assertThat(ingestionResult.tokenUsage()).isEqualTo(tokenUsage);
     }
+
+    @Test
+    void should_keep_bm25_index_in_sync() {
+
+        // given
+        TextSegment textSegment = TextSegment.from("Product SKU-4471-B", Metadata.from("index", "0"));
+
+        EmbeddingModel embeddingModel = mock(EmbeddingModel.class);
+        when(embeddingModel.embedAll(singletonList(textSegment)))
+                .thenReturn(Response.from(singletonList(Embedding.from(new float[]{1}))));
+
+        @SuppressWarnings("unchecked")
+        EmbeddingStore<TextSegment> embeddingStore = mock(EmbeddingStore.class);
+        when(embeddingStore.addAll(singletonList(Embedding.from(new float[]{1})), singletonList(textSegment)))
+                .thenReturn(singletonList("id-1"));
+
+        Bm25Index bm25Index = new Bm25Index();
+
+        EmbeddingStoreIngestor ingestor = EmbeddingStoreIngestor.builder()
+                .embeddingModel(embeddingModel)
+                .embeddingStore(embeddingStore)
+                .bm25Index(bm25Index)
+                .build();
+
+        // when
+        ingestor.ingest(Document.from("Product SKU-4471-B"));
+
+        // then
+        List<Bm25Match> matches = bm25Index.search("sku-4471-b", 10);
+        assertThat(matches).hasSize(1);
+        assertThat(matches.get(0).id()).isEqualTo("id-1");
+        assertThat(matches.get(0).textSegment()).isEqualTo(textSegment);
+    }
+
+    @Test
+    void should_ingest_async_into_sync_store_on_executor() {
+
+        // given
+        TextSegment textSegment = TextSegment.from("Some text", Metadata.from("index", "0"));
+        TokenUsage tokenUsage = new TokenUsage(1, 2, 3);
+
+        EmbeddingModel embeddingModel = mock(EmbeddingModel.class);
+        when(embeddingModel.embedAll(singletonList(textSegment)))
+                .thenReturn(Response.from(singletonList(Embedding.from(new float[]{1})), tokenUsage));
+
+        @SuppressWarnings("unchecked")
+        EmbeddingStore<TextSegment> embeddingStore = mock(EmbeddingStore.class);
+        when(embeddingStore.addAll(singletonList(Embedding.from(new float[]{1})), singletonList(textSegment)))
+                .thenReturn(singletonList("id-1"));
+
+        List<Runnable> tasks = new ArrayList<>();
+        EmbeddingStoreIngestor ingestor = EmbeddingStoreIngestor.builder()
+                .embeddingModel(embeddingModel)
+                .embeddingStore(embeddingStore)
+                .executor(tasks::add)
+                .build();
+
+        // when
+        CompletableFuture<IngestionResult> ingestionResult = ingestor.ingestAsync(singletonList(Document.from("Some text")));
+
+        // then
+        assertThat(ingestionResult).isNotDone();
+        verifyNoInteractions(embeddingStore);
+
+        // when
+        tasks.forEach(Runnable::run);
+
+        // then
+        assertThat(ingestionResult.join().tokenUsage()).isEqualTo(tokenUsage);
+        verify(embeddingStore).addAll(singletonList(Embedding.from(new float[]{1})), singletonList(textSegment));
+    }
 }
@@ -0,0 +1,116 @@
+package dev.langchain4j.store.embedding;
+
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.embedding.EmbeddingModel;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIf;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static dev.langchain4j.data.document.Metadata.metadata;
+import static dev.langchain4j.internal.Utils.randomUUID;
+import static dev.langchain4j.store.embedding.TestUtils.awaitUntilAsserted;
+import static dev.langchain4j.store.embedding.filter.MetadataFilterBuilder.metadataKey;
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public abstract class EmbeddingStoreWithScanIT {
+
+    protected abstract EmbeddingStore<TextSegment> embeddingStore();
+
+    protected abstract EmbeddingModel embeddingModel();
+
+    @Test
+    void should_scan_all_pages() {
+
+        // given
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            TextSegment segment = TextSegment.from("test" + i);
+            ids.add(embeddingStore().add(embeddingModel().embed(segment).content(), segment));
+        }
+        awaitUntilAsserted(() -> assertThat(scanAll(EmbeddingScanRequest.builder().build())).hasSize(5));
+
+        // when
+        List<EmbeddingScanResult<TextSegment>> pages = new ArrayList<>();
+        EmbeddingScanRequest request = EmbeddingScanRequest.builder().pageSize(2).build();
+        while (request != null) {
+            EmbeddingScanResult<TextSegment> page = embeddingStore().scan(request);
+            pages.add(page);
+            request = page.hasNext() ? request.next(page) : null;
+        }
+
+        // then
+        assertThat(pages).allSatisfy(page -> assertThat(page.records()).hasSizeLessThanOrEqualTo(2));
+        List<EmbeddingRecord<TextSegment>> records = pages.stream()
+                .flatMap(page -> page.records().stream())
+                .collect(toList());
+        assertThat(records).extracting(EmbeddingRecord::id).containsExactlyInAnyOrderElementsOf(ids);
+        assertThat(records).allSatisfy(record -> {
+            assertThat(record.embedding().dimension()).isEqualTo(embeddingModel().dimension());
+            assertThat(record.embedded().text()).startsWith("test");
+        });
+    }
+
+    @Test
+    @EnabledIf("supportsScanWithFilter")
+    void should_scan_with_filter() {
+
+        // given
+        TextSegment segment1 = TextSegment.from("matching", metadata("type", "a"));
+        String id1 = embeddingStore().add(embeddingModel().embed(segment1).content(), segment1);
+
+        TextSegment segment2 = TextSegment.from("not matching", metadata("type", "b"));
+        embeddingStore().add(embeddingModel().embed(segment2).content(), segment2);
+
+        awaitUntilAsserted(() -> assertThat(scanAll(EmbeddingScanRequest.builder().build())).hasSize(2));
+
+        // when
+        List<EmbeddingRecord<TextSegment>> records = scanAll(EmbeddingScanRequest.builder()
+                .filter(metadataKey("type").isEqualTo("a"))
+                .build());
+
+        // then
+        assertThat(records).hasSize(1);
+        assertThat(records.get(0).id()).isEqualTo(id1);
+        assertThat(records.get(0).embedded()).isEqualTo(segment1);
+    }
+
+    protected boolean supportsScanWithFilter() {
+        return true;
+    }
+
+    @Test
+    void should_scan_empty_store() {
+
+        // when
+        EmbeddingScanResult<TextSegment> result = embeddingStore().scan(EmbeddingScanRequest.builder().build());
+
+        // then
+        assertThat(result.records()).isEmpty();
+        assertThat(result.hasNext()).isFalse();
+    }
+
+    @Test
+    void should_add_all_with_ids() {
+
+        // given
+        List<String> ids = List.of(randomUUID(), randomUUID());
+        List<TextSegment> segments = List.of(TextSegment.from("first"), TextSegment.from("second"));
+        List<Embedding> embeddings = embeddingModel().embedAll(segments).content();
+
+        // when
+        embeddingStore().addAll(ids, embeddings, segments);
+
+        // then
+        awaitUntilAsserted(() -> assertThat(scanAll(EmbeddingScanRequest.builder().build()))
+                .extracting(EmbeddingRecord::id)
+                .containsExactlyInAnyOrderElementsOf(ids));
+    }
+
+    protected List<EmbeddingRecord<TextSegment>> scanAll(EmbeddingScanRequest request) {
+        return embeddingStore().export(request).collect(toList());
+    }
+}
@@ -0,0 +1,91 @@
+package dev.langchain4j.store.embedding;
+
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+class ExecutorAsyncEmbeddingStoreTest {
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, "store"));
+
+    @AfterEach
+    void afterEach() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void should_run_blocking_calls_on_executor() {
+
+        // given
+        EmbeddingStore<TextSegment> store = mock(EmbeddingStore.class);
+        AtomicReference<String> thread = new AtomicReference<>();
+        when(store.addAll(any(), any())).thenAnswer(invocation -> {
+            thread.set(Thread.currentThread().getName());
+            return singletonList("id");
+        });
+        AsyncEmbeddingStore<TextSegment> asyncStore = AsyncEmbeddingStore.from(store, executor);
+        Embedding embedding = Embedding.from(asList(1f, 2f));
+        List<TextSegment> segments = singletonList(TextSegment.from("text"));
+
+        // when
+        List<String> ids = asyncStore.addAllAsync(singletonList(embedding), segments).join();
+
+        // then
+        assertThat(ids).containsExactly("id");
+        assertThat(thread.get()).isEqualTo("store");
+        verify(store).addAll(singletonList(embedding), segments);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void should_complete_exceptionally_when_store_fails() {
+
+        // given
+        EmbeddingStore<TextSegment> store = mock(EmbeddingStore.class);
+        when(store.search(any())).thenThrow(new IllegalStateException("unavailable"));
+        AsyncEmbeddingStore<TextSegment> asyncStore = AsyncEmbeddingStore.from(store, executor);
+
+        // when
+        CompletableFuture<EmbeddingSearchResult<TextSegment>> result = asyncStore.searchAsync(
+                EmbeddingSearchRequest.builder().queryEmbedding(Embedding.from(asList(1f, 2f))).build());
+
+        // then
+        assertThatThrownBy(result::join)
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void should_return_natively_async_store() {
+
+        // given
+        EmbeddingStore<TextSegment> store = mock(EmbeddingStore.class,
+                withSettings().extraInterfaces(AsyncEmbeddingStore.class));
+
+        // when
+        AsyncEmbeddingStore<TextSegment> asyncStore = AsyncEmbeddingStore.from(store, executor);
+
+        // then
+        assertThat(asyncStore).isSameAs(store);
+    }
+}
@@ -0,0 +1,184 @@
+package dev.langchain4j.store.embedding.elasticsearch;
+
+import co.elastic.clients.elasticsearch._types.Refresh;
+
+import java.time.Duration;
+
+import static dev.langchain4j.internal.Utils.getOrDefault;
+import static dev.langchain4j.internal.ValidationUtils.ensureBetween;
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+
+/**
+ * Controls how {@link ElasticsearchEmbeddingStore} sends
+ * <a href="https://www.elastic.co/guide/en/elasticsearch/reference/current/docs-bulk.html">bulk</a> requests.
+ * <br>
+ * Large {@code addAll} and {@code removeAll} calls are split into several bulk requests, limited both by
+ * document count and by estimated request size, which are sent concurrently.
+ * Items rejected with status 429 (too many requests) are sent again after a growing delay.
+ * <br>
+ * When a call adds at least {@link Builder#largeLoadThreshold(Integer)} documents, the index refresh is
+ * disabled for the duration of the load and restored afterwards, optionally followed by a force merge.
+ */
+public class ElasticsearchBulkConfiguration {
+
+    private final int maxDocumentsPerRequest;
+    private final long maxBytesPerRequest;
+    private final int maxConcurrentRequests;
+    private final int maxRetries;
+    private final Duration retryDelay;
+    private final Refresh refresh;
+    private final Integer largeLoadThreshold;
+    private final Integer forceMergeMaxSegments;
+
+    private ElasticsearchBulkConfiguration(Builder builder) {
+        this.maxDocumentsPerRequest = ensureGreaterThanZero(getOrDefault(builder.maxDocumentsPerRequest, 1000), "maxDocumentsPerRequest");
+        this.maxBytesPerRequest = ensureBetween(getOrDefault(builder.maxBytesPerRequest, 5L * 1024 * 1024), 1, Long.MAX_VALUE, "maxBytesPerRequest");
+        this.maxConcurrentRequests = ensureGreaterThanZero(getOrDefault(builder.maxConcurrentRequests, 1), "maxConcurrentRequests");
+        this.maxRetries = ensureBetween(getOrDefault(builder.maxRetries, 3), 0, Integer.MAX_VALUE, "maxRetries");
+        this.retryDelay = ensureNotNull(getOrDefault(builder.retryDelay, Duration.ofMillis(500)), "retryDelay");
+        this.refresh = builder.refresh;
+        this.largeLoadThreshold = builder.largeLoadThreshold;
+        this.forceMergeMaxSegments = builder.forceMergeMaxSegments;
+    }
+
+    public int maxDocumentsPerRequest() {
+        return maxDocumentsPerRequest;
+    }
+
+    public long maxBytesPerRequest() {
+        return maxBytesPerRequest;
+    }
+
+    public int maxConcurrentRequests() {
+        return maxConcurrentRequests;
+    }
+
+    public int maxRetries() {
+        return maxRetries;
+    }
+
+    public Duration retryDelay() {
+        return retryDelay;
+    }
+
+    public Refresh refresh() {
+        return refresh;
+    }
+
+    public Integer largeLoadThreshold() {
+        return largeLoadThreshold;
+    }
+
+    public Integer forceMergeMaxSegments() {
+        return forceMergeMaxSegments;
+    }
+
+    boolean isLargeLoad(int documentCount) {
+        return largeLoadThreshold != null && documentCount >= largeLoadThreshold;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+
+        private Integer maxDocumentsPerRequest;
+        private Long maxBytesPerRequest;
+        private Integer maxConcurrentRequests;
+        private Integer maxRetries;
+        private Duration retryDelay;
+        private Refresh refresh;
+        private Integer largeLoadThreshold;
+        private Integer forceMergeMaxSegments;
+
+        /**
+         * @param maxDocumentsPerRequest The maximum number of documents in a single bulk request.
+         *                               Default value: 1000.
+         * @return builder
+         */
+        public Builder maxDocumentsPerRequest(Integer maxDocumentsPerRequest) {
+            this.maxDocumentsPerRequest = maxDocumentsPerRequest;
+            return this;
+        }
+
+        /**
+         * @param maxBytesPerRequest The maximum estimated size of a single bulk request, in bytes.
+         *                           The size of a document is estimated from its vector, text and metadata.
+         *                           A document larger than this limit is sent alone.
+         *                           Default value: 5 MiB.
+         * @return builder
+         */
+        public Builder maxBytesPerRequest(Long maxBytesPerRequest) {
+            this.maxBytesPerRequest = maxBytesPerRequest;
+            return this;
+        }
+
+        /**
+         * @param maxConcurrentRequests The maximum number of bulk requests in flight at the same time.
+         *                              Default value: 1.
+         * @return builder
+         */
+        public Builder maxConcurrentRequests(Integer maxConcurrentRequests) {
+            this.maxConcurrentRequests = maxConcurrentRequests;
+            return this;
+        }
+
+        /**
+         * @param maxRetries How many times items rejected with status 429 are sent again.
+         *                   Default value: 3.
+         * @return builder
+         */
+        public Builder maxRetries(Integer maxRetries) {
+            this.maxRetries = maxRetries;
+            return this;
+        }
+
+        /**
+         * @param retryDelay The delay before the first retry, doubled for each following one.
+         *                   Default value: 500 milliseconds.
+         * @return builder
+         */
+        public Builder retryDelay(Duration retryDelay) {
+            this.retryDelay = retryDelay;
+            return this;
+        }
+
+        /**
+         * @param refresh The {@code refresh} parameter of the bulk requests (optional).
+         *                By default, the index refresh interval decides when the documents become visible.
+         * @return builder
+         */
+        public Builder refresh(Refresh refresh) {
+            this.refresh = refresh;
+            return this;
+        }
+
+        /**
+         * @param largeLoadThreshold The number of documents from which a call is considered a large load (optional).
+         *                           During a large load, the index {@code refresh_interval} is set to {@code -1},
+         *                           then restored and followed by a refresh once all documents are sent.
+         *                           By default, the refresh is never disabled.
+         * @return builder
+         */
+        public Builder largeLoadThreshold(Integer largeLoadThreshold) {
+            this.largeLoadThreshold = largeLoadThreshold;
+            return this;
+        }
+
+        /**
+         * @param forceMergeMaxSegments When set, a large load ends with a force merge down to this number of
+         *                              segments (optional).
+         * @return builder
+         */
+        public Builder forceMergeMaxSegments(Integer forceMergeMaxSegments) {
+            this.forceMergeMaxSegments = forceMergeMaxSegments;
+            return this;
+        }
+
+        public ElasticsearchBulkConfiguration build() {
+            return new ElasticsearchBulkConfiguration(this);
+        }
+    }
+}
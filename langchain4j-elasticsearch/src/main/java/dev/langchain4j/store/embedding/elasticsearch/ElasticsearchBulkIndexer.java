@@ -0,0 +1,355 @@
+package dev.langchain4j.store.embedding.elasticsearch;
+
+import co.elastic.clients.elasticsearch.ElasticsearchAsyncClient;
+import co.elastic.clients.elasticsearch._types.ElasticsearchException;
+import co.elastic.clients.elasticsearch._types.Time;
+import co.elastic.clients.elasticsearch.core.BulkRequest;
+import co.elastic.clients.elasticsearch.core.BulkResponse;
+import co.elastic.clients.elasticsearch.core.bulk.BulkOperation;
+import co.elastic.clients.elasticsearch.core.bulk.BulkResponseItem;
+import co.elastic.clients.elasticsearch.indices.IndexSettings;
+import co.elastic.clients.elasticsearch.indices.IndexState;
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * Sends bulk operations as described by an {@link ElasticsearchBulkConfiguration}:
+ * split into chunks, with a bounded number of requests in flight, and with retries of rejected requests and items.
+ * <br>
+ * The refresh of the index is disabled by the first of concurrent large loads and restored by the last one.
+ */
+class ElasticsearchBulkIndexer {
+
+    private static final Logger log = LoggerFactory.getLogger(ElasticsearchBulkIndexer.class);
+
+    /**
+     * Rough size of the action line and of the JSON syntax around a document.
+     */
+    private static final long OPERATION_OVERHEAD_BYTES = 100;
+    /**
+     * A float rendered as JSON, with its separator, rarely takes more than 16 characters.
+     */
+    private static final long BYTES_PER_VECTOR_DIMENSION = 16;
+    private static final int TOO_MANY_REQUESTS = 429;
+    private static final Time REFRESH_DISABLED = Time.of(time -> time.time("-1"));
+    private static final Time DEFAULT_REFRESH_INTERVAL = Time.of(time -> time.time("1s"));
+
+    private final ElasticsearchAsyncClient asyncClient;
+    private final String indexName;
+    private final ElasticsearchBulkConfiguration configuration;
+
+    private final Object refreshLock = new Object();
+    /**
+     * The number of large loads in progress with the refresh of the index disabled.
+     * A load is only counted once the refresh is actually disabled.
+     */
+    private int largeLoadsInProgress;
+    /**
+     * The refresh interval to restore once the large loads in progress are done.
+     */
+    private Time refreshIntervalToRestore;
+    /**
+     * The last change of the refresh interval. Changes are applied one after the other, and this future never fails.
+     */
+    private CompletableFuture<Void> refreshIntervalChange = CompletableFuture.completedFuture(null);
+
+    ElasticsearchBulkIndexer(ElasticsearchAsyncClient asyncClient, String indexName, ElasticsearchBulkConfiguration configuration) {
+        this.asyncClient = asyncClient;
+        this.indexName = indexName;
+        this.configuration = configuration;
+    }
+
+    static long estimateSize(Embedding embedding, TextSegment embedded) {
+        long size = OPERATION_OVERHEAD_BYTES + BYTES_PER_VECTOR_DIMENSION * embedding.dimension();
+        if (embedded != null) {
+            size += embedded.text().getBytes(UTF_8).length;
+            size += embedded.metadata().toMap().toString().getBytes(UTF_8).length;
+        }
+        return size;
+    }
+
+    static long estimateSize(String id) {
+        return OPERATION_OVERHEAD_BYTES + id.length();
+    }
+
+    /**
+     * Sends index operations. When their number reaches the large load threshold,
+     * the refresh of the index is disabled until all the large loads in progress are done.
+     */
+    CompletableFuture<Void> index(List<BulkOperation> operations, List<Long> sizes) {
+        if (!configuration.isLargeLoad(operations.size())) {
+            return execute(operations, sizes);
+        }
+        log.debug("Loading [{}] documents into index [{}] with its refresh disabled", operations.size(), indexName);
+        return disableRefresh().thenCompose(disabled -> execute(operations, sizes)
+                .handle((ignored, error) -> error)
+                .thenCompose(error -> (disabled ? restoreRefresh() : CompletableFuture.completedFuture(false))
+                        .thenCompose(lastLoad -> {
+                            if (error != null) {
+                                return CompletableFuture.failedFuture(unwrap(error));
+                            }
+                            return lastLoad ? refreshAndForceMerge() : refresh();
+                        })));
+    }
+
+    /**
+     * Disables the refresh of the index, unless another large load already did.
+     * Failing to disable it does not fail the load, which then runs with the refresh enabled.
+     *
+     * @return whether the refresh is disabled for this load, in which case {@link #restoreRefresh()} must be called
+     */
+    private CompletableFuture<Boolean> disableRefresh() {
+        synchronized (refreshLock) {
+            if (largeLoadsInProgress > 0) {
+                largeLoadsInProgress++;
+                return CompletableFuture.completedFuture(true);
+            }
+            // waits until a concurrent load has disabled the refresh, or a previous one has restored it
+            CompletableFuture<Boolean> disabled = refreshIntervalChange.thenCompose(ignored -> joinOrDisableRefresh());
+            refreshIntervalChange = disabled.thenAccept(ignored -> {
+            });
+            return disabled;
+        }
+    }
+
+    private CompletableFuture<Boolean> joinOrDisableRefresh() {
+        synchronized (refreshLock) {
+            if (largeLoadsInProgress > 0) {
+                largeLoadsInProgress++;
+                return CompletableFuture.completedFuture(true);
+            }
+        }
+        return currentRefreshInterval()
+                .thenCompose(refreshInterval -> {
+                        if (refreshInterval == null) {
+                            log.debug("The index [{}] does not exist yet, its refresh is not disabled.", indexName);
+                            return CompletableFuture.completedFuture(false);
+                        }
+                    Time toRestore = refreshInterval;
+                    if (REFRESH_DISABLED.time().equals(refreshInterval.time())) {
+                        log.warn("The refresh of index [{}] is already disabled, it will be restored to [{}]",
+                                indexName, DEFAULT_REFRESH_INTERVAL.time());
+                        toRestore = DEFAULT_REFRESH_INTERVAL;
+                    }
+                    Time restored = toRestore;
+                    return putRefreshInterval(REFRESH_DISABLED).thenApply(ignored -> {
+                        synchronized (refreshLock) {
+                            largeLoadsInProgress++;
+                            refreshIntervalToRestore = restored;
+                        }
+                        return true;
+                    });
+                })
+                .exceptionally(error -> {
+                    log.warn("Failed to disable the refresh of index [{}], loading with the refresh enabled",
+                            indexName, unwrap(error));
+                    return false;
+                });
+    }
+
+    /**
+     * Restores the refresh interval once the last of the large loads in progress is done.
+     *
+     * @return whether this was the last large load in progress
+     */
+    private CompletableFuture<Boolean> restoreRefresh() {
+        synchronized (refreshLock) {
+            if (--largeLoadsInProgress > 0) {
+                return CompletableFuture.completedFuture(false);
+            }
+            Time refreshInterval = refreshIntervalToRestore;
+            refreshIntervalToRestore = null;
+            CompletableFuture<Void> restored = refreshIntervalChange
+                    .thenCompose(ignored -> putRefreshInterval(refreshInterval));
+            refreshIntervalChange = restored.exceptionally(error -> null);
+            return restored.thenApply(ignored -> true);
+        }
+    }
+
+    /**
+     * Splits the operations in chunks and sends them,
+     * with at most {@link ElasticsearchBulkConfiguration#maxConcurrentRequests()} requests in flight.
+     * Once a chunk fails, the chunks that are not sent yet are dropped.
+     */
+    CompletableFuture<Void> execute(List<BulkOperation> operations, List<Long> sizes) {
+        Queue<List<BulkOperation>> chunks = new ConcurrentLinkedQueue<>(split(operations, sizes));
+        log.debug("sending [{}] operations in [{}] bulk requests", operations.size(), chunks.size());
+
+        int workers = Math.min(chunks.size(), configuration.maxConcurrentRequests());
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[workers];
+        for (int i = 0; i < workers; i++) {
+            futures[i] = sendNext(chunks);
+        }
+        return CompletableFuture.allOf(futures);
+    }
+
+    private List<List<BulkOperation>> split(List<BulkOperation> operations, List<Long> sizes) {
+        List<List<BulkOperation>> chunks = new ArrayList<>();
+        List<BulkOperation> chunk = new ArrayList<>();
+        long chunkSize = 0;
+        for (int i = 0; i < operations.size(); i++) {
+            long size = sizes.get(i);
+            if (!chunk.isEmpty() && (chunk.size() == configuration.maxDocumentsPerRequest()
+                    || chunkSize + size > configuration.maxBytesPerRequest())) {
+                chunks.add(chunk);
+                chunk = new ArrayList<>();
+                chunkSize = 0;
+            }
+            chunk.add(operations.get(i));
+            chunkSize += size;
+        }
+        if (!chunk.isEmpty()) {
+            chunks.add(chunk);
+        }
+        return chunks;
+    }
+
+    private CompletableFuture<Void> sendNext(Queue<List<BulkOperation>> chunks) {
+        List<BulkOperation> chunk = chunks.poll();
+        if (chunk == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return send(chunk, 0)
+                .whenComplete((ignored, error) -> {
+                    if (error != null) {
+                        chunks.clear();
+                    }
+                })
+                .thenCompose(ignored -> sendNext(chunks));
+    }
+
+    private CompletableFuture<Void> send(List<BulkOperation> chunk, int attempt) {
+        BulkRequest request = BulkRequest.of(bulk -> {
+            bulk.operations(chunk);
+            if (configuration.refresh() != null) {
+                bulk.refresh(configuration.refresh());
+            }
+            return bulk;
+        });
+        return asyncClient.bulk(request).handle((response, error) -> {
+            if (error == null) {
+                return handleResponse(chunk, response, attempt);
+            }
+            Throwable cause = unwrap(error);
+            if (cause instanceof ElasticsearchException
+                    && ((ElasticsearchException) cause).status() == TOO_MANY_REQUESTS
+                    && attempt < configuration.maxRetries()) {
+                return retryLater(chunk, attempt);
+            }
+            return CompletableFuture.<Void>failedFuture(cause);
+        }).thenCompose(future -> future);
+    }
+
+    private CompletableFuture<Void> handleResponse(List<BulkOperation> chunk, BulkResponse response, int attempt) {
+        if (!response.errors()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        // items are returned in the order of the operations
+        List<BulkOperation> rejected = new ArrayList<>();
+        List<BulkResponseItem> items = response.items();
+        for (int i = 0; i < items.size(); i++) {
+            BulkResponseItem item = items.get(i);
+            if (item.error() == null) {
+                continue;
+            }
+            if (item.status() == TOO_MANY_REQUESTS && attempt < configuration.maxRetries()) {
+                rejected.add(chunk.get(i));
+            } else {
+                return CompletableFuture.failedFuture(new ElasticsearchRequestFailedException(
+                        "type: " + item.error().type() + ", reason: " + item.error().reason()));
+            }
+        }
+        if (rejected.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return retryLater(rejected, attempt);
+    }
+
+    private CompletableFuture<Void> retryLater(List<BulkOperation> rejected, int attempt) {
+        long delay = configuration.retryDelay().toMillis() << attempt;
+        log.debug("[{}] operations were rejected, retrying in [{}] ms", rejected.size(), delay);
+        Executor delayedExecutor = CompletableFuture.delayedExecutor(delay, MILLISECONDS);
+        return CompletableFuture.runAsync(() -> {
+        }, delayedExecutor).thenCompose(ignored -> send(rejected, attempt + 1));
+    }
+
+    /**
+     * @return the refresh interval of the index, or {@code null} when the index does not exist
+     */
+    private CompletableFuture<Time> currentRefreshInterval() {
+        return asyncClient.indices().getSettings(get -> get
+                        .index(indexName)
+                        .includeDefaults(true))
+                .handle((response, error) -> {
+                    if (error != null) {
+                        Throwable cause = unwrap(error);
+                        if (cause instanceof ElasticsearchException && ((ElasticsearchException) cause).status() == 404) {
+                            return null;
+                        }
+                        throw error instanceof CompletionException ? (CompletionException) error : new CompletionException(error);
+                    }
+                    IndexState state = response.get(indexName);
+                    if (state == null) {
+                        return null;
+                    }
+                    Time refreshInterval = refreshInterval(state.settings());
+                    if (refreshInterval == null) {
+                        refreshInterval = refreshInterval(state.defaults());
+                    }
+                    return refreshInterval == null ? DEFAULT_REFRESH_INTERVAL : refreshInterval;
+                });
+    }
+
+    private static Time refreshInterval(IndexSettings settings) {
+        if (settings == null) {
+            return null;
+        }
+        if (settings.refreshInterval() != null) {
+            return settings.refreshInterval();
+        }
+        return settings.index() == null ? null : settings.index().refreshInterval();
+    }
+
+    private CompletableFuture<Void> putRefreshInterval(Time refreshInterval) {
+        return asyncClient.indices().putSettings(put -> put
+                        .index(indexName)
+                        .settings(settings -> settings.refreshInterval(refreshInterval)))
+                .thenAccept(ignored -> {
+                });
+    }
+
+    private CompletableFuture<Void> refresh() {
+        return asyncClient.indices().refresh(refresh -> refresh.index(indexName))
+                .thenAccept(ignored -> {
+                });
+    }
+
+    private CompletableFuture<Void> refreshAndForceMerge() {
+        CompletableFuture<Void> refreshed = refresh();
+        Integer maxSegments = configuration.forceMergeMaxSegments();
+        if (maxSegments == null) {
+            return refreshed;
+        }
+        return refreshed.thenCompose(ignored -> asyncClient.indices().forcemerge(merge -> merge
+                        .index(indexName)
+                        .maxNumSegments(maxSegments.longValue())))
+                .thenAccept(ignored -> log.debug("Index [{}] merged down to [{}] segments", indexName, maxSegments));
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    }
+}
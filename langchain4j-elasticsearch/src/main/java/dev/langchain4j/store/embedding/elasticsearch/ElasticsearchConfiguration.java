@@ -2,14 +2,41 @@ package dev.langchain4j.store.embedding.elasticsearch;
 
 import co.elastic.clients.elasticsearch.ElasticsearchClient;
 import co.elastic.clients.elasticsearch._types.ElasticsearchException;
+import co.elastic.clients.elasticsearch._types.mapping.Property;
+import co.elastic.clients.elasticsearch.core.SearchRequest;
 import co.elastic.clients.elasticsearch.core.SearchResponse;
 import dev.langchain4j.store.embedding.EmbeddingSearchRequest;
 
 import java.io.IOException;
 
 public abstract class ElasticsearchConfiguration {
-    abstract SearchResponse<Document> internalSearch(ElasticsearchClient client,
+
+    SearchResponse<Document> internalSearch(ElasticsearchClient client,
                                             String indexName,
                                             EmbeddingSearchRequest embeddingSearchRequest)
-            throws ElasticsearchException, IOException;
+            throws ElasticsearchException, IOException {
+        return client.search(internalSearchRequest(indexName, embeddingSearchRequest), Document.class);
+    }
+
+    /**
+     * Builds the search request, so that it can be sent by both the blocking and the asynchronous clients.
+     */
+    abstract SearchRequest internalSearchRequest(String indexName,
+                                                 EmbeddingSearchRequest embeddingSearchRequest) throws IOException;
+
+    /**
+     * The mapping of the vector field, used to create the index before the first embedding is added.
+     *
+     * @return {@code null} to let Elasticsearch create the index and map the vector field dynamically
+     */
+    Property vectorProperty(int dimension) {
+        return null;
+    }
+
+    /**
+     * Whether the search request leaves out the minimum score, which must then be applied to the returned hits.
+     */
+    boolean appliesMinScoreAfterSearch() {
+        return false;
+    }
 }
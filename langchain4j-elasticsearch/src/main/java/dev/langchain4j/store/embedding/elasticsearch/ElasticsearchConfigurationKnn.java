@@ -1,29 +1,56 @@
 package dev.langchain4j.store.embedding.elasticsearch;
 
-import co.elastic.clients.elasticsearch.ElasticsearchClient;
-import co.elastic.clients.elasticsearch._types.ElasticsearchException;
 import co.elastic.clients.elasticsearch._types.KnnQuery;
-import co.elastic.clients.elasticsearch.core.SearchResponse;
+import co.elastic.clients.elasticsearch._types.mapping.DenseVectorProperty;
+import co.elastic.clients.elasticsearch._types.mapping.Property;
+import co.elastic.clients.elasticsearch.core.SearchRequest;
+import co.elastic.clients.elasticsearch.core.search.Rescore;
+import co.elastic.clients.json.JsonData;
 import dev.langchain4j.store.embedding.EmbeddingSearchRequest;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.io.IOException;
+import static dev.langchain4j.internal.Utils.getOrDefault;
+import static dev.langchain4j.internal.ValidationUtils.ensureTrue;
+import static java.util.Collections.singletonList;
+
 
 /**
  * Represents an <a href="https://www.elastic.co/">Elasticsearch</a> index as an embedding store
  * using the approximate kNN query implementation.
+ * <br>
+ * When any of {@link Builder#indexType(ElasticsearchVectorIndexType)}, {@link Builder#m(Integer)},
+ * {@link Builder#efConstruction(Integer)} or {@link Builder#similarity(ElasticsearchVectorSimilarity)} is set,
+ * the index is created with an explicit {@code dense_vector} mapping before the first embedding is added.
+ * Otherwise, the mapping is left to Elasticsearch.
  * @see <a href="https://www.elastic.co/guide/en/elasticsearch/reference/current/query-dsl-knn-query.html#knn-query-top-level-parameters">kNN query</a>
+ * @see <a href="https://www.elastic.co/guide/en/elasticsearch/reference/current/dense-vector.html">dense_vector</a>
  */
 public class ElasticsearchConfigurationKnn extends ElasticsearchConfiguration {
     private static final Logger log = LoggerFactory.getLogger(ElasticsearchConfigurationKnn.class);
+    /**
+     * The default value of the {@code index.max_rescore_window} setting, above which a rescore request is rejected.
+     */
+    private static final int MAX_RESCORE_WINDOW = 10_000;
     private final Integer numCandidates;
+    private final ElasticsearchVectorIndexType indexType;
+    private final Integer m;
+    private final Integer efConstruction;
+    private final ElasticsearchVectorSimilarity similarity;
+    private final Double rescoreOversample;
+    private final boolean includeVectorInResponse;
 
     public static class Builder {
         private Integer numCandidates;
+        private ElasticsearchVectorIndexType indexType;
+        private Integer m;
+        private Integer efConstruction;
+        private ElasticsearchVectorSimilarity similarity;
+        private Double rescoreOversample;
+        private Boolean includeVectorInResponse;
 
         public ElasticsearchConfigurationKnn build() {
-            return new ElasticsearchConfigurationKnn(numCandidates);
+            return new ElasticsearchConfigurationKnn(this);
         }
 
         /**
@@ -38,6 +65,81 @@ public class ElasticsearchConfigurationKnn extends ElasticsearchConfiguration {
             this.numCandidates = numCandidates;
             return this;
         }
+
+        /**
+         * The type of the vector index. Quantized types such as {@link ElasticsearchVectorIndexType#INT8_HNSW}
+         * use less memory at the cost of some accuracy, which {@link #rescoreOversample(Double)} can win back.
+         *
+         * @param indexType The type of the vector index
+         * @return the builder instance
+         */
+        public Builder indexType(ElasticsearchVectorIndexType indexType) {
+            this.indexType = indexType;
+            return this;
+        }
+
+        /**
+         * The number of neighbors each node is connected to in the HNSW graph.
+         * Only applies to HNSW index types. When no index type is set, {@link ElasticsearchVectorIndexType#HNSW} is used.
+         *
+         * @param m The number of neighbors per node
+         * @return the builder instance
+         */
+        public Builder m(Integer m) {
+            this.m = m;
+            return this;
+        }
+
+        /**
+         * The number of candidates to track while assembling the list of nearest neighbors of a new node
+         * in the HNSW graph. Only applies to HNSW index types.
+         *
+         * @param efConstruction The number of candidates while building the graph
+         * @return the builder instance
+         */
+        public Builder efConstruction(Integer efConstruction) {
+            this.efConstruction = efConstruction;
+            return this;
+        }
+
+        /**
+         * The similarity used by the kNN search. {@link ElasticsearchVectorSimilarity#DOT_PRODUCT} is the fastest,
+         * but all stored and query vectors must be normalized to unit length.
+         *
+         * @param similarity The similarity of the vector field
+         * @return the builder instance
+         */
+        public Builder similarity(ElasticsearchVectorSimilarity similarity) {
+            this.similarity = similarity;
+            return this;
+        }
+
+        /**
+         * When set, {@code maxResults * rescoreOversample} candidates are retrieved by the kNN search,
+         * then rescored with the full precision vectors, and the best {@code maxResults} are returned.
+         * The number of candidates is capped at 10,000, the default {@code index.max_rescore_window}.
+         * Mostly useful with quantized index types.
+         *
+         * @param rescoreOversample How many times more candidates than results to rescore. Must be at least 1.
+         * @return the builder instance
+         */
+        public Builder rescoreOversample(Double rescoreOversample) {
+            this.rescoreOversample = rescoreOversample;
+            return this;
+        }
+
+        /**
+         * Whether the stored vector is part of the search response.
+         * When {@code false}, it is excluded from the returned {@code _source}
+         * and {@link dev.langchain4j.store.embedding.EmbeddingMatch#embedding()} is {@code null}.
+         *
+         * @param includeVectorInResponse Whether to return the stored vector. Default value: true.
+         * @return the builder instance
+         */
+        public Builder includeVectorInResponse(Boolean includeVectorInResponse) {
+            this.includeVectorInResponse = includeVectorInResponse;
+            return this;
+        }
     }
 
     public static ElasticsearchConfigurationKnn.Builder builder() {
@@ -45,14 +147,47 @@ public class ElasticsearchConfigurationKnn extends ElasticsearchConfiguration {
     }
 
 
-    private ElasticsearchConfigurationKnn(Integer numCandidates) {
-        this.numCandidates = numCandidates;
+    private ElasticsearchConfigurationKnn(Builder builder) {
+        this.numCandidates = builder.numCandidates;
+        this.indexType = builder.indexType;
+        this.m = builder.m;
+        this.efConstruction = builder.efConstruction;
+        this.similarity = builder.similarity;
+        ensureTrue(builder.rescoreOversample == null || builder.rescoreOversample >= 1, "rescoreOversample must be at least 1");
+        this.rescoreOversample = builder.rescoreOversample;
+        this.includeVectorInResponse = getOrDefault(builder.includeVectorInResponse, true);
+        ensureTrue((m == null && efConstruction == null) || indexType == null || indexType.isHnsw(),
+                "m and efConstruction only apply to HNSW index types");
+    }
+
+    @Override
+    Property vectorProperty(int dimension) {
+        if (indexType == null && m == null && efConstruction == null && similarity == null) {
+            return null;
+        }
+        DenseVectorProperty.Builder dense = new DenseVectorProperty.Builder()
+                .dims(dimension)
+                .index(true);
+        if (similarity != null) {
+            dense.similarity(similarity.value());
+        }
+        if (indexType != null || m != null || efConstruction != null) {
+            dense.indexOptions(options -> options
+                    .type(getOrDefault(indexType, ElasticsearchVectorIndexType.HNSW).value())
+                    .m(m)
+                    .efConstruction(efConstruction));
+        }
+        return Property.of(p -> p.denseVector(dense.build()));
+    }
+
+    @Override
+    boolean appliesMinScoreAfterSearch() {
+        // the minimum score applies to the rescored scores, which are only known once the search is done
+        return rescoreOversample != null;
     }
 
     @Override
-    SearchResponse<Document> internalSearch(ElasticsearchClient client,
-                                                   String indexName,
-                                                   EmbeddingSearchRequest embeddingSearchRequest) throws ElasticsearchException, IOException {
+    SearchRequest internalSearchRequest(String indexName, EmbeddingSearchRequest embeddingSearchRequest) {
         KnnQuery.Builder krb = new KnnQuery.Builder()
                 .field("vector")
                 .queryVector(embeddingSearchRequest.queryEmbedding().vectorAsList());
@@ -61,19 +196,56 @@ public class ElasticsearchConfigurationKnn extends ElasticsearchConfiguration {
             krb.filter(ElasticsearchMetadataFilterMapper.map(embeddingSearchRequest.filter()));
         }
 
+        Integer windowSize = null;
+        if (rescoreOversample != null) {
+            double oversampled = Math.ceil(embeddingSearchRequest.maxResults() * rescoreOversample);
+            if (oversampled > MAX_RESCORE_WINDOW) {
+                log.debug("Rescoring the best {} candidates instead of {}", MAX_RESCORE_WINDOW, (long) oversampled);
+            }
+            windowSize = (int) Math.min(oversampled, MAX_RESCORE_WINDOW);
+            krb.k(windowSize);
+        }
+
         if (numCandidates != null) {
-            krb.numCandidates(numCandidates);
+            krb.numCandidates(windowSize == null ? numCandidates : Math.max(numCandidates, windowSize));
         }
 
         KnnQuery knn = krb.build();
 
         log.trace("Searching for embeddings in index [{}] with query [{}].", indexName, knn);
 
-        return client.search(sr -> sr
-                        .index(indexName)
-                        .size(embeddingSearchRequest.maxResults())
-                        .query(q -> q.knn(knn))
-                        .minScore(embeddingSearchRequest.minScore())
-                , Document.class);
+        Rescore rescore = windowSize == null ? null : rescore(windowSize, embeddingSearchRequest);
+        return SearchRequest.of(sr -> {
+            sr.index(indexName)
+                    .size(embeddingSearchRequest.maxResults())
+                    .query(q -> q.knn(knn));
+            if (rescore == null) {
+                sr.minScore(embeddingSearchRequest.minScore());
+            } else {
+                sr.rescore(rescore);
+            }
+            if (!includeVectorInResponse) {
+                sr.source(source -> source.filter(filter -> filter.excludes(singletonList("vector"))));
+            }
+            return sr;
+        });
+    }
+
+    /**
+     * Replaces the approximate kNN scores of the best candidates with scores computed from the full precision vectors.
+     */
+    private Rescore rescore(int windowSize, EmbeddingSearchRequest embeddingSearchRequest) {
+        String scoreScript = getOrDefault(similarity, ElasticsearchVectorSimilarity.COSINE).scoreScript();
+        JsonData queryVector = JsonData.of(embeddingSearchRequest.queryEmbedding().vectorAsList());
+        return Rescore.of(rescore -> rescore
+                .windowSize(windowSize)
+                .query(query -> query
+                        .queryWeight(0.0)
+                        .rescoreQueryWeight(1.0)
+                        .query(q -> q.scriptScore(scriptScore -> scriptScore
+                                .query(match -> match.matchAll(all -> all))
+                                .script(script -> script
+                                        .source(scoreScript)
+                                        .params("query_vector", queryVector))))));
     }
 }
@@ -1,23 +1,32 @@
 package dev.langchain4j.store.embedding.elasticsearch;
 
+import co.elastic.clients.elasticsearch.ElasticsearchAsyncClient;
 import co.elastic.clients.elasticsearch.ElasticsearchClient;
 import co.elastic.clients.elasticsearch._types.BulkIndexByScrollFailure;
 import co.elastic.clients.elasticsearch._types.ElasticsearchException;
 import co.elastic.clients.elasticsearch._types.ErrorCause;
+import co.elastic.clients.elasticsearch._types.mapping.Property;
 import co.elastic.clients.elasticsearch._types.query_dsl.Query;
-import co.elastic.clients.elasticsearch.core.BulkRequest;
-import co.elastic.clients.elasticsearch.core.BulkResponse;
 import co.elastic.clients.elasticsearch.core.DeleteByQueryResponse;
+import co.elastic.clients.elasticsearch.core.MsearchRequest;
+import co.elastic.clients.elasticsearch.core.MsearchResponse;
+import co.elastic.clients.elasticsearch.core.SearchRequest;
 import co.elastic.clients.elasticsearch.core.SearchResponse;
-import co.elastic.clients.elasticsearch.core.bulk.BulkResponseItem;
-import co.elastic.clients.json.JsonpMapper;
+import co.elastic.clients.elasticsearch.core.bulk.BulkOperation;
+import co.elastic.clients.elasticsearch.core.msearch.MultiSearchResponseItem;
+import co.elastic.clients.elasticsearch.core.search.Hit;
+import co.elastic.clients.elasticsearch.core.search.ResponseBody;
 import co.elastic.clients.json.jackson.JacksonJsonpMapper;
 import co.elastic.clients.transport.ElasticsearchTransport;
 import co.elastic.clients.transport.rest_client.RestClientTransport;
 import dev.langchain4j.data.document.Metadata;
 import dev.langchain4j.data.embedding.Embedding;
 import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.store.embedding.AsyncEmbeddingStore;
 import dev.langchain4j.store.embedding.EmbeddingMatch;
+import dev.langchain4j.store.embedding.EmbeddingRecord;
+import dev.langchain4j.store.embedding.EmbeddingScanRequest;
+import dev.langchain4j.store.embedding.EmbeddingScanResult;
 import dev.langchain4j.store.embedding.EmbeddingSearchRequest;
 import dev.langchain4j.store.embedding.EmbeddingSearchResult;
 import dev.langchain4j.store.embedding.EmbeddingStore;
@@ -35,9 +44,12 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 import static dev.langchain4j.internal.Utils.*;
 import static dev.langchain4j.internal.ValidationUtils.*;
@@ -51,14 +63,24 @@ import static java.util.stream.Collectors.toList;
  * <br>
  * Supports storing {@link Metadata} and filtering by it using {@link Filter}
  * (provided inside {@link EmbeddingSearchRequest}).
+ * <br>
+ * Also implements {@link AsyncEmbeddingStore} with an {@link ElasticsearchAsyncClient} sharing the same transport,
+ * so no thread is blocked while a request is in flight.
+ * <br>
+ * Additions and removals by ID are sent as bulk requests as described by an {@link ElasticsearchBulkConfiguration}.
  */
-public class ElasticsearchEmbeddingStore implements EmbeddingStore<TextSegment> {
+public class ElasticsearchEmbeddingStore implements EmbeddingStore<TextSegment>, AsyncEmbeddingStore<TextSegment> {
 
     private static final Logger log = LoggerFactory.getLogger(ElasticsearchEmbeddingStore.class);
 
+    private static final String POINT_IN_TIME_KEEP_ALIVE = "1m";
+
     private final ElasticsearchConfiguration configuration;
     private final ElasticsearchClient client;
+    private final ElasticsearchAsyncClient asyncClient;
     private final String indexName;
+    private final ElasticsearchBulkIndexer bulkIndexer;
+    private volatile boolean indexExists;
 
     /**
      * Creates an instance of ElasticsearchEmbeddingStore.
@@ -104,9 +126,51 @@ public class ElasticsearchEmbeddingStore implements EmbeddingStore<TextSegment>
                                        String userName,
                                        String password,
                                        String indexName) {
+        this(configuration, createTransport(serverUrl, apiKey, userName, password), indexName,
+                ElasticsearchBulkConfiguration.builder().build());
+    }
+
+    /**
+     * Constructor using a RestClient
+     *
+     * @param configuration Elasticsearch configuration to use (Knn or Script)
+     * @param restClient    Elasticsearch Rest Client (mandatory)
+     * @param indexName     Elasticsearch index name (optional). Default value: "default".
+     *                      Index will be created automatically if not exists.
+     */
+    public ElasticsearchEmbeddingStore(ElasticsearchConfiguration configuration, RestClient restClient, String indexName) {
+        this(configuration, restClient, indexName, ElasticsearchBulkConfiguration.builder().build());
+    }
 
+    /**
+     * Constructor using a RestClient
+     *
+     * @param configuration     Elasticsearch configuration to use (Knn or Script)
+     * @param restClient        Elasticsearch Rest Client (mandatory)
+     * @param indexName         Elasticsearch index name (optional). Default value: "default".
+     *                          Index will be created automatically if not exists.
+     * @param bulkConfiguration How bulk requests are sent (mandatory)
+     */
+    public ElasticsearchEmbeddingStore(ElasticsearchConfiguration configuration,
+                                       RestClient restClient,
+                                       String indexName,
+                                       ElasticsearchBulkConfiguration bulkConfiguration) {
+        this(configuration, new RestClientTransport(restClient, new JacksonJsonpMapper()), indexName, bulkConfiguration);
+    }
+
+    private ElasticsearchEmbeddingStore(ElasticsearchConfiguration configuration,
+                                        ElasticsearchTransport transport,
+                                        String indexName,
+                                        ElasticsearchBulkConfiguration bulkConfiguration) {
         this.configuration = configuration;
+        this.client = new ElasticsearchClient(transport);
+        this.asyncClient = new ElasticsearchAsyncClient(transport);
+        this.indexName = ensureNotNull(indexName, "indexName");
+        this.bulkIndexer = new ElasticsearchBulkIndexer(asyncClient, this.indexName,
+                ensureNotNull(bulkConfiguration, "bulkConfiguration"));
+    }
 
+    private static ElasticsearchTransport createTransport(String serverUrl, String apiKey, String userName, String password) {
         RestClientBuilder restClientBuilder = RestClient
                 .builder(HttpHost.create(ensureNotNull(serverUrl, "serverUrl")));
 
@@ -122,27 +186,7 @@ public class ElasticsearchEmbeddingStore implements EmbeddingStore<TextSegment>
             });
         }
 
-        ElasticsearchTransport transport = new RestClientTransport(restClientBuilder.build(), new JacksonJsonpMapper());
-
-        this.client = new ElasticsearchClient(transport);
-        this.indexName = ensureNotNull(indexName, "indexName");
-    }
-
-    /**
-     * Constructor using a RestClient
-     *
-     * @param configuration Elasticsearch configuration to use (Knn or Script)
-     * @param restClient    Elasticsearch Rest Client (mandatory)
-     * @param indexName     Elasticsearch index name (optional). Default value: "default".
-     *                      Index will be created automatically if not exists.
-     */
-    public ElasticsearchEmbeddingStore(ElasticsearchConfiguration configuration, RestClient restClient, String indexName) {
-        JsonpMapper mapper = new JacksonJsonpMapper();
-        ElasticsearchTransport transport = new RestClientTransport(restClient, mapper);
-
-        this.configuration = configuration;
-        this.client = new ElasticsearchClient(transport);
-        this.indexName = ensureNotNull(indexName, "indexName");
+        return new RestClientTransport(restClientBuilder.build(), new JacksonJsonpMapper());
     }
 
     public static Builder builder() {
@@ -158,6 +202,7 @@ public class ElasticsearchEmbeddingStore implements EmbeddingStore<TextSegment>
         private RestClient restClient;
         private String indexName = "default";
         private ElasticsearchConfiguration configuration = ElasticsearchConfigurationKnn.builder().build();
+        private ElasticsearchBulkConfiguration bulkConfiguration = ElasticsearchBulkConfiguration.builder().build();
 
         /**
          * @param serverUrl Elasticsearch Server URL
@@ -242,12 +287,23 @@ public class ElasticsearchEmbeddingStore implements EmbeddingStore<TextSegment>
             return this;
         }
 
+        /**
+         * @param bulkConfiguration how bulk requests are chunked, sent and retried
+         *                          (optional). Default: {@link ElasticsearchBulkConfiguration} defaults.
+         * @return builder
+         */
+        public Builder bulkConfiguration(ElasticsearchBulkConfiguration bulkConfiguration) {
+            this.bulkConfiguration = bulkConfiguration;
+            return this;
+        }
+
         public ElasticsearchEmbeddingStore build() {
             if (restClient != null) {
-                return new ElasticsearchEmbeddingStore(configuration, restClient, indexName);
+                return new ElasticsearchEmbeddingStore(configuration, restClient, indexName, bulkConfiguration);
             } else {
                 log.warn("This is deprecated. You should provide a restClient instead and call ElasticsearchEmbeddingStore(ElasticsearchConfiguration, RestClient, String)");
-                return new ElasticsearchEmbeddingStore(configuration, serverUrl, apiKey, userName, password, indexName);
+                return new ElasticsearchEmbeddingStore(configuration, createTransport(serverUrl, apiKey, userName, password),
+                        indexName, bulkConfiguration);
             }
         }
     }
@@ -289,6 +345,14 @@ public class ElasticsearchEmbeddingStore implements EmbeddingStore<TextSegment>
         return ids;
     }
 
+    /**
+     * Adds the embeddings with the provided IDs. A document with the same ID is replaced.
+     */
+    @Override
+    public void addAll(List<String> ids, List<Embedding> embeddings, List<TextSegment> embedded) {
+        addAllInternal(ids, embeddings, embedded);
+    }
+
     @Override
     public EmbeddingSearchResult<TextSegment> search(EmbeddingSearchRequest embeddingSearchRequest) {
         log.debug("findRelevant([...{}...], {}, {})", embeddingSearchRequest.queryEmbedding().vector().length,
@@ -297,7 +361,7 @@ public class ElasticsearchEmbeddingStore implements EmbeddingStore<TextSegment>
             SearchResponse<Document> response = configuration.internalSearch(client, indexName, embeddingSearchRequest);
             log.trace("found [{}] results", response);
 
-            List<EmbeddingMatch<TextSegment>> results = toMatches(response);
+            List<EmbeddingMatch<TextSegment>> results = toMatches(response, embeddingSearchRequest.minScore());
             results.forEach(em -> log.debug("doc [{}] scores [{}]", em.embeddingId(), em.score()));
             return new EmbeddingSearchResult<>(results);
         } catch (ElasticsearchException | IOException e) {
@@ -305,6 +369,125 @@ public class ElasticsearchEmbeddingStore implements EmbeddingStore<TextSegment>
         }
     }
 
+    @Override
+    public boolean supportsBatchSearch() {
+        return true;
+    }
+
+    /**
+     * Sends all searches in a single
+     * <a href="https://www.elastic.co/guide/en/elasticsearch/reference/current/search-multi-search.html">multi search</a>
+     * request.
+     */
+    @Override
+    public List<EmbeddingSearchResult<TextSegment>> searchBatch(List<EmbeddingSearchRequest> embeddingSearchRequests) {
+        log.debug("searchBatch([{} requests])", embeddingSearchRequests.size());
+        try {
+            MsearchRequest.Builder msearchBuilder = new MsearchRequest.Builder();
+            for (EmbeddingSearchRequest embeddingSearchRequest : embeddingSearchRequests) {
+                SearchRequest searchRequest = configuration.internalSearchRequest(indexName, embeddingSearchRequest);
+                msearchBuilder.searches(item -> item
+                        .header(header -> header.index(indexName))
+                        .body(body -> {
+                            body.query(searchRequest.query())
+                                    .size(searchRequest.size())
+                                    .minScore(searchRequest.minScore())
+                                    .source(searchRequest.source());
+                            if (!searchRequest.rescore().isEmpty()) {
+                                body.rescore(searchRequest.rescore());
+                            }
+                            return body;
+                        }));
+            }
+            MsearchResponse<Document> response = client.msearch(msearchBuilder.build(), Document.class);
+
+            List<EmbeddingSearchResult<TextSegment>> results = new ArrayList<>(embeddingSearchRequests.size());
+            List<MultiSearchResponseItem<Document>> items = response.responses();
+            for (int i = 0; i < items.size(); i++) {
+                MultiSearchResponseItem<Document> item = items.get(i);
+                if (item.isFailure()) {
+                    throwIfError(item.failure().error());
+                }
+                results.add(new EmbeddingSearchResult<>(toMatches(item.result(), embeddingSearchRequests.get(i).minScore())));
+            }
+            return results;
+        } catch (ElasticsearchException | IOException e) {
+            throw new ElasticsearchRequestFailedException(e);
+        }
+    }
+
+    /**
+     * Reads the index page by page with a
+     * <a href="https://www.elastic.co/guide/en/elasticsearch/reference/current/point-in-time-api.html">point in time</a>
+     * and {@code search_after}, so that all pages see the same snapshot of the index.
+     * <br>
+     * The point in time is opened with the first page, kept alive for {@value #POINT_IN_TIME_KEEP_ALIVE}
+     * after each page, and closed with the last one.
+     * The cursor holds the point in time ID and the sort value of the last document of the page.
+     */
+    @Override
+    public EmbeddingScanResult<TextSegment> scan(EmbeddingScanRequest scanRequest) {
+        log.debug("scan({}, {})", scanRequest.pageSize(), scanRequest.cursor());
+        try {
+            String pitId;
+            Long searchAfter;
+            if (scanRequest.cursor() == null) {
+                try {
+                    pitId = client.openPointInTime(pit -> pit
+                            .index(indexName)
+                            .keepAlive(time -> time.time(POINT_IN_TIME_KEEP_ALIVE))).id();
+                } catch (ElasticsearchException e) {
+                    if (e.status() == 404) {
+                        log.debug("The index [{}] does not exist.", indexName);
+                        return new EmbeddingScanResult<>(new ArrayList<>(), null);
+                    }
+                    throw e;
+                }
+                searchAfter = null;
+            } else {
+                int separator = scanRequest.cursor().indexOf(':');
+                ensureTrue(separator > 0, "cursor is invalid");
+                searchAfter = Long.parseLong(scanRequest.cursor().substring(0, separator));
+                pitId = scanRequest.cursor().substring(separator + 1);
+            }
+
+            Query query = scanRequest.filter() == null
+                    ? Query.of(q -> q.matchAll(m -> m))
+                    : ElasticsearchMetadataFilterMapper.map(scanRequest.filter());
+            SearchResponse<Document> response = client.search(search -> {
+                search.query(query)
+                        .size(scanRequest.pageSize())
+                        .pit(pit -> pit.id(pitId).keepAlive(time -> time.time(POINT_IN_TIME_KEEP_ALIVE)))
+                        // _shard_doc is the cheapest unique sort order, and is only available with a point in time
+                        .sort(sort -> sort.field(field -> field.field("_shard_doc")));
+                if (searchAfter != null) {
+                    search.searchAfter(searchAfter);
+                }
+                return search;
+            }, Document.class);
+
+            List<Hit<Document>> hits = response.hits().hits();
+            List<EmbeddingRecord<TextSegment>> records = new ArrayList<>(hits.size());
+            for (Hit<Document> hit : hits) {
+                Document document = hit.source();
+                if (document != null) {
+                    records.add(new EmbeddingRecord<>(hit.id(), new Embedding(document.getVector()), toTextSegment(document)));
+                }
+            }
+
+            // the point in time ID may change from one page to the next
+            String nextPitId = getOrDefault(response.pitId(), pitId);
+            if (hits.size() < scanRequest.pageSize()) {
+                client.closePointInTime(close -> close.id(nextPitId));
+                return new EmbeddingScanResult<>(records, null);
+            }
+            long lastSortValue = hits.get(hits.size() - 1).sort().get(0).longValue();
+            return new EmbeddingScanResult<>(records, lastSortValue + ":" + nextPitId);
+        } catch (ElasticsearchException | IOException e) {
+            throw new ElasticsearchRequestFailedException(e);
+        }
+    }
+
     @Override
     public void removeAll(Collection<String> ids) {
         ensureNotEmpty(ids, "ids");
@@ -324,6 +507,7 @@ public class ElasticsearchEmbeddingStore implements EmbeddingStore<TextSegment>
      */
     @Override
     public void removeAll() {
+        indexExists = false;
         try {
             client.indices().delete(dir -> dir.index(indexName));
         } catch (ElasticsearchException e) {
@@ -337,6 +521,95 @@ public class ElasticsearchEmbeddingStore implements EmbeddingStore<TextSegment>
         }
     }
 
+    @Override
+    public CompletableFuture<List<String>> addAllAsync(List<Embedding> embeddings, List<TextSegment> embedded) {
+        List<String> ids = embeddings.stream()
+                .map(ignored -> randomUUID())
+                .collect(toList());
+        if (isNullOrEmpty(embeddings)) {
+            log.info("[do not add empty embeddings to elasticsearch]");
+            return CompletableFuture.completedFuture(ids);
+        }
+        if (embedded != null && embeddings.size() != embedded.size()) {
+            return CompletableFuture.failedFuture(new IllegalArgumentException("embeddings size is not equal to embedded size"));
+        }
+
+        List<BulkOperation> operations = indexOperations(ids, embeddings, embedded);
+        List<Long> sizes = indexOperationSizes(embeddings, embedded);
+        return createIndexIfNotExist(embeddings.get(0).dimension())
+                .thenCompose(ignored -> bulkIndexer.index(operations, sizes))
+                .thenApply(ignored -> ids);
+    }
+
+    @Override
+    public CompletableFuture<EmbeddingSearchResult<TextSegment>> searchAsync(EmbeddingSearchRequest embeddingSearchRequest) {
+        log.debug("findRelevant([...{}...], {}, {})", embeddingSearchRequest.queryEmbedding().vector().length,
+                embeddingSearchRequest.maxResults(), embeddingSearchRequest.minScore());
+        SearchRequest searchRequest;
+        try {
+            searchRequest = configuration.internalSearchRequest(indexName, embeddingSearchRequest);
+        } catch (IOException e) {
+            return CompletableFuture.failedFuture(new ElasticsearchRequestFailedException(e));
+        }
+        return asyncClient.search(searchRequest, Document.class)
+                .handle((response, error) -> {
+                    if (error != null) {
+                        throw new ElasticsearchRequestFailedException(unwrap(error));
+                    }
+                    log.trace("found [{}] results", response);
+                    return new EmbeddingSearchResult<>(toMatches(response, embeddingSearchRequest.minScore()));
+                });
+    }
+
+    @Override
+    public CompletableFuture<Void> removeAllAsync(Collection<String> ids) {
+        if (isNullOrEmpty(ids)) {
+            return CompletableFuture.failedFuture(new IllegalArgumentException("ids cannot be null or empty"));
+        }
+        return bulkIndexer.execute(deleteOperations(ids), deleteOperationSizes(ids));
+    }
+
+    @Override
+    public CompletableFuture<Void> removeAllAsync(Filter filter) {
+        if (filter == null) {
+            return CompletableFuture.failedFuture(new IllegalArgumentException("filter cannot be null"));
+        }
+        Query query;
+        try {
+            query = ElasticsearchMetadataFilterMapper.map(filter);
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        return asyncClient.deleteByQuery(delete -> delete
+                        .index(indexName)
+                        .query(query))
+                .thenAccept(this::handleDeleteByQueryResponseErrors);
+    }
+
+    /**
+     * Same as {@link #removeAll()}: the index is dropped.
+     */
+    @Override
+    public CompletableFuture<Void> removeAllAsync() {
+        indexExists = false;
+        return asyncClient.indices().delete(dir -> dir.index(indexName))
+                .handle((response, error) -> {
+                    if (error != null) {
+                        Throwable cause = unwrap(error);
+                        if (cause instanceof ElasticsearchException && ((ElasticsearchException) cause).status() == 404) {
+                            log.debug("The index [{}] does not exist.", indexName);
+                        } else {
+                            throw new ElasticsearchRequestFailedException(cause);
+                        }
+                    }
+                    return null;
+                });
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    }
+
     private void addInternal(String id, Embedding embedding, TextSegment embedded) {
         addAllInternal(singletonList(id), singletonList(embedding), embedded == null ? null : singletonList(embedded));
     }
@@ -349,17 +622,50 @@ public class ElasticsearchEmbeddingStore implements EmbeddingStore<TextSegment>
         ensureTrue(ids.size() == embeddings.size(), "ids size is not equal to embeddings size");
         ensureTrue(embedded == null || embeddings.size() == embedded.size(), "embeddings size is not equal to embedded size");
 
-        try {
-            bulkIndex(ids, embeddings, embedded);
-        } catch (IOException e) {
-            throw new ElasticsearchRequestFailedException(e);
+        List<BulkOperation> operations = indexOperations(ids, embeddings, embedded);
+        List<Long> sizes = indexOperationSizes(embeddings, embedded);
+        await(createIndexIfNotExist(embeddings.get(0).dimension())
+                .thenCompose(ignored -> bulkIndexer.index(operations, sizes)));
+    }
+
+    /**
+     * Creates the index with the vector mapping of the configuration, if it has one.
+     * Once the index is known to exist, it is not checked again.
+     */
+    private CompletableFuture<Void> createIndexIfNotExist(int dimension) {
+        Property vectorProperty = configuration.vectorProperty(dimension);
+        if (vectorProperty == null || indexExists) {
+            return CompletableFuture.completedFuture(null);
         }
+        return asyncClient.indices().exists(exists -> exists.index(indexName))
+                .thenCompose(response -> {
+                    if (response.value()) {
+                        return CompletableFuture.completedFuture(null);
+                    }
+                    log.debug("Creating index [{}] with vector mapping [{}]", indexName, vectorProperty);
+                    return asyncClient.indices().create(create -> create
+                                    .index(indexName)
+                                    .mappings(mappings -> mappings.properties("vector", vectorProperty)))
+                            .handle((created, error) -> {
+                                if (error != null && !isResourceAlreadyExists(unwrap(error))) {
+                                    throw new ElasticsearchRequestFailedException(unwrap(error));
+                                }
+                                return null;
+                            });
+                })
+                .thenRun(() -> indexExists = true);
+    }
+
+    private static boolean isResourceAlreadyExists(Throwable error) {
+        // another caller created the index in the meantime
+        return error instanceof ElasticsearchException
+                && "resource_already_exists_exception".equals(((ElasticsearchException) error).error().type());
     }
 
-    private void bulkIndex(List<String> ids, List<Embedding> embeddings, List<TextSegment> embedded) throws IOException {
+    private List<BulkOperation> indexOperations(List<String> ids, List<Embedding> embeddings, List<TextSegment> embedded) {
         int size = ids.size();
         log.debug("calling bulkIndex with [{}] elements", size);
-        BulkRequest.Builder bulkBuilder = new BulkRequest.Builder();
+        List<BulkOperation> operations = new ArrayList<>(size);
         for (int i = 0; i < size; i++) {
             int finalI = i;
             Document document = Document.builder()
@@ -367,21 +673,34 @@ public class ElasticsearchEmbeddingStore implements EmbeddingStore<TextSegment>
                     .text(embedded == null ? null : embedded.get(i).text())
                     .metadata(embedded == null ? null : embedded.get(i).metadata().toMap())
                     .build();
-            bulkBuilder.operations(op -> op.index(idx -> idx
+            operations.add(BulkOperation.of(op -> op.index(idx -> idx
                     .index(indexName)
                     .id(ids.get(finalI))
-                    .document(document)));
+                    .document(document))));
         }
+        return operations;
+    }
 
-        BulkResponse response = client.bulk(bulkBuilder.build());
-        handleBulkResponseErrors(response);
+    private static List<Long> indexOperationSizes(List<Embedding> embeddings, List<TextSegment> embedded) {
+        List<Long> sizes = new ArrayList<>(embeddings.size());
+        for (int i = 0; i < embeddings.size(); i++) {
+            sizes.add(ElasticsearchBulkIndexer.estimateSize(embeddings.get(i), embedded == null ? null : embedded.get(i)));
+        }
+        return sizes;
     }
 
-    private void handleBulkResponseErrors(BulkResponse response) {
-        if (response.errors()) {
-            for (BulkResponseItem item : response.items()) {
-                throwIfError(item.error());
+    /**
+     * Waits for a bulk load, rethrowing its failure as is when it is unchecked.
+     */
+    private static void await(CompletableFuture<Void> future) {
+        try {
+            future.join();
+        } catch (CompletionException e) {
+            Throwable cause = unwrap(e);
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
             }
+            throw new ElasticsearchRequestFailedException(cause);
         }
     }
 
@@ -396,46 +715,57 @@ public class ElasticsearchEmbeddingStore implements EmbeddingStore<TextSegment>
             DeleteByQueryResponse response = client.deleteByQuery(delete -> delete
                     .index(indexName)
                     .query(query));
-            if (!response.failures().isEmpty()) {
-                for (BulkIndexByScrollFailure item : response.failures()) {
-                    throwIfError(item.cause());
-                }
-            }
+            handleDeleteByQueryResponseErrors(response);
         } catch (IOException e) {
             throw new ElasticsearchRequestFailedException(e);
         }
     }
 
-    private void removeByIds(Collection<String> ids) {
-        try {
-            bulkRemove(ids);
-        } catch (IOException e) {
-            throw new ElasticsearchRequestFailedException(e);
+    private void handleDeleteByQueryResponseErrors(DeleteByQueryResponse response) {
+        if (!response.failures().isEmpty()) {
+            for (BulkIndexByScrollFailure item : response.failures()) {
+                throwIfError(item.cause());
+            }
         }
     }
 
-    private void bulkRemove(Collection<String> ids) throws IOException {
-        BulkRequest.Builder bulkBuilder = new BulkRequest.Builder();
+    private void removeByIds(Collection<String> ids) {
+        await(bulkIndexer.execute(deleteOperations(ids), deleteOperationSizes(ids)));
+    }
+
+    private List<BulkOperation> deleteOperations(Collection<String> ids) {
+        List<BulkOperation> operations = new ArrayList<>(ids.size());
         for (String id : ids) {
-            bulkBuilder.operations(op -> op.delete(dlt -> dlt
+            operations.add(BulkOperation.of(op -> op.delete(dlt -> dlt
                     .index(indexName)
-                    .id(id)));
+                    .id(id))));
         }
-        BulkResponse response = client.bulk(bulkBuilder.build());
-        handleBulkResponseErrors(response);
+        return operations;
     }
 
-    private List<EmbeddingMatch<TextSegment>> toMatches(SearchResponse<Document> response) {
+    private static List<Long> deleteOperationSizes(Collection<String> ids) {
+        return ids.stream()
+                .map(ElasticsearchBulkIndexer::estimateSize)
+                .collect(toList());
+    }
+
+    private List<EmbeddingMatch<TextSegment>> toMatches(ResponseBody<Document> response, double minScore) {
         return response.hits().hits().stream()
+                .filter(hit -> !configuration.appliesMinScoreAfterSearch() || hit.score() >= minScore)
                 .map(hit -> Optional.ofNullable(hit.source())
                         .map(document -> new EmbeddingMatch<>(
                                 hit.score(),
                                 hit.id(),
-                                new Embedding(document.getVector()),
-                                document.getText() == null
-                                        ? null
-                                        : TextSegment.from(document.getText(), new Metadata(document.getMetadata()))
+                                // the vector is missing when excluded from the returned source
+                                document.getVector() == null ? null : new Embedding(document.getVector()),
+                                toTextSegment(document)
                         )).orElse(null))
                 .collect(toList());
     }
+
+    private static TextSegment toTextSegment(Document document) {
+        return document.getText() == null
+                ? null
+                : TextSegment.from(document.getText(), new Metadata(document.getMetadata()));
+    }
 }
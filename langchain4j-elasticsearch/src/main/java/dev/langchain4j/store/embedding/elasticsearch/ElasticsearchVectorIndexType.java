@@ -0,0 +1,70 @@
+package dev.langchain4j.store.embedding.elasticsearch;
+
+/**
+ * The <a href="https://www.elastic.co/guide/en/elasticsearch/reference/current/dense-vector.html#dense-vector-index-options">type</a>
+ * of the index built for a {@code dense_vector} field.
+ * <br>
+ * Quantized types keep the full precision vectors next to the quantized ones,
+ * so results can be rescored with {@link ElasticsearchConfigurationKnn.Builder#rescoreOversample(Double)}.
+ */
+public enum ElasticsearchVectorIndexType {
+
+    /**
+     * HNSW graph over full precision vectors.
+     */
+    HNSW("hnsw"),
+
+    /**
+     * HNSW graph over vectors quantized to one byte per dimension.
+     */
+    INT8_HNSW("int8_hnsw"),
+
+    /**
+     * HNSW graph over vectors quantized to half a byte per dimension.
+     */
+    INT4_HNSW("int4_hnsw"),
+
+    /**
+     * HNSW graph over vectors quantized to a single bit per dimension (Better Binary Quantization).
+     * Requires Elasticsearch 8.18 or later.
+     */
+    BBQ_HNSW("bbq_hnsw"),
+
+    /**
+     * Brute force search over full precision vectors.
+     */
+    FLAT("flat"),
+
+    /**
+     * Brute force search over vectors quantized to one byte per dimension.
+     */
+    INT8_FLAT("int8_flat"),
+
+    /**
+     * Brute force search over vectors quantized to half a byte per dimension.
+     */
+    INT4_FLAT("int4_flat"),
+
+    /**
+     * Brute force search over vectors quantized to a single bit per dimension.
+     * Requires Elasticsearch 8.18 or later.
+     */
+    BBQ_FLAT("bbq_flat");
+
+    private final String value;
+
+    ElasticsearchVectorIndexType(String value) {
+        this.value = value;
+    }
+
+    /**
+     * @return the value of the {@code index_options.type} mapping parameter
+     */
+    public String value() {
+        return value;
+    }
+
+    boolean isHnsw() {
+        return value.endsWith("hnsw");
+    }
+}
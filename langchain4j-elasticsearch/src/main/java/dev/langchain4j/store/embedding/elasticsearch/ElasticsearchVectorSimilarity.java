@@ -0,0 +1,52 @@
+package dev.langchain4j.store.embedding.elasticsearch;
+
+/**
+ * The <a href="https://www.elastic.co/guide/en/elasticsearch/reference/current/dense-vector.html#dense-vector-params">similarity</a>
+ * of a {@code dense_vector} field, which decides how kNN scores are computed.
+ */
+public enum ElasticsearchVectorSimilarity {
+
+    /**
+     * Cosine similarity. This is the Elasticsearch default.
+     */
+    COSINE("cosine", "(cosineSimilarity(params.query_vector, 'vector') + 1.0) / 2"),
+
+    /**
+     * Dot product. Faster than {@link #COSINE}, but requires all vectors, including query vectors,
+     * to be normalized to unit length.
+     */
+    DOT_PRODUCT("dot_product", "(dotProduct(params.query_vector, 'vector') + 1.0) / 2"),
+
+    /**
+     * Euclidean distance.
+     */
+    L2_NORM("l2_norm", "1 / (1 + Math.pow(l2norm(params.query_vector, 'vector'), 2))"),
+
+    /**
+     * Dot product without the unit length requirement.
+     */
+    MAX_INNER_PRODUCT("max_inner_product",
+            "double product = dotProduct(params.query_vector, 'vector'); return product < 0 ? 1 / (1 - product) : product + 1;");
+
+    private final String value;
+    private final String scoreScript;
+
+    ElasticsearchVectorSimilarity(String value, String scoreScript) {
+        this.value = value;
+        this.scoreScript = scoreScript;
+    }
+
+    /**
+     * @return the value of the {@code similarity} mapping parameter
+     */
+    public String value() {
+        return value;
+    }
+
+    /**
+     * A script computing the same score as the kNN search, but from the full precision vector.
+     */
+    String scoreScript() {
+        return scoreScript;
+    }
+}
@@ -0,0 +1,64 @@
+package dev.langchain4j.store.embedding.elasticsearch;
+
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.embedding.EmbeddingModel;
+import dev.langchain4j.model.embedding.onnx.allminilml6v2q.AllMiniLmL6V2QuantizedEmbeddingModel;
+import dev.langchain4j.store.embedding.AsyncEmbeddingStore;
+import dev.langchain4j.store.embedding.AsyncEmbeddingStoreIT;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+
+import java.io.IOException;
+
+import static dev.langchain4j.internal.Utils.randomUUID;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ElasticsearchAsyncEmbeddingStoreIT extends AsyncEmbeddingStoreIT {
+
+    static ElasticsearchClientHelper elasticsearchClientHelper = new ElasticsearchClientHelper();
+
+    ElasticsearchEmbeddingStore embeddingStore;
+
+    EmbeddingModel embeddingModel = new AllMiniLmL6V2QuantizedEmbeddingModel();
+
+    String indexName;
+
+    @BeforeAll
+    static void startServices() throws IOException {
+        elasticsearchClientHelper.startServices();
+        assertThat(elasticsearchClientHelper.restClient).isNotNull();
+        assertThat(elasticsearchClientHelper.client).isNotNull();
+    }
+
+    @AfterAll
+    static void stopServices() throws IOException {
+        elasticsearchClientHelper.stopServices();
+    }
+
+    @BeforeEach
+    void createEmbeddingStore() throws IOException {
+        indexName = randomUUID();
+        elasticsearchClientHelper.removeDataStore(indexName);
+        embeddingStore = ElasticsearchEmbeddingStore.builder()
+                .restClient(elasticsearchClientHelper.restClient)
+                .indexName(indexName)
+                .build();
+    }
+
+    @AfterEach
+    void removeDataStore() throws IOException {
+        elasticsearchClientHelper.removeDataStore(indexName);
+    }
+
+    @Override
+    protected AsyncEmbeddingStore<TextSegment> asyncEmbeddingStore() {
+        return embeddingStore;
+    }
+
+    @Override
+    protected EmbeddingModel embeddingModel() {
+        return embeddingModel;
+    }
+}
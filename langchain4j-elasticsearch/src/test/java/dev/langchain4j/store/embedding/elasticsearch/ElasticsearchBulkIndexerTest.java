@@ -0,0 +1,111 @@
+package dev.langchain4j.store.embedding.elasticsearch;
+
+import co.elastic.clients.elasticsearch.ElasticsearchAsyncClient;
+import co.elastic.clients.elasticsearch._types.Time;
+import co.elastic.clients.elasticsearch.core.BulkRequest;
+import co.elastic.clients.elasticsearch.core.BulkResponse;
+import co.elastic.clients.elasticsearch.core.bulk.BulkOperation;
+import co.elastic.clients.elasticsearch.indices.ElasticsearchIndicesAsyncClient;
+import co.elastic.clients.elasticsearch.indices.GetIndicesSettingsResponse;
+import co.elastic.clients.elasticsearch.indices.IndexSettings;
+import co.elastic.clients.elasticsearch.indices.IndexState;
+import co.elastic.clients.elasticsearch.indices.PutIndicesSettingsResponse;
+import co.elastic.clients.elasticsearch.indices.RefreshResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@SuppressWarnings("unchecked")
+class ElasticsearchBulkIndexerTest {
+
+    private static final String INDEX_NAME = "index";
+
+    ElasticsearchAsyncClient client = mock(ElasticsearchAsyncClient.class);
+    ElasticsearchIndicesAsyncClient indices = mock(ElasticsearchIndicesAsyncClient.class);
+
+    ElasticsearchBulkIndexer indexer = new ElasticsearchBulkIndexer(client, INDEX_NAME,
+            ElasticsearchBulkConfiguration.builder().largeLoadThreshold(1).build());
+
+    List<BulkOperation> operations = singletonList(BulkOperation.of(operation -> operation
+            .index(index -> index.index(INDEX_NAME).id("1").document(Map.of("text", "hello")))));
+    List<Long> sizes = singletonList(100L);
+
+    @BeforeEach
+    void beforeEach() {
+        when(client.indices()).thenReturn(indices);
+        BulkResponse bulkResponse = mock(BulkResponse.class);
+        when(client.bulk(any(BulkRequest.class))).thenReturn(CompletableFuture.completedFuture(bulkResponse));
+        when(indices.putSettings(any(Function.class)))
+                .thenReturn(CompletableFuture.completedFuture(mock(PutIndicesSettingsResponse.class)));
+        when(indices.refresh(any(Function.class)))
+                .thenReturn(CompletableFuture.completedFuture(mock(RefreshResponse.class)));
+    }
+
+    @Test
+    void should_load_with_refresh_enabled_when_it_cannot_be_disabled() {
+
+        // given
+        when(indices.getSettings(any(Function.class)))
+                .thenReturn(CompletableFuture.failedFuture(new RuntimeException("settings unavailable")))
+                .thenReturn(CompletableFuture.completedFuture(settingsWithRefreshInterval("5s")));
+
+        // when
+        indexer.index(operations, sizes).join();
+
+        // then
+        verify(client).bulk(any(BulkRequest.class));
+        verify(indices, times(0)).putSettings(any(Function.class));
+        verify(indices).refresh(any(Function.class));
+
+        // when
+        indexer.index(operations, sizes).join();
+
+        // then the next load disables and restores the refresh
+        verify(client, times(2)).bulk(any(BulkRequest.class));
+        verify(indices, times(2)).putSettings(any(Function.class));
+    }
+
+    @Test
+    void should_disable_refresh_for_waiting_load_when_concurrent_load_fails_to() {
+
+        // given
+        CompletableFuture<GetIndicesSettingsResponse> failingSettings = new CompletableFuture<>();
+        when(indices.getSettings(any(Function.class)))
+                .thenReturn(failingSettings)
+                .thenReturn(CompletableFuture.completedFuture(settingsWithRefreshInterval("5s")));
+
+        // when
+        CompletableFuture<Void> first = indexer.index(operations, sizes);
+        CompletableFuture<Void> second = indexer.index(operations, sizes);
+        failingSettings.completeExceptionally(new RuntimeException("settings unavailable"));
+
+        // then
+        first.join();
+        second.join();
+        verify(client, times(2)).bulk(any(BulkRequest.class));
+        verify(indices, times(2)).getSettings(any(Function.class));
+        verify(indices, times(2)).putSettings(any(Function.class)); // disabled, then restored
+    }
+
+    private static GetIndicesSettingsResponse settingsWithRefreshInterval(String refreshInterval) {
+        IndexSettings settings = mock(IndexSettings.class);
+        when(settings.refreshInterval()).thenReturn(Time.of(time -> time.time(refreshInterval)));
+        IndexState state = mock(IndexState.class);
+        when(state.settings()).thenReturn(settings);
+        GetIndicesSettingsResponse response = mock(GetIndicesSettingsResponse.class);
+        when(response.get(INDEX_NAME)).thenReturn(state);
+        return response;
+    }
+}
@@ -0,0 +1,53 @@
+package dev.langchain4j.store.embedding.elasticsearch;
+
+import co.elastic.clients.elasticsearch.core.SearchRequest;
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.store.embedding.EmbeddingSearchRequest;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ElasticsearchConfigurationKnnTest {
+
+    @Test
+    void should_cap_rescore_window_to_max_rescore_window() {
+
+        // given
+        ElasticsearchConfigurationKnn configuration = ElasticsearchConfigurationKnn.builder()
+                .rescoreOversample(3.0)
+                .build();
+        EmbeddingSearchRequest request = EmbeddingSearchRequest.builder()
+                .queryEmbedding(Embedding.from(new float[]{1, 0}))
+                .maxResults(5_000)
+                .build();
+
+        // when
+        SearchRequest searchRequest = configuration.internalSearchRequest("index", request);
+
+        // then
+        assertThat(searchRequest.rescore()).hasSize(1);
+        assertThat(searchRequest.rescore().get(0).windowSize()).isEqualTo(10_000);
+        assertThat(searchRequest.query().knn().k()).isEqualTo(10_000);
+        assertThat(searchRequest.size()).isEqualTo(5_000);
+    }
+
+    @Test
+    void should_oversample_rescore_window() {
+
+        // given
+        ElasticsearchConfigurationKnn configuration = ElasticsearchConfigurationKnn.builder()
+                .rescoreOversample(2.5)
+                .build();
+        EmbeddingSearchRequest request = EmbeddingSearchRequest.builder()
+                .queryEmbedding(Embedding.from(new float[]{1, 0}))
+                .maxResults(3)
+                .build();
+
+        // when
+        SearchRequest searchRequest = configuration.internalSearchRequest("index", request);
+
+        // then
+        assertThat(searchRequest.rescore().get(0).windowSize()).isEqualTo(8);
+        assertThat(searchRequest.query().knn().k()).isEqualTo(8);
+    }
+}
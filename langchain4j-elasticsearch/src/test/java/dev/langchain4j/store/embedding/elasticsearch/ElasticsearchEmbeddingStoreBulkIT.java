@@ -0,0 +1,162 @@
+package dev.langchain4j.store.embedding.elasticsearch;
+
+import co.elastic.clients.elasticsearch._types.Refresh;
+import co.elastic.clients.elasticsearch.indices.IndexSettings;
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.embedding.EmbeddingModel;
+import dev.langchain4j.model.embedding.onnx.allminilml6v2q.AllMiniLmL6V2QuantizedEmbeddingModel;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static dev.langchain4j.internal.Utils.randomUUID;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ElasticsearchEmbeddingStoreBulkIT {
+
+    static ElasticsearchClientHelper elasticsearchClientHelper = new ElasticsearchClientHelper();
+
+    EmbeddingModel embeddingModel = new AllMiniLmL6V2QuantizedEmbeddingModel();
+
+    String indexName;
+
+    @BeforeAll
+    static void startServices() throws IOException {
+        elasticsearchClientHelper.startServices();
+        assertThat(elasticsearchClientHelper.restClient).isNotNull();
+        assertThat(elasticsearchClientHelper.client).isNotNull();
+    }
+
+    @AfterAll
+    static void stopServices() throws IOException {
+        elasticsearchClientHelper.stopServices();
+    }
+
+    @BeforeEach
+    void createIndexName() throws IOException {
+        indexName = randomUUID();
+        elasticsearchClientHelper.removeDataStore(indexName);
+    }
+
+    @AfterEach
+    void removeDataStore() throws IOException {
+        elasticsearchClientHelper.removeDataStore(indexName);
+    }
+
+    @Test
+    void should_add_and_remove_in_several_concurrent_bulk_requests() throws IOException {
+
+        // given
+        ElasticsearchEmbeddingStore embeddingStore = storeWith(ElasticsearchBulkConfiguration.builder()
+                .maxDocumentsPerRequest(3)
+                .maxBytesPerRequest(20_000L)
+                .maxConcurrentRequests(2)
+                .refresh(Refresh.WaitFor)
+                .build());
+        List<TextSegment> segments = segments(20);
+        List<Embedding> embeddings = embeddingModel.embedAll(segments).content();
+
+        // when
+        List<String> ids = embeddingStore.addAll(embeddings, segments);
+
+        // then
+        assertThat(count()).isEqualTo(20);
+
+        // when
+        embeddingStore.removeAll(ids.subList(0, 15));
+
+        // then
+        assertThat(count()).isEqualTo(5);
+    }
+
+    @Test
+    void should_restore_refresh_interval_after_large_load() throws IOException {
+
+        // given
+        ElasticsearchEmbeddingStore embeddingStore = storeWith(ElasticsearchBulkConfiguration.builder()
+                .maxDocumentsPerRequest(5)
+                .largeLoadThreshold(10)
+                .forceMergeMaxSegments(1)
+                .build());
+        List<TextSegment> first = segments(1);
+        embeddingStore.addAll(embeddingModel.embedAll(first).content(), first);
+        elasticsearchClientHelper.client.indices().putSettings(put -> put
+                .index(indexName)
+                .settings(settings -> settings.refreshInterval(time -> time.time("30s"))));
+
+        List<TextSegment> segments = segments(12);
+        List<Embedding> embeddings = embeddingModel.embedAll(segments).content();
+
+        // when
+        embeddingStore.addAll(embeddings, segments);
+
+        // then
+        assertThat(count()).isEqualTo(13);
+        IndexSettings settings = elasticsearchClientHelper.client.indices()
+                .getSettings(get -> get.index(indexName))
+                .get(indexName)
+                .settings();
+        assertThat(settings.index().refreshInterval().time()).isEqualTo("30s");
+    }
+
+    @Test
+    void should_restore_refresh_interval_after_concurrent_large_loads() throws IOException {
+
+        // given
+        ElasticsearchEmbeddingStore embeddingStore = storeWith(ElasticsearchBulkConfiguration.builder()
+                .maxDocumentsPerRequest(5)
+                .largeLoadThreshold(10)
+                .build());
+        List<TextSegment> first = segments(1);
+        embeddingStore.addAll(embeddingModel.embedAll(first).content(), first);
+        elasticsearchClientHelper.client.indices().putSettings(put -> put
+                .index(indexName)
+                .settings(settings -> settings.refreshInterval(time -> time.time("30s"))));
+
+        List<TextSegment> segments = segments(12);
+        List<Embedding> embeddings = embeddingModel.embedAll(segments).content();
+
+        // when
+        List<CompletableFuture<List<String>>> loads = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            loads.add(CompletableFuture.supplyAsync(() -> embeddingStore.addAll(embeddings, segments)));
+        }
+        CompletableFuture.allOf(loads.toArray(new CompletableFuture[0])).join();
+
+        // then
+        assertThat(count()).isEqualTo(49);
+        IndexSettings settings = elasticsearchClientHelper.client.indices()
+                .getSettings(get -> get.index(indexName))
+                .get(indexName)
+                .settings();
+        assertThat(settings.index().refreshInterval().time()).isEqualTo("30s");
+    }
+
+    private ElasticsearchEmbeddingStore storeWith(ElasticsearchBulkConfiguration bulkConfiguration) {
+        return ElasticsearchEmbeddingStore.builder()
+                .restClient(elasticsearchClientHelper.restClient)
+                .indexName(indexName)
+                .bulkConfiguration(bulkConfiguration)
+                .build();
+    }
+
+    private long count() throws IOException {
+        return elasticsearchClientHelper.client.count(count -> count.index(indexName)).count();
+    }
+
+    private static List<TextSegment> segments(int size) {
+        List<TextSegment> segments = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            segments.add(TextSegment.from("segment " + i));
+        }
+        return segments;
+    }
+}
@@ -1,9 +1,11 @@
 package dev.langchain4j.store.embedding.elasticsearch;
 
+import co.elastic.clients.elasticsearch._types.mapping.DenseVectorProperty;
 import dev.langchain4j.data.embedding.Embedding;
 import dev.langchain4j.data.segment.TextSegment;
 import dev.langchain4j.model.embedding.EmbeddingModel;
 import dev.langchain4j.model.embedding.onnx.allminilml6v2q.AllMiniLmL6V2QuantizedEmbeddingModel;
+import dev.langchain4j.store.embedding.EmbeddingMatch;
 import dev.langchain4j.store.embedding.EmbeddingSearchRequest;
 import dev.langchain4j.store.embedding.EmbeddingStore;
 import org.junit.jupiter.api.*;
@@ -14,6 +16,7 @@ import java.util.List;
 
 import static dev.langchain4j.internal.Utils.randomUUID;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.withinPercentage;
 
 class ElasticsearchEmbeddingStoreKnnWithConfigurationIT {
 
@@ -102,4 +105,52 @@ class ElasticsearchEmbeddingStoreKnnWithConfigurationIT {
                     .build()).matches()).hasSize(1);
         }
     }
+
+    @Test
+    void withIndexOptionsAndWithoutVectorInResponse() throws IOException {
+
+        // given
+        EmbeddingStore<TextSegment> embeddingStore = ElasticsearchEmbeddingStore.builder()
+                .configuration(ElasticsearchConfigurationKnn.builder()
+                        .indexType(ElasticsearchVectorIndexType.INT4_HNSW)
+                        .m(32)
+                        .efConstruction(200)
+                        .similarity(ElasticsearchVectorSimilarity.DOT_PRODUCT)
+                        .rescoreOversample(2.0)
+                        .includeVectorInResponse(false)
+                        .build())
+                .restClient(elasticsearchClientHelper.restClient)
+                .indexName(indexName)
+                .build();
+        Embedding embedding = embeddingModel.embed("hello").content();
+        // dot_product requires unit length vectors
+        embedding.normalize();
+
+        // when
+        embeddingStore.add(embedding, TextSegment.from("hello"));
+        elasticsearchClientHelper.refreshIndex(indexName);
+
+        // then
+        DenseVectorProperty vector = elasticsearchClientHelper.client.indices()
+                .getMapping(mapping -> mapping.index(indexName))
+                .get(indexName)
+                .mappings()
+                .properties()
+                .get("vector")
+                .denseVector();
+        assertThat(vector.dims()).isEqualTo(embedding.dimension());
+        assertThat(vector.similarity()).isEqualTo("dot_product");
+        assertThat(vector.indexOptions().type()).isEqualTo("int4_hnsw");
+        assertThat(vector.indexOptions().m()).isEqualTo(32);
+        assertThat(vector.indexOptions().efConstruction()).isEqualTo(200);
+
+        List<EmbeddingMatch<TextSegment>> matches = embeddingStore.search(EmbeddingSearchRequest.builder()
+                .queryEmbedding(embedding)
+                .maxResults(1)
+                .build()).matches();
+        assertThat(matches).hasSize(1);
+        assertThat(matches.get(0).score()).isCloseTo(1.0, withinPercentage(1));
+        assertThat(matches.get(0).embedding()).isNull();
+        assertThat(matches.get(0).embedded().text()).isEqualTo("hello");
+    }
 }
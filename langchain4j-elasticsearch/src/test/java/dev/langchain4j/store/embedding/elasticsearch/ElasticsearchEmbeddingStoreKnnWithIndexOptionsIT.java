@@ -0,0 +1,19 @@
+package dev.langchain4j.store.embedding.elasticsearch;
+
+/**
+ * Quantized vectors only give approximate scores: rescoring with the full precision vectors
+ * gives back the scores expected by the tests.
+ */
+class ElasticsearchEmbeddingStoreKnnWithIndexOptionsIT extends AbstractElasticsearchEmbeddingStoreIT {
+
+    @Override
+    ElasticsearchConfiguration withConfiguration() {
+        return ElasticsearchConfigurationKnn.builder()
+                .indexType(ElasticsearchVectorIndexType.INT8_HNSW)
+                .m(16)
+                .efConstruction(100)
+                .similarity(ElasticsearchVectorSimilarity.COSINE)
+                .rescoreOversample(3.0)
+                .build();
+    }
+}
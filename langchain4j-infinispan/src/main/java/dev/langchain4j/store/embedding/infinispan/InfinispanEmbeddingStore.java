@@ -168,6 +168,11 @@ public class InfinispanEmbeddingStore implements EmbeddingStore<TextSegment> {
         return ids;
     }
 
+    @Override
+    public void addAll(List<String> ids, List<Embedding> embeddings, List<TextSegment> embedded) {
+        addAllInternal(ids, embeddings, embedded);
+    }
+
     @Override
     public EmbeddingSearchResult<TextSegment> search(EmbeddingSearchRequest request) {
         Query<Object[]> query = remoteCache.query("select i, score(i) from " +
@@ -1,5 +1,9 @@
 package dev.langchain4j.store.embedding.milvus;
 
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
 import io.milvus.client.MilvusServiceClient;
 import io.milvus.common.clientenum.ConsistencyLevelEnum;
 import io.milvus.grpc.FlushResponse;
@@ -19,6 +23,7 @@ import io.milvus.response.QueryResultsWrapper;
 import io.milvus.response.SearchResultsWrapper;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import static dev.langchain4j.store.embedding.milvus.CollectionRequestBuilder.*;
 import static dev.langchain4j.store.embedding.milvus.MilvusEmbeddingStore.*;
@@ -103,6 +108,12 @@ class CollectionOperationsExecutor {
         checkResponseNotFailed(response);
     }
 
+    static CompletableFuture<Void> insertAsync(MilvusServiceClient milvusClient, String collectionName, List<InsertParam.Field> fields) {
+        InsertParam request = buildInsertRequest(collectionName, fields);
+        return toCompletableFuture(milvusClient.insertAsync(request))
+                .thenApply(ignored -> null);
+    }
+
     static void loadCollectionInMemory(MilvusServiceClient milvusClient, String collectionName) {
         LoadCollectionParam request = buildLoadCollectionInMemoryRequest(collectionName);
         R<RpcStatus> response = milvusClient.loadCollection(request);
@@ -116,6 +127,11 @@ class CollectionOperationsExecutor {
         return new SearchResultsWrapper(response.getData().getResults());
     }
 
+    static CompletableFuture<SearchResultsWrapper> searchAsync(MilvusServiceClient milvusClient, SearchParam searchRequest) {
+        return toCompletableFuture(milvusClient.searchAsync(searchRequest))
+                .thenApply(data -> new SearchResultsWrapper(data.getResults()));
+    }
+
     static QueryResultsWrapper queryForVectors(MilvusServiceClient milvusClient,
                                                String collectionName,
                                                FieldDefinition fieldDefinition,
@@ -128,6 +144,29 @@ class CollectionOperationsExecutor {
         return new QueryResultsWrapper(response.getData());
     }
 
+    static QueryResultsWrapper queryForRows(MilvusServiceClient milvusClient,
+                                            String collectionName,
+                                            FieldDefinition fieldDefinition,
+                                            String expr,
+                                            long limit,
+                                            ConsistencyLevelEnum consistencyLevel) {
+        QueryParam request = buildScanRequest(collectionName, fieldDefinition, expr, limit, consistencyLevel);
+        R<QueryResults> response = milvusClient.query(request);
+        checkResponseNotFailed(response);
+
+        return new QueryResultsWrapper(response.getData());
+    }
+
+    static CompletableFuture<QueryResultsWrapper> queryForVectorsAsync(MilvusServiceClient milvusClient,
+                                                                       String collectionName,
+                                                                       FieldDefinition fieldDefinition,
+                                                                       List<String> rowIds,
+                                                                       ConsistencyLevelEnum consistencyLevel) {
+        QueryParam request = buildQueryRequest(collectionName, fieldDefinition, rowIds, consistencyLevel);
+        return toCompletableFuture(milvusClient.queryAsync(request))
+                .thenApply(QueryResultsWrapper::new);
+    }
+
     static void removeForVector(MilvusServiceClient milvusClient,
                                 String collectionName,
                                 String expr) {
@@ -135,6 +174,32 @@ class CollectionOperationsExecutor {
         checkResponseNotFailed(response);
     }
 
+    /**
+     * Adapts a future of the asynchronous client API, completing exceptionally
+     * the same way {@link #checkResponseNotFailed(R)} throws.
+     */
+    private static <T> CompletableFuture<T> toCompletableFuture(ListenableFuture<R<T>> listenableFuture) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        Futures.addCallback(listenableFuture, new FutureCallback<R<T>>() {
+
+            @Override
+            public void onSuccess(R<T> response) {
+                try {
+                    checkResponseNotFailed(response);
+                    future.complete(response.getData());
+                } catch (RuntimeException e) {
+                    future.completeExceptionally(e);
+                }
+            }
+
+            @Override
+            public void onFailure(Throwable t) {
+                future.completeExceptionally(t);
+            }
+        }, MoreExecutors.directExecutor());
+        return future;
+    }
+
     private static <T> void checkResponseNotFailed(R<T> response) {
         if (response == null) {
             throw new RequestToMilvusFailedException("Request to Milvus DB failed. Response is null");
@@ -60,9 +60,19 @@ class CollectionRequestBuilder {
                                           int maxResults,
                                           MetricType metricType,
                                           ConsistencyLevelEnum consistencyLevel) {
+        return buildBatchSearchRequest(collectionName, fieldDefinition, singletonList(vector), filter, maxResults, metricType, consistencyLevel);
+    }
+
+    static SearchParam buildBatchSearchRequest(String collectionName,
+                                               FieldDefinition fieldDefinition,
+                                               List<List<Float>> vectors,
+                                               Filter filter,
+                                               int maxResults,
+                                               MetricType metricType,
+                                               ConsistencyLevelEnum consistencyLevel) {
         SearchParam.Builder builder = SearchParam.newBuilder()
                 .withCollectionName(collectionName)
-                .withVectors(singletonList(vector))
+                .withVectors(vectors)
                 .withVectorFieldName(fieldDefinition.getVectorFieldName())
                 .withTopK(maxResults)
                 .withMetricType(metricType)
@@ -88,6 +98,24 @@ class CollectionRequestBuilder {
                 .build();
     }
 
+    static QueryParam buildScanRequest(String collectionName,
+                                       FieldDefinition fieldDefinition,
+                                       String expr,
+                                       long limit,
+                                       ConsistencyLevelEnum consistencyLevel) {
+        return QueryParam.newBuilder()
+                .withCollectionName(collectionName)
+                .withExpr(expr)
+                .withLimit(limit)
+                .withConsistencyLevel(consistencyLevel)
+                .withOutFields(asList(
+                        fieldDefinition.getIdFieldName(),
+                        fieldDefinition.getTextFieldName(),
+                        fieldDefinition.getMetadataFieldName(),
+                        fieldDefinition.getVectorFieldName()))
+                .build();
+    }
+
     static DeleteParam buildDeleteRequest(String collectionName,
                                           String expr) {
         return DeleteParam.newBuilder()
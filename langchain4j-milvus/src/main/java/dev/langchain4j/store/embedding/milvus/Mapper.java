@@ -8,6 +8,7 @@ import dev.langchain4j.data.document.Metadata;
 import dev.langchain4j.data.embedding.Embedding;
 import dev.langchain4j.data.segment.TextSegment;
 import dev.langchain4j.store.embedding.EmbeddingMatch;
+import dev.langchain4j.store.embedding.EmbeddingRecord;
 import dev.langchain4j.store.embedding.RelevanceScore;
 import io.milvus.client.MilvusServiceClient;
 import io.milvus.common.clientenum.ConsistencyLevelEnum;
@@ -29,6 +30,7 @@ import static dev.langchain4j.internal.Utils.isNullOrEmpty;
 import static dev.langchain4j.store.embedding.milvus.CollectionOperationsExecutor.queryForVectors;
 import static dev.langchain4j.store.embedding.milvus.Generator.generateEmptyJsons;
 import static dev.langchain4j.store.embedding.milvus.Generator.generateEmptyScalars;
+import static java.util.Collections.emptyList;
 import static java.util.stream.Collectors.toList;
 
 class Mapper {
@@ -68,24 +70,56 @@ class Mapper {
                                                                 FieldDefinition fieldDefinition,
                                                                 ConsistencyLevelEnum consistencyLevel,
                                                                 boolean queryForVectorOnSearch) {
-        List<EmbeddingMatch<TextSegment>> matches = new ArrayList<>();
+        Map<String, Embedding> idToEmbedding = queryEmbeddings(
+                milvusClient, resultsWrapper, collectionName, fieldDefinition, consistencyLevel, queryForVectorOnSearch);
+
+        return toEmbeddingMatches(resultsWrapper, fieldDefinition, idToEmbedding);
+    }
 
+    /**
+     * Queries the vectors of all rows found by a search request (for all of its vectors),
+     * if {@code queryForVectorOnSearch} is enabled.
+     */
+    static Map<String, Embedding> queryEmbeddings(MilvusServiceClient milvusClient,
+                                                  SearchResultsWrapper resultsWrapper,
+                                                  String collectionName,
+                                                  FieldDefinition fieldDefinition,
+                                                  ConsistencyLevelEnum consistencyLevel,
+                                                  boolean queryForVectorOnSearch) {
         Map<String, Embedding> idToEmbedding = new HashMap<>();
         if (queryForVectorOnSearch) {
-            try {
-                List<String> rowIds = (List<String>) resultsWrapper.getFieldWrapper(fieldDefinition.getIdFieldName()).getFieldData();
+            List<String> rowIds = toRowIds(resultsWrapper, fieldDefinition);
+            if (!rowIds.isEmpty()) {
                 idToEmbedding.putAll(queryEmbeddings(milvusClient, collectionName, fieldDefinition, rowIds, consistencyLevel));
-            } catch (ParamException e) {
-                // There is no way to check if the result is empty or not.
-                // If the result is empty, the exception will be thrown.
             }
         }
+        return idToEmbedding;
+    }
+
+    static List<EmbeddingMatch<TextSegment>> toEmbeddingMatches(SearchResultsWrapper resultsWrapper,
+                                                                FieldDefinition fieldDefinition,
+                                                                Map<String, Embedding> idToEmbedding) {
+        return toEmbeddingMatches(resultsWrapper, 0, fieldDefinition, idToEmbedding);
+    }
+
+    /**
+     * Maps the matches of one of the vectors of a search request.
+     *
+     * @param queryIndex the index of the vector in the search request
+     */
+    static List<EmbeddingMatch<TextSegment>> toEmbeddingMatches(SearchResultsWrapper resultsWrapper,
+                                                                int queryIndex,
+                                                                FieldDefinition fieldDefinition,
+                                                                Map<String, Embedding> idToEmbedding) {
+        List<EmbeddingMatch<TextSegment>> matches = new ArrayList<>();
 
-        for (int i = 0; i < resultsWrapper.getRowRecords().size(); i++) {
-            double score = resultsWrapper.getIDScore(0).get(i).getScore();
-            String rowId = resultsWrapper.getIDScore(0).get(i).getStrID();
+        List<RowRecord> rowRecords = resultsWrapper.getRowRecords(queryIndex);
+        List<SearchResultsWrapper.IDScore> idScores = resultsWrapper.getIDScore(queryIndex);
+        for (int i = 0; i < rowRecords.size(); i++) {
+            double score = idScores.get(i).getScore();
+            String rowId = idScores.get(i).getStrID();
             Embedding embedding = idToEmbedding.get(rowId);
-            TextSegment textSegment = toTextSegment(resultsWrapper.getRowRecords().get(i), fieldDefinition);
+            TextSegment textSegment = toTextSegment(rowRecords.get(i), fieldDefinition);
             EmbeddingMatch<TextSegment> embeddingMatch = new EmbeddingMatch<>(
                     RelevanceScore.fromCosineSimilarity(score),
                     rowId,
@@ -98,6 +132,29 @@ class Mapper {
         return matches;
     }
 
+    @SuppressWarnings("unchecked")
+    static List<EmbeddingRecord<TextSegment>> toEmbeddingRecords(QueryResultsWrapper queryResultsWrapper,
+                                                                 FieldDefinition fieldDefinition) {
+        List<EmbeddingRecord<TextSegment>> records = new ArrayList<>();
+        for (RowRecord row : queryResultsWrapper.getRowRecords()) {
+            String id = row.get(fieldDefinition.getIdFieldName()).toString();
+            List<Float> vector = (List<Float>) row.get(fieldDefinition.getVectorFieldName());
+            records.add(new EmbeddingRecord<>(id, Embedding.from(vector), toTextSegment(row, fieldDefinition)));
+        }
+        return records;
+    }
+
+    @SuppressWarnings("unchecked")
+    static List<String> toRowIds(SearchResultsWrapper resultsWrapper, FieldDefinition fieldDefinition) {
+        try {
+            return (List<String>) resultsWrapper.getFieldWrapper(fieldDefinition.getIdFieldName()).getFieldData();
+        } catch (ParamException e) {
+            // There is no way to check if the result is empty or not.
+            // If the result is empty, the exception will be thrown.
+            return emptyList();
+        }
+    }
+
     private static TextSegment toTextSegment(RowRecord rowRecord, FieldDefinition fieldDefinition) {
 
         String text = (String) rowRecord.get(fieldDefinition.getTextFieldName());
@@ -137,6 +194,11 @@ class Mapper {
                 consistencyLevel
         );
 
+        return toIdToEmbedding(queryResultsWrapper, fieldDefinition);
+    }
+
+    @SuppressWarnings("unchecked")
+    static Map<String, Embedding> toIdToEmbedding(QueryResultsWrapper queryResultsWrapper, FieldDefinition fieldDefinition) {
         Map<String, Embedding> idToEmbedding = new HashMap<>();
         for (RowRecord row : queryResultsWrapper.getRowRecords()) {
             String id = row.get(fieldDefinition.getIdFieldName()).toString();
@@ -146,4 +208,4 @@ class Mapper {
 
         return idToEmbedding;
     }
-}
\ No newline at end of file
+}
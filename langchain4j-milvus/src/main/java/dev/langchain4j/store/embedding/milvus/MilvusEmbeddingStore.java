@@ -4,7 +4,11 @@ import dev.langchain4j.data.document.Metadata;
 import dev.langchain4j.data.embedding.Embedding;
 import dev.langchain4j.data.segment.TextSegment;
 import dev.langchain4j.internal.Utils;
+import dev.langchain4j.store.embedding.AsyncEmbeddingStore;
 import dev.langchain4j.store.embedding.EmbeddingMatch;
+import dev.langchain4j.store.embedding.EmbeddingRecord;
+import dev.langchain4j.store.embedding.EmbeddingScanRequest;
+import dev.langchain4j.store.embedding.EmbeddingScanResult;
 import dev.langchain4j.store.embedding.EmbeddingSearchRequest;
 import dev.langchain4j.store.embedding.EmbeddingSearchResult;
 import dev.langchain4j.store.embedding.EmbeddingStore;
@@ -16,11 +20,19 @@ import io.milvus.param.IndexType;
 import io.milvus.param.MetricType;
 import io.milvus.param.dml.InsertParam;
 import io.milvus.param.dml.SearchParam;
+import io.milvus.response.QueryResultsWrapper;
 import io.milvus.response.SearchResultsWrapper;
 
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static dev.langchain4j.internal.Utils.getOrDefault;
 import static dev.langchain4j.internal.ValidationUtils.ensureNotEmpty;
@@ -30,21 +42,34 @@ import static dev.langchain4j.store.embedding.milvus.CollectionOperationsExecuto
 import static dev.langchain4j.store.embedding.milvus.CollectionOperationsExecutor.flush;
 import static dev.langchain4j.store.embedding.milvus.CollectionOperationsExecutor.hasCollection;
 import static dev.langchain4j.store.embedding.milvus.CollectionOperationsExecutor.insert;
+import static dev.langchain4j.store.embedding.milvus.CollectionOperationsExecutor.insertAsync;
 import static dev.langchain4j.store.embedding.milvus.CollectionOperationsExecutor.loadCollectionInMemory;
+import static dev.langchain4j.store.embedding.milvus.CollectionOperationsExecutor.queryForRows;
+import static dev.langchain4j.store.embedding.milvus.CollectionOperationsExecutor.queryForVectorsAsync;
 import static dev.langchain4j.store.embedding.milvus.CollectionOperationsExecutor.removeForVector;
+import static dev.langchain4j.store.embedding.milvus.CollectionRequestBuilder.buildBatchSearchRequest;
 import static dev.langchain4j.store.embedding.milvus.CollectionRequestBuilder.buildSearchRequest;
 import static dev.langchain4j.store.embedding.milvus.Generator.generateRandomIds;
 import static dev.langchain4j.store.embedding.milvus.Mapper.toEmbeddingMatches;
+import static dev.langchain4j.store.embedding.milvus.Mapper.toEmbeddingRecords;
+import static dev.langchain4j.store.embedding.milvus.Mapper.toIdToEmbedding;
+import static dev.langchain4j.store.embedding.milvus.Mapper.queryEmbeddings;
 import static dev.langchain4j.store.embedding.milvus.Mapper.toMetadataJsons;
+import static dev.langchain4j.store.embedding.milvus.Mapper.toRowIds;
 import static dev.langchain4j.store.embedding.milvus.Mapper.toScalars;
 import static dev.langchain4j.store.embedding.milvus.Mapper.toVectors;
+import static dev.langchain4j.store.embedding.milvus.MilvusMetadataFilterMapper.formatValue;
 import static dev.langchain4j.store.embedding.milvus.MilvusMetadataFilterMapper.formatValues;
 import static dev.langchain4j.store.embedding.milvus.MilvusMetadataFilterMapper.map;
 import static io.milvus.common.clientenum.ConsistencyLevelEnum.EVENTUALLY;
 import static io.milvus.param.IndexType.FLAT;
 import static io.milvus.param.MetricType.COSINE;
 import static java.lang.String.format;
+import static java.util.Collections.emptyMap;
 import static java.util.Collections.singletonList;
+import static java.util.concurrent.CompletableFuture.runAsync;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static java.util.stream.Collectors.joining;
 import static java.util.stream.Collectors.toList;
 
 /**
@@ -54,8 +79,12 @@ import static java.util.stream.Collectors.toList;
  * <br>
  * Supports storing {@link Metadata} and filtering by it using a {@link Filter}
  * (provided inside an {@link EmbeddingSearchRequest}).
+ * <br>
+ * Implements {@link AsyncEmbeddingStore}: inserts and searches use the asynchronous calls of the Milvus client.
+ * Since the Milvus client has no asynchronous delete or flush, removals and flushes are run on an {@link Executor}
+ * (see {@link Builder#executor(Executor)}).
  */
-public class MilvusEmbeddingStore implements EmbeddingStore<TextSegment> {
+public class MilvusEmbeddingStore implements EmbeddingStore<TextSegment>, AsyncEmbeddingStore<TextSegment> {
 
     private static final String DEFAULT_ID_FIELD_NAME = "id";
     private static final String DEFAULT_TEXT_FIELD_NAME = "text";
@@ -69,6 +98,7 @@ public class MilvusEmbeddingStore implements EmbeddingStore<TextSegment> {
     private final boolean retrieveEmbeddingsOnSearch;
     private final boolean autoFlushOnInsert;
     private final FieldDefinition fieldDefinition;
+    private final Executor executor;
 
     public MilvusEmbeddingStore(
             String host,
@@ -120,6 +150,38 @@ public class MilvusEmbeddingStore implements EmbeddingStore<TextSegment> {
         String textFieldName,
         String metadataFiledName,
         String vectorFiledName
+    ) {
+        this(
+            milvusClient,
+            collectionName,
+            dimension,
+            indexType,
+            metricType,
+            consistencyLevel,
+            retrieveEmbeddingsOnSearch,
+            autoFlushOnInsert,
+            idFieldName,
+            textFieldName,
+            metadataFiledName,
+            vectorFiledName,
+            null
+        );
+    }
+
+    public MilvusEmbeddingStore(
+        MilvusServiceClient milvusClient,
+        String collectionName,
+        Integer dimension,
+        IndexType indexType,
+        MetricType metricType,
+        ConsistencyLevelEnum consistencyLevel,
+        Boolean retrieveEmbeddingsOnSearch,
+        Boolean autoFlushOnInsert,
+        String idFieldName,
+        String textFieldName,
+        String metadataFiledName,
+        String vectorFiledName,
+        Executor executor
     ) {
         this.milvusClient = ensureNotNull(milvusClient, "milvusClient");
         this.collectionName = getOrDefault(collectionName, "default");
@@ -132,6 +194,7 @@ public class MilvusEmbeddingStore implements EmbeddingStore<TextSegment> {
             getOrDefault(textFieldName, DEFAULT_TEXT_FIELD_NAME),
             getOrDefault(metadataFiledName, DEFAULT_METADATA_FIELD_NAME),
             getOrDefault(vectorFiledName, DEFAULT_VECTOR_FIELD_NAME));
+        this.executor = getOrDefault(executor, () -> DefaultExecutorHolder.EXECUTOR);
 
         if (!hasCollection(this.milvusClient, this.collectionName)) {
             createCollection(this.milvusClient, this.collectionName, this.fieldDefinition, ensureNotNull(dimension, "dimension"));
@@ -143,6 +206,33 @@ public class MilvusEmbeddingStore implements EmbeddingStore<TextSegment> {
 
 
 
+    /**
+     * The default {@link Executor}, shared by all stores, so that it does not need to be shut down.
+     * Its threads are daemon threads, released after 1 second of inactivity.
+     */
+    private static class DefaultExecutorHolder {
+
+        private static final int THREADS = Math.max(4, Runtime.getRuntime().availableProcessors());
+
+        private static final Executor EXECUTOR = createDefaultExecutor();
+
+        private static Executor createDefaultExecutor() {
+            AtomicInteger threadNumber = new AtomicInteger();
+            ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                THREADS, THREADS,
+                1, SECONDS,
+                new LinkedBlockingQueue<>(),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "langchain4j-milvus-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            );
+            executor.allowCoreThreadTimeOut(true);
+            return executor;
+        }
+    }
+
     private static MilvusServiceClient createMilvusClient(String host, Integer port, String uri, String token, String username, String password, String databaseName) {
         ConnectParam.Builder connectBuilder = ConnectParam
             .newBuilder()
@@ -195,6 +285,15 @@ public class MilvusEmbeddingStore implements EmbeddingStore<TextSegment> {
         return ids;
     }
 
+    /**
+     * Adds the embeddings with the provided IDs.
+     * Milvus does not check the uniqueness of IDs: an ID that is already present is inserted twice.
+     */
+    @Override
+    public void addAll(List<String> ids, List<Embedding> embeddings, List<TextSegment> embedded) {
+        addAllInternal(ids, embeddings, embedded);
+    }
+
     @Override
     public EmbeddingSearchResult<TextSegment> search(EmbeddingSearchRequest embeddingSearchRequest) {
 
@@ -226,6 +325,110 @@ public class MilvusEmbeddingStore implements EmbeddingStore<TextSegment> {
         return new EmbeddingSearchResult<>(result);
     }
 
+    @Override
+    public boolean supportsBatchSearch() {
+        return true;
+    }
+
+    /**
+     * Sends all vectors in a single search request if the requests share the same filter and {@code maxResults},
+     * as Milvus applies them to all vectors of a search request.
+     * Otherwise, searches one request after another.
+     */
+    @Override
+    public List<EmbeddingSearchResult<TextSegment>> searchBatch(List<EmbeddingSearchRequest> embeddingSearchRequests) {
+        if (embeddingSearchRequests.size() < 2 || !shareFilterAndMaxResults(embeddingSearchRequests)) {
+            return EmbeddingStore.super.searchBatch(embeddingSearchRequests);
+        }
+
+        EmbeddingSearchRequest first = embeddingSearchRequests.get(0);
+        SearchParam searchParam = buildBatchSearchRequest(
+                collectionName,
+                fieldDefinition,
+                embeddingSearchRequests.stream()
+                        .map(request -> request.queryEmbedding().vectorAsList())
+                        .collect(toList()),
+                first.filter(),
+                first.maxResults(),
+                metricType,
+                consistencyLevel
+        );
+
+        SearchResultsWrapper resultsWrapper = CollectionOperationsExecutor.search(milvusClient, searchParam);
+        Map<String, Embedding> idToEmbedding = queryEmbeddings(
+                milvusClient,
+                resultsWrapper,
+                collectionName,
+                fieldDefinition,
+                consistencyLevel,
+                retrieveEmbeddingsOnSearch
+        );
+
+        List<EmbeddingSearchResult<TextSegment>> results = new ArrayList<>(embeddingSearchRequests.size());
+        for (int i = 0; i < embeddingSearchRequests.size(); i++) {
+            double minScore = embeddingSearchRequests.get(i).minScore();
+            List<EmbeddingMatch<TextSegment>> matches = toEmbeddingMatches(resultsWrapper, i, fieldDefinition, idToEmbedding).stream()
+                    .filter(match -> match.score() >= minScore)
+                    .collect(toList());
+            results.add(new EmbeddingSearchResult<>(matches));
+        }
+        return results;
+    }
+
+    private static boolean shareFilterAndMaxResults(List<EmbeddingSearchRequest> embeddingSearchRequests) {
+        EmbeddingSearchRequest first = embeddingSearchRequests.get(0);
+        return embeddingSearchRequests.stream().allMatch(request ->
+                request.maxResults() == first.maxResults() && Objects.equals(request.filter(), first.filter()));
+    }
+
+    /**
+     * Adds embeddings without blocking, using the asynchronous insert of the Milvus client.
+     * If {@code autoFlushOnInsert} is enabled, the collection is then flushed on the {@link Executor},
+     * since the Milvus client has no asynchronous flush.
+     */
+    @Override
+    public CompletableFuture<List<String>> addAllAsync(List<Embedding> embeddings, List<TextSegment> embedded) {
+        List<String> ids = generateRandomIds(embeddings.size());
+        CompletableFuture<Void> inserted = insertAsync(this.milvusClient, this.collectionName, toFields(ids, embeddings, embedded));
+        if (autoFlushOnInsert) {
+            inserted = inserted.thenRunAsync(() -> flush(this.milvusClient, this.collectionName), executor);
+        }
+        return inserted.thenApply(ignored -> ids);
+    }
+
+    @Override
+    public CompletableFuture<EmbeddingSearchResult<TextSegment>> searchAsync(EmbeddingSearchRequest embeddingSearchRequest) {
+
+        SearchParam searchParam = buildSearchRequest(
+                collectionName,
+                fieldDefinition,
+                embeddingSearchRequest.queryEmbedding().vectorAsList(),
+                embeddingSearchRequest.filter(),
+                embeddingSearchRequest.maxResults(),
+                metricType,
+                consistencyLevel
+        );
+
+        return CollectionOperationsExecutor.searchAsync(milvusClient, searchParam)
+                .thenCompose(resultsWrapper -> queryEmbeddingsAsync(resultsWrapper)
+                        .thenApply(idToEmbedding -> toEmbeddingMatches(resultsWrapper, fieldDefinition, idToEmbedding)))
+                .thenApply(matches -> new EmbeddingSearchResult<>(matches.stream()
+                        .filter(match -> match.score() >= embeddingSearchRequest.minScore())
+                        .collect(toList())));
+    }
+
+    private CompletableFuture<Map<String, Embedding>> queryEmbeddingsAsync(SearchResultsWrapper resultsWrapper) {
+        if (!retrieveEmbeddingsOnSearch) {
+            return CompletableFuture.completedFuture(emptyMap());
+        }
+        List<String> rowIds = toRowIds(resultsWrapper, fieldDefinition);
+        if (rowIds.isEmpty()) {
+            return CompletableFuture.completedFuture(emptyMap());
+        }
+        return queryForVectorsAsync(milvusClient, collectionName, fieldDefinition, rowIds, consistencyLevel)
+                .thenApply(queryResultsWrapper -> toIdToEmbedding(queryResultsWrapper, fieldDefinition));
+    }
+
     private void addInternal(String id, Embedding embedding, TextSegment textSegment) {
         addAllInternal(
                 singletonList(id),
@@ -235,16 +438,45 @@ public class MilvusEmbeddingStore implements EmbeddingStore<TextSegment> {
     }
 
     private void addAllInternal(List<String> ids, List<Embedding> embeddings, List<TextSegment> textSegments) {
+        insert(this.milvusClient, this.collectionName, toFields(ids, embeddings, textSegments));
+        if (autoFlushOnInsert) {
+            flush(this.milvusClient, this.collectionName);
+        }
+    }
+
+    private List<InsertParam.Field> toFields(List<String> ids, List<Embedding> embeddings, List<TextSegment> textSegments) {
         List<InsertParam.Field> fields = new ArrayList<>();
         fields.add(new InsertParam.Field(fieldDefinition.getIdFieldName(), ids));
         fields.add(new InsertParam.Field(fieldDefinition.getTextFieldName(), toScalars(textSegments, ids.size())));
         fields.add(new InsertParam.Field(fieldDefinition.getMetadataFieldName(), toMetadataJsons(textSegments, ids.size())));
         fields.add(new InsertParam.Field(fieldDefinition.getVectorFieldName(), toVectors(embeddings)));
+        return fields;
+    }
 
-        insert(this.milvusClient, this.collectionName, fields);
-        if (autoFlushOnInsert) {
-            flush(this.milvusClient, this.collectionName);
+    /**
+     * Reads the collection page by page, ordered by ID.
+     * <br>
+     * Each page is a query for the rows with an ID greater than the last ID of the previous page (the cursor),
+     * which is how the query iterator of the Milvus client pages, without keeping an iterator between pages.
+     */
+    @Override
+    public EmbeddingScanResult<TextSegment> scan(EmbeddingScanRequest request) {
+        String idFieldName = fieldDefinition.getIdFieldName();
+        List<String> conditions = new ArrayList<>();
+        conditions.add(request.cursor() == null
+                ? format("%s != \"\"", idFieldName)
+                : format("%s > %s", idFieldName, formatValue(request.cursor())));
+        if (request.filter() != null) {
+            conditions.add(map(request.filter(), fieldDefinition.getMetadataFieldName()));
         }
+        String expr = conditions.stream().map(condition -> "(" + condition + ")").collect(joining(" && "));
+
+        QueryResultsWrapper queryResultsWrapper = queryForRows(
+                milvusClient, collectionName, fieldDefinition, expr, request.pageSize(), consistencyLevel);
+        List<EmbeddingRecord<TextSegment>> records = toEmbeddingRecords(queryResultsWrapper, fieldDefinition);
+
+        String nextCursor = records.size() < request.pageSize() ? null : records.get(records.size() - 1).id();
+        return new EmbeddingScanResult<>(records, nextCursor);
     }
 
     /**
@@ -311,6 +543,30 @@ public class MilvusEmbeddingStore implements EmbeddingStore<TextSegment> {
         removeForVector(this.milvusClient, this.collectionName, format("%s != \"\"", this.fieldDefinition.getIdFieldName()));
     }
 
+    /**
+     * Removes embeddings by ID like {@link #removeAll(Collection)}, on the {@link Executor}.
+     */
+    @Override
+    public CompletableFuture<Void> removeAllAsync(Collection<String> ids) {
+        return runAsync(() -> removeAll(ids), executor);
+    }
+
+    /**
+     * Removes embeddings matching a filter like {@link #removeAll(Filter)}, on the {@link Executor}.
+     */
+    @Override
+    public CompletableFuture<Void> removeAllAsync(Filter filter) {
+        return runAsync(() -> removeAll(filter), executor);
+    }
+
+    /**
+     * Removes all embeddings like {@link #removeAll()}, on the {@link Executor}.
+     */
+    @Override
+    public CompletableFuture<Void> removeAllAsync() {
+        return runAsync(this::removeAll, executor);
+    }
+
     public static class Builder {
 
         private MilvusServiceClient milvusClient;
@@ -332,7 +588,7 @@ public class MilvusEmbeddingStore implements EmbeddingStore<TextSegment> {
         private String textFieldName;
         private String metadataFieldName;
         private String vectorFieldName;
-
+        private Executor executor;
 
         public Builder milvusClient(MilvusServiceClient milvusClient) {
             this.milvusClient = milvusClient;
@@ -524,31 +780,22 @@ public class MilvusEmbeddingStore implements EmbeddingStore<TextSegment> {
             return this;
         }
 
+        /**
+         * @param executor The executor running the blocking calls of the asynchronous methods
+         *                 (removals, and flushes when {@code autoFlushOnInsert} is enabled),
+         *                 since the Milvus client has no asynchronous delete or flush.
+         *                 Default value: a thread pool shared by all stores, with as many daemon threads
+         *                 as available processors (at least 4), released after 1 second of inactivity.
+         * @return builder
+         */
+        public Builder executor(Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
         public MilvusEmbeddingStore build() {
-            if (milvusClient == null) {
-                return new MilvusEmbeddingStore(
-                    host,
-                    port,
-                    collectionName,
-                    dimension,
-                    indexType,
-                    metricType,
-                    uri,
-                    token,
-                    username,
-                    password,
-                    consistencyLevel,
-                    retrieveEmbeddingsOnSearch,
-                    autoFlushOnInsert,
-                    databaseName,
-                    idFieldName,
-                    textFieldName,
-                    metadataFieldName,
-                    vectorFieldName
-                );
-            }
             return new MilvusEmbeddingStore(
-                milvusClient,
+                getOrDefault(milvusClient, () -> createMilvusClient(host, port, uri, token, username, password, databaseName)),
                 collectionName,
                 dimension,
                 indexType,
@@ -559,7 +806,8 @@ public class MilvusEmbeddingStore implements EmbeddingStore<TextSegment> {
                 idFieldName,
                 textFieldName,
                 metadataFieldName,
-                vectorFieldName
+                vectorFieldName,
+                executor
             );
         }
     }
@@ -91,7 +91,7 @@ class MilvusMetadataFilterMapper {
         return metadataFieldName+"[\"" + key + "\"]";
     }
 
-    private static String formatValue(Object value) {
+    protected static String formatValue(Object value) {
         if (value instanceof String || value instanceof UUID) {
             return "\"" + value + "\"";
         } else {
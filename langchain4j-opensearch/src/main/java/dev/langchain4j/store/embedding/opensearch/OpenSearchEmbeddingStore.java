@@ -4,7 +4,11 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import dev.langchain4j.data.document.Metadata;
 import dev.langchain4j.data.embedding.Embedding;
 import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.store.embedding.AsyncEmbeddingStore;
 import dev.langchain4j.store.embedding.EmbeddingMatch;
+import dev.langchain4j.store.embedding.EmbeddingRecord;
+import dev.langchain4j.store.embedding.EmbeddingScanRequest;
+import dev.langchain4j.store.embedding.EmbeddingScanResult;
 import dev.langchain4j.store.embedding.EmbeddingSearchRequest;
 import dev.langchain4j.store.embedding.EmbeddingSearchResult;
 import dev.langchain4j.store.embedding.EmbeddingStore;
@@ -16,19 +20,19 @@ import org.apache.hc.core5.http.HttpHost;
 import org.apache.hc.core5.http.message.BasicHeader;
 import org.opensearch.client.json.JsonData;
 import org.opensearch.client.json.jackson.JacksonJsonpMapper;
+import org.opensearch.client.opensearch.OpenSearchAsyncClient;
 import org.opensearch.client.opensearch.OpenSearchClient;
-import org.opensearch.client.opensearch._types.ErrorCause;
 import org.opensearch.client.opensearch._types.InlineScript;
+import org.opensearch.client.opensearch._types.OpenSearchException;
 import org.opensearch.client.opensearch._types.mapping.Property;
 import org.opensearch.client.opensearch._types.mapping.TextProperty;
 import org.opensearch.client.opensearch._types.mapping.TypeMapping;
 import org.opensearch.client.opensearch._types.query_dsl.Query;
 import org.opensearch.client.opensearch._types.query_dsl.ScriptScoreQuery;
-import org.opensearch.client.opensearch.core.BulkRequest;
-import org.opensearch.client.opensearch.core.BulkResponse;
 import org.opensearch.client.opensearch.core.SearchRequest;
 import org.opensearch.client.opensearch.core.SearchResponse;
-import org.opensearch.client.opensearch.core.bulk.BulkResponseItem;
+import org.opensearch.client.opensearch.core.bulk.BulkOperation;
+import org.opensearch.client.opensearch.core.search.Hit;
 import org.opensearch.client.transport.OpenSearchTransport;
 import org.opensearch.client.transport.aws.AwsSdk2Transport;
 import org.opensearch.client.transport.aws.AwsSdk2TransportOptions;
@@ -42,10 +46,13 @@ import software.amazon.awssdk.regions.Region;
 
 import java.io.IOException;
 import java.net.URISyntaxException;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 import static dev.langchain4j.internal.Utils.*;
 import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
@@ -56,13 +63,29 @@ import static java.util.stream.Collectors.toList;
 /**
  * Represents an <a href="https://opensearch.org/">OpenSearch</a> index as an
  * embedding store. This implementation uses K-NN and the cosinesimil space type.
+ * <p>
+ * Also implements {@link AsyncEmbeddingStore} with an {@link OpenSearchAsyncClient} sharing the transport
+ * of the {@link OpenSearchClient}, so no thread is blocked while a request is in flight.
+ * <p>
+ * Embeddings are added with bulk requests as described by an {@link OpenSearchBulkConfiguration}.
+ * <p>
+ * The stored vectors can be left out of the search responses with {@code includeVectorInResponse},
+ * which makes the responses much smaller when the embeddings are not needed.
+ * Since searches are exact (they score every document with the {@code knn_score} script),
+ * the approximate k-NN method of the index (HNSW parameters, quantization) is not configurable:
+ * it would not be used by the searches.
  */
-public class OpenSearchEmbeddingStore implements EmbeddingStore<TextSegment> {
+public class OpenSearchEmbeddingStore implements EmbeddingStore<TextSegment>, AsyncEmbeddingStore<TextSegment> {
 
     private static final Logger log = LoggerFactory.getLogger(OpenSearchEmbeddingStore.class);
 
+    private static final String SCROLL_KEEP_ALIVE = "1m";
+
     private final String indexName;
     private final OpenSearchClient client;
+    private final OpenSearchAsyncClient asyncClient;
+    private final OpenSearchBulkIndexer bulkIndexer;
+    private final boolean includeVectorInResponse;
 
     /**
      * Creates an instance of OpenSearchEmbeddingStore to connect with
@@ -79,6 +102,10 @@ public class OpenSearchEmbeddingStore implements EmbeddingStore<TextSegment> {
                                     String userName,
                                     String password,
                                     String indexName) {
+        this(createTransport(serverUrl, apiKey, userName, password), indexName, OpenSearchBulkConfiguration.builder().build(), null);
+    }
+
+    private static OpenSearchTransport createTransport(String serverUrl, String apiKey, String userName, String password) {
         HttpHost openSearchHost;
         try {
             openSearchHost = HttpHost.create(serverUrl);
@@ -87,7 +114,7 @@ public class OpenSearchEmbeddingStore implements EmbeddingStore<TextSegment> {
             throw new OpenSearchRequestFailedException(se.getMessage());
         }
 
-        OpenSearchTransport transport = ApacheHttpClient5TransportBuilder
+        return ApacheHttpClient5TransportBuilder
                 .builder(openSearchHost)
                 .setMapper(new JacksonJsonpMapper())
                 .setHttpClientConfigCallback(httpClientBuilder -> {
@@ -110,9 +137,6 @@ public class OpenSearchEmbeddingStore implements EmbeddingStore<TextSegment> {
                     return httpClientBuilder;
                 })
                 .build();
-
-        this.client = new OpenSearchClient(transport);
-        this.indexName = ensureNotNull(indexName, "indexName");
     }
 
     /**
@@ -130,14 +154,24 @@ public class OpenSearchEmbeddingStore implements EmbeddingStore<TextSegment> {
                                     String region,
                                     AwsSdk2TransportOptions options,
                                     String indexName) {
+        this(createAwsTransport(serverUrl, serviceName, region, options), indexName, OpenSearchBulkConfiguration.builder().build(), null);
+    }
 
+    private static OpenSearchTransport createAwsTransport(String serverUrl,
+                                                          String serviceName,
+                                                          String region,
+                                                          AwsSdk2TransportOptions options) {
         Region selectedRegion = Region.of(region);
 
         SdkHttpClient httpClient = ApacheHttpClient.builder().build();
-        OpenSearchTransport transport = new AwsSdk2Transport(httpClient, serverUrl, serviceName, selectedRegion, options);
+        return new AwsSdk2Transport(httpClient, serverUrl, serviceName, selectedRegion, options);
+    }
 
-        this.client = new OpenSearchClient(transport);
-        this.indexName = ensureNotNull(indexName, "indexName");
+    private OpenSearchEmbeddingStore(OpenSearchTransport transport,
+                                     String indexName,
+                                     OpenSearchBulkConfiguration bulkConfiguration,
+                                     Boolean includeVectorInResponse) {
+        this(new OpenSearchClient(transport), indexName, bulkConfiguration, includeVectorInResponse);
     }
 
     /**
@@ -148,9 +182,43 @@ public class OpenSearchEmbeddingStore implements EmbeddingStore<TextSegment> {
      */
     public OpenSearchEmbeddingStore(OpenSearchClient openSearchClient,
                                     String indexName) {
+        this(openSearchClient, indexName, OpenSearchBulkConfiguration.builder().build());
+    }
+
+    /**
+     * Creates an instance of OpenSearchEmbeddingStore using provided OpenSearchClient
+     *
+     * @param openSearchClient  OpenSearch client provided
+     * @param indexName         OpenSearch index name.
+     * @param bulkConfiguration How bulk requests are sent.
+     */
+    public OpenSearchEmbeddingStore(OpenSearchClient openSearchClient,
+                                    String indexName,
+                                    OpenSearchBulkConfiguration bulkConfiguration) {
+        this(openSearchClient, indexName, bulkConfiguration, null);
+    }
+
+    /**
+     * Creates an instance of OpenSearchEmbeddingStore using provided OpenSearchClient
+     *
+     * @param openSearchClient        OpenSearch client provided
+     * @param indexName               OpenSearch index name.
+     * @param bulkConfiguration       How bulk requests are sent.
+     * @param includeVectorInResponse Whether the stored vector is part of the search responses (optional).
+     *                                When {@code false}, {@link EmbeddingMatch#embedding()} is {@code null}.
+     *                                Default value: true.
+     */
+    public OpenSearchEmbeddingStore(OpenSearchClient openSearchClient,
+                                    String indexName,
+                                    OpenSearchBulkConfiguration bulkConfiguration,
+                                    Boolean includeVectorInResponse) {
 
         this.client = ensureNotNull(openSearchClient, "openSearchClient");
+        this.asyncClient = new OpenSearchAsyncClient(client._transport(), client._transportOptions());
         this.indexName = ensureNotNull(indexName, "indexName");
+        this.bulkIndexer = new OpenSearchBulkIndexer(asyncClient, this.indexName,
+                ensureNotNull(bulkConfiguration, "bulkConfiguration"));
+        this.includeVectorInResponse = getOrDefault(includeVectorInResponse, true);
     }
 
     public static Builder builder() {
@@ -168,6 +236,8 @@ public class OpenSearchEmbeddingStore implements EmbeddingStore<TextSegment> {
         private AwsSdk2TransportOptions options;
         private String indexName = "default";
         private OpenSearchClient openSearchClient;
+        private OpenSearchBulkConfiguration bulkConfiguration = OpenSearchBulkConfiguration.builder().build();
+        private Boolean includeVectorInResponse;
 
         public Builder serverUrl(String serverUrl) {
             this.serverUrl = serverUrl;
@@ -213,14 +283,33 @@ public class OpenSearchEmbeddingStore implements EmbeddingStore<TextSegment> {
             this.openSearchClient = openSearchClient;
             return this;
         }
+
+        public Builder bulkConfiguration(OpenSearchBulkConfiguration bulkConfiguration) {
+            this.bulkConfiguration = bulkConfiguration;
+            return this;
+        }
+
+        /**
+         * @param includeVectorInResponse Whether the stored vector is part of the search responses (optional).
+         *                                When {@code false}, {@link EmbeddingMatch#embedding()} is {@code null}.
+         *                                Default value: true.
+         * @return builder
+         */
+        public Builder includeVectorInResponse(Boolean includeVectorInResponse) {
+            this.includeVectorInResponse = includeVectorInResponse;
+            return this;
+        }
+
         public OpenSearchEmbeddingStore build() {
             if (openSearchClient != null) {
-                return new OpenSearchEmbeddingStore(openSearchClient, indexName);
+                return new OpenSearchEmbeddingStore(openSearchClient, indexName, bulkConfiguration, includeVectorInResponse);
             }
             if (!isNullOrBlank(serviceName) && !isNullOrBlank(region) && options != null) {
-                return new OpenSearchEmbeddingStore(serverUrl, serviceName, region, options, indexName);
+                return new OpenSearchEmbeddingStore(createAwsTransport(serverUrl, serviceName, region, options),
+                        indexName, bulkConfiguration, includeVectorInResponse);
             }
-            return new OpenSearchEmbeddingStore(serverUrl, apiKey, userName, password, indexName);
+            return new OpenSearchEmbeddingStore(createTransport(serverUrl, apiKey, userName, password),
+                    indexName, bulkConfiguration, includeVectorInResponse);
         }
 
     }
@@ -262,6 +351,14 @@ public class OpenSearchEmbeddingStore implements EmbeddingStore<TextSegment> {
         return ids;
     }
 
+    /**
+     * Adds the embeddings with the provided IDs. A document with the same ID is replaced.
+     */
+    @Override
+    public void addAll(List<String> ids, List<Embedding> embeddings, List<TextSegment> embedded) {
+        addAllInternal(ids, embeddings, embedded);
+    }
+
     /**
      * This implementation uses the exact k-NN with scoring script to calculate
      * See https://opensearch.org/docs/latest/search-plugins/knn/knn-score-script/
@@ -271,16 +368,7 @@ public class OpenSearchEmbeddingStore implements EmbeddingStore<TextSegment> {
 
         List<EmbeddingMatch<TextSegment>> matches;
         try {
-            ScriptScoreQuery scriptScoreQuery = buildDefaultScriptScoreQuery(
-                request.queryEmbedding().vector(),
-                (float) request.minScore()
-            );
-            SearchResponse<Document> response = client.search(
-                    SearchRequest.of(s -> s.index(indexName)
-                            .query(n -> n.scriptScore(scriptScoreQuery))
-                            .size(request.maxResults())),
-                    Document.class
-            );
+            SearchResponse<Document> response = client.search(searchRequest(request), Document.class);
             matches = toEmbeddingMatch(response);
         } catch (IOException ex) {
             log.error("[I/O OpenSearch Exception]", ex);
@@ -290,6 +378,119 @@ public class OpenSearchEmbeddingStore implements EmbeddingStore<TextSegment> {
         return new EmbeddingSearchResult<>(matches);
     }
 
+    @Override
+    public CompletableFuture<EmbeddingSearchResult<TextSegment>> searchAsync(EmbeddingSearchRequest request) {
+        try {
+            return asyncClient.search(searchRequest(request), Document.class).thenApply(response -> new EmbeddingSearchResult<>(toEmbeddingMatch(response)));
+        } catch (IOException ex) {
+            log.error("[I/O OpenSearch Exception]", ex);
+            return CompletableFuture.failedFuture(new OpenSearchRequestFailedException(ex.getMessage()));
+        }
+    }
+
+    @Override
+    public CompletableFuture<List<String>> addAllAsync(List<Embedding> embeddings, List<TextSegment> embedded) {
+        List<String> ids = embeddings.stream()
+                .map(ignored -> randomUUID())
+                .collect(toList());
+
+        if (isNullOrEmpty(embeddings)) {
+            log.info("[do not add empty embeddings to opensearch]");
+            return CompletableFuture.completedFuture(ids);
+        }
+
+        if (embedded != null && embeddings.size() != embedded.size()) {
+            return CompletableFuture.failedFuture(new IllegalArgumentException("embeddings size is not equal to embedded size"));
+        }
+
+        try {
+            List<BulkOperation> operations = indexOperations(ids, embeddings, embedded);
+            List<Long> sizes = indexOperationSizes(embeddings, embedded);
+            return createIndexIfNotExistAsync(embeddings.get(0).dimension())
+                    .thenCompose(ignored -> bulkIndexer.index(operations, sizes))
+                    .thenApply(ignored -> ids);
+        } catch (IOException ex) {
+            log.error("[I/O OpenSearch Exception]", ex);
+            return CompletableFuture.failedFuture(new OpenSearchRequestFailedException(ex.getMessage()));
+        }
+    }
+
+    /**
+     * Reads the index page by page with the
+     * <a href="https://opensearch.org/docs/latest/search-plugins/searching-data/paginate/#scroll-search">scroll</a> API,
+     * so that all pages see the same snapshot of the index.
+     * <br>
+     * Scroll is used rather than a point in time with {@code search_after}, which is only available since OpenSearch 2.4
+     * and has no unique sort order to page with. The scroll context is kept alive for {@value #SCROLL_KEEP_ALIVE}
+     * after each page, and cleared with the last one. The cursor is the scroll ID.
+     * <br>
+     * Filtering is not supported.
+     */
+    @Override
+    public EmbeddingScanResult<TextSegment> scan(EmbeddingScanRequest scanRequest) {
+        if (scanRequest.filter() != null) {
+            throw new UnsupportedOperationException("EmbeddingScanRequest.Filter is not supported yet.");
+        }
+
+        try {
+            SearchResponse<Document> response;
+            if (scanRequest.cursor() == null) {
+                try {
+                    response = client.search(SearchRequest.of(s -> s.index(indexName)
+                                    .query(q -> q.matchAll(m -> m))
+                                    .size(scanRequest.pageSize())
+                                    .sort(sort -> sort.doc(doc -> doc))
+                                    .scroll(time -> time.time(SCROLL_KEEP_ALIVE))),
+                            Document.class);
+                } catch (OpenSearchException e) {
+                    if (e.status() == 404) {
+                        log.debug("The index [{}] does not exist.", indexName);
+                        return new EmbeddingScanResult<>(new ArrayList<>(), null);
+                    }
+                    throw e;
+                }
+            } else {
+                response = client.scroll(s -> s.scrollId(scanRequest.cursor())
+                                .scroll(time -> time.time(SCROLL_KEEP_ALIVE)),
+                        Document.class);
+            }
+
+            List<Hit<Document>> hits = response.hits().hits();
+            List<EmbeddingRecord<TextSegment>> records = new ArrayList<>(hits.size());
+            for (Hit<Document> hit : hits) {
+                Document document = hit.source();
+                if (document != null) {
+                    records.add(new EmbeddingRecord<>(hit.id(), new Embedding(document.getVector()), toTextSegment(document)));
+                }
+            }
+
+            if (hits.size() < scanRequest.pageSize()) {
+                client.clearScroll(clear -> clear.scrollId(response.scrollId()));
+                return new EmbeddingScanResult<>(records, null);
+            }
+            return new EmbeddingScanResult<>(records, response.scrollId());
+        } catch (IOException ex) {
+            log.error("[I/O OpenSearch Exception]", ex);
+            throw new OpenSearchRequestFailedException(ex.getMessage());
+        }
+    }
+
+    private SearchRequest searchRequest(EmbeddingSearchRequest request) throws JsonProcessingException {
+        ScriptScoreQuery scriptScoreQuery = buildDefaultScriptScoreQuery(
+            request.queryEmbedding().vector(),
+            (float) request.minScore()
+        );
+        return SearchRequest.of(s -> {
+            s.index(indexName)
+                    .query(n -> n.scriptScore(scriptScoreQuery))
+                    .size(request.maxResults());
+            if (!includeVectorInResponse) {
+                s.source(source -> source.filter(filter -> filter.excludes("vector")));
+            }
+            return s;
+        });
+    }
+
     private ScriptScoreQuery buildDefaultScriptScoreQuery(float[] vector, float minScore) throws JsonProcessingException {
 
         return ScriptScoreQuery.of(q -> q.minScore(minScore)
@@ -325,11 +526,21 @@ public class OpenSearchEmbeddingStore implements EmbeddingStore<TextSegment> {
 
         try {
             createIndexIfNotExist(embeddings.get(0).dimension());
-            bulk(ids, embeddings, embedded);
         } catch (IOException ex) {
             log.error("[I/O OpenSearch Exception]", ex);
             throw new OpenSearchRequestFailedException(ex.getMessage());
         }
+
+        try {
+            bulkIndexer.index(indexOperations(ids, embeddings, embedded), indexOperationSizes(embeddings, embedded)).join();
+        } catch (CompletionException ex) {
+            Throwable cause = ex.getCause() == null ? ex : ex.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            log.error("[I/O OpenSearch Exception]", cause);
+            throw new OpenSearchRequestFailedException(cause.getMessage());
+        }
     }
 
     private void createIndexIfNotExist(int dimension) throws IOException {
@@ -342,6 +553,24 @@ public class OpenSearchEmbeddingStore implements EmbeddingStore<TextSegment> {
         }
     }
 
+    private CompletableFuture<Void> createIndexIfNotExistAsync(int dimension) throws IOException {
+        return asyncClient.indices().exists(c -> c.index(indexName))
+                .thenCompose(response -> {
+                    if (response.value()) {
+                        return CompletableFuture.completedFuture(null);
+                    }
+                    try {
+                        return asyncClient.indices()
+                                .create(c -> c.index(indexName)
+                                        .settings(s -> s.knn(true))
+                                        .mappings(getDefaultMappings(dimension)))
+                                .thenApply(ignored -> null);
+                    } catch (IOException ex) {
+                        throw new OpenSearchRequestFailedException(ex.getMessage());
+                    }
+                });
+    }
+
     private TypeMapping getDefaultMappings(int dimension) {
         Map<String, Property> properties = new HashMap<>(4);
         properties.put("text", Property.of(p -> p.text(TextProperty.of(t -> t))));
@@ -351,10 +580,10 @@ public class OpenSearchEmbeddingStore implements EmbeddingStore<TextSegment> {
         return TypeMapping.of(c -> c.properties(properties));
     }
 
-    private void bulk(List<String> ids, List<Embedding> embeddings, List<TextSegment> embedded) throws IOException {
+    private List<BulkOperation> indexOperations(List<String> ids, List<Embedding> embeddings, List<TextSegment> embedded) {
 
         int size = ids.size();
-        BulkRequest.Builder bulkBuilder = new BulkRequest.Builder();
+        List<BulkOperation> operations = new ArrayList<>(size);
 
         for (int i = 0; i < size; i++) {
             int finalI = i;
@@ -365,28 +594,23 @@ public class OpenSearchEmbeddingStore implements EmbeddingStore<TextSegment> {
                             .map(Metadata::asMap)
                             .orElse(null))
                     .build();
-            bulkBuilder.operations(op -> op.index(
+            operations.add(BulkOperation.of(op -> op.index(
                     idx -> idx
                             .index(indexName)
                             .id(ids.get(finalI))
                             .document(document)
-            ));
+            )));
         }
 
-        BulkResponse bulkResponse = client.bulk(bulkBuilder.build());
+        return operations;
+    }
 
-        if (bulkResponse.errors()) {
-            for (BulkResponseItem item : bulkResponse.items()) {
-                if (item.error() != null) {
-                    ErrorCause errorCause = item.error();
-                    if (errorCause != null) {
-                        throw new OpenSearchRequestFailedException(
-                                "type: " + errorCause.type() + "," +
-                                        "reason: " + errorCause.reason());
-                    }
-                }
-            }
+    private static List<Long> indexOperationSizes(List<Embedding> embeddings, List<TextSegment> embedded) {
+        List<Long> sizes = new ArrayList<>(embeddings.size());
+        for (int i = 0; i < embeddings.size(); i++) {
+            sizes.add(OpenSearchBulkIndexer.estimateSize(embeddings.get(i), embedded == null ? null : embedded.get(i)));
         }
+        return sizes;
     }
 
     private List<EmbeddingMatch<TextSegment>> toEmbeddingMatch(SearchResponse<Document> response) {
@@ -395,11 +619,15 @@ public class OpenSearchEmbeddingStore implements EmbeddingStore<TextSegment> {
                         .map(document -> new EmbeddingMatch<>(
                                 hit.score(),
                                 hit.id(),
-                                new Embedding(document.getVector()),
-                                document.getText() == null
-                                        ? null
-                                        : TextSegment.from(document.getText(), new Metadata(document.getMetadata()))
+                                document.getVector() == null ? null : new Embedding(document.getVector()),
+                                toTextSegment(document)
                         )).orElse(null))
                 .collect(toList());
     }
+
+    private static TextSegment toTextSegment(Document document) {
+        return document.getText() == null
+                ? null
+                : TextSegment.from(document.getText(), new Metadata(document.getMetadata()));
+    }
 }
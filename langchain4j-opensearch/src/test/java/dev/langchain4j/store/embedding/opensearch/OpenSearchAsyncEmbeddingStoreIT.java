@@ -0,0 +1,47 @@
+package dev.langchain4j.store.embedding.opensearch;
+
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.embedding.EmbeddingModel;
+import dev.langchain4j.model.embedding.onnx.allminilml6v2q.AllMiniLmL6V2QuantizedEmbeddingModel;
+import dev.langchain4j.store.embedding.AsyncEmbeddingStore;
+import dev.langchain4j.store.embedding.AsyncEmbeddingStoreIT;
+import org.junit.jupiter.api.BeforeAll;
+import org.opensearch.testcontainers.OpensearchContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.utility.DockerImageName;
+
+import static dev.langchain4j.internal.Utils.randomUUID;
+
+class OpenSearchAsyncEmbeddingStoreIT extends AsyncEmbeddingStoreIT {
+
+    @Container
+    static OpensearchContainer opensearch =
+            new OpensearchContainer(DockerImageName.parse("opensearchproject/opensearch:2.10.0"));
+
+    OpenSearchEmbeddingStore embeddingStore = OpenSearchEmbeddingStore.builder()
+            .serverUrl(opensearch.getHttpHostAddress())
+            .indexName(randomUUID())
+            .build();
+
+    EmbeddingModel embeddingModel = new AllMiniLmL6V2QuantizedEmbeddingModel();
+
+    @BeforeAll
+    static void startOpenSearch() {
+        opensearch.start();
+    }
+
+    @Override
+    protected AsyncEmbeddingStore<TextSegment> asyncEmbeddingStore() {
+        return embeddingStore;
+    }
+
+    @Override
+    protected EmbeddingModel embeddingModel() {
+        return embeddingModel;
+    }
+
+    @Override
+    protected boolean supportsRemoval() {
+        return false;
+    }
+}
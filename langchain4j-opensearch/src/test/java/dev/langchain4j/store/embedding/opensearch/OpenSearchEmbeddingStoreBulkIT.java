@@ -0,0 +1,93 @@
+package dev.langchain4j.store.embedding.opensearch;
+
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.embedding.EmbeddingModel;
+import dev.langchain4j.model.embedding.onnx.allminilml6v2q.AllMiniLmL6V2QuantizedEmbeddingModel;
+import dev.langchain4j.store.embedding.EmbeddingRecord;
+import dev.langchain4j.store.embedding.EmbeddingScanRequest;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.opensearch.client.opensearch._types.Refresh;
+import org.opensearch.testcontainers.OpensearchContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.utility.DockerImageName;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static dev.langchain4j.internal.Utils.randomUUID;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OpenSearchEmbeddingStoreBulkIT {
+
+    @Container
+    static OpensearchContainer opensearch =
+            new OpensearchContainer(DockerImageName.parse("opensearchproject/opensearch:2.10.0"));
+
+    EmbeddingModel embeddingModel = new AllMiniLmL6V2QuantizedEmbeddingModel();
+
+    @BeforeAll
+    static void startOpenSearch() {
+        opensearch.start();
+    }
+
+    @Test
+    void should_add_in_several_concurrent_bulk_requests() {
+
+        // given
+        OpenSearchEmbeddingStore embeddingStore = storeWith(OpenSearchBulkConfiguration.builder()
+                .maxDocumentsPerRequest(3)
+                .maxBytesPerRequest(20_000L)
+                .maxConcurrentRequests(2)
+                .refresh(Refresh.WaitFor)
+                .build());
+        List<TextSegment> segments = segments(20);
+        List<Embedding> embeddings = embeddingModel.embedAll(segments).content();
+
+        // when
+        List<String> ids = embeddingStore.addAll(embeddings, segments);
+
+        // then
+        assertThat(embeddingStore.export(EmbeddingScanRequest.builder().build()))
+                .extracting(EmbeddingRecord::id)
+                .containsExactlyInAnyOrderElementsOf(ids);
+    }
+
+    @Test
+    void should_make_large_load_visible_once_done() {
+
+        // given
+        OpenSearchEmbeddingStore embeddingStore = storeWith(OpenSearchBulkConfiguration.builder()
+                .maxDocumentsPerRequest(5)
+                .largeLoadThreshold(10)
+                .forceMergeMaxSegments(1)
+                .build());
+        List<TextSegment> segments = segments(12);
+        List<Embedding> embeddings = embeddingModel.embedAll(segments).content();
+
+        // when
+        List<String> ids = embeddingStore.addAll(embeddings, segments);
+
+        // then
+        assertThat(embeddingStore.export(EmbeddingScanRequest.builder().build()))
+                .extracting(EmbeddingRecord::id)
+                .containsExactlyInAnyOrderElementsOf(ids);
+    }
+
+    private static OpenSearchEmbeddingStore storeWith(OpenSearchBulkConfiguration bulkConfiguration) {
+        return OpenSearchEmbeddingStore.builder()
+                .serverUrl(opensearch.getHttpHostAddress())
+                .indexName(randomUUID())
+                .bulkConfiguration(bulkConfiguration)
+                .build();
+    }
+
+    private static List<TextSegment> segments(int size) {
+        List<TextSegment> segments = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            segments.add(TextSegment.from("segment " + i));
+        }
+        return segments;
+    }
+}
@@ -0,0 +1,60 @@
+package dev.langchain4j.store.embedding.opensearch;
+
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.embedding.EmbeddingModel;
+import dev.langchain4j.model.embedding.onnx.allminilml6v2q.AllMiniLmL6V2QuantizedEmbeddingModel;
+import dev.langchain4j.store.embedding.EmbeddingMatch;
+import dev.langchain4j.store.embedding.EmbeddingSearchRequest;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.opensearch.client.opensearch._types.Refresh;
+import org.opensearch.testcontainers.OpensearchContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.utility.DockerImageName;
+
+import java.util.List;
+
+import static dev.langchain4j.internal.Utils.randomUUID;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OpenSearchEmbeddingStoreWithoutVectorIT {
+
+    @Container
+    static OpensearchContainer opensearch =
+            new OpensearchContainer(DockerImageName.parse("opensearchproject/opensearch:2.10.0"));
+
+    EmbeddingModel embeddingModel = new AllMiniLmL6V2QuantizedEmbeddingModel();
+
+    @BeforeAll
+    static void startOpenSearch() {
+        opensearch.start();
+    }
+
+    @Test
+    void should_search_without_returning_vectors() {
+
+        // given
+        OpenSearchEmbeddingStore embeddingStore = OpenSearchEmbeddingStore.builder()
+                .serverUrl(opensearch.getHttpHostAddress())
+                .indexName(randomUUID())
+                .bulkConfiguration(OpenSearchBulkConfiguration.builder().refresh(Refresh.WaitFor).build())
+                .includeVectorInResponse(false)
+                .build();
+        TextSegment segment = TextSegment.from("The weather is sunny today");
+        Embedding embedding = embeddingModel.embed(segment).content();
+        String id = embeddingStore.add(embedding, segment);
+
+        // when
+        List<EmbeddingMatch<TextSegment>> matches = embeddingStore.search(EmbeddingSearchRequest.builder()
+                .queryEmbedding(embedding)
+                .maxResults(1)
+                .build()).matches();
+
+        // then
+        assertThat(matches).hasSize(1);
+        assertThat(matches.get(0).embeddingId()).isEqualTo(id);
+        assertThat(matches.get(0).embedded()).isEqualTo(segment);
+        assertThat(matches.get(0).embedding()).isNull();
+    }
+}
@@ -0,0 +1,130 @@
+package dev.langchain4j.store.embedding.pgvector;
+
+import org.postgresql.copy.CopyIn;
+
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.sql.SQLException;
+import java.util.UUID;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Writes rows in the binary format of {@code COPY ... FROM STDIN (FORMAT BINARY)}.
+ * <p>
+ * See <a href="https://www.postgresql.org/docs/current/sql-copy.html#id-1.9.3.55.9.4">Binary Format</a>.
+ * Values are sent in the binary representation of their column types, so the server doesn't need to parse them.
+ * <p>
+ * The COPY is completed by {@link #finish()}. If the writer is closed before, the COPY is cancelled,
+ * so that a partially written row is never sent to the server as a complete one.
+ */
+class BinaryCopyWriter implements Closeable {
+
+    private static final byte[] SIGNATURE = {'P', 'G', 'C', 'O', 'P', 'Y', '\n', (byte) 0xFF, '\r', '\n', 0};
+
+    private final OutputStream target;
+    private final DataOutputStream out;
+    private boolean finished;
+
+    /**
+     * Writes the COPY header to the provided stream.
+     *
+     * @param out stream the rows are written to
+     * @throws IOException if the header cannot be written
+     */
+    BinaryCopyWriter(OutputStream out) throws IOException {
+        this.target = out;
+        this.out = new DataOutputStream(out);
+        this.out.write(SIGNATURE);
+        this.out.writeInt(0); // flags
+        this.out.writeInt(0); // header extension length
+    }
+
+    /**
+     * Starts a new row
+     *
+     * @param fieldCount number of fields of the row
+     * @throws IOException if the row cannot be written
+     */
+    void startRow(int fieldCount) throws IOException {
+        out.writeShort(fieldCount);
+    }
+
+    /**
+     * Writes a {@code uuid} field
+     *
+     * @param uuid the value
+     * @throws IOException if the field cannot be written
+     */
+    void writeUuid(UUID uuid) throws IOException {
+        out.writeInt(16);
+        out.writeLong(uuid.getMostSignificantBits());
+        out.writeLong(uuid.getLeastSignificantBits());
+    }
+
+    /**
+     * Writes a {@code vector} field: dimension, an unused flag, then each component as float4.
+     *
+     * @param vector the value
+     * @throws IOException if the field cannot be written
+     */
+    void writeVector(float[] vector) throws IOException {
+        out.writeInt(4 + 4 * vector.length);
+        out.writeShort(vector.length);
+        out.writeShort(0);
+        for (float component : vector) {
+            out.writeFloat(component);
+        }
+    }
+
+    /**
+     * Writes a {@code text} field, or {@code NULL} if the value is null
+     *
+     * @param text the value
+     * @throws IOException if the field cannot be written
+     */
+    void writeText(String text) throws IOException {
+        if (text == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = text.getBytes(UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    /**
+     * Writes the COPY trailer and closes the underlying stream, which completes the COPY.
+     *
+     * @throws IOException if the trailer cannot be written
+     */
+    void finish() throws IOException {
+        finished = true;
+        out.writeShort(-1);
+        out.close();
+    }
+
+    /**
+     * Cancels the COPY if it was not completed by {@link #finish()}.
+     *
+     * @throws IOException if the COPY cannot be cancelled
+     */
+    @Override
+    public void close() throws IOException {
+        if (finished) {
+            return;
+        }
+        finished = true;
+        if (target instanceof CopyIn) {
+            try {
+                ((CopyIn) target).cancelCopy();
+            } catch (SQLException e) {
+                throw new IOException(e);
+            }
+        } else {
+            out.close();
+        }
+    }
+}
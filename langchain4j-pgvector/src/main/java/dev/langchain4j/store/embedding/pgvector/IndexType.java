@@ -0,0 +1,23 @@
+package dev.langchain4j.store.embedding.pgvector;
+
+/**
+ * Approximate nearest neighbor index created on the embedding column
+ * <ul>
+ * <li>IVFFLAT: <a href="https://github.com/pgvector/pgvector#ivfflat">IVFFlat</a> index, configured with {@code indexListSize}.
+ * Faster to build and smaller, but needs data in the table to be built with good recall.
+ * <li>HNSW: <a href="https://github.com/pgvector/pgvector#hnsw">HNSW</a> index, configured with {@code hnswM} and
+ * {@code hnswEfConstruction}. Better speed-recall tradeoff at query time, and can be built on an empty table.
+ * </ul>
+ * <p>
+ * Default value: IVFFLAT
+ */
+public enum IndexType {
+    /**
+     * IVFFLAT: <a href="https://github.com/pgvector/pgvector#ivfflat">IVFFlat</a> index
+     */
+    IVFFLAT,
+    /**
+     * HNSW: <a href="https://github.com/pgvector/pgvector#hnsw">HNSW</a> index
+     */
+    HNSW
+}
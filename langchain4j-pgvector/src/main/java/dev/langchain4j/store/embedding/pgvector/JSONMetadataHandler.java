@@ -88,4 +88,13 @@ class JSONMetadataHandler implements MetadataHandler {
             throw new RuntimeException(e);
         }
     }
+
+    @Override
+    public List<String> textValues(Metadata metadata) {
+        try {
+            return Collections.singletonList(OBJECT_MAPPER.writeValueAsString(metadata.asMap()));
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException(e);
+        }
+    }
 }
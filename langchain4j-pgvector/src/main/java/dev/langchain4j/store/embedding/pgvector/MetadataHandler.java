@@ -69,5 +69,14 @@ interface MetadataHandler {
      */
     void setMetadata(PreparedStatement upsertStmt, Integer parameterInitialIndex, Metadata metadata);
 
+    /**
+     * Metadata values as text, in the order of {@link #columnsNames()}, used to bulk load embeddings with COPY.
+     * The server converts them to the column types.
+     *
+     * @param metadata metadata values
+     * @return the text value (or null) of each metadata column
+     */
+    List<String> textValues(Metadata metadata);
+
 
 }
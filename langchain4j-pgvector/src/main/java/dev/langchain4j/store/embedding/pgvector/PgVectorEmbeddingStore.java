@@ -5,36 +5,58 @@ import dev.langchain4j.data.document.Metadata;
 import dev.langchain4j.data.embedding.Embedding;
 import dev.langchain4j.data.segment.TextSegment;
 import dev.langchain4j.store.embedding.EmbeddingMatch;
+import dev.langchain4j.store.embedding.EmbeddingRecord;
+import dev.langchain4j.store.embedding.EmbeddingScanRequest;
+import dev.langchain4j.store.embedding.EmbeddingScanResult;
 import dev.langchain4j.store.embedding.EmbeddingSearchRequest;
 import dev.langchain4j.store.embedding.EmbeddingSearchResult;
 import dev.langchain4j.store.embedding.EmbeddingStore;
 import dev.langchain4j.store.embedding.filter.Filter;
 import lombok.Builder;
 import lombok.NoArgsConstructor;
+import com.zaxxer.hikari.HikariDataSource;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.PGCopyOutputStream;
+import org.postgresql.core.BaseConnection;
 import org.postgresql.ds.PGSimpleDataSource;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import javax.sql.DataSource;
+import java.io.IOException;
 import java.sql.*;
 import java.util.*;
 import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import static dev.langchain4j.internal.Utils.*;
 import static dev.langchain4j.internal.ValidationUtils.*;
 import static java.lang.String.join;
 import static java.util.Collections.nCopies;
 import static java.util.Collections.singletonList;
+import static java.util.stream.Collectors.joining;
 import static java.util.stream.Collectors.toList;
 
 /**
  * PGVector EmbeddingStore Implementation
  * <p>
  * Only cosine similarity is used.
- * Only ivfflat index is used.
+ * Either an ivfflat or an hnsw index can be used, see {@link IndexType}.
+ * <p>
+ * Embeddings can be stored as {@code halfvec} instead of {@code vector}, which halves the size of the table
+ * and of its index, at the cost of precision.
+ * <p>
+ * Large {@code addAll} calls (see {@code bulkLoadThreshold}) are loaded with {@code COPY ... (FORMAT BINARY)}
+ * into a temporary table, and upserted from there with a single statement, instead of batched {@code INSERT}s.
+ * <p>
+ * When built from host and port with a {@code maxPoolSize}, connections are pooled (with HikariCP),
+ * and the search and upsert statements are prepared on the server once per connection and then reused.
+ * The pool is released by {@link #close()}. HikariCP is an optional dependency: it must be added to the classpath
+ * to use {@code maxPoolSize}.
  */
 @NoArgsConstructor(force = true) // Needed for inherited bean injection validation
-public class PgVectorEmbeddingStore implements EmbeddingStore<TextSegment> {
+public class PgVectorEmbeddingStore implements EmbeddingStore<TextSegment>, AutoCloseable {
     private static final Logger log = LoggerFactory.getLogger(PgVectorEmbeddingStore.class);
     /**
      * Datasource used to create the store
@@ -48,6 +70,21 @@ public class PgVectorEmbeddingStore implements EmbeddingStore<TextSegment> {
      * Metadata handler
      */
     final MetadataHandler metadataHandler;
+    /**
+     * Whether embeddings are stored as halfvec
+     */
+    final boolean useHalfvec;
+    /**
+     * The hnsw.ef_search used by queries, or null to use the server setting
+     */
+    final Integer hnswEfSearch;
+    /**
+     * Minimum number of embeddings added at once to load them with COPY
+     */
+    final int bulkLoadThreshold;
+    private volatile Integer vectorTypeOid;
+    private volatile boolean vectorExtensionCreated;
+    private final boolean ownsDatasource;
 
     /**
      * Constructor for PgVectorEmbeddingStore Class
@@ -61,7 +98,6 @@ public class PgVectorEmbeddingStore implements EmbeddingStore<TextSegment> {
      * @param dropTableFirst        Should drop table first, usually for testing
      * @param metadataStorageConfig The {@link MetadataStorageConfig} config.
      */
-    @Builder(builderMethodName = "datasourceBuilder", builderClassName = "DatasourceBuilder")
     protected PgVectorEmbeddingStore(DataSource datasource,
                                      String table,
                                      Integer dimension,
@@ -70,15 +106,91 @@ public class PgVectorEmbeddingStore implements EmbeddingStore<TextSegment> {
                                      Boolean createTable,
                                      Boolean dropTableFirst,
                                      MetadataStorageConfig metadataStorageConfig) {
+        this(datasource, table, dimension, useIndex, indexListSize, createTable, dropTableFirst, metadataStorageConfig,
+                null, null, null, null, null, null);
+    }
+
+    /**
+     * Constructor for PgVectorEmbeddingStore Class
+     *
+     * @param datasource            The datasource to use
+     * @param table                 The database table
+     * @param dimension             The vector dimension
+     * @param useIndex              Should create an index on the embedding column
+     * @param indexListSize         The IVFFlat number of lists
+     * @param createTable           Should create table automatically
+     * @param dropTableFirst        Should drop table first, usually for testing
+     * @param metadataStorageConfig The {@link MetadataStorageConfig} config.
+     * @param indexType             The {@link IndexType} created when {@code useIndex} is true. Default: IVFFLAT
+     * @param hnswM                 The HNSW max number of connections per layer (m). Default: server default (16)
+     * @param hnswEfConstruction    The HNSW size of the dynamic candidate list for constructing the graph
+     *                              (ef_construction). Default: server default (64)
+     * @param hnswEfSearch          The HNSW size of the dynamic candidate list for search (hnsw.ef_search),
+     *                              set for each query. Only applies to the HNSW index type.
+     *                              Default: server setting (40)
+     * @param useHalfvec            Should store embeddings as halfvec (half-precision) instead of vector. Default: false
+     * @param bulkLoadThreshold     Minimum number of embeddings added at once to load them with binary COPY
+     *                              instead of batched INSERTs. Default: disabled
+     */
+    @Builder(builderMethodName = "datasourceBuilder", builderClassName = "DatasourceBuilder")
+    protected PgVectorEmbeddingStore(DataSource datasource,
+                                     String table,
+                                     Integer dimension,
+                                     Boolean useIndex,
+                                     Integer indexListSize,
+                                     Boolean createTable,
+                                     Boolean dropTableFirst,
+                                     MetadataStorageConfig metadataStorageConfig,
+                                     IndexType indexType,
+                                     Integer hnswM,
+                                     Integer hnswEfConstruction,
+                                     Integer hnswEfSearch,
+                                     Boolean useHalfvec,
+                                     Integer bulkLoadThreshold) {
+        this(datasource, false, table, dimension, useIndex, indexListSize, createTable, dropTableFirst,
+                metadataStorageConfig, indexType, hnswM, hnswEfConstruction, hnswEfSearch, useHalfvec, bulkLoadThreshold);
+    }
+
+    private PgVectorEmbeddingStore(DataSource datasource,
+                                   boolean ownsDatasource,
+                                   String table,
+                                   Integer dimension,
+                                   Boolean useIndex,
+                                   Integer indexListSize,
+                                   Boolean createTable,
+                                   Boolean dropTableFirst,
+                                   MetadataStorageConfig metadataStorageConfig,
+                                   IndexType indexType,
+                                   Integer hnswM,
+                                   Integer hnswEfConstruction,
+                                   Integer hnswEfSearch,
+                                   Boolean useHalfvec,
+                                   Integer bulkLoadThreshold) {
         this.datasource = ensureNotNull(datasource, "datasource");
-        this.table = ensureNotBlank(table, "table");
-        MetadataStorageConfig config = getOrDefault(metadataStorageConfig, DefaultMetadataStorageConfig.defaultConfig());
-        this.metadataHandler = MetadataHandlerFactory.get(config);
-        useIndex = getOrDefault(useIndex, false);
-        createTable = getOrDefault(createTable, true);
-        dropTableFirst = getOrDefault(dropTableFirst, false);
+        this.ownsDatasource = ownsDatasource;
+        try {
+            this.table = ensureNotBlank(table, "table");
+            MetadataStorageConfig config = getOrDefault(metadataStorageConfig, DefaultMetadataStorageConfig.defaultConfig());
+            this.metadataHandler = MetadataHandlerFactory.get(config);
+            this.useHalfvec = getOrDefault(useHalfvec, false);
+            this.hnswEfSearch = hnswEfSearch == null ? null : ensureGreaterThanZero(hnswEfSearch, "hnswEfSearch");
+            this.bulkLoadThreshold = bulkLoadThreshold == null
+                    ? Integer.MAX_VALUE
+                    : ensureGreaterThanZero(bulkLoadThreshold, "bulkLoadThreshold");
+            useIndex = getOrDefault(useIndex, false);
+            createTable = getOrDefault(createTable, true);
+            dropTableFirst = getOrDefault(dropTableFirst, false);
+            ensureTrue(this.hnswEfSearch == null
+                            || (indexType == null ? !useIndex : indexType == IndexType.HNSW),
+                    "hnswEfSearch only applies to the HNSW index type");
+            indexType = getOrDefault(indexType, IndexType.IVFFLAT);
 
-        initTable(dropTableFirst, createTable, useIndex, dimension, indexListSize);
+            initTable(dropTableFirst, createTable, useIndex, dimension, indexListSize, indexType, hnswM, hnswEfConstruction);
+        } catch (RuntimeException e) {
+            // the store is not returned to the caller, so it cannot close the pool it created
+            close();
+            throw e;
+        }
     }
 
     /**
@@ -97,6 +209,19 @@ public class PgVectorEmbeddingStore implements EmbeddingStore<TextSegment> {
      * @param createTable           Should create table automatically
      * @param dropTableFirst        Should drop table first, usually for testing
      * @param metadataStorageConfig The {@link MetadataStorageConfig} config.
+     * @param indexType             The {@link IndexType} created when {@code useIndex} is true. Default: IVFFLAT
+     * @param hnswM                 The HNSW max number of connections per layer (m). Default: server default (16)
+     * @param hnswEfConstruction    The HNSW size of the dynamic candidate list for constructing the graph
+     *                              (ef_construction). Default: server default (64)
+     * @param hnswEfSearch          The HNSW size of the dynamic candidate list for search (hnsw.ef_search),
+     *                              set for each query. Only applies to the HNSW index type.
+     *                              Default: server setting (40)
+     * @param useHalfvec            Should store embeddings as halfvec (half-precision) instead of vector. Default: false
+     * @param bulkLoadThreshold     Minimum number of embeddings added at once to load them with binary COPY
+     *                              instead of batched INSERTs. Default: disabled
+     * @param maxPoolSize           Maximum number of pooled connections. When set, connections are pooled
+     *                              with HikariCP, which must be on the classpath, and statements are prepared
+     *                              on the server. Default: no pooling, a new connection is opened for each operation
      */
     @SuppressWarnings("unused")
     @Builder
@@ -112,13 +237,22 @@ public class PgVectorEmbeddingStore implements EmbeddingStore<TextSegment> {
             Integer indexListSize,
             Boolean createTable,
             Boolean dropTableFirst,
-            MetadataStorageConfig metadataStorageConfig
+            MetadataStorageConfig metadataStorageConfig,
+            IndexType indexType,
+            Integer hnswM,
+            Integer hnswEfConstruction,
+            Integer hnswEfSearch,
+            Boolean useHalfvec,
+            Integer bulkLoadThreshold,
+            Integer maxPoolSize
     ) {
-        this(createDataSource(host, port, user, password, database),
-                table, dimension, useIndex, indexListSize, createTable, dropTableFirst, metadataStorageConfig);
+        this(createDataSource(host, port, user, password, database, maxPoolSize), true,
+                table, dimension, useIndex, indexListSize, createTable, dropTableFirst, metadataStorageConfig,
+                indexType, hnswM, hnswEfConstruction, hnswEfSearch, useHalfvec, bulkLoadThreshold);
     }
 
-    private static DataSource createDataSource(String host, Integer port, String user, String password, String database) {
+    static DataSource createDataSource(String host, Integer port, String user, String password, String database,
+                                               Integer maxPoolSize) {
         host = ensureNotBlank(host, "host");
         port = ensureGreaterThanZero(port, "port");
         user = ensureNotBlank(user, "user");
@@ -132,7 +266,28 @@ public class PgVectorEmbeddingStore implements EmbeddingStore<TextSegment> {
         source.setUser(user);
         source.setPassword(password);
 
-        return source;
+        if (maxPoolSize == null) {
+            return source;
+        }
+        // Pooled connections live long enough to benefit from server-side prepared statements,
+        // so statements are prepared on first use (instead of the 5th), and cached per connection by the driver.
+        source.setPrepareThreshold(1);
+        return ConnectionPool.create(source, ensureGreaterThanZero(maxPoolSize, "maxPoolSize"));
+    }
+
+    /**
+     * Keeps the references to the optional HikariCP dependency out of the store class.
+     */
+    private static class ConnectionPool {
+
+        static DataSource create(DataSource source, int maxPoolSize) {
+            // the pool is started on the first connection
+            HikariDataSource pool = new HikariDataSource();
+            pool.setPoolName("langchain4j-pgvector");
+            pool.setDataSource(source);
+            pool.setMaximumPoolSize(maxPoolSize);
+            return pool;
+        }
     }
 
 
@@ -147,6 +302,23 @@ public class PgVectorEmbeddingStore implements EmbeddingStore<TextSegment> {
      */
     protected void initTable(Boolean dropTableFirst, Boolean createTable, Boolean useIndex, Integer dimension,
                              Integer indexListSize) {
+        initTable(dropTableFirst, createTable, useIndex, dimension, indexListSize, IndexType.IVFFLAT, null, null);
+    }
+
+    /**
+     * Initialize metadata table following configuration
+     *
+     * @param dropTableFirst     Should drop table first, usually for testing
+     * @param createTable        Should create table automatically
+     * @param useIndex           Should create an index on the embedding column
+     * @param dimension          The vector dimension
+     * @param indexListSize      The IVFFlat number of lists
+     * @param indexType          The {@link IndexType} to create
+     * @param hnswM              The HNSW m parameter, or null for the server default
+     * @param hnswEfConstruction The HNSW ef_construction parameter, or null for the server default
+     */
+    protected void initTable(Boolean dropTableFirst, Boolean createTable, Boolean useIndex, Integer dimension,
+                             Integer indexListSize, IndexType indexType, Integer hnswM, Integer hnswEfConstruction) {
         String query = "init";
         try (Connection connection = getConnection(); Statement statement = connection.createStatement()) {
             if (dropTableFirst) {
@@ -154,19 +326,34 @@ public class PgVectorEmbeddingStore implements EmbeddingStore<TextSegment> {
             }
             if (createTable) {
                 query = String.format("CREATE TABLE IF NOT EXISTS %s (embedding_id UUID PRIMARY KEY, " +
-                                "embedding vector(%s), text TEXT NULL, %s )",
-                        table, ensureGreaterThanZero(dimension, "dimension"),
+                                "embedding %s(%s), text TEXT NULL, %s )",
+                        table, vectorType(), ensureGreaterThanZero(dimension, "dimension"),
                         metadataHandler.columnDefinitionsString());
                 statement.executeUpdate(query);
                 metadataHandler.createMetadataIndexes(statement, table);
             }
-            if (useIndex) {
+            if (useIndex && indexType == IndexType.HNSW) {
+                final String indexName = table + "_hnsw_index";
+                List<String> parameters = new ArrayList<>();
+                if (hnswM != null) {
+                    parameters.add("m = " + ensureGreaterThanZero(hnswM, "hnswM"));
+                }
+                if (hnswEfConstruction != null) {
+                    parameters.add("ef_construction = " + ensureGreaterThanZero(hnswEfConstruction, "hnswEfConstruction"));
+                }
+                query = String.format(
+                        "CREATE INDEX IF NOT EXISTS %s ON %s " +
+                                "USING hnsw (embedding %s_cosine_ops)%s",
+                        indexName, table, vectorType(),
+                        parameters.isEmpty() ? "" : " WITH (" + join(", ", parameters) + ")");
+                statement.executeUpdate(query);
+            } else if (useIndex) {
                 final String indexName = table + "_ivfflat_index";
                 query = String.format(
                         "CREATE INDEX IF NOT EXISTS %s ON %s " +
-                                "USING ivfflat (embedding vector_cosine_ops) " +
+                                "USING ivfflat (embedding %s_cosine_ops) " +
                                 "WITH (lists = %s)",
-                        indexName, table, ensureGreaterThanZero(indexListSize, "indexListSize"));
+                        indexName, table, vectorType(), ensureGreaterThanZero(indexListSize, "indexListSize"));
                 statement.executeUpdate(query);
             }
         } catch (SQLException e) {
@@ -239,6 +426,19 @@ public class PgVectorEmbeddingStore implements EmbeddingStore<TextSegment> {
         return ids;
     }
 
+    /**
+     * Adds multiple embeddings and their corresponding contents that have been embedded to the store,
+     * using the provided IDs, which must be UUIDs.
+     *
+     * @param ids        A list of unique IDs, one for each embedding.
+     * @param embeddings A list of embeddings to be added to the store.
+     * @param embedded   A list of original contents that were embedded, or {@code null}.
+     */
+    @Override
+    public void addAll(List<String> ids, List<Embedding> embeddings, List<TextSegment> embedded) {
+        addAllInternal(ids, embeddings, embedded);
+    }
+
     @Override
     public void removeAll(Collection<String> ids) {
         ensureNotEmpty(ids, "ids");
@@ -295,31 +495,50 @@ public class PgVectorEmbeddingStore implements EmbeddingStore<TextSegment> {
 
         List<EmbeddingMatch<TextSegment>> result = new ArrayList<>();
         try (Connection connection = getConnection()) {
-            String referenceVector = Arrays.toString(referenceEmbedding.vector());
+            PGvector referenceVector = new PGvector(referenceEmbedding.vector());
             String whereClause = (filter == null) ? "" : metadataHandler.whereClause(filter);
             whereClause = (whereClause.isEmpty()) ? "" : "WHERE " + whereClause;
+            // Ordering by the distance operator (rather than by the score) lets the index be used,
+            // the nearest neighbors are then filtered by score.
+            String distance = String.format("embedding <=> %s", vectorParameter());
             String query = String.format(
-                    "WITH temp AS (SELECT (2 - (embedding <=> '%s')) / 2 AS score, embedding_id, embedding, text, " +
-                            "%s FROM %s %s) SELECT * FROM temp WHERE score >= %s ORDER BY score desc LIMIT %s;",
-                    referenceVector, join(",", metadataHandler.columnsNames()), table, whereClause, minScore, maxResults);
-            try (PreparedStatement selectStmt = connection.prepareStatement(query)) {
-                try (ResultSet resultSet = selectStmt.executeQuery()) {
-                    while (resultSet.next()) {
-                        double score = resultSet.getDouble("score");
-                        String embeddingId = resultSet.getString("embedding_id");
-
-                        PGvector vector = (PGvector) resultSet.getObject("embedding");
-                        Embedding embedding = new Embedding(vector.toArray());
-
-                        String text = resultSet.getString("text");
-                        TextSegment textSegment = null;
-                        if (isNotNullOrBlank(text)) {
-                            Metadata metadata = metadataHandler.fromResultSet(resultSet);
-                            textSegment = TextSegment.from(text, metadata);
+                    "SELECT * FROM (SELECT (2 - (%s)) / 2 AS score, embedding_id, embedding::vector AS embedding, " +
+                            "text, %s FROM %s %s ORDER BY %s LIMIT ?) AS temp WHERE score >= ? ORDER BY score desc;",
+                    distance, join(",", metadataHandler.columnsNames()), table, whereClause, distance);
+            boolean autoCommit = connection.getAutoCommit();
+            if (hnswEfSearch != null && autoCommit) {
+                // hnsw.ef_search is set for the current transaction only
+                connection.setAutoCommit(false);
+            }
+            try {
+                if (hnswEfSearch != null) {
+                    try (Statement statement = connection.createStatement()) {
+                        statement.executeUpdate("SET LOCAL hnsw.ef_search = " + hnswEfSearch);
+                    }
+                }
+                try (PreparedStatement selectStmt = connection.prepareStatement(query)) {
+                    selectStmt.setObject(1, referenceVector);
+                    selectStmt.setObject(2, referenceVector);
+                    selectStmt.setInt(3, maxResults);
+                    selectStmt.setDouble(4, minScore);
+                    try (ResultSet resultSet = selectStmt.executeQuery()) {
+                        while (resultSet.next()) {
+                            double score = resultSet.getDouble("score");
+                            String embeddingId = resultSet.getString("embedding_id");
+
+                            PGvector vector = (PGvector) resultSet.getObject("embedding");
+                            Embedding embedding = new Embedding(vector.toArray());
+
+                            TextSegment textSegment = toTextSegment(resultSet);
+                            result.add(new EmbeddingMatch<>(score, embeddingId, embedding, textSegment));
                         }
-                        result.add(new EmbeddingMatch<>(score, embeddingId, embedding, textSegment));
                     }
                 }
+            } finally {
+                if (hnswEfSearch != null && autoCommit) {
+                    connection.rollback(); // read-only, nothing to commit
+                    connection.setAutoCommit(true);
+                }
             }
         } catch (SQLException e) {
             throw new RuntimeException(e);
@@ -327,6 +546,151 @@ public class PgVectorEmbeddingStore implements EmbeddingStore<TextSegment> {
         return new EmbeddingSearchResult<>(result);
     }
 
+    /**
+     * Reads a page of the embeddings, ordered by ID.
+     * <br>
+     * Pages are read by key (the cursor is the last ID of the previous page) rather than by offset,
+     * so each page is read from the primary key index, and no server-side state is kept between pages.
+     * To read the whole table at once, {@link #export(EmbeddingScanRequest)} uses a single server-side cursor instead.
+     *
+     * @param request A request to read a page of the store.
+     * @return The page, with the cursor to read the next one.
+     */
+    @Override
+    public EmbeddingScanResult<TextSegment> scan(EmbeddingScanRequest request) {
+        List<EmbeddingRecord<TextSegment>> records = new ArrayList<>(request.pageSize());
+        try (Connection connection = getConnection();
+             PreparedStatement statement = prepareScanStatement(connection, request, true)) {
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    records.add(toEmbeddingRecord(resultSet));
+                }
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException(e);
+        }
+        String nextCursor = records.size() < request.pageSize() ? null : records.get(records.size() - 1).id();
+        return new EmbeddingScanResult<>(records, nextCursor);
+    }
+
+    /**
+     * Reads the embeddings, ordered by ID, through a server-side cursor: the rows are fetched
+     * {@link EmbeddingScanRequest#pageSize()} at a time, within a single transaction,
+     * so the stream sees a consistent snapshot of the table.
+     * <br>
+     * The connection is held until the stream is fully consumed.
+     * If it is not, the stream must be closed to release the connection.
+     *
+     * @param request A request defining the page size, filter and optional starting cursor.
+     * @return A sequential stream of the stored embeddings.
+     */
+    @Override
+    public Stream<EmbeddingRecord<TextSegment>> export(EmbeddingScanRequest request) {
+        ensureNotNull(request, "request");
+        Connection connection = null;
+        try {
+            connection = getConnection();
+            // the driver only fetches rows with a cursor within a transaction
+            connection.setAutoCommit(false);
+            PreparedStatement statement = prepareScanStatement(connection, request, false);
+            statement.setFetchSize(request.pageSize());
+            ResultSet resultSet = statement.executeQuery();
+            Connection cursorConnection = connection;
+            Iterator<EmbeddingRecord<TextSegment>> records = new Iterator<>() {
+
+                private Boolean hasNext;
+
+                @Override
+                public boolean hasNext() {
+                    if (hasNext == null) {
+                        try {
+                            hasNext = resultSet.next();
+                        } catch (SQLException e) {
+                            throw new RuntimeException(e);
+                        }
+                        if (!hasNext) {
+                            closeCursor(cursorConnection);
+                        }
+                    }
+                    return hasNext;
+                }
+
+                @Override
+                public EmbeddingRecord<TextSegment> next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    hasNext = null;
+                    try {
+                        return toEmbeddingRecord(resultSet);
+                    } catch (SQLException e) {
+                        throw new RuntimeException(e);
+                    }
+                }
+            };
+            return StreamSupport.stream(Spliterators.spliteratorUnknownSize(records, Spliterator.ORDERED), false)
+                    .onClose(() -> closeCursor(cursorConnection));
+        } catch (SQLException e) {
+            if (connection != null) {
+                closeCursor(connection);
+            }
+            throw new RuntimeException(e);
+        }
+    }
+
+    private PreparedStatement prepareScanStatement(Connection connection,
+                                                   EmbeddingScanRequest request,
+                                                   boolean limit) throws SQLException {
+        List<String> conditions = new ArrayList<>();
+        if (request.cursor() != null) {
+            conditions.add("embedding_id > ?");
+        }
+        if (request.filter() != null) {
+            conditions.add(metadataHandler.whereClause(request.filter()));
+        }
+        String whereClause = conditions.isEmpty() ? "" : "WHERE " + join(" AND ", conditions);
+        String query = String.format(
+                "SELECT embedding_id, embedding::vector AS embedding, text, %s FROM %s %s ORDER BY embedding_id%s;",
+                join(",", metadataHandler.columnsNames()), table, whereClause, limit ? " LIMIT ?" : "");
+        PreparedStatement statement = connection.prepareStatement(query);
+        int index = 1;
+        if (request.cursor() != null) {
+            statement.setObject(index++, UUID.fromString(request.cursor()));
+        }
+        if (limit) {
+            statement.setInt(index, request.pageSize());
+        }
+        return statement;
+    }
+
+    private static void closeCursor(Connection connection) {
+        try {
+            if (connection.isClosed()) {
+                return;
+            }
+            connection.rollback(); // read-only, nothing to commit
+            connection.setAutoCommit(true);
+            connection.close();
+        } catch (SQLException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private EmbeddingRecord<TextSegment> toEmbeddingRecord(ResultSet resultSet) throws SQLException {
+        String embeddingId = resultSet.getString("embedding_id");
+        PGvector vector = (PGvector) resultSet.getObject("embedding");
+        return new EmbeddingRecord<>(embeddingId, new Embedding(vector.toArray()), toTextSegment(resultSet));
+    }
+
+    private TextSegment toTextSegment(ResultSet resultSet) throws SQLException {
+        String text = resultSet.getString("text");
+        if (isNullOrBlank(text)) {
+            return null;
+        }
+        Metadata metadata = metadataHandler.fromResultSet(resultSet);
+        return TextSegment.from(text, metadata);
+    }
+
     private void addInternal(String id, Embedding embedding, TextSegment embedded) {
         addAllInternal(
                 singletonList(id),
@@ -344,14 +708,19 @@ public class PgVectorEmbeddingStore implements EmbeddingStore<TextSegment> {
         ensureTrue(embedded == null || embeddings.size() == embedded.size(),
                 "embeddings size is not equal to embedded size");
 
+        if (ids.size() >= bulkLoadThreshold) {
+            bulkLoad(ids, embeddings, embedded);
+            return;
+        }
+
         try (Connection connection = getConnection()) {
             String query = String.format(
-                    "INSERT INTO %s (embedding_id, embedding, text, %s) VALUES (?, ?, ?, %s)" +
+                    "INSERT INTO %s (embedding_id, embedding, text, %s) VALUES (?, %s, ?, %s)" +
                             "ON CONFLICT (embedding_id) DO UPDATE SET " +
                             "embedding = EXCLUDED.embedding," +
                             "text = EXCLUDED.text," +
                             "%s;",
-                    table, join(",", metadataHandler.columnsNames()),
+                    table, join(",", metadataHandler.columnsNames()), vectorParameter(),
                     join(",", nCopies(metadataHandler.columnsNames().size(), "?")),
                     metadataHandler.insertClause());
             try (PreparedStatement upsertStmt = connection.prepareStatement(query)) {
@@ -382,9 +751,117 @@ public class PgVectorEmbeddingStore implements EmbeddingStore<TextSegment> {
         }
     }
 
+    /**
+     * Loads the embeddings with {@code COPY ... FROM STDIN (FORMAT BINARY)} into a temporary table,
+     * then upserts them into the embeddings table with a single {@code INSERT ... SELECT}, in one transaction.
+     * <p>
+     * Metadata values are copied as text, and cast to the types of the metadata columns by the server.
+     * If an id is present more than once, the last embedding wins, as with batched upserts.
+     */
+    private void bulkLoad(List<String> ids, List<Embedding> embeddings, List<TextSegment> embedded) {
+        // ON CONFLICT cannot update the same row twice in one statement
+        Map<String, Integer> lastIndexById = new LinkedHashMap<>();
+        for (int i = 0; i < ids.size(); i++) {
+            lastIndexById.remove(ids.get(i));
+            lastIndexById.put(ids.get(i), i);
+        }
+
+        List<String> columns = metadataHandler.columnsNames();
+        String stagingTable = "langchain4j_staging"; // temporary tables are private to the session
+        try (Connection connection = getConnection()) {
+            boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            try {
+                Map<String, String> columnTypes = columnTypes(connection);
+                try (Statement statement = connection.createStatement()) {
+                    statement.executeUpdate(String.format(
+                            "CREATE TEMP TABLE %s (embedding_id UUID, embedding vector, text TEXT, %s) ON COMMIT DROP",
+                            stagingTable, columns.stream().map(c -> c + " TEXT").collect(joining(","))));
+                }
+
+                String copy = String.format("COPY %s FROM STDIN (FORMAT BINARY)", stagingTable);
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                try (BinaryCopyWriter writer = new BinaryCopyWriter(new PGCopyOutputStream(pgConnection, copy, 1 << 16))) {
+                    for (int i : lastIndexById.values()) {
+                        TextSegment textSegment = embedded == null ? null : embedded.get(i);
+                        writer.startRow(3 + columns.size());
+                        writer.writeUuid(UUID.fromString(ids.get(i)));
+                        writer.writeVector(embeddings.get(i).vector());
+                        writer.writeText(textSegment == null ? null : textSegment.text());
+                        if (textSegment == null) {
+                            for (int j = 0; j < columns.size(); j++) {
+                                writer.writeText(null);
+                            }
+                        } else {
+                            for (String value : metadataHandler.textValues(textSegment.metadata())) {
+                                writer.writeText(value);
+                            }
+                        }
+                    }
+                    writer.finish();
+                }
+
+                String upsert = String.format(
+                        "INSERT INTO %s (embedding_id, embedding, text, %s) " +
+                                "SELECT embedding_id, CAST(embedding AS %s), text, %s FROM %s " +
+                                "ON CONFLICT (embedding_id) DO UPDATE SET " +
+                                "embedding = EXCLUDED.embedding," +
+                                "text = EXCLUDED.text," +
+                                "%s;",
+                        table, join(",", columns), vectorType(),
+                        columns.stream()
+                                .map(c -> columnTypes.containsKey(c.toLowerCase(Locale.ROOT))
+                                        ? String.format("CAST(%s AS %s)", c, columnTypes.get(c.toLowerCase(Locale.ROOT)))
+                                        : c)
+                                .collect(joining(",")),
+                        stagingTable, metadataHandler.insertClause());
+                try (Statement statement = connection.createStatement()) {
+                    statement.executeUpdate(upsert);
+                }
+                connection.commit();
+            } catch (SQLException | IOException | RuntimeException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(autoCommit);
+            }
+        } catch (SQLException | IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Types of the columns of the embeddings table, keyed by lower case column name
+     */
+    private Map<String, String> columnTypes(Connection connection) throws SQLException {
+        Map<String, String> columnTypes = new HashMap<>();
+        String query = "SELECT attname, format_type(atttypid, atttypmod) FROM pg_attribute " +
+                "WHERE attrelid = CAST(? AS regclass) AND attnum > 0 AND NOT attisdropped";
+        try (PreparedStatement statement = connection.prepareStatement(query)) {
+            statement.setString(1, table);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    columnTypes.put(resultSet.getString(1).toLowerCase(Locale.ROOT), resultSet.getString(2));
+                }
+            }
+        }
+        return columnTypes;
+    }
+
+    private String vectorType() {
+        return useHalfvec ? "halfvec" : "vector";
+    }
+
+    /**
+     * Vectors are always bound as {@link PGvector} parameters, and cast by the server when stored as halfvec
+     */
+    private String vectorParameter() {
+        return useHalfvec ? "CAST(? AS halfvec)" : "?";
+    }
+
     /**
      * Datasource connection
-     * Creates the vector extension and add the vector type if it does not exist.
+     * Creates the vector extension (once per store) and add the vector type if it does not exist.
      * Could be overridden in case extension creation and adding type is done at datasource initialization step.
      *
      * @return Datasource connection
@@ -392,13 +869,51 @@ public class PgVectorEmbeddingStore implements EmbeddingStore<TextSegment> {
      */
     protected Connection getConnection() throws SQLException {
         Connection connection = datasource.getConnection();
-        // Find a way to do the following code in connection initialization.
+        if (!vectorExtensionCreated) {
+            try (Statement statement = connection.createStatement()) {
+                statement.executeUpdate("CREATE EXTENSION IF NOT EXISTS vector");
+            }
+            vectorExtensionCreated = true;
+        }
         // Here we assume the datasource could handle a connection pool
         // and we should add the vector type on each connection
-        try (Statement statement = connection.createStatement()) {
-            statement.executeUpdate("CREATE EXTENSION IF NOT EXISTS vector");
-        }
         PGvector.addVectorType(connection);
+        enableBinaryVectorParameters(connection);
         return connection;
     }
+
+    /**
+     * Lets the driver send {@link PGvector} parameters in binary, rather than formatting them as text
+     * for the server to parse. The driver does so only for the type OIDs it is told about, and the OID
+     * of the vector type is only known at runtime.
+     * This is best effort: if the connection is not (or does not wrap) a pgjdbc connection, text is used.
+     */
+    private void enableBinaryVectorParameters(Connection connection) throws SQLException {
+        if (!connection.isWrapperFor(BaseConnection.class)) {
+            return;
+        }
+        if (vectorTypeOid == null) {
+            try (Statement statement = connection.createStatement();
+                 ResultSet resultSet = statement.executeQuery("SELECT CAST('vector' AS regtype)::oid")) {
+                resultSet.next();
+                vectorTypeOid = resultSet.getInt(1);
+            }
+        }
+        connection.unwrap(BaseConnection.class).getQueryExecutor().addBinarySendOid(vectorTypeOid);
+    }
+
+    /**
+     * Closes the connection pool, if the store was built from host and port with a {@code maxPoolSize}.
+     * A datasource provided to the store is left open.
+     */
+    @Override
+    public void close() {
+        if (ownsDatasource && datasource instanceof AutoCloseable) {
+            try {
+                ((AutoCloseable) datasource).close();
+            } catch (Exception e) {
+                log.warn("Failed to close the connection pool", e);
+            }
+        }
+    }
 }
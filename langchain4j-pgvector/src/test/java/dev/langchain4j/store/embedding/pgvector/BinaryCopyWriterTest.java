@@ -0,0 +1,75 @@
+package dev.langchain4j.store.embedding.pgvector;
+
+import org.junit.jupiter.api.Test;
+import org.postgresql.copy.PGCopyOutputStream;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.UUID;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class BinaryCopyWriterTest {
+
+    @Test
+    void writeRowInBinaryCopyFormat() throws IOException {
+        UUID id = UUID.randomUUID();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        try (BinaryCopyWriter writer = new BinaryCopyWriter(out)) {
+            writer.startRow(4);
+            writer.writeUuid(id);
+            writer.writeVector(new float[]{0.5f, -1f});
+            writer.writeText("héllo");
+            writer.writeText(null);
+            writer.finish();
+        }
+
+        ByteBuffer buffer = ByteBuffer.wrap(out.toByteArray());
+        byte[] signature = new byte[11];
+        buffer.get(signature);
+        assertThat(signature).isEqualTo(new byte[]{'P', 'G', 'C', 'O', 'P', 'Y', '\n', (byte) 0xFF, '\r', '\n', 0});
+        assertThat(buffer.getInt()).isZero();
+        assertThat(buffer.getInt()).isZero();
+
+        assertThat(buffer.getShort()).isEqualTo((short) 4);
+
+        assertThat(buffer.getInt()).isEqualTo(16);
+        assertThat(new UUID(buffer.getLong(), buffer.getLong())).isEqualTo(id);
+
+        assertThat(buffer.getInt()).isEqualTo(12);
+        assertThat(buffer.getShort()).isEqualTo((short) 2);
+        assertThat(buffer.getShort()).isZero();
+        assertThat(buffer.getFloat()).isEqualTo(0.5f);
+        assertThat(buffer.getFloat()).isEqualTo(-1f);
+
+        byte[] text = "héllo".getBytes(UTF_8);
+        assertThat(buffer.getInt()).isEqualTo(text.length);
+        byte[] actualText = new byte[text.length];
+        buffer.get(actualText);
+        assertThat(actualText).isEqualTo(text);
+
+        assertThat(buffer.getInt()).isEqualTo(-1);
+
+        assertThat(buffer.getShort()).isEqualTo((short) -1);
+        assertThat(buffer.hasRemaining()).isFalse();
+    }
+
+    @Test
+    void cancelCopyWhenClosedBeforeFinish() throws Exception {
+        PGCopyOutputStream out = mock(PGCopyOutputStream.class);
+
+        try (BinaryCopyWriter writer = new BinaryCopyWriter(out)) {
+            writer.startRow(4);
+            writer.writeUuid(UUID.randomUUID());
+        }
+
+        verify(out).cancelCopy();
+        verify(out, never()).close();
+    }
+}
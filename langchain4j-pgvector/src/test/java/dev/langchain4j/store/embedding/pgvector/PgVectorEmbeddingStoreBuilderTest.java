@@ -0,0 +1,40 @@
+package dev.langchain4j.store.embedding.pgvector;
+
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+class PgVectorEmbeddingStoreBuilderTest {
+
+    @Test
+    void should_reject_hnsw_ef_search_with_ivfflat_index() {
+
+        DataSource dataSource = mock(DataSource.class);
+
+        assertThatThrownBy(() -> PgVectorEmbeddingStore.datasourceBuilder()
+                .datasource(dataSource)
+                .table("test")
+                .dimension(3)
+                .useIndex(true)
+                .indexType(IndexType.IVFFLAT)
+                .hnswEfSearch(100)
+                .build())
+                .isExactlyInstanceOf(IllegalArgumentException.class)
+                .hasMessage("hnswEfSearch only applies to the HNSW index type");
+
+        assertThatThrownBy(() -> PgVectorEmbeddingStore.datasourceBuilder()
+                .datasource(dataSource)
+                .table("test")
+                .dimension(3)
+                .useIndex(true)
+                .hnswEfSearch(100)
+                .build())
+                .isExactlyInstanceOf(IllegalArgumentException.class);
+
+        verifyNoInteractions(dataSource);
+    }
+}
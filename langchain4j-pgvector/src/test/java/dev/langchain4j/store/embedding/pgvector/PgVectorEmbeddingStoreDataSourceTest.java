@@ -0,0 +1,44 @@
+package dev.langchain4j.store.embedding.pgvector;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.Test;
+import org.postgresql.ds.PGSimpleDataSource;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PgVectorEmbeddingStoreDataSourceTest {
+
+    @Test
+    void should_pool_connections_when_max_pool_size_is_set() {
+
+        // when
+        DataSource dataSource = PgVectorEmbeddingStore.createDataSource("localhost", 5432, "user", "password", "db", 7);
+
+        // then
+        assertThat(dataSource).isInstanceOf(HikariDataSource.class);
+        try (HikariDataSource pool = (HikariDataSource) dataSource) {
+            assertThat(pool.getMaximumPoolSize()).isEqualTo(7);
+            assertThat(pool.getPoolName()).isEqualTo("langchain4j-pgvector");
+            assertThat(pool.isRunning()).isFalse();
+
+            PGSimpleDataSource source = (PGSimpleDataSource) pool.getDataSource();
+            assertThat(source.getServerNames()).containsExactly("localhost");
+            assertThat(source.getPortNumbers()).containsExactly(5432);
+            assertThat(source.getDatabaseName()).isEqualTo("db");
+            assertThat(source.getPrepareThreshold()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    void should_not_pool_connections_by_default() {
+
+        // when
+        DataSource dataSource = PgVectorEmbeddingStore.createDataSource("localhost", 5432, "user", "password", "db", null);
+
+        // then
+        assertThat(dataSource).isInstanceOf(PGSimpleDataSource.class);
+        assertThat(((PGSimpleDataSource) dataSource).getPrepareThreshold()).isEqualTo(5);
+    }
+}
@@ -0,0 +1,103 @@
+package dev.langchain4j.store.embedding.pgvector;
+
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.embedding.EmbeddingModel;
+import dev.langchain4j.model.embedding.onnx.allminilml6v2q.AllMiniLmL6V2QuantizedEmbeddingModel;
+import dev.langchain4j.store.embedding.EmbeddingMatch;
+import dev.langchain4j.store.embedding.EmbeddingSearchRequest;
+import dev.langchain4j.store.embedding.EmbeddingStore;
+import dev.langchain4j.store.embedding.EmbeddingStoreWithFilteringIT;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static dev.langchain4j.data.document.Metadata.metadata;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.data.Percentage.withPercentage;
+import static org.testcontainers.shaded.org.apache.commons.lang3.RandomUtils.nextInt;
+
+/**
+ * Runs the store tests with an HNSW index, and with every addAll loaded with binary COPY.
+ */
+@Testcontainers
+class PgVectorEmbeddingStoreHnswIT extends EmbeddingStoreWithFilteringIT {
+
+    @Container
+    static PostgreSQLContainer<?> pgVector = new PostgreSQLContainer<>("pgvector/pgvector:pg15");
+
+    private final EmbeddingModel embeddingModel = new AllMiniLmL6V2QuantizedEmbeddingModel();
+
+    private EmbeddingStore<TextSegment> embeddingStore;
+
+    @Override
+    protected void ensureStoreIsReady() {
+        embeddingStore = PgVectorEmbeddingStore.builder()
+                .host(pgVector.getHost())
+                .port(pgVector.getFirstMappedPort())
+                .user("test")
+                .password("test")
+                .database("test")
+                .table("test" + nextInt(2000, 3000))
+                .dimension(embeddingModel.dimension())
+                .useIndex(true)
+                .indexType(IndexType.HNSW)
+                .hnswM(16)
+                .hnswEfConstruction(64)
+                .hnswEfSearch(100)
+                .bulkLoadThreshold(1)
+                .dropTableFirst(true)
+                .build();
+    }
+
+    @Test
+    void should_bulk_load_and_search_halfvec_embeddings() {
+        PgVectorEmbeddingStore halfvecStore = PgVectorEmbeddingStore.builder()
+                .host(pgVector.getHost())
+                .port(pgVector.getFirstMappedPort())
+                .user("test")
+                .password("test")
+                .database("test")
+                .table("test_halfvec")
+                .dimension(embeddingModel.dimension())
+                .useIndex(true)
+                .indexType(IndexType.HNSW)
+                .useHalfvec(true)
+                .bulkLoadThreshold(2)
+                .dropTableFirst(true)
+                .build();
+
+        List<TextSegment> segments = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            segments.add(TextSegment.from("segment " + i, metadata("index", i)));
+        }
+        List<Embedding> embeddings = embeddingModel.embedAll(segments).content();
+        List<String> ids = halfvecStore.addAll(embeddings, segments);
+
+        EmbeddingSearchRequest request = EmbeddingSearchRequest.builder()
+                .queryEmbedding(embeddings.get(3))
+                .maxResults(1)
+                .build();
+        List<EmbeddingMatch<TextSegment>> matches = halfvecStore.search(request).matches();
+
+        assertThat(matches).hasSize(1);
+        assertThat(matches.get(0).embeddingId()).isEqualTo(ids.get(3));
+        assertThat(matches.get(0).score()).isCloseTo(1, withPercentage(0.1));
+        assertThat(matches.get(0).embedded().text()).isEqualTo("segment 3");
+        assertThat(matches.get(0).embedded().metadata().getInteger("index")).isEqualTo(3);
+    }
+
+    @Override
+    protected EmbeddingStore<TextSegment> embeddingStore() {
+        return embeddingStore;
+    }
+
+    @Override
+    protected EmbeddingModel embeddingModel() {
+        return embeddingModel;
+    }
+}
@@ -14,6 +14,10 @@ import static java.util.stream.Collectors.toMap;
 import dev.langchain4j.data.document.Metadata;
 import dev.langchain4j.data.embedding.Embedding;
 import dev.langchain4j.data.segment.TextSegment;
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
 import dev.langchain4j.store.embedding.*;
 import io.qdrant.client.QdrantClient;
 import io.qdrant.client.QdrantGrpcClient;
@@ -33,6 +37,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import javax.annotation.Nullable;
 
@@ -40,8 +45,11 @@ import javax.annotation.Nullable;
  * Represents a <a href="https://qdrant.tech/">Qdrant</a> collection as an
  * embedding store. With
  * support for storing {@link dev.langchain4j.data.document.Metadata}.
+ * <p>
+ * Also implements {@link AsyncEmbeddingStore} on top of the asynchronous gRPC calls of {@link QdrantClient},
+ * so no thread is blocked while a request is in flight.
  */
-public class QdrantEmbeddingStore implements EmbeddingStore<TextSegment> {
+public class QdrantEmbeddingStore implements EmbeddingStore<TextSegment>, AsyncEmbeddingStore<TextSegment> {
 
   private final QdrantClient client;
   private final String payloadTextKey;
@@ -126,6 +134,14 @@ public class QdrantEmbeddingStore implements EmbeddingStore<TextSegment> {
     return Collections.unmodifiableList(ids);
   }
 
+  /**
+   * Adds the embeddings with the provided IDs, which must be UUIDs. A point with the same ID is replaced.
+   */
+  @Override
+  public void addAll(List<String> ids, List<Embedding> embeddings, List<TextSegment> textSegments) {
+    addAllInternal(ids, embeddings, textSegments);
+  }
+
   private void addInternal(String id, Embedding embedding, TextSegment textSegment) {
     addAllInternal(
         singletonList(id),
@@ -137,35 +153,51 @@ public class QdrantEmbeddingStore implements EmbeddingStore<TextSegment> {
       List<String> ids, List<Embedding> embeddings, List<TextSegment> textSegments) throws RuntimeException {
 
     try {
-      List<PointStruct> points = new ArrayList<>(embeddings.size());
+      client.upsertAsync(collectionName, toPoints(ids, embeddings, textSegments)).get();
+    } catch (InterruptedException | ExecutionException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  @Override
+  public CompletableFuture<List<String>> addAllAsync(
+      List<Embedding> embeddings, List<TextSegment> textSegments) {
+
+    List<String> ids = embeddings.stream().map(ignored -> randomUUID()).toList();
+
+    return toCompletableFuture(client.upsertAsync(collectionName, toPoints(ids, embeddings, textSegments)))
+        .thenApply(ignored -> Collections.unmodifiableList(ids));
+  }
+
+  private List<PointStruct> toPoints(
+      List<String> ids, List<Embedding> embeddings, List<TextSegment> textSegments) {
 
-      for (int i = 0; i < embeddings.size(); i++) {
+    List<PointStruct> points = new ArrayList<>(embeddings.size());
 
-        String id = ids.get(i);
-        UUID uuid = UUID.fromString(id);
-        Embedding embedding = embeddings.get(i);
+    for (int i = 0; i < embeddings.size(); i++) {
 
-        PointStruct.Builder pointBuilder = PointStruct.newBuilder().setId(id(uuid))
-            .setVectors(vectors(embedding.vector()));
+      String id = ids.get(i);
+      UUID uuid = UUID.fromString(id);
+      Embedding embedding = embeddings.get(i);
 
-        if (textSegments != null) {
-          Map<String, Object> metadata = textSegments
-              .get(i)
-              .metadata()
-              .toMap();
+      PointStruct.Builder pointBuilder = PointStruct.newBuilder().setId(id(uuid))
+          .setVectors(vectors(embedding.vector()));
 
-          Map<String, Value> payload = ValueMapFactory.valueMap(metadata);
-          payload.put(payloadTextKey, value(textSegments.get(i).text()));
-          pointBuilder.putAllPayload(payload);
-        }
+      if (textSegments != null) {
+        Map<String, Object> metadata = textSegments
+            .get(i)
+            .metadata()
+            .toMap();
 
-        points.add(pointBuilder.build());
+        Map<String, Value> payload = ValueMapFactory.valueMap(metadata);
+        payload.put(payloadTextKey, value(textSegments.get(i).text()));
+        pointBuilder.putAllPayload(payload);
       }
 
-      client.upsertAsync(collectionName, points).get();
-    } catch (InterruptedException | ExecutionException e) {
-      throw new RuntimeException(e);
+      points.add(pointBuilder.build());
     }
+
+    return points;
   }
 
   @Override
@@ -182,19 +214,7 @@ public class QdrantEmbeddingStore implements EmbeddingStore<TextSegment> {
           throw new IllegalArgumentException("ids cannot be null or empty");
       }
       try {
-
-          Points.PointsIdsList pointsIdsList = Points.PointsIdsList.newBuilder()
-                  .addAllIds(ids.stream().map(id -> id(UUID.fromString(id))).toList())
-                  .build();
-          PointsSelector pointsSelector = PointsSelector.newBuilder().setPoints(pointsIdsList).build();
-
-          client
-                  .deleteAsync(
-                          DeletePoints.newBuilder()
-                                  .setCollectionName(collectionName)
-                                  .setPoints(pointsSelector)
-                                  .build())
-                  .get();
+          client.deleteAsync(deletePoints(idsSelector(ids))).get();
       } catch (InterruptedException | ExecutionException e) {
           throw new RuntimeException(e);
       }
@@ -206,17 +226,7 @@ public class QdrantEmbeddingStore implements EmbeddingStore<TextSegment> {
           throw new IllegalArgumentException("filter cannot be null");
       }
       try {
-
-          Filter qdrantFilter = QdrantFilterConverter.convertExpression(filter);
-          PointsSelector pointsSelector = PointsSelector.newBuilder().setFilter(qdrantFilter).build();
-
-          client
-                  .deleteAsync(
-                          DeletePoints.newBuilder()
-                                  .setCollectionName(collectionName)
-                                  .setPoints(pointsSelector)
-                                  .build())
-                  .get();
+          client.deleteAsync(deletePoints(filterSelector(filter))).get();
       } catch (InterruptedException | ExecutionException e) {
           throw new RuntimeException(e);
       }
@@ -227,9 +237,104 @@ public class QdrantEmbeddingStore implements EmbeddingStore<TextSegment> {
       clearStore();
   }
 
+  @Override
+  public CompletableFuture<Void> removeAllAsync(Collection<String> ids) {
+      if (ids == null || ids.isEmpty()) {
+          return CompletableFuture.failedFuture(new IllegalArgumentException("ids cannot be null or empty"));
+      }
+      return toCompletableFuture(client.deleteAsync(deletePoints(idsSelector(ids))))
+          .thenApply(ignored -> null);
+  }
+
+  @Override
+  public CompletableFuture<Void> removeAllAsync(dev.langchain4j.store.embedding.filter.Filter filter) {
+      if (filter == null) {
+          return CompletableFuture.failedFuture(new IllegalArgumentException("filter cannot be null"));
+      }
+      return toCompletableFuture(client.deleteAsync(deletePoints(filterSelector(filter))))
+          .thenApply(ignored -> null);
+  }
+
+  @Override
+  public CompletableFuture<Void> removeAllAsync() {
+      return toCompletableFuture(client.deleteAsync(deletePoints(allPointsSelector())))
+          .thenApply(ignored -> null);
+  }
+
+  private static PointsSelector idsSelector(Collection<String> ids) {
+      Points.PointsIdsList pointsIdsList = Points.PointsIdsList.newBuilder()
+              .addAllIds(ids.stream().map(id -> id(UUID.fromString(id))).toList())
+              .build();
+      return PointsSelector.newBuilder().setPoints(pointsIdsList).build();
+  }
+
+  private static PointsSelector filterSelector(dev.langchain4j.store.embedding.filter.Filter filter) {
+      Filter qdrantFilter = QdrantFilterConverter.convertExpression(filter);
+      return PointsSelector.newBuilder().setFilter(qdrantFilter).build();
+  }
+
+  private static PointsSelector allPointsSelector() {
+      Filter emptyFilter = Filter.newBuilder().build();
+      return PointsSelector.newBuilder().setFilter(emptyFilter).build();
+  }
+
+  private DeletePoints deletePoints(PointsSelector pointsSelector) {
+      return DeletePoints.newBuilder()
+              .setCollectionName(collectionName)
+              .setPoints(pointsSelector)
+              .build();
+  }
+
   @Override
   public EmbeddingSearchResult<TextSegment> search(EmbeddingSearchRequest request) {
 
+    List<ScoredPoint> results;
+
+    try {
+      results = client.searchAsync(toSearchPoints(request)).get();
+    } catch (InterruptedException | ExecutionException e) {
+      throw new RuntimeException(e);
+    }
+
+    return toSearchResult(results, request);
+  }
+
+  @Override
+  public boolean supportsBatchSearch() {
+    return true;
+  }
+
+  /**
+   * Sends all searches in a single batch search request.
+   */
+  @Override
+  public List<EmbeddingSearchResult<TextSegment>> searchBatch(List<EmbeddingSearchRequest> requests) {
+
+    List<SearchPoints> searches = requests.stream().map(this::toSearchPoints).toList();
+
+    List<Points.BatchResult> batchResults;
+
+    try {
+      batchResults = client.searchBatchAsync(collectionName, searches, null).get();
+    } catch (InterruptedException | ExecutionException e) {
+      throw new RuntimeException(e);
+    }
+
+    List<EmbeddingSearchResult<TextSegment>> results = new ArrayList<>(requests.size());
+    for (int i = 0; i < requests.size(); i++) {
+      results.add(toSearchResult(batchResults.get(i).getResultList(), requests.get(i)));
+    }
+    return results;
+  }
+
+  @Override
+  public CompletableFuture<EmbeddingSearchResult<TextSegment>> searchAsync(EmbeddingSearchRequest request) {
+    return toCompletableFuture(client.searchAsync(toSearchPoints(request)))
+        .thenApply(results -> toSearchResult(results, request));
+  }
+
+  private SearchPoints toSearchPoints(EmbeddingSearchRequest request) {
+
     SearchPoints.Builder searchBuilder = SearchPoints.newBuilder()
         .setCollectionName(collectionName)
         .addAllVector(request.queryEmbedding().vectorAsList())
@@ -242,13 +347,11 @@ public class QdrantEmbeddingStore implements EmbeddingStore<TextSegment> {
       searchBuilder.setFilter(filter);
     }
 
-    List<ScoredPoint> results;
+    return searchBuilder.build();
+  }
 
-    try {
-      results = client.searchAsync(searchBuilder.build()).get();
-    } catch (InterruptedException | ExecutionException e) {
-      throw new RuntimeException(e);
-    }
+  private EmbeddingSearchResult<TextSegment> toSearchResult(
+      List<ScoredPoint> results, EmbeddingSearchRequest request) {
 
     if (results.isEmpty()) {
       return new EmbeddingSearchResult<>(emptyList());
@@ -300,25 +403,72 @@ public class QdrantEmbeddingStore implements EmbeddingStore<TextSegment> {
     return matches;
   }
 
+  /**
+   * Reads the collection page by page with the scroll API, ordered by point ID.
+   * The cursor is the ID of the first point of the next page.
+   */
+  @Override
+  public EmbeddingScanResult<TextSegment> scan(EmbeddingScanRequest request) {
+
+    Points.ScrollPoints.Builder scrollBuilder = Points.ScrollPoints.newBuilder()
+        .setCollectionName(collectionName)
+        .setWithVectors(WithVectorsSelectorFactory.enable(true))
+        .setWithPayload(enable(true))
+        .setLimit(request.pageSize());
+
+    if (request.cursor() != null) {
+      scrollBuilder.setOffset(id(UUID.fromString(request.cursor())));
+    }
+    if (request.filter() != null) {
+      scrollBuilder.setFilter(QdrantFilterConverter.convertExpression(request.filter()));
+    }
+
+    Points.ScrollResponse response;
+
+    try {
+      response = client.scrollAsync(scrollBuilder.build()).get();
+    } catch (InterruptedException | ExecutionException e) {
+      throw new RuntimeException(e);
+    }
+
+    List<EmbeddingRecord<TextSegment>> records = response.getResultList().stream()
+        .map(point -> new EmbeddingRecord<>(
+            point.getId().getUuid(),
+            Embedding.from(point.getVectors().getVector().getDataList()),
+            toTextSegment(point.getPayloadMap())))
+        .collect(toList());
+
+    String nextCursor = response.hasNextPageOffset() ? response.getNextPageOffset().getUuid() : null;
+
+    return new EmbeddingScanResult<>(records, nextCursor);
+  }
+
   /** Deletes all points from the Qdrant collection. */
   public void clearStore() {
     try {
-
-      Filter emptyFilter = Filter.newBuilder().build();
-      PointsSelector allPointsSelector = PointsSelector.newBuilder().setFilter(emptyFilter).build();
-
-      client
-          .deleteAsync(
-              DeletePoints.newBuilder()
-                  .setCollectionName(collectionName)
-                  .setPoints(allPointsSelector)
-                  .build())
-          .get();
+      client.deleteAsync(deletePoints(allPointsSelector())).get();
     } catch (InterruptedException | ExecutionException e) {
       throw new RuntimeException(e);
     }
   }
 
+  private static <T> CompletableFuture<T> toCompletableFuture(ListenableFuture<T> listenableFuture) {
+    CompletableFuture<T> future = new CompletableFuture<>();
+    Futures.addCallback(listenableFuture, new FutureCallback<>() {
+
+      @Override
+      public void onSuccess(T result) {
+        future.complete(result);
+      }
+
+      @Override
+      public void onFailure(Throwable t) {
+        future.completeExceptionally(t);
+      }
+    }, MoreExecutors.directExecutor());
+    return future;
+  }
+
   /** Closes the underlying GRPC client. */
   public void close() {
     client.close();
@@ -326,14 +476,6 @@ public class QdrantEmbeddingStore implements EmbeddingStore<TextSegment> {
 
   private EmbeddingMatch<TextSegment> toEmbeddingMatch(
       ScoredPoint scoredPoint, Embedding referenceEmbedding) {
-    Map<String, Value> payload = scoredPoint.getPayloadMap();
-
-    Value textSegmentValue = payload.getOrDefault(payloadTextKey, null);
-
-    Map<String, Object> metadata = payload.entrySet().stream()
-        .filter(entry -> !entry.getKey().equals(payloadTextKey))
-        .collect(toMap(Map.Entry::getKey, entry -> ObjectFactory.object(entry.getValue())));
-
     Embedding embedding = Embedding.from(scoredPoint.getVectors().getVector().getDataList());
     double cosineSimilarity = CosineSimilarity.between(embedding, referenceEmbedding);
 
@@ -341,9 +483,22 @@ public class QdrantEmbeddingStore implements EmbeddingStore<TextSegment> {
         RelevanceScore.fromCosineSimilarity(cosineSimilarity),
         scoredPoint.getId().getUuid(),
         embedding,
-        textSegmentValue == null
-            ? null
-            : TextSegment.from(textSegmentValue.getStringValue(), new Metadata(metadata)));
+        toTextSegment(scoredPoint.getPayloadMap()));
+  }
+
+  private TextSegment toTextSegment(Map<String, Value> payload) {
+
+    Value textSegmentValue = payload.getOrDefault(payloadTextKey, null);
+
+    if (textSegmentValue == null) {
+      return null;
+    }
+
+    Map<String, Object> metadata = payload.entrySet().stream()
+        .filter(entry -> !entry.getKey().equals(payloadTextKey))
+        .collect(toMap(Map.Entry::getKey, entry -> ObjectFactory.object(entry.getValue())));
+
+    return TextSegment.from(textSegmentValue.getStringValue(), new Metadata(metadata));
   }
 
   public static Builder builder() {
@@ -6,17 +6,20 @@ import dev.langchain4j.data.document.Metadata;
 import dev.langchain4j.data.embedding.Embedding;
 import dev.langchain4j.data.segment.TextSegment;
 import dev.langchain4j.store.embedding.EmbeddingMatch;
+import dev.langchain4j.store.embedding.EmbeddingSearchRequest;
+import dev.langchain4j.store.embedding.EmbeddingSearchResult;
 import dev.langchain4j.store.embedding.EmbeddingStore;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import redis.clients.jedis.JedisPooled;
 import redis.clients.jedis.Pipeline;
+import redis.clients.jedis.Response;
 import redis.clients.jedis.json.Path2;
 import redis.clients.jedis.search.Document;
 import redis.clients.jedis.search.FTCreateParams;
-import redis.clients.jedis.search.IndexDataType;
 import redis.clients.jedis.search.Query;
 import redis.clients.jedis.search.SearchResult;
+import redis.clients.jedis.util.SafeEncoder;
 
 import java.util.ArrayList;
 import java.util.Collection;
@@ -29,28 +32,35 @@ import java.util.Set;
 import static dev.langchain4j.internal.Utils.getOrDefault;
 import static dev.langchain4j.internal.Utils.isNullOrEmpty;
 import static dev.langchain4j.internal.Utils.randomUUID;
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
 import static dev.langchain4j.internal.ValidationUtils.ensureNotBlank;
 import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
 import static dev.langchain4j.internal.ValidationUtils.ensureTrue;
 import static dev.langchain4j.store.embedding.redis.RedisSchema.SCORE_FIELD_NAME;
 import static java.lang.String.format;
 import static java.util.Arrays.asList;
+import static java.util.Collections.emptyMap;
 import static java.util.Collections.singletonList;
 import static java.util.stream.Collectors.toList;
 import static java.util.stream.Collectors.toMap;
-import static redis.clients.jedis.search.RediSearchUtil.ToByteArray;
 
 /**
  * Represents a <a href="https://redis.io/">Redis</a> index as an embedding store.
  * Current implementation assumes the index uses the cosine distance metric.
+ * <p>
+ * Embeddings are stored as JSON documents by default. With {@link StorageType#HASH}, they are stored as hashes
+ * with the vector as raw bytes (see {@link VectorDataType}), which is more compact and avoids formatting
+ * and parsing the vectors as text.
  */
 public class RedisEmbeddingStore implements EmbeddingStore<TextSegment> {
 
     private static final Logger log = LoggerFactory.getLogger(RedisEmbeddingStore.class);
     private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final int DEFAULT_BATCH_SIZE = 1000;
 
     private final JedisPooled client;
     private final RedisSchema schema;
+    private final int batchSize;
 
     /**
      * Creates an instance of RedisEmbeddingStore
@@ -72,6 +82,41 @@ public class RedisEmbeddingStore implements EmbeddingStore<TextSegment> {
                                String prefix,
                                Integer dimension,
                                Collection<String> metadataKeys) {
+        this(host, port, user, password, indexName, prefix, dimension, metadataKeys, null, null, null, null, null, null);
+    }
+
+    /**
+     * Creates an instance of RedisEmbeddingStore
+     *
+     * @param host               Redis Stack Server host
+     * @param port               Redis Stack Server port
+     * @param user               Redis Stack username (optional)
+     * @param password           Redis Stack password (optional)
+     * @param indexName          The name of the index (optional). Default value: "embedding-index".
+     * @param prefix             The prefix of the key, should end with a colon (e.g., "embedding:") (optional). Default value: "embedding:".
+     * @param dimension          Embedding vector dimension
+     * @param metadataKeys       Metadata keys that should be persisted (optional)
+     * @param storageType        How embeddings are stored (optional). Default value: {@link StorageType#JSON}.
+     * @param vectorDataType     Type of the indexed vector components (optional). Default value: {@link VectorDataType#FLOAT32}.
+     * @param hnswM              Max number of outgoing edges per node of the HNSW graph (optional). Default value: Redis default.
+     * @param hnswEfConstruction Number of candidates considered while building the HNSW graph (optional). Default value: Redis default.
+     * @param hnswEfRuntime      Number of candidates considered while searching the HNSW graph (optional). Default value: Redis default.
+     * @param batchSize          Max number of embeddings sent in one pipeline when adding (optional). Default value: 1000.
+     */
+    public RedisEmbeddingStore(String host,
+                               Integer port,
+                               String user,
+                               String password,
+                               String indexName,
+                               String prefix,
+                               Integer dimension,
+                               Collection<String> metadataKeys,
+                               StorageType storageType,
+                               VectorDataType vectorDataType,
+                               Integer hnswM,
+                               Integer hnswEfConstruction,
+                               Integer hnswEfRuntime,
+                               Integer batchSize) {
         ensureNotBlank(host, "host");
         ensureNotNull(port, "port");
         ensureNotNull(dimension, "dimension");
@@ -82,7 +127,13 @@ public class RedisEmbeddingStore implements EmbeddingStore<TextSegment> {
             .prefix(getOrDefault(prefix, "embedding:"))
             .dimension(dimension)
             .metadataKeys(metadataKeys)
+            .storageType(getOrDefault(storageType, StorageType.JSON))
+            .vectorDataType(getOrDefault(vectorDataType, VectorDataType.FLOAT32))
+            .hnswM(hnswM)
+            .hnswEfConstruction(hnswEfConstruction)
+            .hnswEfRuntime(hnswEfRuntime)
             .build();
+        this.batchSize = ensureGreaterThanZero(getOrDefault(batchSize, DEFAULT_BATCH_SIZE), "batchSize");
 
         if (!isIndexExist(schema.indexName())) {
             createIndex(schema.indexName());
@@ -126,27 +177,73 @@ public class RedisEmbeddingStore implements EmbeddingStore<TextSegment> {
         return ids;
     }
 
+    @Override
+    public void addAll(List<String> ids, List<Embedding> embeddings, List<TextSegment> embedded) {
+        addAllInternal(ids, embeddings, embedded);
+    }
+
     @Override
     public List<EmbeddingMatch<TextSegment>> findRelevant(Embedding referenceEmbedding, int maxResults, double minScore) {
+        SearchResult result = client.ftSearch(schema.indexName(), toKnnQuery(referenceEmbedding, maxResults));
+        List<Document> documents = result.getDocuments();
+
+        return toEmbeddingMatches(singletonList(documents), singletonList(minScore)).get(0);
+    }
+
+    @Override
+    public boolean supportsBatchSearch() {
+        return true;
+    }
+
+    /**
+     * Sends all searches in a single pipeline, so that they cost one round trip instead of one per request.
+     */
+    @Override
+    public List<EmbeddingSearchResult<TextSegment>> searchBatch(List<EmbeddingSearchRequest> requests) {
+        for (EmbeddingSearchRequest request : requests) {
+            if (request.filter() != null) {
+                throw new UnsupportedOperationException("EmbeddingSearchRequest.Filter is not supported yet.");
+            }
+        }
+
+        List<Response<SearchResult>> responses = new ArrayList<>(requests.size());
+        try (Pipeline pipeline = client.pipelined()) {
+            for (EmbeddingSearchRequest request : requests) {
+                responses.add(pipeline.ftSearch(schema.indexName(), toKnnQuery(request.queryEmbedding(), request.maxResults())));
+            }
+            pipeline.sync();
+        }
+
+        List<List<Document>> documents = responses.stream()
+            .map(response -> response.get().getDocuments())
+            .collect(toList());
+        List<Double> minScores = requests.stream()
+            .map(EmbeddingSearchRequest::minScore)
+            .collect(toList());
+        return toEmbeddingMatches(documents, minScores).stream()
+            .map(EmbeddingSearchResult::new)
+            .collect(toList());
+    }
+
+    private Query toKnnQuery(Embedding referenceEmbedding, int maxResults) {
         // Using KNN query on @vector field
         String queryTemplate = "*=>[ KNN %d @%s $BLOB AS %s ]";
         List<String> returnFields = new ArrayList<>(schema.metadataKeys());
-        returnFields.addAll(asList(schema.vectorFieldName(), schema.scalarFieldName(), SCORE_FIELD_NAME));
-        Query query = new Query(format(queryTemplate, maxResults, schema.vectorFieldName(), SCORE_FIELD_NAME))
-            .addParam("BLOB", ToByteArray(referenceEmbedding.vector()))
+        returnFields.addAll(asList(schema.scalarFieldName(), SCORE_FIELD_NAME));
+        if (schema.storageType() == StorageType.JSON) {
+            // binary vectors of hashes would be decoded as text, they are read separately
+            returnFields.add(schema.vectorFieldName());
+        }
+        return new Query(format(queryTemplate, maxResults, schema.vectorFieldName(), SCORE_FIELD_NAME))
+            .addParam("BLOB", schema.vectorDataType().toBytes(referenceEmbedding.vector()))
             .returnFields(returnFields.toArray(new String[0]))
             .setSortBy(SCORE_FIELD_NAME, true)
             .dialect(2);
-
-        SearchResult result = client.ftSearch(schema.indexName(), query);
-        List<Document> documents = result.getDocuments();
-
-        return toEmbeddingMatch(documents, minScore);
     }
 
     private void createIndex(String indexName) {
         String res = client.ftCreate(indexName, FTCreateParams.createParams()
-            .on(IndexDataType.JSON)
+            .on(schema.indexDataType())
             .addPrefix(schema.prefix()), schema.toSchemaFields());
         if (!"OK".equals(res)) {
             if (log.isErrorEnabled()) {
@@ -173,29 +270,37 @@ public class RedisEmbeddingStore implements EmbeddingStore<TextSegment> {
         ensureTrue(ids.size() == embeddings.size(), "ids size is not equal to embeddings size");
         ensureTrue(embedded == null || embeddings.size() == embedded.size(), "embeddings size is not equal to embedded size");
 
+        // one pipeline per batch, so that a large addAll doesn't buffer all commands and responses at once
+        for (int from = 0; from < ids.size(); from += batchSize) {
+            int to = Math.min(from + batchSize, ids.size());
+            addBatch(ids.subList(from, to), embeddings.subList(from, to), embedded == null ? null : embedded.subList(from, to));
+        }
+    }
+
+    private void addBatch(List<String> ids, List<Embedding> embeddings, List<TextSegment> embedded) {
         List<Object> responses;
         try (Pipeline pipeline = client.pipelined()) {
 
             int size = ids.size();
             for (int i = 0; i < size; i++) {
-                String id = ids.get(i);
+                String key = schema.prefix() + ids.get(i);
                 Embedding embedding = embeddings.get(i);
                 TextSegment textSegment = embedded == null ? null : embedded.get(i);
-                Map<String, Object> fields = new HashMap<>();
-                fields.put(schema.vectorFieldName(), embedding.vector());
-                if (textSegment != null) {
-                    // do not check metadata key is included in RedisSchema#metadataKeys
-                    fields.put(schema.scalarFieldName(), textSegment.text());
-                    fields.putAll(textSegment.metadata().asMap());
+                if (schema.storageType() == StorageType.HASH) {
+                    pipeline.hset(SafeEncoder.encode(key), toHashFields(embedding, textSegment));
+                } else {
+                    pipeline.jsonSetWithEscape(key, Path2.of("$"), toJsonFields(embedding, textSegment));
                 }
-                String key = schema.prefix() + id;
-                pipeline.jsonSetWithEscape(key, Path2.of("$"), fields);
             }
 
             responses = pipeline.syncAndReturnAll();
         }
 
-        Optional<Object> errResponse = responses.stream().filter(response -> !"OK".equals(response)).findAny();
+        // HSET replies with the number of added fields, JSON.SET with "OK"
+        Optional<Object> errResponse = responses.stream()
+            .filter(response -> response instanceof Exception
+                || (schema.storageType() == StorageType.JSON && !"OK".equals(response)))
+            .findAny();
         if (errResponse.isPresent()) {
             if (log.isErrorEnabled()) {
                 log.error("add embedding failed, msg={}", errResponse.get());
@@ -204,36 +309,110 @@ public class RedisEmbeddingStore implements EmbeddingStore<TextSegment> {
         }
     }
 
-    private List<EmbeddingMatch<TextSegment>> toEmbeddingMatch(List<Document> documents, double minScore) {
-        if (documents == null || documents.isEmpty()) {
-            return new ArrayList<>();
-        }
-
-        return documents.stream()
-            .map(document -> {
-                double score = (2 - Double.parseDouble(document.getString(SCORE_FIELD_NAME))) / 2;
-                String id = document.getId().substring(schema.prefix().length());
-                String text = document.hasProperty(schema.scalarFieldName()) ? document.getString(schema.scalarFieldName()) : null;
-                TextSegment embedded = null;
-                if (text != null) {
-                    Map<String, String> metadata = schema.metadataKeys().stream()
-                        .filter(document::hasProperty)
-                        .collect(toMap(metadataKey -> metadataKey, document::getString));
-                    embedded = new TextSegment(text, new Metadata(metadata));
-                }
-                Embedding embedding;
-                try {
-                    float[] vectors = OBJECT_MAPPER.readValue(document.getString(schema.vectorFieldName()), float[].class);
-                    embedding = new Embedding(vectors);
-                } catch (JsonProcessingException e) {
-                    throw new RedisRequestFailedException("failed to parse embedding", e);
-                }
-                return new EmbeddingMatch<>(score, id, embedding, embedded);
-            })
-            .filter(embeddingMatch -> embeddingMatch.score() >= minScore)
+    private Map<String, Object> toJsonFields(Embedding embedding, TextSegment textSegment) {
+        Map<String, Object> fields = new HashMap<>();
+        fields.put(schema.vectorFieldName(), embedding.vector());
+        if (textSegment != null) {
+            // do not check metadata key is included in RedisSchema#metadataKeys
+            fields.put(schema.scalarFieldName(), textSegment.text());
+            fields.putAll(textSegment.metadata().asMap());
+        }
+        return fields;
+    }
+
+    private Map<byte[], byte[]> toHashFields(Embedding embedding, TextSegment textSegment) {
+        Map<byte[], byte[]> fields = new HashMap<>();
+        fields.put(SafeEncoder.encode(schema.vectorFieldName()), schema.vectorDataType().toBytes(embedding.vector()));
+        if (textSegment != null) {
+            fields.put(SafeEncoder.encode(schema.scalarFieldName()), SafeEncoder.encode(textSegment.text()));
+            textSegment.metadata().toMap().forEach((key, value) ->
+                fields.put(SafeEncoder.encode(key), SafeEncoder.encode(String.valueOf(value))));
+        }
+        return fields;
+    }
+
+    /**
+     * Maps the documents found by each search, reading the vectors of all matching hashes in a single pipeline.
+     */
+    private List<List<EmbeddingMatch<TextSegment>>> toEmbeddingMatches(List<List<Document>> documentsPerSearch,
+                                                                        List<Double> minScores) {
+        List<List<Document>> relevantDocumentsPerSearch = new ArrayList<>(documentsPerSearch.size());
+        for (int i = 0; i < documentsPerSearch.size(); i++) {
+            double minScore = minScores.get(i);
+            List<Document> documents = documentsPerSearch.get(i);
+            relevantDocumentsPerSearch.add(documents == null ? new ArrayList<>() : documents.stream()
+                .filter(document -> score(document) >= minScore)
+                .collect(toList()));
+        }
+
+        Map<String, Embedding> hashEmbeddings = schema.storageType() == StorageType.HASH
+            ? readHashEmbeddings(relevantDocumentsPerSearch)
+            : emptyMap();
+
+        return relevantDocumentsPerSearch.stream()
+            .map(documents -> documents.stream()
+                .map(document -> toEmbeddingMatch(document, hashEmbeddings))
+                .collect(toList()))
             .collect(toList());
     }
 
+    private Map<String, Embedding> readHashEmbeddings(List<List<Document>> documentsPerSearch) {
+        List<String> keys = documentsPerSearch.stream()
+            .flatMap(List::stream)
+            .map(Document::getId)
+            .distinct()
+            .collect(toList());
+        if (keys.isEmpty()) {
+            return emptyMap();
+        }
+
+        byte[] vectorField = SafeEncoder.encode(schema.vectorFieldName());
+        List<Response<byte[]>> responses = new ArrayList<>(keys.size());
+        try (Pipeline pipeline = client.pipelined()) {
+            for (String key : keys) {
+                responses.add(pipeline.hget(SafeEncoder.encode(key), vectorField));
+            }
+            pipeline.sync();
+        }
+
+        Map<String, Embedding> embeddings = new HashMap<>();
+        for (int i = 0; i < keys.size(); i++) {
+            byte[] vector = responses.get(i).get();
+            if (vector != null) {
+                embeddings.put(keys.get(i), new Embedding(schema.vectorDataType().toVector(vector)));
+            }
+        }
+        return embeddings;
+    }
+
+    private static double score(Document document) {
+        return (2 - Double.parseDouble(document.getString(SCORE_FIELD_NAME))) / 2;
+    }
+
+    private EmbeddingMatch<TextSegment> toEmbeddingMatch(Document document, Map<String, Embedding> hashEmbeddings) {
+        String id = document.getId().substring(schema.prefix().length());
+        String text = document.hasProperty(schema.scalarFieldName()) ? document.getString(schema.scalarFieldName()) : null;
+        TextSegment embedded = null;
+        if (text != null) {
+            Map<String, String> metadata = schema.metadataKeys().stream()
+                .filter(document::hasProperty)
+                .collect(toMap(metadataKey -> metadataKey, document::getString));
+            embedded = new TextSegment(text, new Metadata(metadata));
+        }
+        Embedding embedding;
+        if (schema.storageType() == StorageType.HASH) {
+            embedding = hashEmbeddings.get(document.getId());
+        } else {
+            try {
+                float[] vectors = OBJECT_MAPPER.readValue(document.getString(schema.vectorFieldName()), float[].class);
+                embedding = new Embedding(vectors);
+            } catch (JsonProcessingException e) {
+                throw new RedisRequestFailedException("failed to parse embedding", e);
+            }
+        }
+        return new EmbeddingMatch<>(score(document), id, embedding, embedded);
+    }
+
     public static Builder builder() {
         return new Builder();
     }
@@ -248,6 +427,12 @@ public class RedisEmbeddingStore implements EmbeddingStore<TextSegment> {
         private String prefix;
         private Integer dimension;
         private Collection<String> metadataKeys = new ArrayList<>();
+        private StorageType storageType;
+        private VectorDataType vectorDataType;
+        private Integer hnswM;
+        private Integer hnswEfConstruction;
+        private Integer hnswEfRuntime;
+        private Integer batchSize;
 
         /**
          * @param host Redis Stack host
@@ -326,8 +511,63 @@ public class RedisEmbeddingStore implements EmbeddingStore<TextSegment> {
             return this;
         }
 
+        /**
+         * @param storageType How embeddings are stored (optional). Default value: {@link StorageType#JSON}.
+         * @return builder
+         */
+        public Builder storageType(StorageType storageType) {
+            this.storageType = storageType;
+            return this;
+        }
+
+        /**
+         * @param vectorDataType Type of the indexed vector components (optional). Default value: {@link VectorDataType#FLOAT32}.
+         * @return builder
+         */
+        public Builder vectorDataType(VectorDataType vectorDataType) {
+            this.vectorDataType = vectorDataType;
+            return this;
+        }
+
+        /**
+         * @param hnswM Max number of outgoing edges per node of the HNSW graph (optional). Default value: Redis default.
+         * @return builder
+         */
+        public Builder hnswM(Integer hnswM) {
+            this.hnswM = hnswM;
+            return this;
+        }
+
+        /**
+         * @param hnswEfConstruction Number of candidates considered while building the HNSW graph (optional). Default value: Redis default.
+         * @return builder
+         */
+        public Builder hnswEfConstruction(Integer hnswEfConstruction) {
+            this.hnswEfConstruction = hnswEfConstruction;
+            return this;
+        }
+
+        /**
+         * @param hnswEfRuntime Number of candidates considered while searching the HNSW graph (optional). Default value: Redis default.
+         * @return builder
+         */
+        public Builder hnswEfRuntime(Integer hnswEfRuntime) {
+            this.hnswEfRuntime = hnswEfRuntime;
+            return this;
+        }
+
+        /**
+         * @param batchSize Max number of embeddings sent in one pipeline when adding (optional). Default value: 1000.
+         * @return builder
+         */
+        public Builder batchSize(Integer batchSize) {
+            this.batchSize = batchSize;
+            return this;
+        }
+
         public RedisEmbeddingStore build() {
-            return new RedisEmbeddingStore(host, port, user, password, indexName, prefix, dimension, metadataKeys);
+            return new RedisEmbeddingStore(host, port, user, password, indexName, prefix, dimension, metadataKeys,
+                storageType, vectorDataType, hnswM, hnswEfConstruction, hnswEfRuntime, batchSize);
         }
     }
 }
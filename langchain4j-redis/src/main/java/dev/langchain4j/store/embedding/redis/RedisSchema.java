@@ -1,5 +1,6 @@
 package dev.langchain4j.store.embedding.redis;
 
+import redis.clients.jedis.search.IndexDataType;
 import redis.clients.jedis.search.schemafields.SchemaField;
 import redis.clients.jedis.search.schemafields.TextField;
 import redis.clients.jedis.search.schemafields.VectorField;
@@ -13,6 +14,7 @@ import java.util.Map;
 
 import static dev.langchain4j.internal.ValidationUtils.ensureTrue;
 import static dev.langchain4j.store.embedding.redis.MetricType.COSINE;
+import static dev.langchain4j.store.embedding.redis.VectorDataType.FLOAT32;
 import static redis.clients.jedis.search.schemafields.VectorField.VectorAlgorithm.HNSW;
 
 /**
@@ -24,6 +26,8 @@ class RedisSchema {
     private static final String JSON_PATH_PREFIX = "$.";
     private static final VectorAlgorithm DEFAULT_VECTOR_ALGORITHM = HNSW;
     private static final MetricType DEFAULT_METRIC_TYPE = COSINE;
+    private static final StorageType DEFAULT_STORAGE_TYPE = StorageType.JSON;
+    private static final VectorDataType DEFAULT_VECTOR_DATA_TYPE = FLOAT32;
 
     /* Redis schema field settings */
 
@@ -32,21 +36,34 @@ class RedisSchema {
     private final String vectorFieldName;
     private final String scalarFieldName;
     private final Collection<String> metadataKeys;
+    private final StorageType storageType;
 
     /* Vector field settings */
 
     private final VectorAlgorithm vectorAlgorithm;
     private final int dimension;
     private final MetricType metricType;
+    private final VectorDataType vectorDataType;
+
+    /* HNSW settings, Redis defaults are used when null */
+
+    private final Integer hnswM;
+    private final Integer hnswEfConstruction;
+    private final Integer hnswEfRuntime;
 
     RedisSchema(String indexName,
                 String prefix,
                 String vectorFieldName,
                 String scalarFieldName,
                 Collection<String> metadataKeys,
+                StorageType storageType,
                 VectorAlgorithm vectorAlgorithm,
                 int dimension,
-                MetricType metricType) {
+                MetricType metricType,
+                VectorDataType vectorDataType,
+                Integer hnswM,
+                Integer hnswEfConstruction,
+                Integer hnswEfRuntime) {
         ensureTrue(prefix.endsWith(":"), "Prefix should end with a ':'");
 
         this.indexName = indexName;
@@ -54,21 +71,31 @@ class RedisSchema {
         this.vectorFieldName = vectorFieldName;
         this.scalarFieldName = scalarFieldName;
         this.metadataKeys = metadataKeys;
+        this.storageType = storageType;
         this.vectorAlgorithm = vectorAlgorithm;
         this.dimension = dimension;
         this.metricType = metricType;
+        this.vectorDataType = vectorDataType;
+        this.hnswM = hnswM;
+        this.hnswEfConstruction = hnswEfConstruction;
+        this.hnswEfRuntime = hnswEfRuntime;
     }
 
     SchemaField[] toSchemaFields() {
         Map<String, Object> vectorAttrs = new HashMap<>();
         vectorAttrs.put("DIM", dimension);
         vectorAttrs.put("DISTANCE_METRIC", metricType.name());
-        vectorAttrs.put("TYPE", "FLOAT32");
+        vectorAttrs.put("TYPE", vectorDataType.name());
         vectorAttrs.put("INITIAL_CAP", 5);
+        if (vectorAlgorithm == HNSW) {
+            putIfNotNull(vectorAttrs, "M", hnswM);
+            putIfNotNull(vectorAttrs, "EF_CONSTRUCTION", hnswEfConstruction);
+            putIfNotNull(vectorAttrs, "EF_RUNTIME", hnswEfRuntime);
+        }
         List<SchemaField> fields = new ArrayList<>();
-        fields.add(TextField.of(JSON_PATH_PREFIX + scalarFieldName).as(scalarFieldName).weight(1.0));
+        fields.add(TextField.of(fieldPath(scalarFieldName)).as(scalarFieldName).weight(1.0));
         fields.add(VectorField.builder()
-            .fieldName(JSON_PATH_PREFIX + vectorFieldName)
+            .fieldName(fieldPath(vectorFieldName))
             .algorithm(vectorAlgorithm)
             .attributes(vectorAttrs)
             .as(vectorFieldName)
@@ -76,12 +103,26 @@ class RedisSchema {
 
         if (metadataKeys != null) {
             for (String metadataKey : metadataKeys) {
-                fields.add(TextField.of(JSON_PATH_PREFIX + metadataKey).as(metadataKey).weight(1.0));
+                fields.add(TextField.of(fieldPath(metadataKey)).as(metadataKey).weight(1.0));
             }
         }
         return fields.toArray(new SchemaField[0]);
     }
 
+    IndexDataType indexDataType() {
+        return storageType == StorageType.HASH ? IndexDataType.HASH : IndexDataType.JSON;
+    }
+
+    private String fieldPath(String fieldName) {
+        return storageType == StorageType.HASH ? fieldName : JSON_PATH_PREFIX + fieldName;
+    }
+
+    private static void putIfNotNull(Map<String, Object> attributes, String name, Integer value) {
+        if (value != null) {
+            attributes.put(name, value);
+        }
+    }
+
     String indexName() {
         return indexName;
     }
@@ -102,6 +143,14 @@ class RedisSchema {
         return metadataKeys;
     }
 
+    StorageType storageType() {
+        return storageType;
+    }
+
+    VectorDataType vectorDataType() {
+        return vectorDataType;
+    }
+
     static Builder builder() {
         return new Builder();
     }
@@ -113,12 +162,20 @@ class RedisSchema {
         private String vectorFieldName = "vector";
         private String scalarFieldName = "text";
         private Collection<String> metadataKeys = new ArrayList<>();
+        private StorageType storageType = DEFAULT_STORAGE_TYPE;
 
         /* Vector field settings */
 
         private VectorAlgorithm vectorAlgorithm = DEFAULT_VECTOR_ALGORITHM;
         private int dimension;
         private final MetricType metricType = DEFAULT_METRIC_TYPE;
+        private VectorDataType vectorDataType = DEFAULT_VECTOR_DATA_TYPE;
+
+        /* HNSW settings */
+
+        private Integer hnswM;
+        private Integer hnswEfConstruction;
+        private Integer hnswEfRuntime;
 
         Builder indexName(String indexName) {
             this.indexName = indexName;
@@ -145,6 +202,11 @@ class RedisSchema {
             return this;
         }
 
+        Builder storageType(StorageType storageType) {
+            this.storageType = storageType;
+            return this;
+        }
+
         Builder vectorAlgorithm(VectorAlgorithm vectorAlgorithm) {
             this.vectorAlgorithm = vectorAlgorithm;
             return this;
@@ -155,8 +217,29 @@ class RedisSchema {
             return this;
         }
 
+        Builder vectorDataType(VectorDataType vectorDataType) {
+            this.vectorDataType = vectorDataType;
+            return this;
+        }
+
+        Builder hnswM(Integer hnswM) {
+            this.hnswM = hnswM;
+            return this;
+        }
+
+        Builder hnswEfConstruction(Integer hnswEfConstruction) {
+            this.hnswEfConstruction = hnswEfConstruction;
+            return this;
+        }
+
+        Builder hnswEfRuntime(Integer hnswEfRuntime) {
+            this.hnswEfRuntime = hnswEfRuntime;
+            return this;
+        }
+
         RedisSchema build() {
-            return new RedisSchema(indexName, prefix, vectorFieldName, scalarFieldName, metadataKeys, vectorAlgorithm, dimension, metricType);
+            return new RedisSchema(indexName, prefix, vectorFieldName, scalarFieldName, metadataKeys, storageType,
+                vectorAlgorithm, dimension, metricType, vectorDataType, hnswM, hnswEfConstruction, hnswEfRuntime);
         }
     }
 }
@@ -0,0 +1,19 @@
+package dev.langchain4j.store.embedding.redis;
+
+/**
+ * How the embeddings are stored in Redis
+ */
+public enum StorageType {
+
+    /**
+     * A JSON document per embedding, with the vector stored as an array of numbers.
+     * Requires the RedisJSON module.
+     */
+    JSON,
+
+    /**
+     * A hash per embedding, with the vector stored as raw bytes in the configured {@link VectorDataType}.
+     * It is more compact than {@link #JSON}, and vectors don't need to be formatted and parsed as text.
+     */
+    HASH
+}
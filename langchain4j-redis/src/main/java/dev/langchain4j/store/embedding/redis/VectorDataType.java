@@ -0,0 +1,107 @@
+package dev.langchain4j.store.embedding.redis;
+
+import java.nio.ByteBuffer;
+
+import static java.nio.ByteOrder.LITTLE_ENDIAN;
+
+/**
+ * Type of the vector components, as indexed by Redis
+ */
+public enum VectorDataType {
+
+    /**
+     * 32-bit floating point numbers
+     */
+    FLOAT32(4) {
+        @Override
+        void put(ByteBuffer buffer, float value) {
+            buffer.putFloat(value);
+        }
+
+        @Override
+        float get(ByteBuffer buffer) {
+            return buffer.getFloat();
+        }
+    },
+
+    /**
+     * 16-bit floating point numbers (IEEE 754 half precision).
+     * Halves the size of the vectors, at the cost of precision.
+     */
+    FLOAT16(2) {
+        @Override
+        void put(ByteBuffer buffer, float value) {
+            buffer.putShort(toFloat16(value));
+        }
+
+        @Override
+        float get(ByteBuffer buffer) {
+            return fromFloat16(buffer.getShort());
+        }
+    };
+
+    private final int bytesPerComponent;
+
+    VectorDataType(int bytesPerComponent) {
+        this.bytesPerComponent = bytesPerComponent;
+    }
+
+    abstract void put(ByteBuffer buffer, float value);
+
+    abstract float get(ByteBuffer buffer);
+
+    /**
+     * Encodes a vector in the little-endian binary format expected by Redis.
+     */
+    byte[] toBytes(float[] vector) {
+        ByteBuffer buffer = ByteBuffer.allocate(vector.length * bytesPerComponent).order(LITTLE_ENDIAN);
+        for (float component : vector) {
+            put(buffer, component);
+        }
+        return buffer.array();
+    }
+
+    /**
+     * Decodes a vector encoded by {@link #toBytes(float[])}.
+     */
+    float[] toVector(byte[] bytes) {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes).order(LITTLE_ENDIAN);
+        float[] vector = new float[bytes.length / bytesPerComponent];
+        for (int i = 0; i < vector.length; i++) {
+            vector[i] = get(buffer);
+        }
+        return vector;
+    }
+
+    static short toFloat16(float value) {
+        int bits = Float.floatToIntBits(value);
+        int sign = (bits >>> 16) & 0x8000;
+        int abs = bits & 0x7fffffff;
+        if (abs >= 0x7f800000) { // infinity or NaN
+            return (short) (sign | 0x7c00 | (abs > 0x7f800000 ? 0x200 : 0));
+        }
+        if (abs >= 0x477ff000) { // rounds above the largest half (65504)
+            return (short) (sign | 0x7c00);
+        }
+        if (abs < 0x38800000) { // subnormal half
+            return (short) (sign | Math.round(Float.intBitsToFloat(abs) * 0x1p24f));
+        }
+        // rebias the exponent from 127 to 15 and round the mantissa to nearest even
+        int rounded = abs + 0x0fff + ((abs >>> 13) & 1);
+        return (short) (sign | ((rounded - 0x38000000) >>> 13));
+    }
+
+    static float fromFloat16(short half) {
+        int sign = (half & 0x8000) << 16;
+        int exponent = (half >>> 10) & 0x1f;
+        int mantissa = half & 0x3ff;
+        if (exponent == 0x1f) { // infinity or NaN
+            return Float.intBitsToFloat(sign | 0x7f800000 | mantissa << 13);
+        }
+        if (exponent == 0) { // zero or subnormal
+            float value = mantissa * 0x1p-24f;
+            return sign == 0 ? value : -value;
+        }
+        return Float.intBitsToFloat(sign | (exponent + 112) << 23 | mantissa << 13);
+    }
+}
@@ -0,0 +1,20 @@
+package dev.langchain4j.store.memory.chat.redis;
+
+/**
+ * How {@link RedisChatMemoryStore} stores the messages of a chat memory.
+ * The two types use different Redis data types, so a chat memory stored with one type cannot be read with the other.
+ */
+public enum RedisChatMemoryStorageType {
+
+    /**
+     * All messages are serialized together into a string, which is rewritten on every update.
+     */
+    STRING,
+
+    /**
+     * Each message is serialized into an element of a list.
+     * An update only appends the new messages and trims the evicted ones,
+     * so its cost depends on the number of changed messages rather than on the size of the chat memory.
+     */
+    LIST
+}
@@ -1,24 +1,73 @@
 package dev.langchain4j.store.memory.chat.redis;
 
 import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.data.message.ChatMessageBinarySerializer;
 import dev.langchain4j.data.message.ChatMessageDeserializer;
 import dev.langchain4j.data.message.ChatMessageSerializer;
+import dev.langchain4j.data.message.SystemMessage;
 import dev.langchain4j.store.memory.chat.ChatMemoryStore;
+import redis.clients.jedis.Connection;
+import redis.clients.jedis.Jedis;
 import redis.clients.jedis.JedisPooled;
+import redis.clients.jedis.Transaction;
+import redis.clients.jedis.exceptions.JedisDataException;
+import redis.clients.jedis.params.SetParams;
+import redis.clients.jedis.util.SafeEncoder;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 
+import static dev.langchain4j.internal.Utils.getOrDefault;
 import static dev.langchain4j.internal.ValidationUtils.*;
 
+/**
+ * Stores the messages of each memory under a single key.
+ * <p>
+ * Messages are stored as JSON by default. If {@code binary} is enabled, they are stored in the compact format
+ * of {@link ChatMessageBinarySerializer} instead. Memories previously stored as JSON can still be read in that case,
+ * and are converted to the binary format on their next update.
+ * <p>
+ * With {@link RedisChatMemoryStorageType#LIST}, each message is an element of a Redis list. When the chat memory
+ * passes the messages it was derived from (see {@link #updateMessages(Object, List, List)}), evicted messages are
+ * trimmed and new messages are appended in a single {@code MULTI}/{@code EXEC} round trip, without re-sending
+ * the rest of the conversation. The key is watched while its length is checked against the previous messages:
+ * if it does not match, or if the memory is updated concurrently, the whole list is rewritten instead.
+ * If {@code ttl} is set, the expiration of the memory is refreshed on every update.
+ * <p>
+ * Memories stored with the other {@link RedisChatMemoryStorageType} can still be read,
+ * and are converted on their next update.
+ */
 public class RedisChatMemoryStore implements ChatMemoryStore {
 
     private final JedisPooled client;
+    private final boolean binary;
+    private final RedisChatMemoryStorageType storageType;
+    private final Duration ttl;
 
     public RedisChatMemoryStore(String host,
                                 Integer port,
                                 String user,
                                 String password) {
+        this(host, port, user, password, null, null, null);
+    }
+
+    /**
+     * @param host        Redis host
+     * @param port        Redis port
+     * @param user        Redis username (optional)
+     * @param password    Redis password (optional)
+     * @param binary      Whether to store messages in binary format rather than JSON (optional). Default value: false.
+     * @param storageType How messages are stored (optional). Default value: {@link RedisChatMemoryStorageType#STRING}.
+     * @param ttl         Time after the last update when a chat memory expires (optional). Default value: never.
+     */
+    public RedisChatMemoryStore(String host,
+                                Integer port,
+                                String user,
+                                String password,
+                                Boolean binary,
+                                RedisChatMemoryStorageType storageType,
+                                Duration ttl) {
         String finalHost = ensureNotBlank(host, "host");
         int finalPort = ensureNotNull(port, "port");
         if (user != null) {
@@ -28,23 +77,202 @@ public class RedisChatMemoryStore implements ChatMemoryStore {
         } else {
             this.client = new JedisPooled(finalHost, finalPort);
         }
+        this.binary = getOrDefault(binary, false);
+        this.storageType = getOrDefault(storageType, RedisChatMemoryStorageType.STRING);
+        this.ttl = ttl;
     }
 
     @Override
     public List<ChatMessage> getMessages(Object memoryId) {
-        String json = client.get(toMemoryIdString(memoryId));
-        return json == null ? new ArrayList<>() : ChatMessageDeserializer.messagesFromJson(json);
+        String key = toMemoryIdString(memoryId);
+        try {
+            return storageType == RedisChatMemoryStorageType.LIST ? readList(key) : readString(key);
+        } catch (JedisDataException e) {
+            if (!isWrongType(e)) {
+                throw e;
+            }
+            // the memory was stored with the other storage type
+            return storageType == RedisChatMemoryStorageType.LIST ? readString(key) : readList(key);
+        }
+    }
+
+    private List<ChatMessage> readList(String key) {
+        List<byte[]> elements = client.lrange(SafeEncoder.encode(key), 0, -1);
+        List<ChatMessage> messages = new ArrayList<>(elements.size());
+        for (byte[] element : elements) {
+            messages.add(fromBytes(element));
+        }
+        return messages;
+    }
+
+    private List<ChatMessage> readString(String key) {
+        byte[] bytes = client.get(SafeEncoder.encode(key));
+        if (bytes == null) {
+            return new ArrayList<>();
+        }
+        return ChatMessageBinarySerializer.canDecode(bytes)
+            ? ChatMessageBinarySerializer.messagesFromBytes(bytes)
+            : ChatMessageDeserializer.messagesFromJson(SafeEncoder.encode(bytes));
+    }
+
+    private static boolean isWrongType(JedisDataException e) {
+        return e.getMessage() != null && e.getMessage().startsWith("WRONGTYPE");
     }
 
     @Override
     public void updateMessages(Object memoryId, List<ChatMessage> messages) {
-        String json = ChatMessageSerializer.messagesToJson(ensureNotEmpty(messages, "messages"));
-        String res = client.set(toMemoryIdString(memoryId), json);
+        ensureNotEmpty(messages, "messages");
+        String key = toMemoryIdString(memoryId);
+        if (storageType == RedisChatMemoryStorageType.LIST) {
+            replaceList(SafeEncoder.encode(key), messages);
+            return;
+        }
+        SetParams params = ttl == null ? new SetParams() : new SetParams().px(ttl.toMillis());
+        String res = binary
+            ? client.set(SafeEncoder.encode(key), ChatMessageBinarySerializer.messagesToBytes(messages), params)
+            : client.set(key, ChatMessageSerializer.messagesToJson(messages), params);
         if (!"OK".equals(res)) {
             throw new RedisChatMemoryStoreException("Set memory error, msg=" + res);
         }
     }
 
+    /**
+     * In {@link RedisChatMemoryStorageType#LIST} mode, only sends the changes between {@code previousMessages}
+     * and {@code messages} if they are the previous messages with some of the oldest ones evicted
+     * (except a leading {@link SystemMessage}), followed by new messages. Otherwise, rewrites the whole list.
+     */
+    @Override
+    public void updateMessages(Object memoryId, List<ChatMessage> previousMessages, List<ChatMessage> messages) {
+        if (storageType != RedisChatMemoryStorageType.LIST || previousMessages == null) {
+            updateMessages(memoryId, messages);
+            return;
+        }
+        ensureNotEmpty(messages, "messages");
+        byte[] key = SafeEncoder.encode(toMemoryIdString(memoryId));
+
+        int previousSize = previousMessages.size();
+        for (int appended = 0; appended <= messages.size(); appended++) {
+            List<ChatMessage> kept = messages.subList(0, messages.size() - appended);
+            List<ChatMessage> added = messages.subList(messages.size() - appended, messages.size());
+            if (isSuffix(kept, previousMessages)) {
+                // the oldest messages were evicted
+                updateList(key, previousSize, previousSize - kept.size(), null, added, messages);
+                return;
+            }
+            if (!kept.isEmpty() && !previousMessages.isEmpty()
+                && kept.get(0) instanceof SystemMessage && kept.get(0).equals(previousMessages.get(0))
+                && isSuffix(kept.subList(1, kept.size()), previousMessages.subList(1, previousSize))) {
+                // the oldest messages after the system message were evicted
+                updateList(key, previousSize, previousSize - kept.size() + 1, kept.get(0), added, messages);
+                return;
+            }
+        }
+        replaceList(key, messages);
+    }
+
+    private static boolean isSuffix(List<ChatMessage> suffix, List<ChatMessage> messages) {
+        return suffix.size() <= messages.size()
+            && suffix.equals(messages.subList(messages.size() - suffix.size(), messages.size()));
+    }
+
+    /**
+     * Drops the first {@code evicted} elements, pushes {@code head} back in front of the list if it is not null,
+     * and appends {@code added}. Rewrites the whole list with {@code messages} instead if the stored list
+     * does not have {@code previousSize} elements, or if it is modified before the changes are applied.
+     */
+    private void updateList(byte[] key,
+                            int previousSize,
+                            int evicted,
+                            ChatMessage head,
+                            List<ChatMessage> added,
+                            List<ChatMessage> messages) {
+        boolean replace;
+        try (Connection connection = client.getPool().getResource()) {
+            Jedis jedis = new Jedis(connection);
+            jedis.watch(key);
+            try {
+                replace = length(jedis, key) != previousSize
+                    || !applyUpdate(jedis.multi(), key, evicted, head, added);
+            } finally {
+                // discards a transaction left open by an exception, and unwatches the key if it is still watched,
+                // so that the connection is not returned to the pool in that state
+                jedis.resetState();
+            }
+        }
+        if (replace) {
+            replaceList(key, messages);
+        }
+    }
+
+    /**
+     * @return false if the memory was updated since it was watched, in which case no change is applied
+     */
+    private boolean applyUpdate(Transaction transaction,
+                                byte[] key,
+                                int evicted,
+                                ChatMessage head,
+                                List<ChatMessage> added) {
+        if (evicted > 0) {
+            transaction.ltrim(key, evicted, -1);
+        }
+        if (head != null) {
+            transaction.lpush(key, toBytes(head));
+        }
+        if (!added.isEmpty()) {
+            transaction.rpush(key, toBytes(added));
+        }
+        if (ttl != null) {
+            transaction.pexpire(key, ttl.toMillis());
+        }
+        return transaction.exec() != null;
+    }
+
+    /**
+     * @return the length of the list, or -1 if the memory is not stored as a list
+     */
+    private static long length(Jedis jedis, byte[] key) {
+        try {
+            return jedis.llen(key);
+        } catch (JedisDataException e) {
+            if (!isWrongType(e)) {
+                throw e;
+            }
+            return -1;
+        }
+    }
+
+    private void replaceList(byte[] key, List<ChatMessage> messages) {
+        try (Connection connection = client.getPool().getResource();
+             Transaction transaction = new Transaction(connection)) {
+            transaction.del(key);
+            transaction.rpush(key, toBytes(messages));
+            if (ttl != null) {
+                transaction.pexpire(key, ttl.toMillis());
+            }
+            transaction.exec();
+        }
+    }
+
+    private byte[][] toBytes(List<ChatMessage> messages) {
+        byte[][] elements = new byte[messages.size()][];
+        for (int i = 0; i < elements.length; i++) {
+            elements[i] = toBytes(messages.get(i));
+        }
+        return elements;
+    }
+
+    private byte[] toBytes(ChatMessage message) {
+        return binary
+            ? ChatMessageBinarySerializer.messageToBytes(message)
+            : SafeEncoder.encode(ChatMessageSerializer.messageToJson(message));
+    }
+
+    private static ChatMessage fromBytes(byte[] element) {
+        return ChatMessageBinarySerializer.canDecode(element)
+            ? ChatMessageBinarySerializer.messageFromBytes(element)
+            : ChatMessageDeserializer.messageFromJson(SafeEncoder.encode(element));
+    }
+
     @Override
     public void deleteMessages(Object memoryId) {
         client.del(toMemoryIdString(memoryId));
@@ -68,6 +296,9 @@ public class RedisChatMemoryStore implements ChatMemoryStore {
         private Integer port;
         private String user;
         private String password;
+        private Boolean binary;
+        private RedisChatMemoryStorageType storageType;
+        private Duration ttl;
 
         public Builder host(String host) {
             this.host = host;
@@ -89,8 +320,32 @@ public class RedisChatMemoryStore implements ChatMemoryStore {
             return this;
         }
 
+        /**
+         * @param binary Whether to store messages in binary format rather than JSON (optional). Default value: false.
+         */
+        public Builder binary(Boolean binary) {
+            this.binary = binary;
+            return this;
+        }
+
+        /**
+         * @param storageType How messages are stored (optional). Default value: {@link RedisChatMemoryStorageType#STRING}.
+         */
+        public Builder storageType(RedisChatMemoryStorageType storageType) {
+            this.storageType = storageType;
+            return this;
+        }
+
+        /**
+         * @param ttl Time after the last update when a chat memory expires (optional). Default value: never.
+         */
+        public Builder ttl(Duration ttl) {
+            this.ttl = ttl;
+            return this;
+        }
+
         public RedisChatMemoryStore build() {
-            return new RedisChatMemoryStore(host, port, user, password);
+            return new RedisChatMemoryStore(host, port, user, password, binary, storageType, ttl);
         }
     }
 }
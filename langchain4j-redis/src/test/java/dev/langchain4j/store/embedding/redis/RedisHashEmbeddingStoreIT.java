@@ -0,0 +1,59 @@
+package dev.langchain4j.store.embedding.redis;
+
+import com.redis.testcontainers.RedisContainer;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.embedding.EmbeddingModel;
+import dev.langchain4j.model.embedding.onnx.allminilml6v2q.AllMiniLmL6V2QuantizedEmbeddingModel;
+import dev.langchain4j.store.embedding.EmbeddingStore;
+import dev.langchain4j.store.embedding.EmbeddingStoreIT;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+
+import static com.redis.testcontainers.RedisStackContainer.DEFAULT_IMAGE_NAME;
+import static com.redis.testcontainers.RedisStackContainer.DEFAULT_TAG;
+import static dev.langchain4j.internal.Utils.randomUUID;
+
+class RedisHashEmbeddingStoreIT extends EmbeddingStoreIT {
+
+    static RedisContainer redis = new RedisContainer(DEFAULT_IMAGE_NAME.withTag(DEFAULT_TAG));
+
+    EmbeddingStore<TextSegment> embeddingStore;
+
+    EmbeddingModel embeddingModel = new AllMiniLmL6V2QuantizedEmbeddingModel();
+
+    @BeforeAll
+    static void beforeAll() {
+        redis.start();
+    }
+
+    @AfterAll
+    static void afterAll() {
+        redis.stop();
+    }
+
+    @Override
+    protected void clearStore() {
+        embeddingStore = RedisEmbeddingStore.builder()
+            .host(redis.getHost())
+            .port(redis.getFirstMappedPort())
+            .indexName(randomUUID())
+            .prefix(randomUUID() + ":")
+            .dimension(384)
+            .metadataKeys(createMetadata().toMap().keySet())
+            .storageType(StorageType.HASH)
+            .hnswM(16)
+            .hnswEfConstruction(200)
+            .batchSize(2)
+            .build();
+    }
+
+    @Override
+    protected EmbeddingStore<TextSegment> embeddingStore() {
+        return embeddingStore;
+    }
+
+    @Override
+    protected EmbeddingModel embeddingModel() {
+        return embeddingModel;
+    }
+}
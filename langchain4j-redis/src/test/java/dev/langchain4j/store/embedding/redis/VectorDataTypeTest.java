@@ -0,0 +1,59 @@
+package dev.langchain4j.store.embedding.redis;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import static dev.langchain4j.store.embedding.redis.VectorDataType.FLOAT16;
+import static dev.langchain4j.store.embedding.redis.VectorDataType.fromFloat16;
+import static dev.langchain4j.store.embedding.redis.VectorDataType.toFloat16;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class VectorDataTypeTest {
+
+    @ParameterizedTest
+    @EnumSource(VectorDataType.class)
+    void should_round_trip_vector(VectorDataType vectorDataType) {
+
+        // given
+        float[] vector = {0f, 1f, -1f, 0.5f, -0.25f, 0.1f, 3.14159f};
+
+        // when
+        byte[] bytes = vectorDataType.toBytes(vector);
+        float[] decoded = vectorDataType.toVector(bytes);
+
+        // then
+        assertThat(bytes).hasSize(vector.length * (vectorDataType == FLOAT16 ? 2 : 4));
+        assertThat(decoded).containsExactly(vector, within(vectorDataType == FLOAT16 ? 1e-3f : 0f));
+    }
+
+    @Test
+    void should_encode_float16_like_ieee_754() {
+
+        assertThat(toFloat16(1f)).isEqualTo((short) 0x3c00);
+        assertThat(toFloat16(-2f)).isEqualTo((short) 0xc000);
+        assertThat(toFloat16(65504f)).isEqualTo((short) 0x7bff);
+        assertThat(toFloat16(1e6f)).isEqualTo((short) 0x7c00);
+        assertThat(toFloat16(0x1p-24f)).isEqualTo((short) 0x0001);
+        assertThat(toFloat16(1f + 0x1p-11f)).isEqualTo((short) 0x3c00); // ties to even
+        assertThat(toFloat16(1f + 0x1p-11f + 0x1p-10f)).isEqualTo((short) 0x3c02);
+
+        assertThat(fromFloat16((short) 0x3555)).isEqualTo(0.333251953125f);
+        assertThat(fromFloat16((short) 0x0001)).isEqualTo(0x1p-24f);
+        assertThat(fromFloat16((short) 0xfc00)).isEqualTo(Float.NEGATIVE_INFINITY);
+        assertThat(fromFloat16((short) 0x7e00)).isNaN();
+    }
+
+    @Test
+    void should_round_trip_all_float16_values() {
+
+        for (int i = 0; i <= 0xffff; i++) {
+            short half = (short) i;
+            float value = fromFloat16(half);
+            if (!Float.isNaN(value)) {
+                assertThat(toFloat16(value)).as("0x%04x", i).isEqualTo(half);
+            }
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package dev.langchain4j.store.memory.chat.redis;
 
 import com.redis.testcontainers.RedisContainer;
+import dev.langchain4j.data.message.AiMessage;
 import dev.langchain4j.data.message.ChatMessage;
 import dev.langchain4j.data.message.Content;
 import dev.langchain4j.data.message.ImageContent;
@@ -11,11 +12,13 @@ import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 
 import static com.redis.testcontainers.RedisStackContainer.DEFAULT_IMAGE_NAME;
 import static com.redis.testcontainers.RedisStackContainer.DEFAULT_TAG;
+import static java.util.Arrays.asList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
@@ -83,6 +86,126 @@ class RedisChatMemoryStoreIT {
         assertThat(messages).isEmpty();
     }
 
+    @Test
+    void should_store_messages_in_binary_format_and_read_json() {
+        // given
+        RedisChatMemoryStore binaryMemoryStore = RedisChatMemoryStore.builder()
+                .port(redis.getFirstMappedPort())
+                .host(redis.getHost())
+                .binary(true)
+                .build();
+        List<ChatMessage> chatMessages = new ArrayList<>();
+        chatMessages.add(new SystemMessage("You are a large language model working with Langchain4j"));
+        memoryStore.updateMessages(userId, chatMessages);
+
+        // when-then
+        assertThat(binaryMemoryStore.getMessages(userId)).isEqualTo(chatMessages);
+
+        // when
+        chatMessages.add(new UserMessage("What do you see in this image?", List.of(new ImageContent("someCatImageUrl"))));
+        binaryMemoryStore.updateMessages(userId, chatMessages);
+
+        // then
+        assertThat(binaryMemoryStore.getMessages(userId)).isEqualTo(chatMessages);
+    }
+
+    @Test
+    void should_append_and_evict_messages_of_list() {
+        // given
+        RedisChatMemoryStore listMemoryStore = RedisChatMemoryStore.builder()
+                .port(redis.getFirstMappedPort())
+                .host(redis.getHost())
+                .binary(true)
+                .storageType(RedisChatMemoryStorageType.LIST)
+                .ttl(Duration.ofMinutes(10))
+                .build();
+        String memoryId = "listUserId";
+        listMemoryStore.deleteMessages(memoryId);
+        SystemMessage systemMessage = SystemMessage.from("You are a large language model working with Langchain4j");
+        List<ChatMessage> previousMessages = asList(systemMessage, UserMessage.from("first"), AiMessage.from("first answer"));
+        listMemoryStore.updateMessages(memoryId, previousMessages);
+
+        // when
+        List<ChatMessage> messages = asList(systemMessage, AiMessage.from("first answer"), UserMessage.from("second"));
+        listMemoryStore.updateMessages(memoryId, listMemoryStore.getMessages(memoryId), messages);
+
+        // then
+        assertThat(listMemoryStore.getMessages(memoryId)).isEqualTo(messages);
+
+        // when
+        List<ChatMessage> withoutSystemMessage = asList(UserMessage.from("second"), AiMessage.from("second answer"));
+        listMemoryStore.updateMessages(memoryId, messages, withoutSystemMessage);
+
+        // then
+        assertThat(listMemoryStore.getMessages(memoryId)).isEqualTo(withoutSystemMessage);
+    }
+
+    @Test
+    void should_replace_list_when_messages_were_not_only_appended_and_evicted() {
+        // given
+        RedisChatMemoryStore listMemoryStore = RedisChatMemoryStore.builder()
+                .port(redis.getFirstMappedPort())
+                .host(redis.getHost())
+                .storageType(RedisChatMemoryStorageType.LIST)
+                .build();
+        String memoryId = "listUserId";
+        listMemoryStore.deleteMessages(memoryId);
+        List<ChatMessage> previousMessages = asList(SystemMessage.from("first system"), UserMessage.from("first"));
+        listMemoryStore.updateMessages(memoryId, previousMessages);
+
+        // when
+        List<ChatMessage> messages = asList(UserMessage.from("first"), SystemMessage.from("second system"));
+        listMemoryStore.updateMessages(memoryId, previousMessages, messages);
+
+        // then
+        assertThat(listMemoryStore.getMessages(memoryId)).isEqualTo(messages);
+    }
+
+    @Test
+    void should_rewrite_list_when_it_changed_since_previous_messages_were_read() {
+        // given
+        RedisChatMemoryStore listMemoryStore = RedisChatMemoryStore.builder()
+                .port(redis.getFirstMappedPort())
+                .host(redis.getHost())
+                .storageType(RedisChatMemoryStorageType.LIST)
+                .build();
+        String memoryId = "listUserId";
+        listMemoryStore.deleteMessages(memoryId);
+        List<ChatMessage> previousMessages = asList(UserMessage.from("first"), AiMessage.from("first answer"));
+        listMemoryStore.updateMessages(memoryId, previousMessages);
+        listMemoryStore.updateMessages(memoryId, asList(UserMessage.from("concurrent")));
+
+        // when
+        List<ChatMessage> messages = asList(AiMessage.from("first answer"), UserMessage.from("second"));
+        listMemoryStore.updateMessages(memoryId, previousMessages, messages);
+
+        // then
+        assertThat(listMemoryStore.getMessages(memoryId)).isEqualTo(messages);
+    }
+
+    @Test
+    void should_read_and_convert_memory_stored_with_other_storage_type() {
+        // given
+        RedisChatMemoryStore listMemoryStore = RedisChatMemoryStore.builder()
+                .port(redis.getFirstMappedPort())
+                .host(redis.getHost())
+                .storageType(RedisChatMemoryStorageType.LIST)
+                .build();
+        List<ChatMessage> previousMessages = asList(UserMessage.from("first"), AiMessage.from("first answer"));
+        memoryStore.updateMessages(userId, previousMessages);
+
+        // when-then
+        assertThat(listMemoryStore.getMessages(userId)).isEqualTo(previousMessages);
+
+        // when
+        List<ChatMessage> messages = asList(AiMessage.from("first answer"), UserMessage.from("second"));
+        listMemoryStore.updateMessages(userId, previousMessages, messages);
+
+        // then
+        assertThat(listMemoryStore.getMessages(userId)).isEqualTo(messages);
+        assertThat(memoryStore.getMessages(userId)).isEqualTo(messages);
+    }
+
     @Test
     void getMessages_memoryId_null() {
         assertThatThrownBy(() -> memoryStore.getMessages(null))
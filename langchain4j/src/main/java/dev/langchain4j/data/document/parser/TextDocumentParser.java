@@ -5,6 +5,12 @@ import dev.langchain4j.data.document.Document;
 import dev.langchain4j.data.document.DocumentParser;
 
 import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
 import java.nio.charset.Charset;
 
 import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
@@ -36,4 +42,47 @@ public class TextDocumentParser implements DocumentParser {
             throw new RuntimeException(e);
         }
     }
+
+    /**
+     * Decodes the text directly from the provided {@link ByteBuffer} (e.g. a memory-mapped file)
+     * into a buffer pre-sized from the expected number of characters, without first copying the bytes.
+     * Malformed input and unmappable characters are replaced, like in {@link #parse(InputStream)}.
+     */
+    @Override
+    public Document parse(ByteBuffer byteBuffer) {
+        ByteBuffer in = byteBuffer.duplicate();
+        CharsetDecoder decoder = charset.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        CharBuffer out = CharBuffer.allocate((int) Math.min(Integer.MAX_VALUE - 8,
+                (long) Math.ceil(in.remaining() * (double) decoder.averageCharsPerByte()) + 16));
+
+        try {
+            // decode must be called at least once, even for an empty buffer, before the decoder can be flushed
+            CoderResult result;
+            while ((result = decoder.decode(in, out, true)).isOverflow()) {
+                out = grow(out);
+            }
+            if (!result.isUnderflow()) {
+                result.throwException();
+            }
+            while ((result = decoder.flush(out)).isOverflow()) {
+                out = grow(out);
+            }
+        } catch (CharacterCodingException e) {
+            throw new RuntimeException(e);
+        }
+
+        String text = out.flip().toString();
+        if (text.isBlank()) {
+            throw new BlankDocumentException();
+        }
+        return Document.from(text);
+    }
+
+    private static CharBuffer grow(CharBuffer out) {
+        CharBuffer grown = CharBuffer.allocate(Math.max(16, out.capacity() * 2));
+        out.flip();
+        return grown.put(out);
+    }
 }
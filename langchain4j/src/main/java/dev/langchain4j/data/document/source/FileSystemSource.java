@@ -7,6 +7,9 @@ import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -14,9 +17,13 @@ import java.nio.file.Paths;
 import static dev.langchain4j.data.document.Document.ABSOLUTE_DIRECTORY_PATH;
 import static dev.langchain4j.data.document.Document.FILE_NAME;
 import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+import static java.nio.channels.FileChannel.MapMode.READ_ONLY;
+import static java.nio.file.StandardOpenOption.READ;
 
 public class FileSystemSource implements DocumentSource {
 
+    private static final long MEMORY_MAPPING_THRESHOLD = 1024 * 1024;
+
     public final Path path;
 
     public FileSystemSource(Path path) {
@@ -28,6 +35,30 @@ public class FileSystemSource implements DocumentSource {
         return Files.newInputStream(path);
     }
 
+    @Override
+    public ReadableByteChannel channel() throws IOException {
+        return FileChannel.open(path, READ);
+    }
+
+    /**
+     * Memory-maps the file, so that its content can be parsed without copying it to the heap first.
+     * <p>
+     * Mapping only pays off for large files, so for files smaller than 1 MiB {@code null} is returned
+     * and {@link #inputStream()} should be used instead.
+     * Files larger than {@link Integer#MAX_VALUE} bytes cannot be mapped into a single buffer, and {@code null}
+     * is returned for them as well.
+     */
+    @Override
+    public ByteBuffer byteBuffer() throws IOException {
+        try (FileChannel channel = FileChannel.open(path, READ)) {
+            long size = channel.size();
+            if (size < MEMORY_MAPPING_THRESHOLD || size > Integer.MAX_VALUE) {
+                return null;
+            }
+            return channel.map(READ_ONLY, 0, size);
+        }
+    }
+
     @Override
     public Metadata metadata() {
         return new Metadata()
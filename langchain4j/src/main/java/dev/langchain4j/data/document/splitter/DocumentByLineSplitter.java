@@ -54,7 +54,15 @@ public class DocumentByLineSplitter extends HierarchicalDocumentSplitter {
 
     @Override
     public String[] split(String text) {
-        return text.split("\\s*\\R\\s*"); // additional whitespaces are ignored
+        return WhitespacePartScanner.split(text, 1); // additional whitespaces are ignored
+    }
+
+    @Override
+    protected PartScanner scan(String text) {
+        if (isSplitOverriddenBelow(DocumentByLineSplitter.class)) {
+            return super.scan(text);
+        }
+        return new WhitespacePartScanner(text, 1);
     }
 
     @Override
@@ -54,7 +54,15 @@ public class DocumentByParagraphSplitter extends HierarchicalDocumentSplitter {
 
     @Override
     public String[] split(String text) {
-        return text.split("\\s*(?>\\R)\\s*(?>\\R)\\s*"); // additional whitespaces are ignored
+        return WhitespacePartScanner.split(text, 2); // additional whitespaces are ignored
+    }
+
+    @Override
+    protected PartScanner scan(String text) {
+        if (isSplitOverriddenBelow(DocumentByParagraphSplitter.class)) {
+            return super.scan(text);
+        }
+        return new WhitespacePartScanner(text, 2);
     }
 
     @Override
@@ -4,10 +4,8 @@ import dev.langchain4j.data.document.Document;
 import dev.langchain4j.data.document.DocumentSplitter;
 import dev.langchain4j.data.segment.TextSegment;
 import dev.langchain4j.model.Tokenizer;
-import opennlp.tools.sentdetect.SentenceDetectorME;
-import opennlp.tools.sentdetect.SentenceModel;
 
-import java.io.InputStream;
+import static dev.langchain4j.internal.Utils.getOrDefault;
 
 /**
  * Splits the provided {@link Document} into sentences and attempts to fit as many sentences as possible
@@ -16,7 +14,10 @@ import java.io.InputStream;
  * The {@code maxSegmentSize} can be defined in terms of characters (default) or tokens.
  * For token-based limit, a {@link Tokenizer} must be provided.
  * <p>
- * Sentence boundaries are detected using the Apache OpenNLP library with the English sentence model.
+ * Sentence boundaries are detected by a {@link SentenceBoundaryDetector}. By default, the
+ * {@link OpenNlpSentenceBoundaryDetector} is used, which relies on the Apache OpenNLP library with the English
+ * sentence model. The model is loaded once and shared by all splitters.
+ * The {@link RuleBasedSentenceBoundaryDetector} can be used instead when speed matters more than accuracy.
  * <p>
  * If multiple sentences fit within {@code maxSegmentSize}, they are joined together using a space (" ").
  * <p>
@@ -30,49 +31,60 @@ import java.io.InputStream;
  */
 public class DocumentBySentenceSplitter extends HierarchicalDocumentSplitter {
 
-    private final SentenceModel sentenceModel;
+    private final SentenceBoundaryDetector sentenceBoundaryDetector;
 
     public DocumentBySentenceSplitter(int maxSegmentSizeInChars,
                                       int maxOverlapSizeInChars) {
-        super(maxSegmentSizeInChars, maxOverlapSizeInChars, null, null);
-        this.sentenceModel = createSentenceModel();
+        this(maxSegmentSizeInChars, maxOverlapSizeInChars, null, null, null);
     }
 
     public DocumentBySentenceSplitter(int maxSegmentSizeInChars,
                                       int maxOverlapSizeInChars,
                                       DocumentSplitter subSplitter) {
-        super(maxSegmentSizeInChars, maxOverlapSizeInChars, null, subSplitter);
-        this.sentenceModel = createSentenceModel();
+        this(maxSegmentSizeInChars, maxOverlapSizeInChars, null, subSplitter, null);
     }
 
     public DocumentBySentenceSplitter(int maxSegmentSizeInTokens,
                                       int maxOverlapSizeInTokens,
                                       Tokenizer tokenizer) {
-        super(maxSegmentSizeInTokens, maxOverlapSizeInTokens, tokenizer, null);
-        this.sentenceModel = createSentenceModel();
+        this(maxSegmentSizeInTokens, maxOverlapSizeInTokens, tokenizer, null, null);
     }
 
     public DocumentBySentenceSplitter(int maxSegmentSizeInTokens,
                                       int maxOverlapSizeInTokens,
                                       Tokenizer tokenizer,
                                       DocumentSplitter subSplitter) {
-        super(maxSegmentSizeInTokens, maxOverlapSizeInTokens, tokenizer, subSplitter);
-        this.sentenceModel = createSentenceModel();
+        this(maxSegmentSizeInTokens, maxOverlapSizeInTokens, tokenizer, subSplitter, null);
     }
 
-    private SentenceModel createSentenceModel() {
-        String sentenceModelFilePath = "/opennlp/opennlp-en-ud-ewt-sentence-1.0-1.9.3.bin";
-        try (InputStream is = getClass().getResourceAsStream(sentenceModelFilePath)) {
-            return new SentenceModel(is);
-        } catch (Exception e) {
-            throw new RuntimeException(e);
-        }
+    /**
+     * Creates a new instance of {@link DocumentBySentenceSplitter}.
+     *
+     * @param maxSegmentSize           The maximum size of a segment, in tokens if a {@code tokenizer} is provided,
+     *                                 otherwise in characters.
+     * @param maxOverlapSize           The maximum size of the overlap between segments.
+     * @param tokenizer                The tokenizer to use to estimate the number of tokens in a text. Optional.
+     * @param subSplitter              The sub-splitter to use when a single sentence is too long. Optional.
+     * @param sentenceBoundaryDetector The detector to use to find sentence boundaries.
+     *                                 Optional, {@link OpenNlpSentenceBoundaryDetector} by default.
+     */
+    public DocumentBySentenceSplitter(int maxSegmentSize,
+                                      int maxOverlapSize,
+                                      Tokenizer tokenizer,
+                                      DocumentSplitter subSplitter,
+                                      SentenceBoundaryDetector sentenceBoundaryDetector) {
+        super(maxSegmentSize, maxOverlapSize, tokenizer, subSplitter);
+        this.sentenceBoundaryDetector = getOrDefault(sentenceBoundaryDetector, OpenNlpSentenceBoundaryDetector::getInstance);
     }
 
     @Override
     public String[] split(String text) {
-        SentenceDetectorME sentenceDetector = new SentenceDetectorME(sentenceModel);
-        return sentenceDetector.sentDetect(text);
+        return sentenceBoundaryDetector.detect(text);
+    }
+
+    @Override
+    SentenceBoundaryDetector sentenceBoundaryDetector() {
+        return sentenceBoundaryDetector;
     }
 
     @Override
@@ -54,7 +54,15 @@ public class DocumentByWordSplitter extends HierarchicalDocumentSplitter {
 
     @Override
     public String[] split(String text) {
-        return text.split("\\s+"); // additional whitespaces are ignored
+        return WhitespacePartScanner.split(text, 0); // additional whitespaces are ignored
+    }
+
+    @Override
+    protected PartScanner scan(String text) {
+        if (isSplitOverriddenBelow(DocumentByWordSplitter.class)) {
+            return super.scan(text);
+        }
+        return new WhitespacePartScanner(text, 0);
     }
 
     @Override
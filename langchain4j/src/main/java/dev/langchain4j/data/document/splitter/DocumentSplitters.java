@@ -45,4 +45,17 @@ public class DocumentSplitters {
     public static DocumentSplitter recursive(int maxSegmentSizeInChars, int maxOverlapSizeInChars) {
         return recursive(maxSegmentSizeInChars, maxOverlapSizeInChars, null);
     }
+
+    /**
+     * Wraps the provided {@link DocumentSplitter} so that {@link DocumentSplitter#splitAll(java.util.List)}
+     * splits documents in parallel on the {@link java.util.concurrent.ForkJoinPool#commonPool()}.
+     * The order of the returned segments and their "index" metadata are the same as with sequential splitting.
+     *
+     * @param documentSplitter The thread-safe {@link DocumentSplitter} used to split each document.
+     * @return parallel document splitter
+     * @see ParallelDocumentSplitter
+     */
+    public static DocumentSplitter parallel(DocumentSplitter documentSplitter) {
+        return new ParallelDocumentSplitter(documentSplitter);
+    }
 }
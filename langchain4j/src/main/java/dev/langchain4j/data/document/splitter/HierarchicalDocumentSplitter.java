@@ -24,14 +24,6 @@ import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
  * when a single segment is too long.
  */
 public abstract class HierarchicalDocumentSplitter implements DocumentSplitter {
-    private HierarchicalDocumentSplitter overlapSentenceSplitter;
-
-    private HierarchicalDocumentSplitter getOverlapSentenceSplitter() {
-        if (overlapSentenceSplitter == null) {
-            overlapSentenceSplitter = new DocumentBySentenceSplitter(1, 0, null, null);
-        }
-        return overlapSentenceSplitter;
-    }
 
     private static final String INDEX = "index";
 
@@ -103,6 +95,40 @@ public abstract class HierarchicalDocumentSplitter implements DocumentSplitter {
      */
     protected abstract String[] split(String text);
 
+    /**
+     * Scans the provided text for parts lazily, reporting each part as a range of offsets.
+     * <p>
+     * This is what {@link #split(Document)} consumes. By default, it iterates over the parts returned by
+     * {@link #split(String)}. Implementations can override it to avoid materializing all parts up front,
+     * but must report the same parts as {@link #split(String)}. If a subclass of such an implementation
+     * overrides {@link #split(String)} only, its parts must be used instead (see {@link #isSplitOverriddenBelow(Class)}).
+     *
+     * @param text The text to be split.
+     * @return A scanner over the parts.
+     */
+    protected PartScanner scan(String text) {
+        return PartScanner.of(split(text));
+    }
+
+    /**
+     * Checks whether {@link #split(String)} is overridden by a subclass of the given class,
+     * in which case {@link #scan(String)} of the given class must fall back to the default implementation.
+     *
+     * @param type The class overriding {@link #scan(String)}.
+     * @return {@code true} if a subclass of {@code type} overrides {@link #split(String)}.
+     */
+    protected final boolean isSplitOverriddenBelow(Class<? extends HierarchicalDocumentSplitter> type) {
+        for (Class<?> current = getClass(); current != type && current != null; current = current.getSuperclass()) {
+            try {
+                current.getDeclaredMethod("split", String.class);
+                return true;
+            } catch (NoSuchMethodException e) {
+                // not overridden at this level
+            }
+        }
+        return false;
+    }
+
     /**
      * Delimiter string to use to re-join the parts.
      *
@@ -125,14 +151,17 @@ public abstract class HierarchicalDocumentSplitter implements DocumentSplitter {
         SegmentBuilder segmentBuilder = new SegmentBuilder(maxSegmentSize, this::estimateSize, joinDelimiter());
         AtomicInteger index = new AtomicInteger(0);
 
-        String[] parts = split(document.text());
+        PartScanner parts = scan(document.text());
         String overlap = null;
-        for (String part : parts) {
-            int partSize = segmentBuilder.sizeOf(part);
+        while (parts.next()) {
+            CharSequence source = parts.source();
+            int start = parts.start();
+            int end = parts.end();
+            int partSize = estimateSize(source, start, end);
 
             if (segmentBuilder.hasSpaceFor(partSize)) {
                 // The part fits in the current segment, so we append it.
-                segmentBuilder.append(part);
+                segmentBuilder.append(source, start, end, partSize);
                 continue;
             }
 
@@ -149,7 +178,7 @@ public abstract class HierarchicalDocumentSplitter implements DocumentSplitter {
 
                     if (segmentBuilder.hasSpaceFor(partSize)) {
                         // The part fits in the current segment, so we append it.
-                        segmentBuilder.append(part);
+                        segmentBuilder.append(source, start, end, partSize);
                         continue;
                     }
                 }
@@ -160,15 +189,15 @@ public abstract class HierarchicalDocumentSplitter implements DocumentSplitter {
                 throw new RuntimeException(String.format(
                         "The text \"%s...\" (%s %s long) doesn't fit into the maximum segment size (%s %s), " +
                                 "and there is no subSplitter defined to split it further.",
-                        firstChars(part, 30),
-                        estimateSize(part), tokenizer == null ? "characters" : "tokens",
+                        firstChars(source.subSequence(start, end).toString(), 30),
+                        partSize, tokenizer == null ? "characters" : "tokens",
                         maxSegmentSize, tokenizer == null ? "characters" : "tokens"
 
                 ));
             }
 
             // Delegate the splitting of the part to the sub-splitter.
-            segmentBuilder.append(part);
+            segmentBuilder.append(source, start, end, partSize);
             for (TextSegment segment : subSplitter.split(Document.from(segmentBuilder.toString()))) {
                 segments.add(createSegment(segment.text(), document, index.getAndIncrement()));
             }
@@ -199,13 +228,14 @@ public abstract class HierarchicalDocumentSplitter implements DocumentSplitter {
         }
 
         // always split by sentence, as it is the smallest meaningful unit of text
-        List<String> sentences = Arrays.asList(getOverlapSentenceSplitter().split(segmentText));
+        List<String> sentences = Arrays.asList(sentenceBoundaryDetector().detect(segmentText));
         Collections.reverse(sentences);
 
         SegmentBuilder overlapBuilder = new SegmentBuilder(maxOverlapSize, this::estimateSize, joinDelimiter());
         for (String sentence : sentences) {
-            if (overlapBuilder.hasSpaceFor(sentence)) {
-                overlapBuilder.prepend(sentence);
+            int sentenceSize = overlapBuilder.sizeOf(sentence);
+            if (overlapBuilder.hasSpaceFor(sentenceSize)) {
+                overlapBuilder.prepend(sentence, sentenceSize);
             } else {
                 break;
             }
@@ -213,6 +243,15 @@ public abstract class HierarchicalDocumentSplitter implements DocumentSplitter {
         return overlapBuilder.toString();
     }
 
+    /**
+     * Returns the {@link SentenceBoundaryDetector} used to find the overlap region.
+     *
+     * @return The sentence boundary detector.
+     */
+    SentenceBoundaryDetector sentenceBoundaryDetector() {
+        return OpenNlpSentenceBoundaryDetector.getInstance();
+    }
+
     /**
      * Estimates the size in the provided text.
      *
@@ -230,6 +269,23 @@ public abstract class HierarchicalDocumentSplitter implements DocumentSplitter {
         }
     }
 
+    /**
+     * Estimates the size of the provided range of the source text.
+     * The range is only copied into a {@link String} when a {@link Tokenizer} is provided.
+     *
+     * @param source The source text.
+     * @param start  The start offset of the range (inclusive).
+     * @param end    The end offset of the range (exclusive).
+     * @return The estimated number of tokens or characters.
+     */
+    int estimateSize(CharSequence source, int start, int end) {
+        if (tokenizer != null) {
+            return estimateSize(source.subSequence(start, end).toString());
+        } else {
+            return end - start;
+        }
+    }
+
     /**
      * Creates a new {@link TextSegment} from the provided text and document.
      *
@@ -0,0 +1,51 @@
+package dev.langchain4j.data.document.splitter;
+
+import opennlp.tools.sentdetect.SentenceDetectorME;
+import opennlp.tools.sentdetect.SentenceModel;
+
+import java.io.InputStream;
+
+/**
+ * Detects sentence boundaries using the Apache OpenNLP library with the English sentence model.
+ * <p>
+ * The {@link SentenceModel} is loaded from the classpath only once per class loader, on first use,
+ * and is shared by all splitters. Since {@link SentenceDetectorME} is not thread-safe,
+ * a lightweight detector is created on top of the shared model for each text.
+ */
+public class OpenNlpSentenceBoundaryDetector implements SentenceBoundaryDetector {
+
+    private static final String SENTENCE_MODEL_FILE_PATH = "/opennlp/opennlp-en-ud-ewt-sentence-1.0-1.9.3.bin";
+
+    private static final OpenNlpSentenceBoundaryDetector INSTANCE = new OpenNlpSentenceBoundaryDetector();
+
+    private OpenNlpSentenceBoundaryDetector() {
+    }
+
+    /**
+     * Returns the shared instance.
+     *
+     * @return The shared {@link OpenNlpSentenceBoundaryDetector}.
+     */
+    public static OpenNlpSentenceBoundaryDetector getInstance() {
+        return INSTANCE;
+    }
+
+    @Override
+    public String[] detect(String text) {
+        SentenceDetectorME detector = new SentenceDetectorME(SentenceModelHolder.SENTENCE_MODEL);
+        return detector.sentDetect(text);
+    }
+
+    private static class SentenceModelHolder {
+
+        private static final SentenceModel SENTENCE_MODEL = loadSentenceModel();
+
+        private static SentenceModel loadSentenceModel() {
+            try (InputStream is = OpenNlpSentenceBoundaryDetector.class.getResourceAsStream(SENTENCE_MODEL_FILE_PATH)) {
+                return new SentenceModel(is);
+            } catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        }
+    }
+}
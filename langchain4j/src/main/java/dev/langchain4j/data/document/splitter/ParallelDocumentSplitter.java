@@ -0,0 +1,74 @@
+package dev.langchain4j.data.document.splitter;
+
+import dev.langchain4j.data.document.Document;
+import dev.langchain4j.data.document.DocumentSplitter;
+import dev.langchain4j.data.segment.TextSegment;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+import static dev.langchain4j.internal.Utils.getOrDefault;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+
+/**
+ * A {@link DocumentSplitter} that splits multiple {@link Document}s in parallel,
+ * delegating the splitting of each {@link Document} to another {@link DocumentSplitter}.
+ * <p>
+ * Splitting is CPU-bound and each {@link Document} is split independently, so {@link #splitAll(List)}
+ * submits one task per {@link Document} to a {@link ForkJoinPool}
+ * ({@link ForkJoinPool#commonPool()} by default) and then collects the results.
+ * The returned {@link TextSegment}s are in the same order as with sequential splitting,
+ * and each {@link TextSegment} keeps the "index" metadata assigned by the delegate.
+ * <p>
+ * The delegate must be thread-safe. All splitters in this package are.
+ */
+public class ParallelDocumentSplitter implements DocumentSplitter {
+
+    private final DocumentSplitter delegate;
+    private final ForkJoinPool pool;
+
+    /**
+     * Creates a new instance of {@link ParallelDocumentSplitter} that uses {@link ForkJoinPool#commonPool()}.
+     *
+     * @param delegate The {@link DocumentSplitter} used to split each {@link Document}.
+     */
+    public ParallelDocumentSplitter(DocumentSplitter delegate) {
+        this(delegate, null);
+    }
+
+    /**
+     * Creates a new instance of {@link ParallelDocumentSplitter}.
+     *
+     * @param delegate The {@link DocumentSplitter} used to split each {@link Document}.
+     * @param pool     The {@link ForkJoinPool} to split on. Optional, {@link ForkJoinPool#commonPool()} by default.
+     */
+    public ParallelDocumentSplitter(DocumentSplitter delegate, ForkJoinPool pool) {
+        this.delegate = ensureNotNull(delegate, "delegate");
+        this.pool = getOrDefault(pool, ForkJoinPool::commonPool);
+    }
+
+    @Override
+    public List<TextSegment> split(Document document) {
+        return delegate.split(document);
+    }
+
+    @Override
+    public List<TextSegment> splitAll(List<Document> documents) {
+        if (documents.size() <= 1) {
+            return delegate.splitAll(documents);
+        }
+
+        List<ForkJoinTask<List<TextSegment>>> tasks = new ArrayList<>(documents.size());
+        for (Document document : documents) {
+            tasks.add(pool.submit(() -> delegate.split(document)));
+        }
+
+        List<TextSegment> segments = new ArrayList<>();
+        for (ForkJoinTask<List<TextSegment>> task : tasks) {
+            segments.addAll(task.join());
+        }
+        return segments;
+    }
+}
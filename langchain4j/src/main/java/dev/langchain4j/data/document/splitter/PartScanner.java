@@ -0,0 +1,88 @@
+package dev.langchain4j.data.document.splitter;
+
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+
+/**
+ * Lazily scans a text for the parts a {@link HierarchicalDocumentSplitter} splits it into.
+ * <p>
+ * Unlike {@link HierarchicalDocumentSplitter#split(String)}, which materializes all parts up front,
+ * a scanner reports one part at a time as a range of offsets into {@link #source()},
+ * so that parts are never copied before they are placed into a segment.
+ * <p>
+ * Usage:
+ * <pre>{@code
+ * PartScanner parts = ...;
+ * while (parts.next()) {
+ *     CharSequence part = parts.source().subSequence(parts.start(), parts.end());
+ * }
+ * }</pre>
+ */
+public interface PartScanner {
+
+    /**
+     * Advances to the next part.
+     *
+     * @return {@code true} if there is a next part, {@code false} if the text is exhausted.
+     */
+    boolean next();
+
+    /**
+     * Returns the text the offsets of the current part refer to.
+     *
+     * @return The source text of the current part.
+     */
+    CharSequence source();
+
+    /**
+     * Returns the offset of the first character of the current part in {@link #source()}.
+     *
+     * @return The start offset (inclusive).
+     */
+    int start();
+
+    /**
+     * Returns the offset after the last character of the current part in {@link #source()}.
+     *
+     * @return The end offset (exclusive).
+     */
+    int end();
+
+    /**
+     * Creates a {@link PartScanner} over parts that are already materialized.
+     *
+     * @param parts The parts.
+     * @return A scanner reporting each part in full.
+     */
+    static PartScanner of(String[] parts) {
+        ensureNotNull(parts, "parts");
+        return new PartScanner() {
+
+            private int index = -1;
+
+            @Override
+            public boolean next() {
+                if (index + 1 >= parts.length) {
+                    index = parts.length;
+                    return false;
+                }
+                index++;
+                return true;
+            }
+
+            @Override
+            public CharSequence source() {
+                return parts[index];
+            }
+
+            @Override
+            public int start() {
+                return 0;
+            }
+
+            @Override
+            public int end() {
+                return parts[index].length();
+            }
+        };
+    }
+}
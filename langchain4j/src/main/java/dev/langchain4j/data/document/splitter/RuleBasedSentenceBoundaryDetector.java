@@ -0,0 +1,154 @@
+package dev.langchain4j.data.document.splitter;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+import static java.util.Arrays.asList;
+
+/**
+ * A fast, dependency-free {@link SentenceBoundaryDetector} based on simple rules.
+ * <p>
+ * A sentence ends at a terminal punctuation mark ({@code .}, {@code !}, {@code ?} or {@code …}),
+ * optionally followed by closing quotes or brackets, when it is followed by whitespace and the next word
+ * does not start with a lowercase letter. A blank line always ends a sentence.
+ * <br>
+ * A period does not end a sentence when it follows a known abbreviation (e.g. "Mr.", "e.g.", "etc.")
+ * or a single letter (e.g. an initial, as in "J. R. R. Tolkien").
+ * "No." and "Nos." are only treated as abbreviations when followed by a number (e.g. "No. 5").
+ * <p>
+ * It is considerably faster than {@link OpenNlpSentenceBoundaryDetector} and needs no model,
+ * but it is less accurate on irregular text.
+ */
+public class RuleBasedSentenceBoundaryDetector implements SentenceBoundaryDetector {
+
+    private static final Set<String> DEFAULT_ABBREVIATIONS = new HashSet<>(asList(
+            "mr", "mrs", "ms", "dr", "prof", "sr", "jr", "st", "mt", "vs", "etc", "e.g", "i.e", "cf", "al",
+            "inc", "ltd", "corp", "vol", "fig", "figs", "approx", "dept",
+            "jan", "feb", "mar", "apr", "jun", "jul", "aug", "sep", "sept", "oct", "nov", "dec"
+    ));
+
+    private static final Set<String> NUMBER_ABBREVIATIONS = new HashSet<>(asList("no", "nos"));
+
+    private final Set<String> abbreviations;
+
+    /**
+     * Creates a new instance with the default set of English abbreviations.
+     */
+    public RuleBasedSentenceBoundaryDetector() {
+        this(DEFAULT_ABBREVIATIONS);
+    }
+
+    /**
+     * Creates a new instance with the provided set of abbreviations.
+     *
+     * @param abbreviations Lowercase abbreviations, without the trailing period (e.g. "mr", "e.g").
+     */
+    public RuleBasedSentenceBoundaryDetector(Set<String> abbreviations) {
+        this.abbreviations = new HashSet<>(abbreviations);
+    }
+
+    @Override
+    public String[] detect(String text) {
+        List<String> sentences = new ArrayList<>();
+        int length = text.length();
+        int start = 0;
+        int i = 0;
+        while (i < length) {
+            char c = text.charAt(i);
+            if (c == '\n' && isBlankLineAt(text, i)) {
+                addSentence(text, start, i, sentences);
+                start = i;
+                i = skipWhitespace(text, i);
+                continue;
+            }
+            if (isTerminal(c)) {
+                int end = i + 1;
+                while (end < length && isTerminal(text.charAt(end))) {
+                    end++;
+                }
+                while (end < length && isClosing(text.charAt(end))) {
+                    end++;
+                }
+                int next = skipWhitespace(text, end);
+                if (next == length || (next > end && isSentenceStart(text.charAt(next)) && !isAbbreviation(text, i, next))) {
+                    addSentence(text, start, end, sentences);
+                    start = next;
+                    i = next;
+                    continue;
+                }
+                i = end;
+                continue;
+            }
+            i++;
+        }
+        addSentence(text, start, length, sentences);
+        return sentences.toArray(new String[0]);
+    }
+
+    private boolean isAbbreviation(String text, int periodIndex, int nextWordIndex) {
+        if (text.charAt(periodIndex) != '.') {
+            return false;
+        }
+        int wordStart = periodIndex;
+        while (wordStart > 0 && !Character.isWhitespace(text.charAt(wordStart - 1))) {
+            wordStart--;
+        }
+        while (wordStart < periodIndex && isOpening(text.charAt(wordStart))) {
+            wordStart++;
+        }
+        int wordLength = periodIndex - wordStart;
+        if (wordLength == 0) {
+            return false;
+        }
+        if (wordLength == 1 && Character.isLetter(text.charAt(wordStart))) {
+            return true; // an initial
+        }
+        String word = text.substring(wordStart, periodIndex).toLowerCase(Locale.ROOT);
+        if (NUMBER_ABBREVIATIONS.contains(word)) {
+            return Character.isDigit(text.charAt(nextWordIndex)); // "No. 5", but not "Say no. Then..."
+        }
+        return abbreviations.contains(word);
+    }
+
+    private static boolean isBlankLineAt(String text, int newLineIndex) {
+        int i = newLineIndex + 1;
+        while (i < text.length() && (text.charAt(i) == ' ' || text.charAt(i) == '\t' || text.charAt(i) == '\r')) {
+            i++;
+        }
+        return i < text.length() && text.charAt(i) == '\n';
+    }
+
+    private static int skipWhitespace(String text, int from) {
+        int i = from;
+        while (i < text.length() && Character.isWhitespace(text.charAt(i))) {
+            i++;
+        }
+        return i;
+    }
+
+    private static void addSentence(String text, int start, int end, List<String> sentences) {
+        String sentence = text.substring(start, end).trim();
+        if (!sentence.isEmpty()) {
+            sentences.add(sentence);
+        }
+    }
+
+    private static boolean isTerminal(char c) {
+        return c == '.' || c == '!' || c == '?' || c == '…';
+    }
+
+    private static boolean isClosing(char c) {
+        return c == '"' || c == '\'' || c == ')' || c == ']' || c == '”' || c == '’' || c == '»';
+    }
+
+    private static boolean isOpening(char c) {
+        return c == '"' || c == '\'' || c == '(' || c == '[' || c == '“' || c == '‘' || c == '«';
+    }
+
+    private static boolean isSentenceStart(char c) {
+        return !Character.isLowerCase(c);
+    }
+}
@@ -7,14 +7,21 @@ import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
 
 /**
  * Segment builder utility class for HierarchicalDocumentSplitter.
+ * <p>
+ * To avoid re-measuring the whole (growing) segment on every append, which is quadratic when the
+ * {@code sizeFunction} is a tokenizer, the size of the segment is tracked incrementally as the sum of
+ * the sizes of its parts plus the size of the separators between them.
+ * For tokenizers this sum is an upper bound of the real size (tokens can merge across part boundaries, never split),
+ * so it is only when this estimate exceeds the maximum segment size that the exact size of the segment is measured.
  */
 class SegmentBuilder {
     private final int maxSegmentSize;
     private final Function<String, Integer> sizeFunction;
     private final String joinSeparator;
     private final int joinSeparatorSize;
-    private String segment = "";
+    private final StringBuilder segment = new StringBuilder();
     private int segmentSize = 0;
+    private boolean segmentSizeExact = true;
 
     /**
      * Creates a new instance of {@link SegmentBuilder}.
@@ -36,6 +43,7 @@ class SegmentBuilder {
      * @return The current size of the segment.
      */
     public int getSize() {
+        ensureExactSize();
         return segmentSize;
     }
 
@@ -46,11 +54,7 @@ class SegmentBuilder {
      * @return {@code true} if the provided text can be added to the current segment.
      */
     public boolean hasSpaceFor(String text) {
-        int totalSize = sizeOf(text);
-        if (isNotEmpty()) {
-            totalSize += segmentSize + joinSeparatorSize;
-        }
-        return totalSize <= maxSegmentSize;
+        return hasSpaceFor(sizeOf(text));
     }
 
     /**
@@ -60,6 +64,18 @@ class SegmentBuilder {
      * @return {@code true} if the provided size can be added to the current segment.
      */
     public boolean hasSpaceFor(int size) {
+        if (fits(size)) {
+            return true;
+        }
+        if (segmentSizeExact) {
+            return false;
+        }
+        // The estimate is exceeded, re-check against the exact size of the segment.
+        ensureExactSize();
+        return fits(size);
+    }
+
+    private boolean fits(int size) {
         int totalSize = size;
         if (isNotEmpty()) {
             totalSize += segmentSize + joinSeparatorSize;
@@ -67,6 +83,13 @@ class SegmentBuilder {
         return totalSize <= maxSegmentSize;
     }
 
+    private void ensureExactSize() {
+        if (!segmentSizeExact) {
+            segmentSize = sizeOf(segment.toString());
+            segmentSizeExact = true;
+        }
+    }
+
     /**
      * Returns the size of the provided text (as returned by the {@code sizeFunction}).
      *
@@ -83,11 +106,37 @@ class SegmentBuilder {
      * @param text The text to append.
      */
     public void append(String text) {
+        append(text, sizeOf(text));
+    }
+
+    /**
+     * Appends the provided text, whose size is already known, to the current segment.
+     *
+     * @param text The text to append.
+     * @param size The size of the text (as returned by the {@code sizeFunction}).
+     */
+    public void append(String text, int size) {
+        append(text, 0, text.length(), size);
+    }
+
+    /**
+     * Appends the provided range of the source text, whose size is already known, to the current segment,
+     * without copying the range into a separate {@link String} first.
+     *
+     * @param source The source text.
+     * @param start  The start offset of the range (inclusive).
+     * @param end    The end offset of the range (exclusive).
+     * @param size   The size of the range (as returned by the {@code sizeFunction}).
+     */
+    public void append(CharSequence source, int start, int end, int size) {
         if (isNotEmpty()) {
-            segment += joinSeparator;
+            segment.append(joinSeparator);
+            addSize(size);
+        } else {
+            segmentSize = size;
+            segmentSizeExact = true;
         }
-        segment += text;
-        segmentSize = sizeOf(segment);
+        segment.append(source, start, end);
     }
 
     /**
@@ -96,12 +145,29 @@ class SegmentBuilder {
      * @param text The text to prepend.
      */
     public void prepend(String text) {
+        prepend(text, sizeOf(text));
+    }
+
+    /**
+     * Prepends the provided text, whose size is already known, to the current segment.
+     *
+     * @param text The text to prepend.
+     * @param size The size of the text (as returned by the {@code sizeFunction}).
+     */
+    public void prepend(String text, int size) {
         if (isNotEmpty()) {
-            segment = text + joinSeparator + segment;
+            segment.insert(0, joinSeparator).insert(0, text);
+            addSize(size);
         } else {
-            segment = text;
+            segment.append(text);
+            segmentSize = size;
+            segmentSizeExact = true;
         }
-        segmentSize = sizeOf(segment);
+    }
+
+    private void addSize(int size) {
+        segmentSize += joinSeparatorSize + size;
+        segmentSizeExact = false;
     }
 
     /**
@@ -110,19 +176,20 @@ class SegmentBuilder {
      * @return {@code true} if the current segment is not empty.
      */
     public boolean isNotEmpty() {
-        return !segment.isEmpty();
+        return segment.length() > 0;
     }
 
     @Override
     public String toString() {
-        return segment.trim();
+        return segment.toString().trim();
     }
 
     /**
      * Resets the current segment.
      */
     public void reset() {
-        segment = "";
+        segment.setLength(0);
         segmentSize = 0;
+        segmentSizeExact = true;
     }
 }
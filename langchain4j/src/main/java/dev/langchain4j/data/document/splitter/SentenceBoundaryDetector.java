@@ -0,0 +1,20 @@
+package dev.langchain4j.data.document.splitter;
+
+/**
+ * Detects sentence boundaries in a text.
+ * <p>
+ * Implementations must be thread-safe, as a single instance is shared by all splitters.
+ *
+ * @see OpenNlpSentenceBoundaryDetector
+ * @see RuleBasedSentenceBoundaryDetector
+ */
+public interface SentenceBoundaryDetector {
+
+    /**
+     * Splits the provided text into sentences.
+     *
+     * @param text The text to be split.
+     * @return The sentences, without leading and trailing whitespace.
+     */
+    String[] detect(String text);
+}
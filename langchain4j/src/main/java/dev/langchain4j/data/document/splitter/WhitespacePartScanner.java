@@ -0,0 +1,128 @@
+package dev.langchain4j.data.document.splitter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+
+/**
+ * A hand-written {@link PartScanner} for parts separated by runs of whitespace.
+ * <p>
+ * It makes a single forward pass over the text, without regular expressions and without allocating the parts.
+ * A maximal run of whitespace separates two parts if it contains at least {@code minLineBreaks} line breaks
+ * (any run of whitespace if {@code minLineBreaks} is 0). Such a run is never part of the reported parts,
+ * and runs that don't qualify are kept inside the part. Empty parts are skipped.
+ * <p>
+ * As in {@code \R}, "\r\n" is a single line break.
+ * For text without the U+0085, U+2028 and U+2029 line separators (which are not matched by {@code \s}),
+ * this produces the same parts as splitting by {@code \s+} (0), {@code \s*\R\s*} (1)
+ * or {@code \s*\R\s*\R\s*} (2), except that no empty leading part is reported.
+ */
+class WhitespacePartScanner implements PartScanner {
+
+    private final CharSequence source;
+    private final int minLineBreaks;
+
+    private int position;
+    private int start;
+    private int end;
+
+    WhitespacePartScanner(CharSequence source, int minLineBreaks) {
+        this.source = ensureNotNull(source, "source");
+        this.minLineBreaks = minLineBreaks;
+    }
+
+    @Override
+    public boolean next() {
+        int length = source.length();
+        while (position < length) {
+            int partStart = position;
+            int separatorStart = length;
+            int separatorEnd = length;
+
+            int i = position;
+            while (i < length) {
+                if (!isSeparatorChar(source.charAt(i))) {
+                    i++;
+                    continue;
+                }
+                int runEnd = i;
+                int lineBreaks = 0;
+                while (runEnd < length && isSeparatorChar(source.charAt(runEnd))) {
+                    char c = source.charAt(runEnd);
+                    if (isLineBreak(c)) {
+                        lineBreaks++;
+                        if (c == '\r' && runEnd + 1 < length && source.charAt(runEnd + 1) == '\n') {
+                            runEnd++;
+                        }
+                    }
+                    runEnd++;
+                }
+                if (lineBreaks >= minLineBreaks) {
+                    separatorStart = i;
+                    separatorEnd = runEnd;
+                    break;
+                }
+                i = runEnd;
+            }
+
+            position = separatorEnd;
+            if (separatorStart > partStart) {
+                start = partStart;
+                end = separatorStart;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public CharSequence source() {
+        return source;
+    }
+
+    @Override
+    public int start() {
+        return start;
+    }
+
+    @Override
+    public int end() {
+        return end;
+    }
+
+    private boolean isSeparatorChar(char c) {
+        return isWhitespace(c) || (minLineBreaks > 0 && isLineBreak(c));
+    }
+
+    /**
+     * Same as {@code \s} in {@link java.util.regex.Pattern}.
+     */
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    /**
+     * Same as {@code \R} in {@link java.util.regex.Pattern}, except for "\r\n", which is handled by the caller.
+     */
+    private static boolean isLineBreak(char c) {
+        return c == '\n' || c == '\u000B' || c == '\f' || c == '\r'
+                || c == '\u0085' || c == '\u2028' || c == '\u2029';
+    }
+
+    /**
+     * Collects all parts of the provided text.
+     *
+     * @param text          The text to split.
+     * @param minLineBreaks The minimum number of line breaks in a separating run of whitespace.
+     * @return The parts.
+     */
+    static String[] split(String text, int minLineBreaks) {
+        List<String> parts = new ArrayList<>();
+        WhitespacePartScanner scanner = new WhitespacePartScanner(text, minLineBreaks);
+        while (scanner.next()) {
+            parts.add(text.substring(scanner.start(), scanner.end()));
+        }
+        return parts.toArray(new String[0]);
+    }
+}
@@ -56,7 +56,9 @@ public class MessageWindowChatMemory implements ChatMemory {
 
     @Override
     public void add(ChatMessage message) {
-        List<ChatMessage> messages = messages();
+        List<ChatMessage> storedMessages = store.getMessages(id);
+        List<ChatMessage> messages = new LinkedList<>(storedMessages);
+        ensureCapacity(messages, maxMessages);
         if (message instanceof SystemMessage) {
             Optional<SystemMessage> systemMessage = findSystemMessage(messages);
             if (systemMessage.isPresent()) {
@@ -69,7 +71,7 @@ public class MessageWindowChatMemory implements ChatMemory {
         }
         messages.add(message);
         ensureCapacity(messages, maxMessages);
-        store.updateMessages(id, messages);
+        store.updateMessages(id, storedMessages, messages);
     }
 
     private static Optional<SystemMessage> findSystemMessage(List<ChatMessage> messages) {
@@ -60,7 +60,9 @@ public class TokenWindowChatMemory implements ChatMemory {
 
     @Override
     public void add(ChatMessage message) {
-        List<ChatMessage> messages = messages();
+        List<ChatMessage> storedMessages = store.getMessages(id);
+        List<ChatMessage> messages = new LinkedList<>(storedMessages);
+        ensureCapacity(messages, maxTokens, tokenizer);
         if (message instanceof SystemMessage) {
             Optional<SystemMessage> maybeSystemMessage = findSystemMessage(messages);
             if (maybeSystemMessage.isPresent()) {
@@ -73,7 +75,7 @@ public class TokenWindowChatMemory implements ChatMemory {
         }
         messages.add(message);
         ensureCapacity(messages, maxTokens, tokenizer);
-        store.updateMessages(id, messages);
+        store.updateMessages(id, storedMessages, messages);
     }
 
     private static Optional<SystemMessage> findSystemMessage(List<ChatMessage> messages) {
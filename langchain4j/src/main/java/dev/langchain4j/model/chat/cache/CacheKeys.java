@@ -0,0 +1,69 @@
+package dev.langchain4j.model.chat.cache;
+
+import dev.langchain4j.agent.tool.ToolSpecification;
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.data.message.ChatMessageSerializer;
+import dev.langchain4j.data.message.SystemMessage;
+import dev.langchain4j.data.message.ToolExecutionResultMessage;
+import dev.langchain4j.data.message.UserMessage;
+import dev.langchain4j.model.chat.request.ResponseFormat;
+
+import java.util.List;
+
+import static dev.langchain4j.internal.Utils.generateUUIDFrom;
+
+/**
+ * Helpers to derive cache keys from chat requests.
+ */
+class CacheKeys {
+
+    private CacheKeys() {
+    }
+
+    /**
+     * Hashes everything, apart from the messages themselves, that influences the model's answer.
+     */
+    static String scopeOf(String scope,
+                          List<ToolSpecification> toolSpecifications,
+                          ToolSpecification forcedToolSpecification,
+                          ResponseFormat responseFormat) {
+        return generateUUIDFrom("scope=" + scope
+                + "\ntools=" + toolSpecifications
+                + "\nforcedTool=" + forcedToolSpecification
+                + "\nresponseFormat=" + responseFormat);
+    }
+
+    /**
+     * Hashes a request canonically: two requests have the same hash if and only if they have
+     * equal messages, tool specifications and response format and are sent within the same scope.
+     */
+    static String canonicalHashOf(String scope,
+                                  List<ChatMessage> messages,
+                                  List<ToolSpecification> toolSpecifications,
+                                  ToolSpecification forcedToolSpecification,
+                                  ResponseFormat responseFormat) {
+        return generateUUIDFrom(scopeOf(scope, toolSpecifications, forcedToolSpecification, responseFormat)
+                + "\nmessages=" + ChatMessageSerializer.messagesToJson(messages));
+    }
+
+    /**
+     * Returns the text of a message, or {@code null} if the message contains non-text content.
+     */
+    static String textOf(ChatMessage message) {
+        if (message instanceof UserMessage) {
+            UserMessage userMessage = (UserMessage) message;
+            return userMessage.hasSingleText() ? userMessage.singleText() : null;
+        } else if (message instanceof SystemMessage) {
+            return ((SystemMessage) message).text();
+        } else if (message instanceof AiMessage) {
+            AiMessage aiMessage = (AiMessage) message;
+            return aiMessage.hasToolExecutionRequests()
+                    ? aiMessage.toolExecutionRequests().toString()
+                    : aiMessage.text();
+        } else if (message instanceof ToolExecutionResultMessage) {
+            return ((ToolExecutionResultMessage) message).text();
+        }
+        return null;
+    }
+}
@@ -0,0 +1,65 @@
+package dev.langchain4j.model.chat.cache;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Thread-safe hit/miss/eviction counters of a chat response cache.
+ */
+public class CacheStatistics {
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    void recordHit() {
+        hits.incrementAndGet();
+    }
+
+    void recordMiss() {
+        misses.incrementAndGet();
+    }
+
+    void recordEviction() {
+        evictions.incrementAndGet();
+    }
+
+    /**
+     * @return the number of lookups that were answered from the cache.
+     */
+    public long hits() {
+        return hits.get();
+    }
+
+    /**
+     * @return the number of lookups that had to be forwarded to the underlying model.
+     */
+    public long misses() {
+        return misses.get();
+    }
+
+    /**
+     * @return the number of entries removed from the cache because they expired or the cache was full.
+     */
+    public long evictions() {
+        return evictions.get();
+    }
+
+    /**
+     * @return the ratio of hits to all lookups, between 0 and 1. Returns 0 if there were no lookups yet.
+     */
+    public double hitRate() {
+        long hits = hits();
+        long total = hits + misses();
+        return total == 0 ? 0 : (double) hits / total;
+    }
+
+    @Override
+    public String toString() {
+        return "CacheStatistics {" +
+                " hits = " + hits() +
+                ", misses = " + misses() +
+                ", evictions = " + evictions() +
+                ", hitRate = " + hitRate() +
+                " }";
+    }
+}
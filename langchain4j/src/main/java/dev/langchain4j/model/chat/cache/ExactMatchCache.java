@@ -0,0 +1,298 @@
+package dev.langchain4j.model.chat.cache;
+
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.ChatMessageDeserializer;
+import dev.langchain4j.data.message.ChatMessageSerializer;
+import dev.langchain4j.model.chat.response.ChatResponse;
+import dev.langchain4j.model.output.FinishReason;
+import dev.langchain4j.model.output.TokenUsage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import static dev.langchain4j.internal.Utils.getOrDefault;
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+
+/**
+ * A deterministic cache of chat model responses, keyed on a canonical hash of the request
+ * (see {@link ExactMatchCachingChatLanguageModel}).
+ * <br>
+ * It has two tiers:
+ * <br>
+ * - an in-memory tier, bounded by {@code maxSize}, evicting least recently used entries first;
+ * <br>
+ * - an optional disk tier in {@code directory}, one small file per entry, which survives restarts
+ * and can be shared by several processes (e.g. test suites). It is only used when a directory is set,
+ * and it never evicts entries: the directory grows with every distinct request until it is cleaned up.
+ * Only use it with a bounded set of requests, such as the prompts of a test suite.
+ * <br>
+ * Only responses that completed normally (finish reason {@link FinishReason#STOP} or none) are cached,
+ * so that truncated or filtered responses, as well as tool execution requests, are requested again.
+ * <br>
+ * Concurrent lookups of the same key while it is being computed are collapsed into a single call
+ * to the underlying model (single-flight): all callers receive the same response.
+ * <br>
+ * <br>
+ * Configurable parameters (optional):
+ * <br>
+ * - {@code maxSize}: The maximum number of entries in memory. Default: 10000.
+ * <br>
+ * - {@code directory}: The directory of the disk tier, never evicted. Default: no disk tier.
+ */
+public class ExactMatchCache {
+
+    private static final Logger log = LoggerFactory.getLogger(ExactMatchCache.class);
+
+    private static final String FILE_SUFFIX = ".properties";
+
+    private final int maxSize;
+    private final Path directory;
+
+    private final Map<String, ChatResponse> entries;
+    private final Map<String, CompletableFuture<ChatResponse>> inFlight = new ConcurrentHashMap<>();
+    private final CacheStatistics statistics = new CacheStatistics();
+
+    public ExactMatchCache(Integer maxSize, Path directory) {
+        this.maxSize = ensureGreaterThanZero(getOrDefault(maxSize, 10_000), "maxSize");
+        this.directory = directory;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true);
+        if (directory != null) {
+            try {
+                Files.createDirectories(directory);
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+        }
+    }
+
+    /**
+     * Returns the cached response for the given key, or computes, caches and returns it.
+     * If the same key is already being computed by another thread, waits for that computation instead.
+     *
+     * @param key      The canonical key of the request.
+     * @param supplier Calls the underlying model.
+     * @return The response.
+     */
+    public ChatResponse getOrCompute(String key, Supplier<ChatResponse> supplier) {
+        ChatResponse cached = get(key);
+        if (cached != null) {
+            statistics.recordHit();
+            return cached;
+        }
+
+        CompletableFuture<ChatResponse> future = new CompletableFuture<>();
+        CompletableFuture<ChatResponse> existing = inFlight.putIfAbsent(key, future);
+        if (existing != null) {
+            statistics.recordHit();
+            return await(existing);
+        }
+
+        statistics.recordMiss();
+        try {
+            // another thread might have finished computing between get() and putIfAbsent()
+            ChatResponse response = get(key);
+            if (response == null) {
+                response = supplier.get();
+                if (isCacheable(response)) {
+                    put(key, response);
+                }
+            }
+            future.complete(response);
+            return response;
+        } catch (RuntimeException | Error e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, future);
+        }
+    }
+
+    /**
+     * @return hit, miss and eviction statistics of this cache.
+     * Callers that waited for an identical in-flight request are counted as hits.
+     */
+    public CacheStatistics statistics() {
+        return statistics;
+    }
+
+    /**
+     * @return the number of entries in the in-memory tier.
+     */
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    /**
+     * Removes all entries from the in-memory tier. The disk tier is left untouched.
+     */
+    public void invalidateAll() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    private ChatResponse get(String key) {
+        synchronized (entries) {
+            ChatResponse response = entries.get(key);
+            if (response != null) {
+                return response;
+            }
+        }
+        if (directory == null) {
+            return null;
+        }
+        ChatResponse response = readFromDisk(key);
+        if (response != null) {
+            putInMemory(key, response);
+        }
+        return response;
+    }
+
+    private static boolean isCacheable(ChatResponse response) {
+        return response != null
+                && response.aiMessage() != null
+                && !response.aiMessage().hasToolExecutionRequests()
+                && (response.finishReason() == null || response.finishReason() == FinishReason.STOP);
+    }
+
+    private void put(String key, ChatResponse response) {
+        putInMemory(key, response);
+        if (directory != null) {
+            writeToDisk(key, response);
+        }
+    }
+
+    private void putInMemory(String key, ChatResponse response) {
+        int evicted = 0;
+        synchronized (entries) {
+            entries.put(key, response);
+            while (entries.size() > maxSize) {
+                String eldest = entries.keySet().iterator().next();
+                entries.remove(eldest);
+                evicted++;
+            }
+        }
+        for (int i = 0; i < evicted; i++) {
+            statistics.recordEviction();
+        }
+    }
+
+    private ChatResponse readFromDisk(String key) {
+        Path file = directory.resolve(key + FILE_SUFFIX);
+        if (!Files.exists(file)) {
+            return null;
+        }
+        try (Reader reader = Files.newBufferedReader(file, UTF_8)) {
+            Properties properties = new Properties();
+            properties.load(reader);
+            String finishReason = properties.getProperty("finishReason");
+            String inputTokenCount = properties.getProperty("inputTokenCount");
+            String outputTokenCount = properties.getProperty("outputTokenCount");
+            String totalTokenCount = properties.getProperty("totalTokenCount");
+            boolean hasTokenUsage = inputTokenCount != null || outputTokenCount != null || totalTokenCount != null;
+            return ChatResponse.builder()
+                    .aiMessage((AiMessage) ChatMessageDeserializer.messageFromJson(properties.getProperty("aiMessage")))
+                    .tokenUsage(hasTokenUsage ? new TokenUsage(
+                            toInteger(inputTokenCount), toInteger(outputTokenCount), toInteger(totalTokenCount)) : null)
+                    .finishReason(finishReason == null ? null : FinishReason.valueOf(finishReason))
+                    .build();
+        } catch (IOException | RuntimeException e) {
+            log.warn("Failed to read cached response from {}", file, e);
+            return null;
+        }
+    }
+
+    private void writeToDisk(String key, ChatResponse response) {
+        Properties properties = new Properties();
+        properties.setProperty("aiMessage", ChatMessageSerializer.messageToJson(response.aiMessage()));
+        if (response.finishReason() != null) {
+            properties.setProperty("finishReason", response.finishReason().name());
+        }
+        TokenUsage tokenUsage = response.tokenUsage();
+        if (tokenUsage != null && tokenUsage.inputTokenCount() != null) {
+            properties.setProperty("inputTokenCount", tokenUsage.inputTokenCount().toString());
+        }
+        if (tokenUsage != null && tokenUsage.outputTokenCount() != null) {
+            properties.setProperty("outputTokenCount", tokenUsage.outputTokenCount().toString());
+        }
+        if (tokenUsage != null && tokenUsage.totalTokenCount() != null) {
+            properties.setProperty("totalTokenCount", tokenUsage.totalTokenCount().toString());
+        }
+
+        Path file = directory.resolve(key + FILE_SUFFIX);
+        try {
+            Path temporaryFile = Files.createTempFile(directory, key, ".tmp");
+            try (Writer writer = Files.newBufferedWriter(temporaryFile, UTF_8)) {
+                properties.store(writer, null);
+            }
+            // readers never see a partially written entry
+            Files.move(temporaryFile, file, REPLACE_EXISTING, ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.warn("Failed to write cached response to {}", file, e);
+        }
+    }
+
+    private static Integer toInteger(String value) {
+        return value == null ? null : Integer.valueOf(value);
+    }
+
+    private static ChatResponse await(CompletableFuture<ChatResponse> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            } else if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    public static ExactMatchCacheBuilder builder() {
+        return new ExactMatchCacheBuilder();
+    }
+
+    public static class ExactMatchCacheBuilder {
+
+        private Integer maxSize;
+        private Path directory;
+
+        ExactMatchCacheBuilder() {
+        }
+
+        public ExactMatchCacheBuilder maxSize(Integer maxSize) {
+            this.maxSize = maxSize;
+            return this;
+        }
+
+        /**
+         * @param directory The directory of the disk tier (optional). Entries written there are never evicted.
+         */
+        public ExactMatchCacheBuilder directory(Path directory) {
+            this.directory = directory;
+            return this;
+        }
+
+        public ExactMatchCache build() {
+            return new ExactMatchCache(maxSize, directory);
+        }
+    }
+}
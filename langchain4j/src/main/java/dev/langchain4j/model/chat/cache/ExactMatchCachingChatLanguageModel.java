@@ -0,0 +1,122 @@
+package dev.langchain4j.model.chat.cache;
+
+import dev.langchain4j.agent.tool.ToolSpecification;
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.model.chat.Capability;
+import dev.langchain4j.model.chat.ChatLanguageModel;
+import dev.langchain4j.model.chat.request.ChatRequest;
+import dev.langchain4j.model.chat.response.ChatResponse;
+import dev.langchain4j.model.output.Response;
+
+import java.util.List;
+import java.util.Set;
+
+import static dev.langchain4j.internal.Utils.getOrDefault;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+
+/**
+ * A {@link ChatLanguageModel} decorator that answers identical requests from an {@link ExactMatchCache}.
+ * <br>
+ * Requests are keyed on a canonical hash of their messages, tool specifications and response format,
+ * plus a {@code scope} that should describe the model and its parameters (e.g. "gpt-4o-mini;temperature=0;seed=42"),
+ * since they are not part of the request.
+ * <br>
+ * Only use it with deterministic settings (e.g. temperature 0): every identical request gets the same answer.
+ * This is typically useful for test suites and batch jobs (classification, extraction, etc.)
+ * that send the same prompts many times.
+ */
+public class ExactMatchCachingChatLanguageModel implements ChatLanguageModel {
+
+    private final ChatLanguageModel delegate;
+    private final ExactMatchCache cache;
+    private final String scope;
+
+    public ExactMatchCachingChatLanguageModel(ChatLanguageModel delegate, ExactMatchCache cache, String scope) {
+        this.delegate = ensureNotNull(delegate, "delegate");
+        this.cache = ensureNotNull(cache, "cache");
+        this.scope = getOrDefault(scope, "");
+    }
+
+    @Override
+    public Response<AiMessage> generate(List<ChatMessage> messages) {
+        String key = CacheKeys.canonicalHashOf(scope, messages, null, null, null);
+        return toResponse(cache.getOrCompute(key, () -> toChatResponse(delegate.generate(messages))));
+    }
+
+    @Override
+    public Response<AiMessage> generate(List<ChatMessage> messages, List<ToolSpecification> toolSpecifications) {
+        String key = CacheKeys.canonicalHashOf(scope, messages, toolSpecifications, null, null);
+        return toResponse(cache.getOrCompute(key, () -> toChatResponse(delegate.generate(messages, toolSpecifications))));
+    }
+
+    @Override
+    public Response<AiMessage> generate(List<ChatMessage> messages, ToolSpecification toolSpecification) {
+        String key = CacheKeys.canonicalHashOf(scope, messages, null, toolSpecification, null);
+        return toResponse(cache.getOrCompute(key, () -> toChatResponse(delegate.generate(messages, toolSpecification))));
+    }
+
+    @Override
+    public ChatResponse chat(ChatRequest request) {
+        String key = CacheKeys.canonicalHashOf(
+                scope, request.messages(), request.toolSpecifications(), null, request.responseFormat());
+        return cache.getOrCompute(key, () -> delegate.chat(request));
+    }
+
+    @Override
+    public Set<Capability> supportedCapabilities() {
+        return delegate.supportedCapabilities();
+    }
+
+    /**
+     * @return the cache used by this model.
+     */
+    public ExactMatchCache cache() {
+        return cache;
+    }
+
+    private static ChatResponse toChatResponse(Response<AiMessage> response) {
+        return ChatResponse.builder()
+                .aiMessage(response.content())
+                .tokenUsage(response.tokenUsage())
+                .finishReason(response.finishReason())
+                .build();
+    }
+
+    private static Response<AiMessage> toResponse(ChatResponse chatResponse) {
+        return Response.from(chatResponse.aiMessage(), chatResponse.tokenUsage(), chatResponse.finishReason());
+    }
+
+    public static ExactMatchCachingChatLanguageModelBuilder builder() {
+        return new ExactMatchCachingChatLanguageModelBuilder();
+    }
+
+    public static class ExactMatchCachingChatLanguageModelBuilder {
+
+        private ChatLanguageModel delegate;
+        private ExactMatchCache cache;
+        private String scope;
+
+        ExactMatchCachingChatLanguageModelBuilder() {
+        }
+
+        public ExactMatchCachingChatLanguageModelBuilder delegate(ChatLanguageModel delegate) {
+            this.delegate = delegate;
+            return this;
+        }
+
+        public ExactMatchCachingChatLanguageModelBuilder cache(ExactMatchCache cache) {
+            this.cache = cache;
+            return this;
+        }
+
+        public ExactMatchCachingChatLanguageModelBuilder scope(String scope) {
+            this.scope = scope;
+            return this;
+        }
+
+        public ExactMatchCachingChatLanguageModel build() {
+            return new ExactMatchCachingChatLanguageModel(delegate, getOrDefault(cache, () -> new ExactMatchCache(null, null)), scope);
+        }
+    }
+}
@@ -0,0 +1,383 @@
+package dev.langchain4j.model.chat.cache;
+
+import dev.langchain4j.agent.tool.ToolSpecification;
+import dev.langchain4j.data.document.Metadata;
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.data.message.SystemMessage;
+import dev.langchain4j.data.message.UserMessage;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.chat.request.ResponseFormat;
+import dev.langchain4j.model.embedding.EmbeddingModel;
+import dev.langchain4j.model.output.FinishReason;
+import dev.langchain4j.model.output.Response;
+import dev.langchain4j.store.embedding.EmbeddingMatch;
+import dev.langchain4j.store.embedding.EmbeddingSearchRequest;
+import dev.langchain4j.store.embedding.EmbeddingStore;
+import dev.langchain4j.store.embedding.inmemory.InMemoryEmbeddingStore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static dev.langchain4j.internal.Utils.getOrDefault;
+import static dev.langchain4j.internal.Utils.isNullOrBlank;
+import static dev.langchain4j.internal.ValidationUtils.ensureBetween;
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+import static dev.langchain4j.store.embedding.filter.MetadataFilterBuilder.metadataKey;
+
+/**
+ * A semantic cache of chat model responses.
+ * <br>
+ * A request is embedded using an {@link EmbeddingModel} and looked up in an {@link EmbeddingStore}.
+ * If a previously cached request is similar enough (see {@code minSimilarity}), its response is reused,
+ * so that near-duplicate questions are answered in milliseconds instead of seconds.
+ * <br>
+ * Lookups are scoped: a cached response is only reused for requests with the same {@code scope}
+ * (typically, a description of the model name and its parameters), the same tool specifications,
+ * the same response format and, in {@link SemanticCacheKeyMode#LAST_USER_MESSAGE} mode, the same system messages.
+ * <br>
+ * Cached responses are kept in memory; the {@link EmbeddingStore} is used as the similarity index only.
+ * Responses containing tool execution requests, as well as responses that did not finish normally,
+ * are never cached.
+ * <br>
+ * <br>
+ * Configurable parameters:
+ * <br>
+ * - {@code embeddingModel}: The {@link EmbeddingModel} used to embed requests. Mandatory.
+ * <br>
+ * - {@code embeddingStore}: The {@link EmbeddingStore} used as the similarity index.
+ * It must support metadata filtering and removal by ID. Default: {@link InMemoryEmbeddingStore}.
+ * <br>
+ * - {@code minSimilarity}: The minimum relevance score (0 to 1) for a cached request to be considered a hit. Default: 0.95.
+ * <br>
+ * - {@code keyMode}: Which part of the request is embedded. Default: {@link SemanticCacheKeyMode#LAST_USER_MESSAGE}.
+ * <br>
+ * - {@code scope}: An arbitrary string that scopes the cache, e.g. "gpt-4o-mini;temperature=0". Default: empty.
+ * <br>
+ * - {@code ttl}: How long an entry stays valid. Default: no expiration.
+ * <br>
+ * - {@code maxSize}: The maximum number of entries. Least recently used entries are evicted first. Default: 1000.
+ *
+ * @see SemanticCachingChatLanguageModel
+ * @see SemanticCachingStreamingChatLanguageModel
+ */
+public class SemanticCache {
+
+    private static final Logger log = LoggerFactory.getLogger(SemanticCache.class);
+
+    static final String SCOPE_METADATA_KEY = "semantic_cache_scope";
+
+    private static final int CANDIDATES = 3;
+
+    private final EmbeddingModel embeddingModel;
+    private final EmbeddingStore<TextSegment> embeddingStore;
+    private final double minSimilarity;
+    private final SemanticCacheKeyMode keyMode;
+    private final String scope;
+    private final Duration ttl;
+    private final int maxSize;
+
+    private final Map<String, Entry> entries;
+    private final CacheStatistics statistics = new CacheStatistics();
+
+    public SemanticCache(EmbeddingModel embeddingModel,
+                         EmbeddingStore<TextSegment> embeddingStore,
+                         Double minSimilarity,
+                         SemanticCacheKeyMode keyMode,
+                         String scope,
+                         Duration ttl,
+                         Integer maxSize) {
+        this.embeddingModel = ensureNotNull(embeddingModel, "embeddingModel");
+        this.embeddingStore = getOrDefault(embeddingStore, InMemoryEmbeddingStore::new);
+        this.minSimilarity = ensureBetween(getOrDefault(minSimilarity, 0.95), 0, 1, "minSimilarity");
+        this.keyMode = getOrDefault(keyMode, SemanticCacheKeyMode.LAST_USER_MESSAGE);
+        this.scope = getOrDefault(scope, "");
+        this.ttl = ttl;
+        this.maxSize = ensureGreaterThanZero(getOrDefault(maxSize, 1000), "maxSize");
+        this.entries = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    /**
+     * Looks up a response for the given request.
+     *
+     * @param messages                The messages of the request.
+     * @param toolSpecifications      The tool specifications of the request. Optional.
+     * @param forcedToolSpecification The tool specification the model is forced to execute. Optional.
+     * @param responseFormat          The response format of the request. Optional.
+     * @return The result of the lookup. If it is a miss, the response of the model should be passed
+     * to {@link Lookup#put(Response)} so that it can be reused next time.
+     */
+    public Lookup lookup(List<ChatMessage> messages,
+                         List<ToolSpecification> toolSpecifications,
+                         ToolSpecification forcedToolSpecification,
+                         ResponseFormat responseFormat) {
+
+        String text = keyTextOf(messages);
+        if (text == null) {
+            // nothing to embed, e.g. the user message contains images
+            return new Lookup(null, null, null, null);
+        }
+
+        StringBuilder requestScope = new StringBuilder(scope);
+        if (keyMode == SemanticCacheKeyMode.LAST_USER_MESSAGE) {
+            for (ChatMessage message : messages) {
+                if (message instanceof SystemMessage) {
+                    requestScope.append('\n').append(((SystemMessage) message).text());
+                }
+            }
+        }
+        String scopeHash = CacheKeys.scopeOf(requestScope.toString(), toolSpecifications, forcedToolSpecification, responseFormat);
+
+        Embedding embedding = embeddingModel.embed(text).content();
+
+        EmbeddingSearchRequest searchRequest = EmbeddingSearchRequest.builder()
+                .queryEmbedding(embedding)
+                .maxResults(CANDIDATES)
+                .minScore(minSimilarity)
+                .filter(metadataKey(SCOPE_METADATA_KEY).isEqualTo(scopeHash))
+                .build();
+
+        for (EmbeddingMatch<TextSegment> match : embeddingStore.search(searchRequest).matches()) {
+            Response<AiMessage> response = get(match.embeddingId());
+            if (response != null) {
+                statistics.recordHit();
+                log.debug("Semantic cache hit (score: {}) for: {}", match.score(), text);
+                return new Lookup(response, null, null, null);
+            }
+        }
+
+        statistics.recordMiss();
+        return new Lookup(null, text, scopeHash, embedding);
+    }
+
+    /**
+     * @return hit, miss and eviction statistics of this cache.
+     */
+    public CacheStatistics statistics() {
+        return statistics;
+    }
+
+    /**
+     * @return the number of entries currently in this cache (including expired ones that were not evicted yet).
+     */
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    /**
+     * Removes all entries from this cache.
+     */
+    public void invalidateAll() {
+        List<String> ids;
+        synchronized (entries) {
+            ids = List.copyOf(entries.keySet());
+            entries.clear();
+        }
+        removeFromStore(ids);
+    }
+
+    private String keyTextOf(List<ChatMessage> messages) {
+        if (keyMode == SemanticCacheKeyMode.LAST_USER_MESSAGE) {
+            for (int i = messages.size() - 1; i >= 0; i--) {
+                if (messages.get(i) instanceof UserMessage) {
+                    return CacheKeys.textOf(messages.get(i));
+                }
+            }
+            return null;
+        }
+
+        StringBuilder text = new StringBuilder();
+        for (ChatMessage message : messages) {
+            String messageText = CacheKeys.textOf(message);
+            if (messageText == null) {
+                return null;
+            }
+            text.append(message.type()).append(": ").append(messageText).append('\n');
+        }
+        return text.toString();
+    }
+
+    private Response<AiMessage> get(String id) {
+        Entry expired;
+        synchronized (entries) {
+            Entry entry = entries.get(id);
+            if (entry == null) {
+                return null;
+            }
+            if (!entry.isExpired(ttl)) {
+                return entry.response;
+            }
+            expired = entries.remove(id);
+        }
+        statistics.recordEviction();
+        removeFromStore(List.of(expired.id));
+        return null;
+    }
+
+    private void put(String text, String scopeHash, Embedding embedding, Response<AiMessage> response) {
+        if (response == null
+                || response.content() == null
+                || response.content().hasToolExecutionRequests()
+                || isNullOrBlank(response.content().text())
+                || (response.finishReason() != null && response.finishReason() != FinishReason.STOP)) {
+            return;
+        }
+
+        TextSegment segment = TextSegment.from(text, Metadata.from(SCOPE_METADATA_KEY, scopeHash));
+        String id = embeddingStore.add(embedding, segment);
+
+        List<String> evicted = new ArrayList<>();
+        synchronized (entries) {
+            entries.put(id, new Entry(id, response, System.nanoTime()));
+            Iterator<Entry> iterator = entries.values().iterator();
+            while (entries.size() > maxSize && iterator.hasNext()) {
+                evicted.add(iterator.next().id);
+                iterator.remove();
+            }
+        }
+        if (!evicted.isEmpty()) {
+            evicted.forEach(ignored -> statistics.recordEviction());
+            removeFromStore(evicted);
+        }
+    }
+
+    private void removeFromStore(List<String> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        try {
+            embeddingStore.removeAll(ids);
+        } catch (UnsupportedOperationException e) {
+            // stale entries in the store are harmless: they are ignored during lookup
+            log.debug("Cannot remove evicted entries from {}", embeddingStore.getClass().getName());
+        }
+    }
+
+    /**
+     * The result of a {@link SemanticCache#lookup}.
+     */
+    public class Lookup {
+
+        private final Response<AiMessage> response;
+        private final String text;
+        private final String scopeHash;
+        private final Embedding embedding;
+
+        private Lookup(Response<AiMessage> response, String text, String scopeHash, Embedding embedding) {
+            this.response = response;
+            this.text = text;
+            this.scopeHash = scopeHash;
+            this.embedding = embedding;
+        }
+
+        /**
+         * @return {@code true} if a cached response was found.
+         */
+        public boolean isHit() {
+            return response != null;
+        }
+
+        /**
+         * @return the cached response, or {@code null} if this is a miss.
+         */
+        public Response<AiMessage> response() {
+            return response;
+        }
+
+        /**
+         * Stores the response of the model for this (missed) request. Does nothing if this is a hit
+         * or if the request cannot be cached.
+         *
+         * @param response The response of the model.
+         */
+        public void put(Response<AiMessage> response) {
+            if (embedding != null) {
+                SemanticCache.this.put(text, scopeHash, embedding, response);
+            }
+        }
+    }
+
+    private static class Entry {
+
+        private final String id;
+        private final Response<AiMessage> response;
+        private final long createdAtNanos;
+
+        private Entry(String id, Response<AiMessage> response, long createdAtNanos) {
+            this.id = id;
+            this.response = response;
+            this.createdAtNanos = createdAtNanos;
+        }
+
+        private boolean isExpired(Duration ttl) {
+            return ttl != null && System.nanoTime() - createdAtNanos >= ttl.toNanos();
+        }
+    }
+
+    public static SemanticCacheBuilder builder() {
+        return new SemanticCacheBuilder();
+    }
+
+    public static class SemanticCacheBuilder {
+
+        private EmbeddingModel embeddingModel;
+        private EmbeddingStore<TextSegment> embeddingStore;
+        private Double minSimilarity;
+        private SemanticCacheKeyMode keyMode;
+        private String scope;
+        private Duration ttl;
+        private Integer maxSize;
+
+        SemanticCacheBuilder() {
+        }
+
+        public SemanticCacheBuilder embeddingModel(EmbeddingModel embeddingModel) {
+            this.embeddingModel = embeddingModel;
+            return this;
+        }
+
+        public SemanticCacheBuilder embeddingStore(EmbeddingStore<TextSegment> embeddingStore) {
+            this.embeddingStore = embeddingStore;
+            return this;
+        }
+
+        public SemanticCacheBuilder minSimilarity(Double minSimilarity) {
+            this.minSimilarity = minSimilarity;
+            return this;
+        }
+
+        public SemanticCacheBuilder keyMode(SemanticCacheKeyMode keyMode) {
+            this.keyMode = keyMode;
+            return this;
+        }
+
+        public SemanticCacheBuilder scope(String scope) {
+            this.scope = scope;
+            return this;
+        }
+
+        public SemanticCacheBuilder ttl(Duration ttl) {
+            this.ttl = ttl;
+            return this;
+        }
+
+        public SemanticCacheBuilder maxSize(Integer maxSize) {
+            this.maxSize = maxSize;
+            return this;
+        }
+
+        public SemanticCache build() {
+            return new SemanticCache(embeddingModel, embeddingStore, minSimilarity, keyMode, scope, ttl, maxSize);
+        }
+    }
+}
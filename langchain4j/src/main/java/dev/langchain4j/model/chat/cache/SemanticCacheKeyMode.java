@@ -0,0 +1,20 @@
+package dev.langchain4j.model.chat.cache;
+
+/**
+ * Defines which part of a chat request is embedded by the {@link SemanticCache}.
+ */
+public enum SemanticCacheKeyMode {
+
+    /**
+     * Only the last {@link dev.langchain4j.data.message.UserMessage} is embedded.
+     * {@link dev.langchain4j.data.message.SystemMessage}s are still part of the (exact) cache scope.
+     * This maximizes hit rate for single-turn question answering.
+     */
+    LAST_USER_MESSAGE,
+
+    /**
+     * All messages of the request are embedded.
+     * Use it when earlier turns of the conversation can change the answer.
+     */
+    ALL_MESSAGES
+}
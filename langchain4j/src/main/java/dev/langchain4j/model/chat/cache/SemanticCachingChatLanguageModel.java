@@ -0,0 +1,98 @@
+package dev.langchain4j.model.chat.cache;
+
+import dev.langchain4j.agent.tool.ToolSpecification;
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.model.chat.Capability;
+import dev.langchain4j.model.chat.ChatLanguageModel;
+import dev.langchain4j.model.chat.request.ChatRequest;
+import dev.langchain4j.model.chat.response.ChatResponse;
+import dev.langchain4j.model.output.Response;
+
+import java.util.List;
+import java.util.Set;
+
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+
+/**
+ * A {@link ChatLanguageModel} decorator that answers near-duplicate requests from a {@link SemanticCache}
+ * instead of calling the underlying model.
+ * <br>
+ * The same {@link SemanticCache} should not be shared between models with different parameters,
+ * unless their {@code scope}s differ.
+ */
+public class SemanticCachingChatLanguageModel implements ChatLanguageModel {
+
+    private final ChatLanguageModel delegate;
+    private final SemanticCache cache;
+
+    public SemanticCachingChatLanguageModel(ChatLanguageModel delegate, SemanticCache cache) {
+        this.delegate = ensureNotNull(delegate, "delegate");
+        this.cache = ensureNotNull(cache, "cache");
+    }
+
+    @Override
+    public Response<AiMessage> generate(List<ChatMessage> messages) {
+        SemanticCache.Lookup lookup = cache.lookup(messages, null, null, null);
+        if (lookup.isHit()) {
+            return lookup.response();
+        }
+        Response<AiMessage> response = delegate.generate(messages);
+        lookup.put(response);
+        return response;
+    }
+
+    @Override
+    public Response<AiMessage> generate(List<ChatMessage> messages, List<ToolSpecification> toolSpecifications) {
+        SemanticCache.Lookup lookup = cache.lookup(messages, toolSpecifications, null, null);
+        if (lookup.isHit()) {
+            return lookup.response();
+        }
+        Response<AiMessage> response = delegate.generate(messages, toolSpecifications);
+        lookup.put(response);
+        return response;
+    }
+
+    @Override
+    public Response<AiMessage> generate(List<ChatMessage> messages, ToolSpecification toolSpecification) {
+        SemanticCache.Lookup lookup = cache.lookup(messages, null, toolSpecification, null);
+        if (lookup.isHit()) {
+            return lookup.response();
+        }
+        Response<AiMessage> response = delegate.generate(messages, toolSpecification);
+        lookup.put(response);
+        return response;
+    }
+
+    @Override
+    public ChatResponse chat(ChatRequest request) {
+        SemanticCache.Lookup lookup = cache.lookup(
+                request.messages(), request.toolSpecifications(), null, request.responseFormat());
+        if (lookup.isHit()) {
+            return toChatResponse(lookup.response());
+        }
+        ChatResponse chatResponse = delegate.chat(request);
+        lookup.put(Response.from(chatResponse.aiMessage(), chatResponse.tokenUsage(), chatResponse.finishReason()));
+        return chatResponse;
+    }
+
+    @Override
+    public Set<Capability> supportedCapabilities() {
+        return delegate.supportedCapabilities();
+    }
+
+    /**
+     * @return the cache used by this model.
+     */
+    public SemanticCache cache() {
+        return cache;
+    }
+
+    private static ChatResponse toChatResponse(Response<AiMessage> response) {
+        return ChatResponse.builder()
+                .aiMessage(response.content())
+                .tokenUsage(response.tokenUsage())
+                .finishReason(response.finishReason())
+                .build();
+    }
+}
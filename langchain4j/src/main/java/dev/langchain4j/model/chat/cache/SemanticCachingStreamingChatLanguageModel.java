@@ -0,0 +1,125 @@
+package dev.langchain4j.model.chat.cache;
+
+import dev.langchain4j.agent.tool.ToolSpecification;
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.model.StreamingResponseHandler;
+import dev.langchain4j.model.chat.StreamingChatLanguageModel;
+import dev.langchain4j.model.output.Response;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+
+/**
+ * A {@link StreamingChatLanguageModel} decorator that answers near-duplicate requests from a {@link SemanticCache}
+ * instead of calling the underlying model.
+ * <br>
+ * On a cache hit, the cached response is replayed to the {@link StreamingResponseHandler} word by word,
+ * followed by {@link StreamingResponseHandler#onComplete(Response)}, all on the calling thread.
+ * <br>
+ * On a miss, the request is forwarded to the underlying model and its complete response is cached.
+ */
+public class SemanticCachingStreamingChatLanguageModel implements StreamingChatLanguageModel {
+
+    private static final Logger log = LoggerFactory.getLogger(SemanticCachingStreamingChatLanguageModel.class);
+
+    private final StreamingChatLanguageModel delegate;
+    private final SemanticCache cache;
+
+    public SemanticCachingStreamingChatLanguageModel(StreamingChatLanguageModel delegate, SemanticCache cache) {
+        this.delegate = ensureNotNull(delegate, "delegate");
+        this.cache = ensureNotNull(cache, "cache");
+    }
+
+    @Override
+    public void generate(List<ChatMessage> messages, StreamingResponseHandler<AiMessage> handler) {
+        SemanticCache.Lookup lookup = cache.lookup(messages, null, null, null);
+        if (lookup.isHit()) {
+            replay(lookup.response(), handler);
+        } else {
+            delegate.generate(messages, new CachingHandler(lookup, handler));
+        }
+    }
+
+    @Override
+    public void generate(List<ChatMessage> messages,
+                         List<ToolSpecification> toolSpecifications,
+                         StreamingResponseHandler<AiMessage> handler) {
+        SemanticCache.Lookup lookup = cache.lookup(messages, toolSpecifications, null, null);
+        if (lookup.isHit()) {
+            replay(lookup.response(), handler);
+        } else {
+            delegate.generate(messages, toolSpecifications, new CachingHandler(lookup, handler));
+        }
+    }
+
+    @Override
+    public void generate(List<ChatMessage> messages,
+                         ToolSpecification toolSpecification,
+                         StreamingResponseHandler<AiMessage> handler) {
+        SemanticCache.Lookup lookup = cache.lookup(messages, null, toolSpecification, null);
+        if (lookup.isHit()) {
+            replay(lookup.response(), handler);
+        } else {
+            delegate.generate(messages, toolSpecification, new CachingHandler(lookup, handler));
+        }
+    }
+
+    /**
+     * @return the cache used by this model.
+     */
+    public SemanticCache cache() {
+        return cache;
+    }
+
+    static void replay(Response<AiMessage> response, StreamingResponseHandler<AiMessage> handler) {
+        String text = response.content().text();
+        int start = 0;
+        for (int i = 0; i < text.length(); i++) {
+            // emit each word together with its trailing whitespace, like most models stream tokens
+            if (Character.isWhitespace(text.charAt(i))
+                    && (i + 1 == text.length() || !Character.isWhitespace(text.charAt(i + 1)))) {
+                handler.onNext(text.substring(start, i + 1));
+                start = i + 1;
+            }
+        }
+        if (start < text.length()) {
+            handler.onNext(text.substring(start));
+        }
+        handler.onComplete(response);
+    }
+
+    private static class CachingHandler implements StreamingResponseHandler<AiMessage> {
+
+        private final SemanticCache.Lookup lookup;
+        private final StreamingResponseHandler<AiMessage> delegate;
+
+        private CachingHandler(SemanticCache.Lookup lookup, StreamingResponseHandler<AiMessage> delegate) {
+            this.lookup = lookup;
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void onNext(String token) {
+            delegate.onNext(token);
+        }
+
+        @Override
+        public void onComplete(Response<AiMessage> response) {
+            try {
+                lookup.put(response);
+            } catch (RuntimeException e) {
+                log.warn("Failed to cache the response, it is returned without being cached", e);
+            }
+            delegate.onComplete(response);
+        }
+
+        @Override
+        public void onError(Throwable error) {
+            delegate.onError(error);
+        }
+    }
+}
@@ -6,6 +6,9 @@ import dev.langchain4j.data.segment.TextSegment;
 import dev.langchain4j.spi.store.embedding.inmemory.InMemoryEmbeddingStoreJsonCodecFactory;
 import dev.langchain4j.store.embedding.CosineSimilarity;
 import dev.langchain4j.store.embedding.EmbeddingMatch;
+import dev.langchain4j.store.embedding.EmbeddingRecord;
+import dev.langchain4j.store.embedding.EmbeddingScanRequest;
+import dev.langchain4j.store.embedding.EmbeddingScanResult;
 import dev.langchain4j.store.embedding.EmbeddingSearchRequest;
 import dev.langchain4j.store.embedding.EmbeddingSearchResult;
 import dev.langchain4j.store.embedding.EmbeddingStore;
@@ -21,6 +24,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
+import java.util.ListIterator;
 import java.util.Objects;
 import java.util.PriorityQueue;
 import java.util.concurrent.CopyOnWriteArrayList;
@@ -107,6 +111,19 @@ public class InMemoryEmbeddingStore<Embedded> implements EmbeddingStore<Embedded
         return add(newEntries);
     }
 
+    @Override
+    public void addAll(List<String> ids, List<Embedding> embeddings, List<Embedded> embedded) {
+        if (ids.size() != embeddings.size() || (embedded != null && embedded.size() != embeddings.size())) {
+            throw new IllegalArgumentException("The list of ids, embeddings and embedded must have the same size");
+        }
+
+        List<Entry<Embedded>> newEntries = IntStream.range(0, embeddings.size())
+                .mapToObj(i -> new Entry<>(ids.get(i), embeddings.get(i), embedded == null ? null : embedded.get(i)))
+                .collect(toList());
+
+        add(newEntries);
+    }
+
     private List<String> add(List<Entry<Embedded>> newEntries) {
 
         entries.addAll(newEntries);
@@ -177,6 +194,120 @@ public class InMemoryEmbeddingStore<Embedded> implements EmbeddingStore<Embedded
         return new EmbeddingSearchResult<>(result);
     }
 
+    @Override
+    public boolean supportsBatchSearch() {
+        return true;
+    }
+
+    /**
+     * Searches for all requests in a single pass over the stored embeddings.
+     * The metadata of each entry is checked against each filter and the norm of each stored embedding
+     * is computed once for all requests, instead of once per request.
+     * Results are the same as calling {@link #search(EmbeddingSearchRequest)} for each request.
+     */
+    @Override
+    public List<EmbeddingSearchResult<Embedded>> searchBatch(List<EmbeddingSearchRequest> requests) {
+
+        int size = requests.size();
+        Comparator<EmbeddingMatch<Embedded>> comparator = comparingDouble(EmbeddingMatch::score);
+        List<PriorityQueue<EmbeddingMatch<Embedded>>> matches = new ArrayList<>(size);
+        float[][] queryVectors = new float[size][];
+        double[] queryNorms = new double[size];
+        for (int i = 0; i < size; i++) {
+            matches.add(new PriorityQueue<>(comparator));
+            queryVectors[i] = requests.get(i).queryEmbedding().vector();
+            queryNorms[i] = norm(queryVectors[i]);
+        }
+
+        for (Entry<Embedded> entry : entries) {
+
+            Metadata metadata = entry.embedded instanceof TextSegment ? ((TextSegment) entry.embedded).metadata() : null;
+            float[] vector = entry.embedding.vector();
+            double norm = norm(vector);
+
+            for (int i = 0; i < size; i++) {
+
+                EmbeddingSearchRequest request = requests.get(i);
+                if (request.filter() != null && metadata != null && !request.filter().test(metadata)) {
+                    continue;
+                }
+
+                float[] queryVector = queryVectors[i];
+                if (queryVector.length != vector.length) {
+                    // throws the same exception as search()
+                    CosineSimilarity.between(entry.embedding, request.queryEmbedding());
+                }
+                double dotProduct = 0.0;
+                for (int j = 0; j < vector.length; j++) {
+                    dotProduct += vector[j] * queryVector[j];
+                }
+                double cosineSimilarity = dotProduct / Math.max(norm * queryNorms[i], CosineSimilarity.EPSILON);
+                double score = RelevanceScore.fromCosineSimilarity(cosineSimilarity);
+                if (score >= request.minScore()) {
+                    PriorityQueue<EmbeddingMatch<Embedded>> requestMatches = matches.get(i);
+                    requestMatches.add(new EmbeddingMatch<>(score, entry.id, entry.embedding, entry.embedded));
+                    if (requestMatches.size() > request.maxResults()) {
+                        requestMatches.poll();
+                    }
+                }
+            }
+        }
+
+        List<EmbeddingSearchResult<Embedded>> results = new ArrayList<>(size);
+        for (PriorityQueue<EmbeddingMatch<Embedded>> requestMatches : matches) {
+            List<EmbeddingMatch<Embedded>> result = new ArrayList<>(requestMatches);
+            result.sort(comparator);
+            Collections.reverse(result);
+            results.add(new EmbeddingSearchResult<>(result));
+        }
+        return results;
+    }
+
+    /**
+     * Reads the entries in insertion order.
+     * The cursor is the position of the next entry to read, so removing entries while scanning may skip some.
+     */
+    @Override
+    public EmbeddingScanResult<Embedded> scan(EmbeddingScanRequest request) {
+
+        Filter filter = request.filter();
+        int position = request.cursor() == null ? 0 : parseCursor(request.cursor());
+
+        List<EmbeddingRecord<Embedded>> records = new ArrayList<>(request.pageSize());
+        if (position > entries.size()) {
+            return new EmbeddingScanResult<>(records, null);
+        }
+        ListIterator<Entry<Embedded>> iterator = entries.listIterator(position);
+        while (iterator.hasNext() && records.size() < request.pageSize()) {
+            Entry<Embedded> entry = iterator.next();
+            position++;
+            if (filter != null && !(entry.embedded instanceof TextSegment
+                    && filter.test(((TextSegment) entry.embedded).metadata()))) {
+                continue;
+            }
+            records.add(new EmbeddingRecord<>(entry.id, entry.embedding, entry.embedded));
+        }
+
+        String nextCursor = iterator.hasNext() ? String.valueOf(position) : null;
+        return new EmbeddingScanResult<>(records, nextCursor);
+    }
+
+    private static int parseCursor(String cursor) {
+        try {
+            return Integer.parseInt(cursor);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor, e);
+        }
+    }
+
+    private static double norm(float[] vector) {
+        double norm = 0.0;
+        for (float component : vector) {
+            norm += component * component;
+        }
+        return Math.sqrt(norm);
+    }
+
     public String serializeToJson() {
         return loadCodec().toJson(this);
     }
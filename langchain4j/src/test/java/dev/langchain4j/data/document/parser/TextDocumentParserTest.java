@@ -2,15 +2,22 @@ package dev.langchain4j.data.document.parser;
 
 import dev.langchain4j.data.document.BlankDocumentException;
 import dev.langchain4j.data.document.Document;
+import dev.langchain4j.data.document.DocumentLoader;
 import dev.langchain4j.data.document.DocumentParser;
+import dev.langchain4j.data.document.source.FileSystemSource;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
 
 import static java.nio.charset.StandardCharsets.ISO_8859_1;
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -69,4 +76,58 @@ class TextDocumentParserTest {
                 .withCauseInstanceOf(IOException.class)
                 .withMessageContaining("test exception");
     }
+
+    @Test
+    void should_parse_byte_buffer_with_specified_charset() {
+
+        // given
+        TextDocumentParser parser = new TextDocumentParser(ISO_8859_1);
+        ByteBuffer byteBuffer = ByteBuffer.wrap("caf\u00e9 cr\u00e8me".getBytes(ISO_8859_1));
+
+        // when
+        Document document = parser.parse(byteBuffer);
+
+        // then
+        assertThat(document.text()).isEqualTo("caf\u00e9 cr\u00e8me");
+        assertThat(byteBuffer.position()).isZero();
+    }
+
+    @Test
+    void should_throw_BlankDocumentException_for_blank_byte_buffer() {
+
+        DocumentParser parser = new TextDocumentParser();
+
+        assertThatThrownBy(() -> parser.parse(ByteBuffer.wrap("  \n ".getBytes(UTF_8))))
+                .isExactlyInstanceOf(BlankDocumentException.class);
+    }
+
+    @Test
+    void should_throw_BlankDocumentException_for_empty_byte_buffer() {
+
+        DocumentParser parser = new TextDocumentParser();
+
+        assertThatThrownBy(() -> parser.parse(ByteBuffer.allocate(0)))
+                .isExactlyInstanceOf(BlankDocumentException.class);
+    }
+
+    @Test
+    void should_parse_memory_mapped_file(@TempDir Path tempDir) throws IOException {
+
+        // given
+        StringBuilder text = new StringBuilder();
+        while (text.length() < 2 * 1024 * 1024) {
+            text.append("Gr\u00fc\u00dfe aus K\u00f6ln! ");
+        }
+        Path file = tempDir.resolve("large-file.txt");
+        Files.write(file, text.toString().getBytes(UTF_8));
+        FileSystemSource source = FileSystemSource.from(file);
+
+        // when
+        Document document = DocumentLoader.load(source, new TextDocumentParser());
+
+        // then
+        assertThat(source.byteBuffer()).isNotNull();
+        assertThat(document.text()).isEqualTo(text.toString());
+        assertThat(document.metadata().getString(Document.FILE_NAME)).isEqualTo("large-file.txt");
+    }
 }
@@ -6,7 +6,11 @@ import dev.langchain4j.data.segment.TextSegment;
 import dev.langchain4j.model.openai.OpenAiTokenizer;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static dev.langchain4j.data.document.Metadata.metadata;
 import static dev.langchain4j.data.segment.TextSegment.textSegment;
@@ -173,4 +177,49 @@ class DocumentBySentenceSplitterTest {
                 textSegment(s18, metadata("index", "10").put("document", "0"))
         );
     }
-}
\ No newline at end of file
+
+    @Test
+    void should_split_using_rule_based_sentence_boundary_detector() {
+
+        // given
+        Document document = Document.from("Mr. Smith arrived. He sat down. The end.");
+
+        DocumentSplitter splitter = new DocumentBySentenceSplitter(20, 0, null, null,
+                new RuleBasedSentenceBoundaryDetector());
+
+        // when
+        List<TextSegment> segments = splitter.split(document);
+
+        // then
+        assertThat(segments).containsExactly(
+                textSegment("Mr. Smith arrived.", metadata("index", "0")),
+                textSegment("He sat down.", metadata("index", "1")),
+                textSegment("The end.", metadata("index", "2"))
+        );
+    }
+
+    @Test
+    void should_split_concurrently_with_shared_sentence_model() throws Exception {
+
+        // given
+        String text = "This is a first sentence. This is a second sentence. This is a third sentence.";
+        DocumentSplitter splitter = new DocumentBySentenceSplitter(30, 0);
+        List<TextSegment> expected = splitter.split(Document.from(text));
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            // when
+            List<Future<List<TextSegment>>> futures = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                futures.add(executor.submit(() -> new DocumentBySentenceSplitter(30, 0).split(Document.from(text))));
+            }
+
+            // then
+            for (Future<List<TextSegment>> future : futures) {
+                assertThat(future.get()).isEqualTo(expected);
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
@@ -1,11 +1,17 @@
 package dev.langchain4j.data.document.splitter;
 
+import dev.langchain4j.data.document.Document;
 import dev.langchain4j.data.document.DocumentSplitter;
+import dev.langchain4j.data.segment.TextSegment;
 import dev.langchain4j.model.ExampleTestTokenizer;
 import dev.langchain4j.model.Tokenizer;
 import org.assertj.core.api.WithAssertions;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
+
+import static java.util.stream.Collectors.toList;
+
 class HierarchicalDocumentSplitterTest implements WithAssertions {
     public static class ExampleImpl extends HierarchicalDocumentSplitter {
         public ExampleImpl(int maxSegmentSizeInChars, int maxOverlapSizeInChars) {
@@ -83,4 +89,25 @@ class HierarchicalDocumentSplitterTest implements WithAssertions {
             assertThat(splitter.estimateSize("abc def")).isEqualTo(2);
         }
     }
+
+    @Test
+    void should_use_parts_of_overridden_split() {
+
+        // given
+        DocumentByWordSplitter splitter = new DocumentByWordSplitter(12, 0) {
+
+            @Override
+            public String[] split(String text) {
+                return text.split(",");
+            }
+        };
+        Document document = Document.from("one two,three four,five six");
+
+        // when
+        List<TextSegment> segments = splitter.split(document);
+
+        // then
+        assertThat(segments.stream().map(TextSegment::text).collect(toList()))
+                .containsExactly("one two", "three four", "five six");
+    }
 }
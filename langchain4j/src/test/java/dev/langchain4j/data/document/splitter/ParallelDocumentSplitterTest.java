@@ -0,0 +1,44 @@
+package dev.langchain4j.data.document.splitter;
+
+import dev.langchain4j.data.document.Document;
+import dev.langchain4j.data.document.DocumentSplitter;
+import dev.langchain4j.data.segment.TextSegment;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static dev.langchain4j.data.document.Metadata.metadata;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ParallelDocumentSplitterTest {
+
+    @Test
+    void should_split_all_documents_in_the_same_order_as_sequential_splitter() {
+
+        // given
+        List<Document> documents = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            String text = String.format("Document %d, paragraph one.\n\nDocument %d, paragraph two.", i, i);
+            documents.add(Document.from(text, metadata("document", String.valueOf(i))));
+        }
+
+        DocumentSplitter sequentialSplitter = DocumentSplitters.recursive(30, 0);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        DocumentSplitter parallelSplitter = new ParallelDocumentSplitter(sequentialSplitter, pool);
+
+        try {
+            // when
+            List<TextSegment> segments = parallelSplitter.splitAll(documents);
+
+            // then
+            assertThat(segments).hasSize(100);
+            assertThat(segments).isEqualTo(sequentialSplitter.splitAll(documents));
+            assertThat(segments.get(99).metadata().getString("document")).isEqualTo("49");
+            assertThat(segments.get(99).metadata().getString("index")).isEqualTo("1");
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package dev.langchain4j.data.document.splitter;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RuleBasedSentenceBoundaryDetectorTest {
+
+    @ParameterizedTest
+    @MethodSource
+    void should_detect_sentences(String text, String[] expectedSentences) {
+
+        // given
+        SentenceBoundaryDetector detector = new RuleBasedSentenceBoundaryDetector();
+
+        // when
+        String[] sentences = detector.detect(text);
+
+        // then
+        assertThat(sentences).containsExactly(expectedSentences);
+    }
+
+    static Stream<Arguments> should_detect_sentences() {
+        return Stream.of(
+                Arguments.of("", new String[]{}),
+                Arguments.of("  One sentence without period  ", new String[]{"One sentence without period"}),
+                Arguments.of("First sentence. Second sentence! Third one?",
+                        new String[]{"First sentence.", "Second sentence!", "Third one?"}),
+                Arguments.of("Mr. Smith met Dr. Jones, e.g. at 3.14 p.m. in the lab. They talked.",
+                        new String[]{"Mr. Smith met Dr. Jones, e.g. at 3.14 p.m. in the lab.", "They talked."}),
+                Arguments.of("J. R. R. Tolkien wrote it. It is long.",
+                        new String[]{"J. R. R. Tolkien wrote it.", "It is long."}),
+                Arguments.of("He said \"Stop.\" Then he left...  Really?!",
+                        new String[]{"He said \"Stop.\"", "Then he left...", "Really?!"}),
+                Arguments.of("See No. 5 and Fig. 2. Then stop.",
+                        new String[]{"See No. 5 and Fig. 2.", "Then stop."}),
+                Arguments.of("She said no. They left.",
+                        new String[]{"She said no.", "They left."}),
+                Arguments.of("A title without period\n\nThe body. more text",
+                        new String[]{"A title without period", "The body. more text"})
+        );
+    }
+}
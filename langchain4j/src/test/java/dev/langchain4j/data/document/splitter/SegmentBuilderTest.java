@@ -3,6 +3,9 @@ package dev.langchain4j.data.document.splitter;
 import org.assertj.core.api.WithAssertions;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.List;
+
 
 class SegmentBuilderTest implements WithAssertions {
     @Test
@@ -70,4 +73,26 @@ class SegmentBuilderTest implements WithAssertions {
             assertThat(builder.toString()).isEqualTo("Hello world");
         }
     }
+
+    @Test
+    void should_not_re_measure_whole_segment_on_every_append() {
+        List<String> measured = new ArrayList<>();
+        SegmentBuilder builder = new SegmentBuilder(100, text -> {
+            measured.add(text);
+            return text.length();
+        }, " ");
+        measured.clear();
+
+        for (int i = 0; i < 10; i++) {
+            builder.append("word" + i, 5);
+        }
+
+        assertThat(measured).isEmpty();
+        assertThat(builder.hasSpaceFor(40)).isTrue();
+        assertThat(measured).isEmpty();
+
+        assertThat(builder.hasSpaceFor(60)).isFalse();
+        assertThat(measured).containsExactly(builder.toString());
+        assertThat(builder.getSize()).isEqualTo(59);
+    }
 }
@@ -0,0 +1,63 @@
+package dev.langchain4j.data.document.splitter;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WhitespacePartScannerTest {
+
+    private static final String[] REGEXES = {"\\s+", "\\s*\\R\\s*", "\\s*(?>\\R)\\s*(?>\\R)\\s*"};
+
+    @Test
+    void should_report_offsets_of_parts() {
+
+        // given
+        String text = "\n\nFirst paragraph.\nSame paragraph.\r\n \r\nSecond paragraph.\n\n\n";
+        WhitespacePartScanner scanner = new WhitespacePartScanner(text, 2);
+
+        // when-then
+        assertThat(scanner.next()).isTrue();
+        assertThat(scanner.source()).isSameAs(text);
+        assertThat(text.substring(scanner.start(), scanner.end())).isEqualTo("First paragraph.\nSame paragraph.");
+
+        assertThat(scanner.next()).isTrue();
+        assertThat(text.substring(scanner.start(), scanner.end())).isEqualTo("Second paragraph.");
+
+        assertThat(scanner.next()).isFalse();
+        assertThat(scanner.next()).isFalse();
+    }
+
+    @Test
+    void should_split_like_regex() {
+
+        Random random = new Random(42);
+        char[] alphabet = {'a', 'b', ' ', '\t', '\n', '\r', '\f'};
+
+        for (int i = 0; i < 10_000; i++) {
+
+            // given
+            StringBuilder text = new StringBuilder();
+            int length = random.nextInt(30);
+            for (int j = 0; j < length; j++) {
+                text.append(alphabet[random.nextInt(alphabet.length)]);
+            }
+
+            for (int minLineBreaks = 0; minLineBreaks <= 2; minLineBreaks++) {
+
+                // when
+                String[] parts = WhitespacePartScanner.split(text.toString(), minLineBreaks);
+
+                // then
+                String[] expected = Arrays.stream(text.toString().split(REGEXES[minLineBreaks]))
+                        .filter(part -> !part.isEmpty())
+                        .toArray(String[]::new);
+                assertThat(parts)
+                        .as("%s with %s line breaks", text.toString().replace("\r", "\\r").replace("\n", "\\n"), minLineBreaks)
+                        .containsExactly(expected);
+            }
+        }
+    }
+}
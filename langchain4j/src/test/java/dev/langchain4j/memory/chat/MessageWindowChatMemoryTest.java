@@ -6,12 +6,17 @@ import dev.langchain4j.data.message.SystemMessage;
 import dev.langchain4j.data.message.ToolExecutionResultMessage;
 import dev.langchain4j.data.message.UserMessage;
 import dev.langchain4j.memory.ChatMemory;
+import dev.langchain4j.store.memory.chat.ChatMemoryStore;
+import dev.langchain4j.store.memory.chat.InMemoryChatMemoryStore;
 import org.assertj.core.api.WithAssertions;
 import org.junit.jupiter.api.Test;
 
 import static dev.langchain4j.data.message.AiMessage.aiMessage;
 import static dev.langchain4j.data.message.SystemMessage.systemMessage;
 import static dev.langchain4j.data.message.UserMessage.userMessage;
+import static java.util.Arrays.asList;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
 
 class MessageWindowChatMemoryTest implements WithAssertions {
     @Test
@@ -469,4 +474,27 @@ class MessageWindowChatMemoryTest implements WithAssertions {
         // then orphan toolExecutionResultMessage1 and toolExecutionResultMessage2 are evicted together with aiMessage
         assertThat(chatMemory.messages()).containsExactly(systemMessage, aiMessage2);
     }
-}
\ No newline at end of file
+
+    @Test
+    void should_pass_previous_messages_to_store() {
+
+        // given
+        ChatMemoryStore store = spy(new InMemoryChatMemoryStore());
+        ChatMemory chatMemory = MessageWindowChatMemory.builder()
+                .id("id")
+                .maxMessages(2)
+                .chatMemoryStore(store)
+                .build();
+        UserMessage first = userMessage("first");
+        AiMessage second = aiMessage("second");
+        chatMemory.add(first);
+        chatMemory.add(second);
+
+        // when
+        UserMessage third = userMessage("third");
+        chatMemory.add(third);
+
+        // then
+        verify(store).updateMessages("id", asList(first, second), asList(second, third));
+    }
+}
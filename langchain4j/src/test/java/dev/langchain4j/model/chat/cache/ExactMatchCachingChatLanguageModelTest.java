@@ -0,0 +1,186 @@
+package dev.langchain4j.model.chat.cache;
+
+import dev.langchain4j.agent.tool.ToolExecutionRequest;
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.UserMessage;
+import dev.langchain4j.model.chat.ChatLanguageModel;
+import dev.langchain4j.model.chat.request.ChatRequest;
+import dev.langchain4j.model.chat.request.ResponseFormat;
+import dev.langchain4j.model.chat.response.ChatResponse;
+import dev.langchain4j.model.output.FinishReason;
+import dev.langchain4j.model.output.TokenUsage;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ExactMatchCachingChatLanguageModelTest {
+
+    private static final ChatResponse RESPONSE = ChatResponse.builder()
+            .aiMessage(AiMessage.from("positive"))
+            .tokenUsage(new TokenUsage(10, 1))
+            .finishReason(FinishReason.STOP)
+            .build();
+
+    @Test
+    void should_cache_identical_requests_only() {
+
+        // given
+        ChatLanguageModel model = mock(ChatLanguageModel.class);
+        when(model.chat(any())).thenReturn(RESPONSE);
+
+        ExactMatchCachingChatLanguageModel cachingModel = ExactMatchCachingChatLanguageModel.builder()
+                .delegate(model)
+                .scope("test-model;temperature=0")
+                .build();
+
+        ChatRequest request = ChatRequest.builder().messages(UserMessage.from("Classify: I love it")).build();
+        ChatRequest sameRequest = ChatRequest.builder().messages(UserMessage.from("Classify: I love it")).build();
+        ChatRequest otherFormat = ChatRequest.builder()
+                .messages(UserMessage.from("Classify: I love it"))
+                .responseFormat(ResponseFormat.JSON)
+                .build();
+
+        // when
+        cachingModel.chat(request);
+        ChatResponse cached = cachingModel.chat(sameRequest);
+        cachingModel.chat(otherFormat);
+
+        // then
+        assertThat(cached).isEqualTo(RESPONSE);
+        verify(model, times(2)).chat(any());
+        assertThat(cachingModel.cache().statistics().hits()).isEqualTo(1);
+        assertThat(cachingModel.cache().statistics().misses()).isEqualTo(2);
+    }
+
+    @Test
+    void should_not_cache_responses_that_did_not_stop_normally() {
+
+        // given
+        ChatResponse truncated = ChatResponse.builder()
+                .aiMessage(AiMessage.from("posi"))
+                .finishReason(FinishReason.LENGTH)
+                .build();
+        ChatLanguageModel model = mock(ChatLanguageModel.class);
+        when(model.chat(any())).thenReturn(truncated);
+
+        ExactMatchCachingChatLanguageModel cachingModel = ExactMatchCachingChatLanguageModel.builder()
+                .delegate(model)
+                .build();
+        ChatRequest request = ChatRequest.builder().messages(UserMessage.from("Classify: I love it")).build();
+
+        // when
+        cachingModel.chat(request);
+        ChatResponse response = cachingModel.chat(request);
+
+        // then
+        assertThat(response).isEqualTo(truncated);
+        verify(model, times(2)).chat(any());
+        assertThat(cachingModel.cache().size()).isZero();
+    }
+
+    @Test
+    void should_not_cache_tool_execution_responses_that_finished_with_stop() {
+
+        // given
+        ChatResponse toolCall = ChatResponse.builder()
+                .aiMessage(AiMessage.from(ToolExecutionRequest.builder()
+                        .id("1")
+                        .name("getWeather")
+                        .arguments("{\"city\": \"Munich\"}")
+                        .build()))
+                .finishReason(FinishReason.STOP)
+                .build();
+        ChatLanguageModel model = mock(ChatLanguageModel.class);
+        when(model.chat(any())).thenReturn(toolCall);
+
+        ExactMatchCachingChatLanguageModel cachingModel = ExactMatchCachingChatLanguageModel.builder()
+                .delegate(model)
+                .build();
+        ChatRequest request = ChatRequest.builder().messages(UserMessage.from("What is the weather in Munich?")).build();
+
+        // when
+        cachingModel.chat(request);
+        ChatResponse response = cachingModel.chat(request);
+
+        // then
+        assertThat(response).isEqualTo(toolCall);
+        verify(model, times(2)).chat(any());
+        assertThat(cachingModel.cache().size()).isZero();
+    }
+
+    @Test
+    void should_read_through_disk_tier(@TempDir Path directory) {
+
+        // given
+        ChatLanguageModel model = mock(ChatLanguageModel.class);
+        when(model.chat(any())).thenReturn(RESPONSE);
+        ChatRequest request = ChatRequest.builder().messages(UserMessage.from("Classify: I love it")).build();
+
+        new ExactMatchCachingChatLanguageModel(model, ExactMatchCache.builder().directory(directory).build(), null)
+                .chat(request);
+
+        // when
+        ExactMatchCache freshCache = ExactMatchCache.builder().directory(directory).maxSize(1).build();
+        ChatResponse response = new ExactMatchCachingChatLanguageModel(model, freshCache, null).chat(request);
+
+        // then
+        assertThat(response).isEqualTo(RESPONSE);
+        verify(model, times(1)).chat(any());
+        assertThat(freshCache.statistics().hits()).isEqualTo(1);
+    }
+
+    @Test
+    void should_collapse_concurrent_identical_requests() throws Exception {
+
+        // given
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ChatLanguageModel model = mock(ChatLanguageModel.class);
+        when(model.chat(any())).thenAnswer(invocation -> {
+            started.countDown();
+            release.await(10, TimeUnit.SECONDS);
+            return RESPONSE;
+        });
+
+        ExactMatchCachingChatLanguageModel cachingModel = ExactMatchCachingChatLanguageModel.builder()
+                .delegate(model)
+                .build();
+        ChatRequest request = ChatRequest.builder().messages(UserMessage.from("Classify: I love it")).build();
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            // when
+            List<Future<ChatResponse>> futures = new ArrayList<>();
+            futures.add(executor.submit(() -> cachingModel.chat(request)));
+            started.await(10, TimeUnit.SECONDS);
+            for (int i = 0; i < 7; i++) {
+                futures.add(executor.submit(() -> cachingModel.chat(request)));
+            }
+            Thread.sleep(100);
+            release.countDown();
+
+            // then
+            for (Future<ChatResponse> future : futures) {
+                assertThat(future.get(10, TimeUnit.SECONDS)).isEqualTo(RESPONSE);
+            }
+            verify(model, times(1)).chat(any());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
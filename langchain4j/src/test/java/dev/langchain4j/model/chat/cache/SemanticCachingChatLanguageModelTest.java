@@ -0,0 +1,236 @@
+package dev.langchain4j.model.chat.cache;
+
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.data.message.SystemMessage;
+import dev.langchain4j.data.message.UserMessage;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.StreamingResponseHandler;
+import dev.langchain4j.model.chat.ChatLanguageModel;
+import dev.langchain4j.model.chat.StreamingChatLanguageModel;
+import dev.langchain4j.model.embedding.EmbeddingModel;
+import dev.langchain4j.model.output.FinishReason;
+import dev.langchain4j.model.output.Response;
+import dev.langchain4j.store.embedding.EmbeddingSearchResult;
+import dev.langchain4j.store.embedding.EmbeddingStore;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SemanticCachingChatLanguageModelTest {
+
+    /**
+     * Embeds text as a normalized letter histogram, so that texts differing only in case
+     * and punctuation are (almost) identical.
+     */
+    static class LetterHistogramEmbeddingModel implements EmbeddingModel {
+
+        @Override
+        public Response<List<Embedding>> embedAll(List<TextSegment> textSegments) {
+            return Response.from(textSegments.stream()
+                    .map(segment -> histogram(segment.text().toLowerCase(Locale.ROOT)))
+                    .collect(toList()));
+        }
+
+        private static Embedding histogram(String text) {
+            float[] vector = new float[26];
+            for (char c : text.toCharArray()) {
+                if (c >= 'a' && c <= 'z') {
+                    vector[c - 'a']++;
+                }
+            }
+            Embedding embedding = Embedding.from(vector);
+            embedding.normalize();
+            return embedding;
+        }
+    }
+
+    private static final Response<AiMessage> PARIS = Response.from(
+            AiMessage.from("The capital of France is Paris."), null, FinishReason.STOP);
+
+    @Test
+    void should_answer_near_duplicate_from_cache() {
+
+        // given
+        ChatLanguageModel model = mock(ChatLanguageModel.class);
+        when(model.generate(anyList())).thenReturn(PARIS);
+
+        SemanticCache cache = SemanticCache.builder()
+                .embeddingModel(new LetterHistogramEmbeddingModel())
+                .minSimilarity(0.99)
+                .build();
+        ChatLanguageModel cachingModel = new SemanticCachingChatLanguageModel(model, cache);
+
+        // when
+        Response<AiMessage> first = cachingModel.generate(UserMessage.from("What is the capital of France?"));
+        Response<AiMessage> second = cachingModel.generate(UserMessage.from("what is the capital of france"));
+        Response<AiMessage> third = cachingModel.generate(UserMessage.from("How tall is Mount Everest?"));
+
+        // then
+        assertThat(first).isEqualTo(PARIS);
+        assertThat(second).isEqualTo(PARIS);
+        assertThat(third).isEqualTo(PARIS);
+        verify(model, times(2)).generate(anyList());
+
+        assertThat(cache.statistics().hits()).isEqualTo(1);
+        assertThat(cache.statistics().misses()).isEqualTo(2);
+        assertThat(cache.statistics().hitRate()).isEqualTo(1.0 / 3);
+    }
+
+    @Test
+    void should_scope_by_system_message() {
+
+        // given
+        ChatLanguageModel model = mock(ChatLanguageModel.class);
+        when(model.generate(anyList())).thenReturn(PARIS);
+
+        ChatLanguageModel cachingModel = new SemanticCachingChatLanguageModel(model, SemanticCache.builder()
+                .embeddingModel(new LetterHistogramEmbeddingModel())
+                .build());
+
+        // when
+        cachingModel.generate(asList(SystemMessage.from("Answer in English"), UserMessage.from("capital of France?")));
+        cachingModel.generate(asList(SystemMessage.from("Answer in French"), UserMessage.from("capital of France?")));
+
+        // then
+        verify(model, times(2)).generate(anyList());
+    }
+
+    @Test
+    void should_expire_and_evict_entries() {
+
+        // given
+        ChatLanguageModel model = mock(ChatLanguageModel.class);
+        when(model.generate(anyList())).thenReturn(PARIS);
+
+        SemanticCache expiringCache = SemanticCache.builder()
+                .embeddingModel(new LetterHistogramEmbeddingModel())
+                .ttl(Duration.ofNanos(1))
+                .build();
+        ChatLanguageModel expiringModel = new SemanticCachingChatLanguageModel(model, expiringCache);
+
+        // when
+        expiringModel.generate(UserMessage.from("capital of France?"));
+        expiringModel.generate(UserMessage.from("capital of France?"));
+
+        // then
+        verify(model, times(2)).generate(anyList());
+        assertThat(expiringCache.statistics().evictions()).isEqualTo(1);
+
+        // given
+        SemanticCache smallCache = SemanticCache.builder()
+                .embeddingModel(new LetterHistogramEmbeddingModel())
+                .maxSize(1)
+                .build();
+        ChatLanguageModel smallModel = new SemanticCachingChatLanguageModel(model, smallCache);
+
+        // when
+        smallModel.generate(UserMessage.from("capital of France?"));
+        smallModel.generate(UserMessage.from("height of Mount Everest?"));
+
+        // then
+        assertThat(smallCache.size()).isEqualTo(1);
+        assertThat(smallCache.statistics().evictions()).isEqualTo(1);
+    }
+
+    @Test
+    void should_replay_cached_response_as_token_stream() {
+
+        // given
+        StreamingChatLanguageModel model = mock(StreamingChatLanguageModel.class);
+        doAnswer(invocation -> {
+            StreamingResponseHandler<AiMessage> handler = invocation.getArgument(1);
+            handler.onNext("The capital of France ");
+            handler.onNext("is Paris.");
+            handler.onComplete(PARIS);
+            return null;
+        }).when(model).generate(anyList(), any(StreamingResponseHandler.class));
+
+        SemanticCache cache = SemanticCache.builder()
+                .embeddingModel(new LetterHistogramEmbeddingModel())
+                .build();
+        StreamingChatLanguageModel cachingModel = new SemanticCachingStreamingChatLanguageModel(model, cache);
+
+        List<ChatMessage> messages = singletonList(UserMessage.from("What is the capital of France?"));
+        cachingModel.generate(messages, new CollectingHandler());
+
+        // when
+        CollectingHandler handler = new CollectingHandler();
+        cachingModel.generate(messages, handler);
+
+        // then
+        assertThat(handler.tokens).containsExactly("The ", "capital ", "of ", "France ", "is ", "Paris.");
+        assertThat(handler.response.get()).isEqualTo(PARIS);
+        verify(model, times(1)).generate(anyList(), any(StreamingResponseHandler.class));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void should_complete_stream_when_response_cannot_be_cached() {
+
+        // given
+        StreamingChatLanguageModel model = mock(StreamingChatLanguageModel.class);
+        doAnswer(invocation -> {
+            StreamingResponseHandler<AiMessage> handler = invocation.getArgument(1);
+            handler.onNext("The capital of France is Paris.");
+            handler.onComplete(PARIS);
+            return null;
+        }).when(model).generate(anyList(), any(StreamingResponseHandler.class));
+
+        EmbeddingStore<TextSegment> embeddingStore = mock(EmbeddingStore.class);
+        when(embeddingStore.search(any())).thenReturn(new EmbeddingSearchResult<>(emptyList()));
+        when(embeddingStore.add(any(Embedding.class), any(TextSegment.class))).thenThrow(new IllegalStateException("unavailable"));
+
+        SemanticCache cache = SemanticCache.builder()
+                .embeddingModel(new LetterHistogramEmbeddingModel())
+                .embeddingStore(embeddingStore)
+                .build();
+        StreamingChatLanguageModel cachingModel = new SemanticCachingStreamingChatLanguageModel(model, cache);
+
+        // when
+        CollectingHandler handler = new CollectingHandler();
+        cachingModel.generate(singletonList(UserMessage.from("What is the capital of France?")), handler);
+
+        // then
+        assertThat(handler.response.get()).isEqualTo(PARIS);
+    }
+
+    static class CollectingHandler implements StreamingResponseHandler<AiMessage> {
+
+        final List<String> tokens = new ArrayList<>();
+        final AtomicReference<Response<AiMessage>> response = new AtomicReference<>();
+
+        @Override
+        public void onNext(String token) {
+            tokens.add(token);
+        }
+
+        @Override
+        public void onComplete(Response<AiMessage> response) {
+            this.response.set(response);
+        }
+
+        @Override
+        public void onError(Throwable error) {
+            throw new RuntimeException(error);
+        }
+    }
+}
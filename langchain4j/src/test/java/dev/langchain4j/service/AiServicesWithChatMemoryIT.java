@@ -149,7 +149,7 @@ class AiServicesWithChatMemoryIT {
         verify(chatMemory).add(aiMessage(fourthAiMessage));
 
         verify(chatLanguageModel, times(4)).supportedCapabilities();
-        verify(chatMemory, times(12)).messages();
+        verify(chatMemory, times(4)).messages();
     }
 
     @Test
@@ -185,7 +185,7 @@ class AiServicesWithChatMemoryIT {
         verify(chatMemory).add(aiMessage(firstAiMessage));
         verify(chatMemory).add(userMessage(secondUserMessage));
         verify(chatMemory).add(aiMessage(secondAiMessage));
-        verify(chatMemory, times(8)).messages();
+        verify(chatMemory, times(2)).messages();
     }
 
     @Test
@@ -223,7 +223,7 @@ class AiServicesWithChatMemoryIT {
         verify(chatMemory).add(aiMessage(secondAiMessage));
         verify(chatMemory).add(systemMessage(ANOTHER_SYSTEM_MESSAGE));
         verify(chatMemory).add(userMessage(secondUserMessage));
-        verify(chatMemory, times(8)).messages();
+        verify(chatMemory, times(2)).messages();
     }
 
 
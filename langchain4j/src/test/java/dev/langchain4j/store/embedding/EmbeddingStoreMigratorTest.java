@@ -0,0 +1,248 @@
+package dev.langchain4j.store.embedding;
+
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.embedding.EmbeddingModel;
+import dev.langchain4j.model.output.Response;
+import dev.langchain4j.rag.content.retriever.RetrievalCache;
+import dev.langchain4j.store.embedding.inmemory.InMemoryEmbeddingStore;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static dev.langchain4j.data.document.Metadata.metadata;
+import static dev.langchain4j.store.embedding.filter.MetadataFilterBuilder.metadataKey;
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class EmbeddingStoreMigratorTest {
+
+    @Test
+    void should_copy_all_embeddings_keeping_ids() {
+
+        // given
+        InMemoryEmbeddingStore<TextSegment> source = storeWith(25);
+        InMemoryEmbeddingStore<TextSegment> target = new InMemoryEmbeddingStore<>();
+
+        EmbeddingStoreMigrator migrator = EmbeddingStoreMigrator.builder()
+                .source(source)
+                .target(target)
+                .pageSize(10)
+                .parallelism(3)
+                .build();
+
+        // when
+        long count = migrator.migrate();
+
+        // then
+        assertThat(count).isEqualTo(25);
+        assertThat(all(target)).containsExactlyInAnyOrderElementsOf(all(source));
+    }
+
+    @Test
+    void should_copy_filtered_embeddings_with_new_ids() {
+
+        // given
+        InMemoryEmbeddingStore<TextSegment> source = storeWith(10);
+        InMemoryEmbeddingStore<TextSegment> target = new InMemoryEmbeddingStore<>();
+
+        EmbeddingStoreMigrator migrator = EmbeddingStoreMigrator.builder()
+                .source(source)
+                .target(target)
+                .filter(metadataKey("even").isEqualTo("true"))
+                .pageSize(3)
+                .keepIds(false)
+                .build();
+
+        // when
+        long count = migrator.migrate();
+
+        // then
+        assertThat(count).isEqualTo(5);
+        List<EmbeddingRecord<TextSegment>> copied = all(target);
+        assertThat(copied).extracting(record -> record.embedded().text())
+                .containsExactlyInAnyOrder("segment0", "segment2", "segment4", "segment6", "segment8");
+        assertThat(copied).extracting(EmbeddingRecord::id)
+                .doesNotContainAnyElementsOf(all(source).stream().map(EmbeddingRecord::id).collect(toList()));
+    }
+
+    @Test
+    void should_embed_again_with_embedding_model() {
+
+        // given
+        InMemoryEmbeddingStore<TextSegment> source = storeWith(3);
+        InMemoryEmbeddingStore<TextSegment> target = new InMemoryEmbeddingStore<>();
+
+        Embedding newEmbedding = Embedding.from(new float[]{9, 9});
+        EmbeddingModel embeddingModel = mock(EmbeddingModel.class);
+        when(embeddingModel.embedAll(anyList()))
+                .thenAnswer(invocation -> Response.from(((List<?>) invocation.getArgument(0)).stream()
+                        .map(segment -> newEmbedding)
+                        .collect(toList())));
+
+        EmbeddingStoreMigrator migrator = EmbeddingStoreMigrator.builder()
+                .source(source)
+                .target(target)
+                .embeddingModel(embeddingModel)
+                .build();
+
+        // when
+        migrator.migrate();
+
+        // then
+        assertThat(all(target)).hasSize(3)
+                .allSatisfy(record -> assertThat(record.embedding()).isEqualTo(newEmbedding));
+    }
+
+    @Test
+    void should_fail_when_target_fails() {
+
+        // given
+        InMemoryEmbeddingStore<TextSegment> source = storeWith(5);
+        InMemoryEmbeddingStore<TextSegment> target = spy(new InMemoryEmbeddingStore<>());
+        doThrow(new IllegalStateException("unavailable")).when(target).addAll(anyList(), anyList(), any());
+
+        EmbeddingStoreMigrator migrator = EmbeddingStoreMigrator.builder()
+                .source(source)
+                .target(target)
+                .pageSize(2)
+                .parallelism(2)
+                .build();
+
+        // when-then
+        assertThatThrownBy(migrator::migrate)
+                .isExactlyInstanceOf(IllegalStateException.class)
+                .hasMessage("unavailable");
+    }
+
+    @Test
+    void should_generate_new_ids_when_target_cannot_keep_them() {
+
+        // given
+        InMemoryEmbeddingStore<TextSegment> source = storeWith(5);
+        InMemoryEmbeddingStore<TextSegment> target = spy(new InMemoryEmbeddingStore<>());
+        doThrow(new UnsupportedOperationException()).when(target).addAll(anyList(), anyList(), any());
+
+        EmbeddingStoreMigrator migrator = EmbeddingStoreMigrator.builder()
+                .source(source)
+                .target(target)
+                .pageSize(2)
+                .build();
+
+        // when
+        long count = migrator.migrate();
+
+        // then
+        assertThat(count).isEqualTo(5);
+        assertThat(all(target)).extracting(record -> record.embedded().text())
+                .containsExactlyInAnyOrder("segment0", "segment1", "segment2", "segment3", "segment4");
+        verify(target, times(1)).addAll(anyList(), anyList(), any());
+    }
+
+    @Test
+    void should_fail_when_target_cannot_keep_ids_and_keeping_them_is_required() {
+
+        // given
+        InMemoryEmbeddingStore<TextSegment> source = storeWith(5);
+        InMemoryEmbeddingStore<TextSegment> target = spy(new InMemoryEmbeddingStore<>());
+        doThrow(new UnsupportedOperationException()).when(target).addAll(anyList(), anyList(), any());
+
+        EmbeddingStoreMigrator migrator = EmbeddingStoreMigrator.builder()
+                .source(source)
+                .target(target)
+                .keepIds(true)
+                .build();
+
+        // when-then
+        assertThatThrownBy(migrator::migrate)
+                .isExactlyInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void should_copy_page_mixing_embeddings_with_and_without_segments() {
+
+        // given
+        InMemoryEmbeddingStore<TextSegment> source = storeWith(3);
+        source.add(Embedding.from(new float[]{7, 1}));
+        source.add(Embedding.from(new float[]{8, 1}));
+        InMemoryEmbeddingStore<TextSegment> target = new InMemoryEmbeddingStore<>();
+
+        EmbeddingStoreMigrator migrator = EmbeddingStoreMigrator.builder()
+                .source(source)
+                .target(target)
+                .pageSize(10)
+                .build();
+
+        // when
+        long count = migrator.migrate();
+
+        // then
+        assertThat(count).isEqualTo(5);
+        assertThat(all(target)).containsExactlyInAnyOrderElementsOf(all(source));
+        assertThat(all(target)).extracting(EmbeddingRecord::embedded).filteredOn(segment -> segment != null)
+                .extracting(TextSegment::text)
+                .containsExactlyInAnyOrder("segment0", "segment1", "segment2");
+    }
+
+    @Test
+    void should_migrate_between_cache_invalidating_stores_keeping_ids() {
+
+        // given
+        InMemoryEmbeddingStore<TextSegment> source = storeWith(5);
+        InMemoryEmbeddingStore<TextSegment> target = new InMemoryEmbeddingStore<>();
+        RetrievalCache cache = new RetrievalCache();
+
+        EmbeddingStoreMigrator migrator = EmbeddingStoreMigrator.builder()
+                .source(cache.invalidatingOnChange(source))
+                .target(cache.invalidatingOnChange(target))
+                .keepIds(true)
+                .build();
+
+        // when
+        long count = migrator.migrate();
+
+        // then
+        assertThat(count).isEqualTo(5);
+        assertThat(all(target)).containsExactlyInAnyOrderElementsOf(all(source));
+    }
+
+    @Test
+    void should_fail_with_clear_message_when_source_cannot_be_scanned() {
+
+        // given
+        InMemoryEmbeddingStore<TextSegment> source = spy(storeWith(1));
+        doThrow(new UnsupportedOperationException("Not supported yet.")).when(source).scan(any());
+
+        EmbeddingStoreMigrator migrator = EmbeddingStoreMigrator.builder()
+                .source(source)
+                .target(new InMemoryEmbeddingStore<>())
+                .build();
+
+        // when-then
+        assertThatThrownBy(migrator::migrate)
+                .isExactlyInstanceOf(UnsupportedOperationException.class)
+                .hasMessageContaining("does not support scan");
+    }
+
+    private static InMemoryEmbeddingStore<TextSegment> storeWith(int size) {
+        InMemoryEmbeddingStore<TextSegment> store = new InMemoryEmbeddingStore<>();
+        for (int i = 0; i < size; i++) {
+            TextSegment segment = TextSegment.from("segment" + i, metadata("even", String.valueOf(i % 2 == 0)));
+            store.add(Embedding.from(new float[]{i, 1}), segment);
+        }
+        return store;
+    }
+
+    private static List<EmbeddingRecord<TextSegment>> all(EmbeddingStore<TextSegment> store) {
+        return store.export(EmbeddingScanRequest.builder().build()).collect(toList());
+    }
+}
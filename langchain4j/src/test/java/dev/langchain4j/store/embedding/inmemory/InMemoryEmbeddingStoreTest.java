@@ -6,6 +6,8 @@ import dev.langchain4j.data.segment.TextSegment;
 import dev.langchain4j.model.embedding.EmbeddingModel;
 import dev.langchain4j.model.embedding.onnx.allminilml6v2q.AllMiniLmL6V2QuantizedEmbeddingModel;
 import dev.langchain4j.store.embedding.EmbeddingMatch;
+import dev.langchain4j.store.embedding.EmbeddingSearchRequest;
+import dev.langchain4j.store.embedding.EmbeddingSearchResult;
 import dev.langchain4j.store.embedding.EmbeddingStore;
 import dev.langchain4j.store.embedding.EmbeddingStoreWithFilteringIT;
 import org.junit.jupiter.api.Test;
@@ -16,6 +18,8 @@ import java.nio.file.Path;
 import java.util.List;
 import java.util.concurrent.CopyOnWriteArrayList;
 
+import static dev.langchain4j.store.embedding.filter.MetadataFilterBuilder.metadataKey;
+import static java.util.Arrays.asList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 
@@ -109,6 +113,48 @@ class InMemoryEmbeddingStoreTest extends EmbeddingStoreWithFilteringIT {
         assertThat(matches.get(1).embedded()).isEqualTo(segment2);
     }
 
+    @Test
+    void should_search_batch_like_search() {
+
+        // given
+        InMemoryEmbeddingStore<TextSegment> store = new InMemoryEmbeddingStore<>();
+        String[] texts = {"cats", "dogs", "birds", "fish", "horses", "cows"};
+        for (int i = 0; i < texts.length; i++) {
+            TextSegment segment = TextSegment.from(texts[i], Metadata.from("parity", i % 2 == 0 ? "even" : "odd"));
+            store.add(embeddingModel.embed(segment).content(), segment);
+        }
+
+        List<EmbeddingSearchRequest> requests = asList(
+                EmbeddingSearchRequest.builder()
+                        .queryEmbedding(embeddingModel.embed("kittens").content())
+                        .maxResults(2)
+                        .build(),
+                EmbeddingSearchRequest.builder()
+                        .queryEmbedding(embeddingModel.embed("puppies").content())
+                        .maxResults(5)
+                        .minScore(0.6)
+                        .filter(metadataKey("parity").isEqualTo("odd"))
+                        .build(),
+                EmbeddingSearchRequest.builder()
+                        .queryEmbedding(embeddingModel.embed("cattle").content())
+                        .maxResults(10)
+                        .build()
+        );
+
+        // when
+        List<EmbeddingSearchResult<TextSegment>> results = store.searchBatch(requests);
+
+        // then
+        assertThat(results).hasSize(requests.size());
+        for (int i = 0; i < requests.size(); i++) {
+            assertThat(results.get(i).matches()).isEqualTo(store.search(requests.get(i)).matches());
+        }
+        assertThat(results.get(0).matches()).hasSize(2);
+        assertThat(results.get(1).matches())
+                .allMatch(match -> match.embedded().metadata().getString("parity").equals("odd"));
+        assertThat(results.get(2).matches()).hasSize(texts.length);
+    }
+
     private InMemoryEmbeddingStore<TextSegment> createEmbeddingStore() {
 
         InMemoryEmbeddingStore<TextSegment> embeddingStore = new InMemoryEmbeddingStore<>();